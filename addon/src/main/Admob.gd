@@ -60,8 +60,36 @@ signal consent_form_dismissed(error_data: FormError)
 signal consent_form_failed_to_load(error_data: FormError)
 signal consent_info_updated
 signal consent_info_update_failed(error_data: FormError)
+signal consent_ensured(result: ConsentResult)
 signal tracking_authorization_granted
 signal tracking_authorization_denied
+signal mediation_privacy_settings_applied(result: MediationPrivacyResult)
+signal metrics_reported(metrics: Dictionary)
+
+enum AdFormat {
+	BANNER,
+	INTERSTITIAL,
+	REWARDED,
+	REWARDED_INTERSTITIAL,
+	APP_OPEN,
+	NATIVE
+}
+
+enum LogLevel {
+	AUTOMATIC,	## Debug level in debug builds, warning level in release builds
+	DEBUG,
+	INFO,
+	WARNING,
+	ERROR,
+	NONE
+}
+
+enum _ConsentFlowStep {
+	NONE,
+	UPDATING_INFO,
+	LOADING_FORM,
+	SHOWING_FORM
+}
 
 const PLUGIN_SINGLETON_NAME: String = "@pluginName@"
 
@@ -82,6 +110,9 @@ const IOS_NATIVE_DEMO_AD_UNIT_ID: String = "ca-app-pub-3940256099942544/39866245
 const MINIMUM_CACHE_SIZE: int = 1
 const MAXIMUM_CACHE_SIZE: int = 1000
 
+const BATCHED_EVENT_SIGNAL_PROPERTY: String = "signal"
+const BATCHED_EVENT_ARGS_PROPERTY: String = "args"
+
 @export_category("General")
 ## The plugin will use real app and ad IDs if true; debug IDs will be used otherwise.
 @export var is_real: bool:
@@ -120,6 +151,23 @@ var child_directed: AdmobConfig.TagForChildDirectedTreatment = AdmobConfig.TagFo
 ## Whether the plugin should automatically apply the configuration after initialization has been completed.
 @export var auto_configure_on_initialize: bool = true
 
+## When enabled, the plugin queues its events natively and this node delivers them once per frame instead of the
+## plugin crossing into the engine once per event. Signals are emitted as usual, but up to a frame later.
+## Only supported on Android; ignored on other platforms.
+@export var batch_signal_delivery: bool = false:
+	set = set_batch_signal_delivery
+
+## When enabled, impression, click, open/close, show/dismiss and reward signals carry a compact AdInfo that only
+## contains the ad ID plus the properties that have changed since the previous signal of the same ad.
+## Load, refresh and size-measured signals always carry the full AdInfo. Only supported on Android.
+@export var compact_ad_info: bool = false:
+	set = set_compact_ad_info
+
+## Minimum level of the messages that the native plugin logs. Messages below the level are neither formatted nor
+## written to the device log.
+@export var log_level: LogLevel = LogLevel.AUTOMATIC:
+	set = set_log_level
+
 @export_group("Global Settings", "global_")
 
 ## Sets the ads' audio volume. Minimum value is 0.0 and maximum value is 1.0.
@@ -343,6 +391,20 @@ var _active_native_ads: AdCache
 
 var _native_control_bindings: Dictionary = {}
 
+var _is_batch_signal_delivery_supported: bool = false
+# Whether the plugin signals when batched events are pending; if not, they are polled every frame
+var _is_events_pending_signal_supported: bool = false
+var _has_pending_batched_events: bool = false
+
+var _is_compact_ad_info_supported: bool = false
+
+# Integer handles of banner and native ads by ad ID, used for frequent calls when supported by the plugin
+var _ad_handles: Dictionary = {}
+var _is_ad_handle_api_supported: bool = false
+
+# Current step of the consent flow run by ensure_consent() when the plugin does not support it
+var _fallback_consent_step: _ConsentFlowStep = _ConsentFlowStep.NONE
+
 
 func _init() -> void:
 	is_initialization_completed = false
@@ -437,6 +499,14 @@ func _update_plugin() -> void:
 		if Engine.has_singleton(PLUGIN_SINGLETON_NAME):
 			_plugin_singleton = Engine.get_singleton(PLUGIN_SINGLETON_NAME)
 			_connect_signals()
+			_is_batch_signal_delivery_supported = _plugin_singleton.has_method("poll_events")
+			if batch_signal_delivery:
+				_apply_batch_signal_delivery()
+			_is_compact_ad_info_supported = _plugin_singleton.has_method("set_compact_ad_info")
+			_is_ad_handle_api_supported = _plugin_singleton.has_method("move_banner_ad_by_handle")
+			if compact_ad_info:
+				_apply_compact_ad_info()
+			_apply_log_level()
 		elif not Engine.is_editor_hint():
 			GmpLogger.log_error("%s singleton not found!" % PLUGIN_SINGLETON_NAME)
 
@@ -561,10 +631,19 @@ func _connect_signals() -> void:
 	_plugin_singleton.connect("consent_form_failed_to_load", _on_consent_form_failed_to_load)
 	_plugin_singleton.connect("consent_info_updated", _on_consent_info_updated)
 	_plugin_singleton.connect("consent_info_update_failed", _on_consent_info_update_failed)
+	if _plugin_singleton.has_signal("consent_ensured"):
+		_plugin_singleton.connect("consent_ensured", _on_consent_ensured)
 	if _plugin_singleton.has_signal("tracking_authorization_granted"):
 		_plugin_singleton.connect("tracking_authorization_granted", _on_tracking_authorization_granted)
 	if _plugin_singleton.has_signal("tracking_authorization_denied"):
 		_plugin_singleton.connect("tracking_authorization_denied", _on_tracking_authorization_denied)
+	if _plugin_singleton.has_signal("mediation_privacy_settings_applied"):
+		_plugin_singleton.connect("mediation_privacy_settings_applied", _on_mediation_privacy_settings_applied)
+	if _plugin_singleton.has_signal("metrics_reported"):
+		_plugin_singleton.connect("metrics_reported", _on_metrics_reported)
+	_is_events_pending_signal_supported = _plugin_singleton.has_signal("events_pending")
+	if _is_events_pending_signal_supported:
+		_plugin_singleton.connect("events_pending", _on_events_pending)
 
 
 func initialize() -> void:
@@ -574,6 +653,95 @@ func initialize() -> void:
 		_plugin_singleton.initialize()
 
 
+## Initializes the plugin like [method initialize], but lets the native side update the consent information while the
+## Mobile Ads SDK is being initialized, and load an ad of each of the given full-screen formats as soon as both have
+## completed and ads may be requested. Falls back to [method initialize] if the plugin does not support it.
+func start_up(a_preloads: Array[AdFormat] = [], a_update_consent: bool = true) -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("start_up"):
+		GmpLogger.log_warn("start_up() method is not supported. Falling back to initialize().")
+		_plugin_singleton.initialize()
+	else:
+		var __startup_data: Dictionary = {}
+
+		if a_update_consent:
+			__startup_data["consent_request"] = _create_consent_request_parameters().get_raw_data()
+
+		var __preloads: Array = []
+		for __format in a_preloads:
+			var __request: LoadAdRequest
+			match __format:
+				AdFormat.INTERSTITIAL:
+					__request = create_interstitial_ad_request()
+				AdFormat.REWARDED:
+					__request = create_rewarded_ad_request()
+				AdFormat.REWARDED_INTERSTITIAL:
+					__request = create_rewarded_interstitial_ad_request()
+				AdFormat.APP_OPEN:
+					__request = _create_app_open_ad_request()
+				_:
+					GmpLogger.log_warn("Loading %s ads at startup is not supported" % AdFormat.keys()[__format])
+					continue
+			__preloads.append({
+				"ad_format": _get_ad_format_key(__format),
+				"ad_request": __request.get_raw_data()
+			})
+		__startup_data["preloads"] = __preloads
+
+		_plugin_singleton.start_up(__startup_data)
+
+
+## Returns the number of ad objects per ad format key (e.g. [code]"banner"[/code], [code]"native"[/code]) that have
+## been created but not removed yet, plus the number of banner ad views that have not been destroyed yet under
+## [code]"banner_view"[/code]. Useful for verifying that ads do not leak over long sessions. Only supported on Android.
+func get_live_ad_counts() -> Dictionary:
+	var __counts: Dictionary = {}
+
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("get_live_ad_counts"):
+		GmpLogger.log_warn("get_live_ad_counts() method is not supported")
+	else:
+		__counts = _plugin_singleton.get_live_ad_counts()
+
+	return __counts
+
+
+## Returns the load metrics recorded since startup or the last call to reset_metrics(), keyed by ad format key and
+## then by ad unit ID: request, fill and no-fill counts, the fill rate, error counts by load error code, and load
+## latency percentiles in milliseconds. Only supported on Android.
+func get_metrics() -> Dictionary:
+	var __metrics: Dictionary = {}
+
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("get_metrics"):
+		GmpLogger.log_warn("get_metrics() method is not supported")
+	else:
+		__metrics = _plugin_singleton.get_metrics()
+
+	return __metrics
+
+
+func reset_metrics() -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif _plugin_singleton.has_method("reset_metrics"):
+		_plugin_singleton.reset_metrics()
+
+
+## Emits the metrics_reported signal with the current load metrics every given number of seconds; 0 stops the
+## reports. Only supported on Android.
+func set_metrics_report_interval(a_seconds: int) -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("set_metrics_report_interval"):
+		GmpLogger.log_warn("set_metrics_report_interval() method is not supported")
+	else:
+		_plugin_singleton.set_metrics_report_interval(maxi(a_seconds, 0))
+
+
 func get_initialization_status() -> InitializationStatus:
 	var __status: InitializationStatus
 
@@ -633,6 +801,59 @@ func set_auto_show_on_resume(a_value: bool) -> void:
 	auto_show_on_resume = a_value
 
 
+func set_batch_signal_delivery(a_value: bool) -> void:
+	batch_signal_delivery = a_value
+	if _plugin_singleton != null:
+		_apply_batch_signal_delivery()
+
+
+func _apply_batch_signal_delivery() -> void:
+	if _is_batch_signal_delivery_supported:
+		_plugin_singleton.set_batched_events(batch_signal_delivery)
+	elif batch_signal_delivery:
+		GmpLogger.log_warn("Batched signal delivery is not supported on this platform")
+
+
+func set_compact_ad_info(a_value: bool) -> void:
+	compact_ad_info = a_value
+	if _plugin_singleton != null:
+		_apply_compact_ad_info()
+
+
+func _apply_compact_ad_info() -> void:
+	if _is_compact_ad_info_supported:
+		_plugin_singleton.set_compact_ad_info(compact_ad_info)
+	elif compact_ad_info:
+		GmpLogger.log_warn("Compact ad info is not supported on this platform")
+
+
+func set_log_level(a_value: LogLevel) -> void:
+	log_level = a_value
+	if _plugin_singleton != null:
+		_apply_log_level()
+
+
+func _apply_log_level() -> void:
+	if not _plugin_singleton.has_method("set_log_level"):
+		return
+
+	var __level: LogLevel = log_level
+	if __level == LogLevel.AUTOMATIC:
+		__level = LogLevel.DEBUG if OS.is_debug_build() else LogLevel.WARNING
+
+	match __level:
+		LogLevel.DEBUG:
+			_plugin_singleton.set_log_level("debug")
+		LogLevel.INFO:
+			_plugin_singleton.set_log_level("info")
+		LogLevel.WARNING:
+			_plugin_singleton.set_log_level("warn")
+		LogLevel.ERROR:
+			_plugin_singleton.set_log_level("error")
+		_:
+			_plugin_singleton.set_log_level("none")
+
+
 func set_max_banner_ad_cache(a_value: int) -> void:
 	max_banner_ad_cache = clampi(a_value, MINIMUM_CACHE_SIZE, MAXIMUM_CACHE_SIZE)
 
@@ -790,10 +1011,13 @@ func remove_banner_ad(a_ad_id: String = "") -> void:
 			if _active_banner_ads.is_empty():
 				GmpLogger.log_error("Cannot remove banner ad. No banner ads loaded.")
 			else:
-				_plugin_singleton.remove_banner_ad(_active_banner_ads.erase_last())  # remove last ad to load
+				var __ad_id := _active_banner_ads.erase_last()  # remove last ad to load
+				_ad_handles.erase(__ad_id)
+				_plugin_singleton.remove_banner_ad(__ad_id)
 		else:
 			if _active_banner_ads.has_key(a_ad_id):
 				_active_banner_ads.erase(a_ad_id)
+				_ad_handles.erase(a_ad_id)
 				_plugin_singleton.remove_banner_ad(a_ad_id)
 			else:
 				GmpLogger.log_error("Cannot remove banner ad. Ad with ID '%s' not found." % a_ad_id)
@@ -802,10 +1026,35 @@ func remove_banner_ad(a_ad_id: String = "") -> void:
 func move_banner_ad(a_ad_id: String, a_x: float, a_y: float) -> void:
 	if _plugin_singleton == null:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif _is_ad_handle_api_supported and _ad_handles.has(a_ad_id):
+		_plugin_singleton.move_banner_ad_by_handle(_ad_handles[a_ad_id], a_x, a_y)
 	else:
 		_plugin_singleton.move_banner_ad(a_ad_id, a_x, a_y)
 
 
+## Makes the banner ad show and hide itself natively depending on how much of it lies within the clip rectangle set
+## with update_banner_ad_clip_rect(): it is hidden while at least the given portion (0.0 to 1.0) of its area is
+## clipped. Returns false if the platform does not support native clipping.
+func set_banner_ad_clipping(a_ad_id: String, a_clip_threshold: float) -> bool:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif _plugin_singleton.has_method("set_banner_ad_clipping"):
+		_plugin_singleton.set_banner_ad_clipping(a_ad_id, a_clip_threshold)
+		return true
+
+	return false
+
+
+## Sets the rectangle (in physical pixels) within which the banner ad is visible, such as the visible area of the
+## container that holds it. Only needs to be called when the rectangle changes.
+func update_banner_ad_clip_rect(a_ad_id: String, a_rect: Rect2) -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	else:
+		_plugin_singleton.update_banner_ad_clip_rect(a_ad_id, a_rect.position.x, a_rect.position.y, a_rect.size.x,
+				a_rect.size.y)
+
+
 func get_banner_dimension(a_ad_id: String = "") -> Vector2:
 	if _plugin_singleton == null:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
@@ -905,6 +1154,22 @@ func is_interstitial_ad_loaded() -> bool:
 	return false
 
 
+## Returns true if the interstitial ad with the given ID (or the last one to load) is loaded and has not expired yet.
+## Falls back to [method is_interstitial_ad_loaded] on platforms that do not track ad expiry.
+func is_interstitial_ad_available(a_ad_id: String = "") -> bool:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif a_ad_id.is_empty() and _active_interstitial_ads.is_empty():
+		return false
+	else:
+		var __ad_id: String = _active_interstitial_ads.last_key() if a_ad_id.is_empty() else a_ad_id
+		if _plugin_singleton.has_method("is_interstitial_ad_available"):
+			return _plugin_singleton.is_interstitial_ad_available(__ad_id)
+		return _active_interstitial_ads.has_key(__ad_id)
+
+	return false
+
+
 func show_interstitial_ad(a_ad_id: String = "") -> void:
 	if _plugin_singleton == null:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
@@ -957,6 +1222,22 @@ func is_rewarded_ad_loaded() -> bool:
 	return false
 
 
+## Returns true if the rewarded ad with the given ID (or the last one to load) is loaded and has not expired yet.
+## Falls back to [method is_rewarded_ad_loaded] on platforms that do not track ad expiry.
+func is_rewarded_ad_available(a_ad_id: String = "") -> bool:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif a_ad_id.is_empty() and _active_rewarded_ads.is_empty():
+		return false
+	else:
+		var __ad_id: String = _active_rewarded_ads.last_key() if a_ad_id.is_empty() else a_ad_id
+		if _plugin_singleton.has_method("is_rewarded_ad_available"):
+			return _plugin_singleton.is_rewarded_ad_available(__ad_id)
+		return _active_rewarded_ads.has_key(__ad_id)
+
+	return false
+
+
 func show_rewarded_ad(a_ad_id: String = "") -> void:
 	if _plugin_singleton == null:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
@@ -1009,6 +1290,23 @@ func is_rewarded_interstitial_ad_loaded() -> bool:
 	return false
 
 
+## Returns true if the rewarded interstitial ad with the given ID (or the last one to load) is loaded and has not
+## expired yet.
+## Falls back to [method is_rewarded_interstitial_ad_loaded] on platforms that do not track ad expiry.
+func is_rewarded_interstitial_ad_available(a_ad_id: String = "") -> bool:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif a_ad_id.is_empty() and _active_rewarded_interstitial_ads.is_empty():
+		return false
+	else:
+		var __ad_id: String = _active_rewarded_interstitial_ads.last_key() if a_ad_id.is_empty() else a_ad_id
+		if _plugin_singleton.has_method("is_rewarded_interstitial_ad_available"):
+			return _plugin_singleton.is_rewarded_interstitial_ad_available(__ad_id)
+		return _active_rewarded_interstitial_ads.has_key(__ad_id)
+
+	return false
+
+
 func show_rewarded_interstitial_ad(a_ad_id: String = "") -> void:
 	if _plugin_singleton == null:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
@@ -1041,17 +1339,179 @@ func remove_rewarded_interstitial_ad(a_ad_id: String = "") -> void:
 				GmpLogger.log_error("Cannot remove rewarded interstitial ad. Ad with ID '%s' not found." % a_ad_id)
 
 
+## Sets how long ads of the given format remain valid after they have been loaded. Ads are refreshed shortly before
+## they expire, and are evicted once they have expired. A value of 0 disables expiry for the format. Only supported on
+## Android.
+func set_ad_ttl(a_format: AdFormat, a_seconds: int) -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("set_ad_ttl"):
+		GmpLogger.log_error("set_ad_ttl() method is not supported")
+	else:
+		_plugin_singleton.set_ad_ttl(_get_ad_format_key(a_format), a_seconds)
+
+
+## Sets how failed loads of ads of the given format are retried natively. Retries use exponential backoff with jitter,
+## depend on the [LoadAdError] code and are paused while the app is in the background. While a retry is pending, the
+## failed-to-load signal is not emitted. Pass [code]null[/code] to disable retries, which is the default. Only
+## supported on Android.
+func set_retry_policy(a_format: AdFormat, a_policy: AdmobRetryPolicy) -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("set_retry_policy"):
+		GmpLogger.log_error("set_retry_policy() method is not supported")
+	else:
+		var __policy_data: Dictionary = {"max_retries": 0} if a_policy == null else a_policy.get_raw_data()
+		_plugin_singleton.set_retry_policy(_get_ad_format_key(a_format), __policy_data)
+
+
+## Creates a native-side pool that keeps up to [param a_depth] ads of the given full-screen format (interstitial,
+## rewarded or rewarded interstitial) loaded ahead of time and refills itself as ads are shown. Calling it again for the
+## same format and ad unit updates the depth of the existing pool. Pooled ads are owned by the pool: they are not added
+## to the ad cache and are released natively once shown or expired. Only supported on Android.
+func create_ad_pool(a_format: AdFormat, a_depth: int = 2, a_request: LoadAdRequest = null) -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("create_ad_pool"):
+		GmpLogger.log_error("create_ad_pool() method is not supported")
+	else:
+		if a_request == null:
+			match a_format:
+				AdFormat.INTERSTITIAL:
+					a_request = create_interstitial_ad_request()
+				AdFormat.REWARDED:
+					a_request = create_rewarded_ad_request()
+				AdFormat.REWARDED_INTERSTITIAL:
+					a_request = create_rewarded_interstitial_ad_request()
+				_:
+					GmpLogger.log_error("Cannot create ad pool. Ad format '%s' cannot be pooled."
+							% _get_ad_format_key(a_format))
+					return
+		_plugin_singleton.create_ad_pool(_get_ad_format_key(a_format), a_request.get_raw_data(), a_depth)
+
+
+## Shows the most recently loaded ad of the pool. Returns false if the pool does not have a loaded ad yet.
+func show_pooled_ad(a_format: AdFormat, a_ad_unit_id: String = "") -> bool:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("show_pooled_ad"):
+		GmpLogger.log_error("show_pooled_ad() method is not supported")
+	else:
+		return _plugin_singleton.show_pooled_ad(_get_ad_format_key(a_format),
+				_get_pool_ad_unit_id(a_format, a_ad_unit_id))
+
+	return false
+
+
+func is_pooled_ad_available(a_format: AdFormat, a_ad_unit_id: String = "") -> bool:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif _plugin_singleton.has_method("is_pooled_ad_available"):
+		return _plugin_singleton.is_pooled_ad_available(_get_ad_format_key(a_format),
+				_get_pool_ad_unit_id(a_format, a_ad_unit_id))
+
+	return false
+
+
+## Returns the number of loaded ads that are ready to be shown from the pool.
+func get_pooled_ad_count(a_format: AdFormat, a_ad_unit_id: String = "") -> int:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif _plugin_singleton.has_method("get_pooled_ad_count"):
+		return _plugin_singleton.get_pooled_ad_count(_get_ad_format_key(a_format),
+				_get_pool_ad_unit_id(a_format, a_ad_unit_id))
+
+	return 0
+
+
+## Stops refilling the pool and releases its ads that have not been shown.
+func remove_ad_pool(a_format: AdFormat, a_ad_unit_id: String = "") -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("remove_ad_pool"):
+		GmpLogger.log_error("remove_ad_pool() method is not supported")
+	else:
+		_plugin_singleton.remove_ad_pool(_get_ad_format_key(a_format), _get_pool_ad_unit_id(a_format, a_ad_unit_id))
+
+
+## Returns the number of live ads of the given format held by the native plugin. Only supported on Android.
+func get_ad_count(a_format: AdFormat) -> int:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif _plugin_singleton.has_method("get_ad_count"):
+		return _plugin_singleton.get_ad_count(_get_ad_format_key(a_format))
+
+	return 0
+
+
+## Removes all ads of the given format (except app open ads) in a single call. Ad pools of the format are removed as
+## well. Only supported on Android.
+func remove_all_ads(a_format: AdFormat) -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("remove_all_ads"):
+		GmpLogger.log_error("remove_all_ads() method is not supported")
+	else:
+		var __ad_cache := _get_ad_cache(a_format)
+		if __ad_cache != null:
+			for __ad_id in __ad_cache.all_keys():
+				_ad_handles.erase(__ad_id)
+				detach_native_ad(__ad_id)
+			__ad_cache.clear()
+		_plugin_singleton.remove_all_ads(_get_ad_format_key(a_format))
+
+
+func _get_ad_cache(a_format: AdFormat) -> AdCache:
+	match a_format:
+		AdFormat.BANNER:
+			return _active_banner_ads
+		AdFormat.INTERSTITIAL:
+			return _active_interstitial_ads
+		AdFormat.REWARDED:
+			return _active_rewarded_ads
+		AdFormat.REWARDED_INTERSTITIAL:
+			return _active_rewarded_interstitial_ads
+		AdFormat.NATIVE:
+			return _active_native_ads
+
+	return null
+
+
+func _get_ad_format_key(a_format: AdFormat) -> String:
+	return AdFormat.keys()[a_format].to_lower()
+
+
+func _get_pool_ad_unit_id(a_format: AdFormat, a_ad_unit_id: String) -> String:
+	if not a_ad_unit_id.is_empty():
+		return a_ad_unit_id
+
+	match a_format:
+		AdFormat.INTERSTITIAL:
+			return _interstitial_id
+		AdFormat.REWARDED:
+			return _rewarded_id
+		AdFormat.REWARDED_INTERSTITIAL:
+			return _rewarded_interstitial_id
+
+	return ""
+
+
 func load_app_open_ad(a_request: LoadAdRequest = null) -> void:
 	if _plugin_singleton == null:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
 	else:
 		if a_request == null:
-			a_request = LoadAdRequest.new().set_ad_unit_id(_app_open_id).set_request_agent(request_agent)
-			if is_mediation_enabled():
-				a_request.set_network_extras(NetworkExtras.build_raw_data_array(network_extras))
+			a_request = _create_app_open_ad_request()
 		_plugin_singleton.load_app_open_ad(a_request.get_raw_data(), auto_show_on_resume)
 
 
+func _create_app_open_ad_request() -> LoadAdRequest:
+	var __request: LoadAdRequest = LoadAdRequest.new().set_ad_unit_id(_app_open_id).set_request_agent(request_agent)
+	if is_mediation_enabled():
+		__request.set_network_extras(NetworkExtras.build_raw_data_array(network_extras))
+	return __request
+
+
 func show_app_open_ad() -> void:
 	if _plugin_singleton == null:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
@@ -1080,6 +1540,34 @@ func load_native_ad(a_request: LoadAdRequest = null) -> void:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
 
 
+## Preloads [param a_count] native ads for the request's ad unit in batches using multiple-ads-per-request loading,
+## so that subsequent [method load_native_ad] calls for the ad unit are served without a network round trip.
+## Preloaded ads that are not used within an hour are destroyed. Only supported on Android.
+func preload_native_ads(a_count: int, a_request: LoadAdRequest = null) -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("preload_native_ads"):
+		GmpLogger.log_warn("preload_native_ads() method is not supported")
+	else:
+		if a_request == null:
+			a_request = create_native_ad_request()
+		_plugin_singleton.preload_native_ads(a_request.get_raw_data(), a_count)
+
+
+## Returns the number of preloaded native ads that are ready to be handed out for the ad unit.
+func get_preloaded_native_ad_count(a_ad_unit_id: String = "") -> int:
+	var __count := 0
+
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif _plugin_singleton.has_method("get_preloaded_native_ad_count"):
+		if a_ad_unit_id.is_empty():
+			a_ad_unit_id = _native_id
+		__count = _plugin_singleton.get_preloaded_native_ad_count(a_ad_unit_id)
+
+	return __count
+
+
 func is_native_ad_loaded() -> bool:
 	if _plugin_singleton != null:
 		return _active_native_ads.is_empty() == false
@@ -1130,11 +1618,13 @@ func remove_native_ad(a_ad_id: String = "") -> void:
 				GmpLogger.log_error("Cannot remove native ad. No native ads loaded.")
 			else:
 				var _ad_id = _active_native_ads.erase_last()
+				_ad_handles.erase(_ad_id)
 				detach_native_ad(_ad_id)
 				_plugin_singleton.remove_native_ad(_ad_id)
 		else:
 			if _active_native_ads.has_key(a_ad_id):
 				_active_native_ads.erase(a_ad_id)
+				_ad_handles.erase(a_ad_id)
 				detach_native_ad(a_ad_id)
 				_plugin_singleton.remove_native_ad(a_ad_id)
 			else:
@@ -1184,6 +1674,19 @@ func _sync_native_ad_with_control(ad_id: String, control: Control) -> void:
 	var win_y := (canvas_pos.y - vp_rect.position.y) * scale_y
 	var win_w := canvas_size.x * scale_x
 	var win_h := canvas_size.y * scale_y
+	if _is_ad_handle_api_supported and _ad_handles.has(ad_id):
+		(
+			_plugin_singleton
+			. update_native_ad_layout_by_handle(
+				_ad_handles[ad_id],
+				int(win_x),
+				int(win_y),
+				int(win_w),
+				int(win_h),
+				control.is_visible_in_tree(),
+			)
+		)
+		return
 	(
 		_plugin_singleton
 		. update_native_ad_layout(
@@ -1198,11 +1701,24 @@ func _sync_native_ad_with_control(ad_id: String, control: Control) -> void:
 
 
 func _process(_delta):
+	if (
+		batch_signal_delivery
+		and _is_batch_signal_delivery_supported
+		and (_has_pending_batched_events or not _is_events_pending_signal_supported)
+	):
+		_dispatch_batched_events()
+
 	for ad_id in _native_control_bindings.keys():
 		var control = _native_control_bindings[ad_id]
 		_sync_native_ad_with_control(ad_id, control)
 
 
+func _dispatch_batched_events() -> void:
+	_has_pending_batched_events = false
+	for __event in _plugin_singleton.poll_events():
+		callv("_on_%s" % __event[BATCHED_EVENT_SIGNAL_PROPERTY], __event[BATCHED_EVENT_ARGS_PROPERTY])
+
+
 func load_consent_form() -> void:
 	if _plugin_singleton == null:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
@@ -1241,21 +1757,48 @@ func update_consent_info(a_parameters: ConsentRequestParameters = null) -> void:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
 	else:
 		if a_parameters == null:
-			a_parameters = ConsentRequestParameters.new()
+			a_parameters = _create_consent_request_parameters()
+		else:
+			a_parameters.set_is_real(is_real)
 
-			if under_age_of_consent != AdmobConfig.TagForUnderAgeOfConsent.UNSPECIFIED:
-				a_parameters.set_tag_for_under_age_of_consent(under_age_of_consent)
+		_plugin_singleton.update_consent_info(a_parameters.get_raw_data())
 
-			if not is_real:
-				if debug_geography != ConsentRequestParameters.DebugGeography.NOT_SET:
-					a_parameters.set_debug_geography(debug_geography)
 
-				for __device_id in test_device_hashed_ids:
-					a_parameters.add_test_device_hashed_id(__device_id)
+## Updates the consent information, then loads and shows the consent form only if the consent status requires it, and
+## emits [signal consent_ensured] once done. Replaces calling [method update_consent_info], [method load_consent_form]
+## and [method show_consent_form] in sequence, and skips the form load when it is not needed. If the plugin does not
+## support it, the same flow is run by chaining those methods.
+func ensure_consent(a_parameters: ConsentRequestParameters = null) -> void:
+	if _plugin_singleton == null:
+		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
+	elif not _plugin_singleton.has_method("ensure_consent"):
+		_fallback_consent_step = _ConsentFlowStep.UPDATING_INFO
+		update_consent_info(a_parameters)
+	else:
+		if a_parameters == null:
+			a_parameters = _create_consent_request_parameters()
+		else:
+			a_parameters.set_is_real(is_real)
 
-		a_parameters.set_is_real(is_real)
+		_plugin_singleton.ensure_consent(a_parameters.get_raw_data())
 
-		_plugin_singleton.update_consent_info(a_parameters.get_raw_data())
+
+func _create_consent_request_parameters() -> ConsentRequestParameters:
+	var __parameters: ConsentRequestParameters = ConsentRequestParameters.new()
+
+	if under_age_of_consent != AdmobConfig.TagForUnderAgeOfConsent.UNSPECIFIED:
+		__parameters.set_tag_for_under_age_of_consent(under_age_of_consent)
+
+	if not is_real:
+		if debug_geography != ConsentRequestParameters.DebugGeography.NOT_SET:
+			__parameters.set_debug_geography(debug_geography)
+
+		for __device_id in test_device_hashed_ids:
+			__parameters.add_test_device_hashed_id(__device_id)
+
+	__parameters.set_is_real(is_real)
+
+	return __parameters
 
 
 func reset_consent_info() -> void:
@@ -1265,12 +1808,23 @@ func reset_consent_info() -> void:
 		_plugin_singleton.reset_consent_info()
 
 
-func set_mediation_privacy_settings(privacySettings: NetworkPrivacySettings) -> void:
+## When [param a_async] is true and the platform supports it, the settings are applied to the networks concurrently
+## in the background and [signal mediation_privacy_settings_applied] is emitted once all networks are done. On other
+## platforms the settings are applied synchronously and the signal is emitted on the next idle frame with an empty
+## result, as no per-network outcomes are reported there.
+func set_mediation_privacy_settings(privacySettings: NetworkPrivacySettings, a_async: bool = false) -> void:
 	if _plugin_singleton == null:
 		GmpLogger.log_error("%s plugin not initialized" % PLUGIN_SINGLETON_NAME)
 	else:
 		var __tags := MediationNetwork.get_all_enabled_tags(enabled_networks)
-		_plugin_singleton.set_mediation_privacy_settings(privacySettings.set_enabled_networks(__tags).get_raw_data())
+		var __data := privacySettings.set_enabled_networks(__tags).get_raw_data()
+		if a_async and _plugin_singleton.has_method("set_mediation_privacy_settings_async"):
+			_plugin_singleton.set_mediation_privacy_settings_async(__data)
+		else:
+			_plugin_singleton.set_mediation_privacy_settings(__data)
+			if a_async:
+				# Deferred so that callers can await the signal right after this call
+				_on_mediation_privacy_settings_applied.call_deferred({})
 
 
 func request_tracking_authorization() -> void:
@@ -1305,9 +1859,15 @@ func _on_banner_ad_loaded(a_ad_data: Dictionary, a_response_info: Dictionary) ->
 	var __ad_info: AdInfo = AdInfo.new(a_ad_data)
 	var __response_info: ResponseInfo = ResponseInfo.new(a_response_info)
 	_active_banner_ads.cache(__ad_info.get_ad_id(), __response_info)
+	_cache_ad_handle(__ad_info)
 	banner_ad_loaded.emit(__ad_info, __response_info)
 
 
+func _cache_ad_handle(a_ad_info: AdInfo) -> void:
+	if a_ad_info.get_ad_handle() != 0:
+		_ad_handles[a_ad_info.get_ad_id()] = a_ad_info.get_ad_handle()
+
+
 func _on_banner_ad_failed_to_load(a_ad_data: Dictionary, error_data: Dictionary) -> void:
 	banner_ad_failed_to_load.emit(AdInfo.new(a_ad_data), LoadAdError.new(error_data))
 
@@ -1339,7 +1899,8 @@ func _on_banner_ad_closed(a_ad_data: Dictionary) -> void:
 func _on_interstitial_ad_loaded(a_ad_data: Dictionary, a_response_info: Dictionary) -> void:
 	var __ad_info: AdInfo = AdInfo.new(a_ad_data)
 	var __response_info: ResponseInfo = ResponseInfo.new(a_response_info)
-	_active_interstitial_ads.cache(__ad_info.get_ad_id(), __response_info)
+	if not __ad_info.is_pooled():  # pooled ads are owned and released by the native ad pool
+		_active_interstitial_ads.cache(__ad_info.get_ad_id(), __response_info)
 	interstitial_ad_loaded.emit(__ad_info, __response_info)
 
 
@@ -1369,7 +1930,7 @@ func _on_interstitial_ad_failed_to_show_full_screen_content(a_ad_data: Dictionar
 
 func _on_interstitial_ad_dismissed_full_screen_content(a_ad_data: Dictionary) -> void:
 	var __ad_info: AdInfo = AdInfo.new(a_ad_data)
-	if remove_interstitial_ads_after_displayed:
+	if remove_interstitial_ads_after_displayed and _active_interstitial_ads.has_key(__ad_info.get_ad_id()):
 		remove_interstitial_ad(__ad_info.get_ad_id())
 	interstitial_ad_dismissed_full_screen_content.emit(__ad_info)
 
@@ -1377,7 +1938,8 @@ func _on_interstitial_ad_dismissed_full_screen_content(a_ad_data: Dictionary) ->
 func _on_rewarded_ad_loaded(a_ad_data: Dictionary, a_response_info: Dictionary) -> void:
 	var __ad_info: AdInfo = AdInfo.new(a_ad_data)
 	var __response_info: ResponseInfo = ResponseInfo.new(a_response_info)
-	_active_rewarded_ads.cache(__ad_info.get_ad_id(), __response_info)
+	if not __ad_info.is_pooled():  # pooled ads are owned and released by the native ad pool
+		_active_rewarded_ads.cache(__ad_info.get_ad_id(), __response_info)
 	rewarded_ad_loaded.emit(__ad_info, __response_info)
 
 
@@ -1403,7 +1965,7 @@ func _on_rewarded_ad_failed_to_show_full_screen_content(a_ad_data: Dictionary, e
 
 func _on_rewarded_ad_dismissed_full_screen_content(a_ad_data: Dictionary) -> void:
 	var __ad_info: AdInfo = AdInfo.new(a_ad_data)
-	if remove_rewarded_ads_after_displayed:
+	if remove_rewarded_ads_after_displayed and _active_rewarded_ads.has_key(__ad_info.get_ad_id()):
 		remove_rewarded_ad(__ad_info.get_ad_id())
 	rewarded_ad_dismissed_full_screen_content.emit(__ad_info)
 
@@ -1415,7 +1977,8 @@ func _on_rewarded_ad_user_earned_reward(a_ad_data: Dictionary, reward_data: Dict
 func _on_rewarded_interstitial_ad_loaded(a_ad_data: Dictionary, a_response_info: Dictionary) -> void:
 	var __ad_info: AdInfo = AdInfo.new(a_ad_data)
 	var __response_info: ResponseInfo = ResponseInfo.new(a_response_info)
-	_active_rewarded_interstitial_ads.cache(__ad_info.get_ad_id(), __response_info)
+	if not __ad_info.is_pooled():  # pooled ads are owned and released by the native ad pool
+		_active_rewarded_interstitial_ads.cache(__ad_info.get_ad_id(), __response_info)
 	rewarded_interstitial_ad_loaded.emit(__ad_info, __response_info)
 
 
@@ -1444,7 +2007,10 @@ func _on_rewarded_interstitial_ad_failed_to_show_full_screen_content(
 
 func _on_rewarded_interstitial_ad_dismissed_full_screen_content(a_ad_data: Dictionary) -> void:
 	var __ad_info: AdInfo = AdInfo.new(a_ad_data)
-	if remove_rewarded_interstitial_ads_after_displayed:
+	if (
+		remove_rewarded_interstitial_ads_after_displayed
+		and _active_rewarded_interstitial_ads.has_key(__ad_info.get_ad_id())
+	):
 		remove_rewarded_interstitial_ad(__ad_info.get_ad_id())
 	rewarded_interstitial_ad_dismissed_full_screen_content.emit(__ad_info)
 
@@ -1485,6 +2051,7 @@ func _on_native_ad_loaded(a_ad_data: Dictionary, a_response_info: Dictionary) ->
 	var __ad_info: AdInfo = AdInfo.new(a_ad_data)
 	var __response_info: ResponseInfo = ResponseInfo.new(a_response_info)
 	_active_native_ads.cache(__ad_info.get_ad_id(), __response_info)
+	_cache_ad_handle(__ad_info)
 	native_ad_loaded.emit(__ad_info, __response_info)
 
 
@@ -1518,27 +2085,74 @@ func _on_native_ad_closed(ad_data: Dictionary) -> void:
 
 func _on_consent_form_loaded() -> void:
 	consent_form_loaded.emit()
+	if _fallback_consent_step == _ConsentFlowStep.LOADING_FORM:
+		_fallback_consent_step = _ConsentFlowStep.SHOWING_FORM
+		show_consent_form()
 
 
 func _on_consent_form_dismissed(error_data: Dictionary) -> void:
 	consent_form_dismissed.emit(FormError.new(error_data))
+	if _fallback_consent_step == _ConsentFlowStep.SHOWING_FORM:
+		_finish_fallback_consent_flow(true, error_data)
 
 
 func _on_consent_form_failed_to_load(error_data: Dictionary) -> void:
 	consent_form_failed_to_load.emit(FormError.new(error_data))
+	if _fallback_consent_step == _ConsentFlowStep.LOADING_FORM:
+		_finish_fallback_consent_flow(false, error_data)
 
 
 func _on_consent_info_updated() -> void:
 	consent_info_updated.emit()
+	if _fallback_consent_step == _ConsentFlowStep.UPDATING_INFO:
+		var __consent := get_consent_status()
+		if __consent and __consent.status == UserConsent.Status.REQUIRED and is_consent_form_available():
+			_fallback_consent_step = _ConsentFlowStep.LOADING_FORM
+			load_consent_form()
+		else:
+			_finish_fallback_consent_flow(false)
 
 
 func _on_consent_info_update_failed(error_data: Dictionary) -> void:
 	consent_info_update_failed.emit(FormError.new(error_data))
+	if _fallback_consent_step == _ConsentFlowStep.UPDATING_INFO:
+		_finish_fallback_consent_flow(false, error_data)
+
+
+func _finish_fallback_consent_flow(a_is_form_shown: bool, a_error_data: Dictionary = {}) -> void:
+	_fallback_consent_step = _ConsentFlowStep.NONE
+	var __consent := get_consent_status()
+	var __status: UserConsent.Status = __consent.status if __consent else UserConsent.Status.UNKNOWN
+	var __result := {
+		ConsentResult.STATUS_PROPERTY: UserConsent.status_to_string(__status),
+		ConsentResult.CAN_REQUEST_ADS_PROPERTY: __status in [UserConsent.Status.NOT_REQUIRED,
+				UserConsent.Status.OBTAINED],
+		ConsentResult.FORM_SHOWN_PROPERTY: a_is_form_shown,
+	}
+	if not a_error_data.is_empty():
+		__result[ConsentResult.ERROR_PROPERTY] = a_error_data
+	consent_ensured.emit(ConsentResult.new(__result))
+
+
+func _on_consent_ensured(a_result: Dictionary) -> void:
+	consent_ensured.emit(ConsentResult.new(a_result))
 
 
 func _on_tracking_authorization_granted() -> void:
 	tracking_authorization_granted.emit()
 
 
+func _on_mediation_privacy_settings_applied(a_result: Dictionary) -> void:
+	mediation_privacy_settings_applied.emit(MediationPrivacyResult.new(a_result))
+
+
+func _on_metrics_reported(a_metrics: Dictionary) -> void:
+	metrics_reported.emit(a_metrics)
+
+
+func _on_events_pending() -> void:
+	_has_pending_batched_events = true
+
+
 func _on_tracking_authorization_denied() -> void:
 	tracking_authorization_denied.emit()
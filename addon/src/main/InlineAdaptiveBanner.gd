@@ -19,6 +19,8 @@ const MAXIMUM_RESIZE_THRESHOLD: float = 500.0
 @export_range(MINIMUM_CLIP_THRESHOLD, MAXIMUM_CLIP_THRESHOLD, 0.05) var clip_threshold: float = 0.1:
 	set(a_value):
 		clip_threshold = clampf(a_value, MINIMUM_CLIP_THRESHOLD, MAXIMUM_CLIP_THRESHOLD)
+		if _is_native_clipping_enabled:
+			admob.set_banner_ad_clipping(ad_id, clip_threshold)
 
 ## Width-change threshold (in pixels) that triggers a banner reload when the ad container is resized by this amount
 ## or more.
@@ -61,6 +63,17 @@ var is_position_dirty: bool = false
 var is_banner_visible: bool = false
 var do_ignore_resize: bool = false
 
+# State of the last position update, used to skip frames in which nothing that affects the banner has changed
+var _last_canvas_transform: Transform2D
+var _last_viewport_size: Vector2
+var _last_physical_position: Vector2 = Vector2.INF
+
+# Native clipping: the banner shows and hides itself based on the clip rectangle pushed from here
+var _is_native_clipping_enabled: bool = false
+var _clip_ancestors: Array[Control] = []
+var _has_clip_rect: bool = false
+var _last_clip_rect: Rect2
+
 
 func _enter_tree() -> void:
 	var __admob: Admob
@@ -164,13 +177,18 @@ func hide_ad() -> void:
 
 
 func move_ad(a_physical_position: Vector2) -> void:
-	admob.move_banner_ad(ad_id, a_physical_position.x, a_physical_position.y)
+	if a_physical_position != _last_physical_position:
+		_last_physical_position = a_physical_position
+		admob.move_banner_ad(ad_id, a_physical_position.x, a_physical_position.y)
 
 
 func remove_ad() -> void:
 	admob.remove_banner_ad(ad_id)
 	is_banner_visible = false
 	ad_id = ""
+	_last_physical_position = Vector2.INF
+	_is_native_clipping_enabled = false
+	_has_clip_rect = false
 
 
 # --------------------------------------------------------------
@@ -182,12 +200,26 @@ func _process(_delta: float) -> void:
 	if is_position_dirty:
 		_deferred_update_position()
 		is_position_dirty = false
-	else:
+	elif _has_placement_changed():
 		update_banner_position()
 
 
+# Returns true if the on-screen placement of this node may have changed since the last check, i.e. if its global
+# transform (including scrolling of parent containers and the canvas) or the viewport size has changed.
+func _has_placement_changed() -> bool:
+	var __canvas_transform: Transform2D = get_global_transform_with_canvas()
+	var __viewport_size: Vector2 = get_viewport_rect().size
+	if __canvas_transform == _last_canvas_transform and __viewport_size == _last_viewport_size:
+		return false
+
+	_last_canvas_transform = __canvas_transform
+	_last_viewport_size = __viewport_size
+	return true
+
+
 func _mark_position_dirty() -> void:
 	is_position_dirty = true
+	_last_physical_position = Vector2.INF	# size may have changed; push the position even if it has not moved
 	call_deferred("_deferred_update_position")
 
 
@@ -204,6 +236,14 @@ func update_banner_position() -> void:
 		hide_ad()
 		return
 
+	if _is_native_clipping_enabled:
+		if not is_banner_visible:
+			show_ad()
+
+		_update_clip_rect()
+		move_ad(_godot_to_physical(global_position))
+		return
+
 	# Smart clipping (visibility logic)
 	var is_clipped_out: bool = false
 
@@ -248,6 +288,29 @@ func update_banner_position() -> void:
 		move_ad(_godot_to_physical(global_position))
 
 
+# Pushes the visible area of the clipping ancestors and the viewport to the native banner if it has changed
+func _update_clip_rect() -> void:
+	var __clip_rect: Rect2 = get_viewport_rect()
+	for __ancestor in _clip_ancestors:
+		__clip_rect = __clip_rect.intersection(__ancestor.get_global_rect())
+
+	var __scale_factor: Vector2 = _calculate_scale_factor()
+	var __physical_rect := Rect2(__clip_rect.position * __scale_factor, __clip_rect.size * __scale_factor)
+	if not _has_clip_rect or __physical_rect != _last_clip_rect:
+		_has_clip_rect = true
+		_last_clip_rect = __physical_rect
+		admob.update_banner_ad_clip_rect(ad_id, __physical_rect)
+
+
+func _find_clip_ancestors() -> void:
+	_clip_ancestors.clear()
+	var __parent = get_parent()
+	while __parent is Control:
+		if __parent.clip_contents:
+			_clip_ancestors.append(__parent)
+		__parent = __parent.get_parent()
+
+
 # --------------------------------------------------------------
 # SIGNAL HANDLERS
 # --------------------------------------------------------------
@@ -297,6 +360,10 @@ func _on_banner_ad_loaded(loaded_ad_info: AdInfo, _response: ResponseInfo) -> vo
 	pending_load = false
 	ad_id = loaded_ad_info.get_ad_id()
 
+	_find_clip_ancestors()
+	_has_clip_rect = false
+	_is_native_clipping_enabled = admob.set_banner_ad_clipping(ad_id, clip_threshold)
+
 	_apply_loaded_size(Vector2(loaded_ad_info.get_measured_width(), loaded_ad_info.get_measured_height()))
 	_mark_position_dirty()
 
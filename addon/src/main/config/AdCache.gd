@@ -60,6 +60,11 @@ func erase(a_ad_id: String) -> void:
 	_ads.erase(a_ad_id)
 
 
+func clear() -> void:
+	_ads.clear()
+	_ad_queue.clear()
+
+
 func erase_last() -> String:
 	var __removed_ad_id: String = _ad_queue.pop_front()
 	_ads.erase(__removed_ad_id)
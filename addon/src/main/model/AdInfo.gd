@@ -5,10 +5,12 @@ class_name AdInfo
 extends RefCounted
 
 const AD_ID_PROPERTY := &"ad_id"
+const AD_HANDLE_PROPERTY := &"ad_handle"
 const MEASURED_WIDTH_PROPERTY := &"measured_width"
 const MEASURED_HEIGHT_PROPERTY := &"measured_height"
 const IS_COLLAPSIBLE_PROPERTY := &"is_collapsible"
 const LOAD_AD_REQUEST_PROPERTY := &"load_ad_request"
+const IS_POOLED_PROPERTY := &"is_pooled"
 
 var _data: Dictionary
 
@@ -21,6 +23,11 @@ func get_ad_id() -> String:
 	return _data[AD_ID_PROPERTY] if _data.has(AD_ID_PROPERTY) else ""
 
 
+## Returns the integer handle of the ad, or 0 if the plugin does not assign handles (e.g. on iOS).
+func get_ad_handle() -> int:
+	return _data[AD_HANDLE_PROPERTY] if _data.has(AD_HANDLE_PROPERTY) else 0
+
+
 func get_measured_width() -> int:
 	return _data[MEASURED_WIDTH_PROPERTY] if _data.has(MEASURED_WIDTH_PROPERTY) else 0
 
@@ -33,5 +40,10 @@ func get_is_collapsible() -> bool:
 	return _data[IS_COLLAPSIBLE_PROPERTY] if _data.has(IS_COLLAPSIBLE_PROPERTY) else false
 
 
+## Returns true if the ad belongs to a native-side ad pool, which releases it once it has been shown or has expired.
+func is_pooled() -> bool:
+	return _data[IS_POOLED_PROPERTY] if _data.has(IS_POOLED_PROPERTY) else false
+
+
 func get_load_ad_request() -> LoadAdRequest:
 	return LoadAdRequest.new(_data[LOAD_AD_REQUEST_PROPERTY]) if _data.has(LOAD_AD_REQUEST_PROPERTY) else null
@@ -0,0 +1,71 @@
+#
+# © 2026-present https://github.com/cengiz-pz
+#
+class_name AdmobRetryPolicy
+extends RefCounted
+
+const DATA_KEY_MAX_RETRIES := &"max_retries"
+const DATA_KEY_BACKOFF_MULTIPLIER := &"backoff_multiplier"
+const DATA_KEY_MAX_DELAY_MS := &"max_delay_ms"
+const DATA_KEY_JITTER := &"jitter"
+const DATA_KEY_INITIAL_DELAYS_MS := &"initial_delays_ms"
+
+var _data: Dictionary
+
+
+func _init(a_data: Dictionary = {}) -> void:
+	_data = a_data
+
+
+## Maximum number of retries after the initial load has failed. 0 disables retries.
+func set_max_retries(a_value: int) -> AdmobRetryPolicy:
+	_data[DATA_KEY_MAX_RETRIES] = a_value
+	return self
+
+
+func get_max_retries() -> int:
+	return _data[DATA_KEY_MAX_RETRIES] if _data.has(DATA_KEY_MAX_RETRIES) else 3
+
+
+## Factor by which the delay grows with each retry.
+func set_backoff_multiplier(a_value: float) -> AdmobRetryPolicy:
+	_data[DATA_KEY_BACKOFF_MULTIPLIER] = a_value
+	return self
+
+
+func get_backoff_multiplier() -> float:
+	return _data[DATA_KEY_BACKOFF_MULTIPLIER] if _data.has(DATA_KEY_BACKOFF_MULTIPLIER) else 2.0
+
+
+## Upper limit of the delay between retries, in milliseconds.
+func set_max_delay_ms(a_value: int) -> AdmobRetryPolicy:
+	_data[DATA_KEY_MAX_DELAY_MS] = a_value
+	return self
+
+
+func get_max_delay_ms() -> int:
+	return _data[DATA_KEY_MAX_DELAY_MS] if _data.has(DATA_KEY_MAX_DELAY_MS) else 300000
+
+
+## Fraction (0.0 to 1.0) by which each delay is randomly lengthened or shortened.
+func set_jitter(a_value: float) -> AdmobRetryPolicy:
+	_data[DATA_KEY_JITTER] = a_value
+	return self
+
+
+func get_jitter() -> float:
+	return _data[DATA_KEY_JITTER] if _data.has(DATA_KEY_JITTER) else 0.25
+
+
+## Retries loads that failed with the given [LoadAdError] code, waiting [param a_delay_ms] milliseconds before the
+## first retry. Once any error code has been set, only the error codes that have been set are retried. Otherwise,
+## internal errors, network errors and no-fill errors are retried.
+func set_initial_delay_ms(a_error_code: int, a_delay_ms: int) -> AdmobRetryPolicy:
+	if not _data.has(DATA_KEY_INITIAL_DELAYS_MS):
+		_data[DATA_KEY_INITIAL_DELAYS_MS] = {}
+	_data[DATA_KEY_INITIAL_DELAYS_MS][str(a_error_code)] = a_delay_ms
+	return self
+
+
+func get_raw_data() -> Dictionary:
+	return _data
@@ -42,5 +42,17 @@ func get_apply_at_startup() -> bool:
 	return _data[DATA_KEY_APPLY_AT_STARTUP]
 
 
+## Sets a setting that has no dedicated setter, such as a per-format TTL in seconds (e.g.
+## [code]"interstitial_ttl_seconds"[/code], applied on Android when SDK initialization completes). Supports [bool],
+## [int], [float] and [String] values. A [code]null[/code] value removes the stored setting.
+func set_value(a_key: String, a_value: Variant) -> AdmobSettings:
+	_data[a_key] = a_value
+	return self
+
+
+func get_value(a_key: String, a_default: Variant = null) -> Variant:
+	return _data[a_key] if _data.has(a_key) else a_default
+
+
 func get_raw_data() -> Dictionary:
 	return _data
@@ -0,0 +1,39 @@
+#
+# © 2026-present https://github.com/cengiz-pz
+#
+class_name ConsentResult
+extends RefCounted
+
+const STATUS_PROPERTY := &"status"
+const CAN_REQUEST_ADS_PROPERTY := &"can_request_ads"
+const FORM_SHOWN_PROPERTY := &"form_shown"
+const ERROR_PROPERTY := &"error"
+
+var _data: Dictionary
+
+
+func _init(a_data: Dictionary):
+	_data = a_data if a_data else {}
+
+
+func get_consent() -> UserConsent:
+	return UserConsent.new(_data[STATUS_PROPERTY] if _data.has(STATUS_PROPERTY) else "")
+
+
+## Returns whether ads may be requested, based on the consent information after the consent flow.
+func can_request_ads() -> bool:
+	return _data[CAN_REQUEST_ADS_PROPERTY] if _data.has(CAN_REQUEST_ADS_PROPERTY) else false
+
+
+## Returns whether the consent form had to be shown to the user during the consent flow.
+func is_form_shown() -> bool:
+	return _data[FORM_SHOWN_PROPERTY] if _data.has(FORM_SHOWN_PROPERTY) else false
+
+
+func has_error() -> bool:
+	return _data.has(ERROR_PROPERTY)
+
+
+## Returns the error that ended the consent flow early, or null if the flow completed.
+func get_error() -> FormError:
+	return FormError.new(_data[ERROR_PROPERTY]) if _data.has(ERROR_PROPERTY) else null
@@ -86,6 +86,8 @@ const DATA_KEY_ADAPTIVE_MAX_HEIGHT := &"adaptive_max_height"
 const DATA_KEY_AD_POSITION := &"ad_position"
 const DATA_KEY_COLLAPSIBLE_POSITION := &"collapsible_position"
 const DATA_KEY_ANCHOR_TO_SAFE_AREA := &"anchor_to_safe_area"
+const DATA_KEY_SUPPRESS_HIDDEN_REFRESH := &"suppress_hidden_refresh"
+const DATA_KEY_CATCH_UP_REFRESH_AGE_MS := &"catch_up_refresh_age_ms"
 const DATA_KEY_KEYWORDS := &"keywords"
 const DATA_KEY_USER_ID := &"user_id"
 const DATA_KEY_CUSTOM_DATA := &"custom_data"
@@ -188,6 +190,29 @@ func get_anchor_to_safe_area() -> bool:
 	return _data[DATA_KEY_ANCHOR_TO_SAFE_AREA] if _data.has(DATA_KEY_ANCHOR_TO_SAFE_AREA) else false
 
 
+## When true, a banner does not refresh (and emits no [code]banner_ad_refreshed[/code] signals) while it is hidden
+## or positioned off-screen. When it is shown again, it is refreshed once if its creative is older than the catch-up
+## refresh age. Only supported on Android.
+func set_suppress_hidden_refresh(a_value: bool) -> LoadAdRequest:
+	_data[DATA_KEY_SUPPRESS_HIDDEN_REFRESH] = a_value
+	return self
+
+
+func get_suppress_hidden_refresh() -> bool:
+	return _data[DATA_KEY_SUPPRESS_HIDDEN_REFRESH] if _data.has(DATA_KEY_SUPPRESS_HIDDEN_REFRESH) else false
+
+
+## Minimum age in milliseconds of a banner's creative for a catch-up refresh when the banner is shown again with
+## hidden refresh suppression enabled. Defaults to 60 seconds.
+func set_catch_up_refresh_age_ms(a_value: int) -> LoadAdRequest:
+	_data[DATA_KEY_CATCH_UP_REFRESH_AGE_MS] = a_value
+	return self
+
+
+func get_catch_up_refresh_age_ms() -> int:
+	return _data[DATA_KEY_CATCH_UP_REFRESH_AGE_MS] if _data.has(DATA_KEY_CATCH_UP_REFRESH_AGE_MS) else 60000
+
+
 func set_keywords(a_value: Array) -> LoadAdRequest:
 	if a_value == null:
 		_data[DATA_KEY_KEYWORDS] = []
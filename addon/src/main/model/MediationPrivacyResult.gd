@@ -0,0 +1,43 @@
+#
+# © 2026-present https://github.com/cengiz-pz
+#
+class_name MediationPrivacyResult
+extends RefCounted
+
+const OUTCOME_PROPERTY := &"outcome"
+const DURATION_MS_PROPERTY := &"duration_ms"
+
+const OUTCOME_APPLIED := "APPLIED"
+const OUTCOME_UNSUPPORTED := "UNSUPPORTED"
+const OUTCOME_FAILED := "FAILED"
+
+var _data: Dictionary
+
+
+func _init(a_data: Dictionary):
+	if a_data == null:
+		_data = {}
+	else:
+		_data = a_data
+
+
+func get_network_tags() -> Array:
+	return _data.keys()
+
+
+## Returns APPLIED, UNSUPPORTED or FAILED for the given network, or an empty string if the network was not processed.
+func get_outcome(a_network_tag: String) -> String:
+	return _data[a_network_tag][OUTCOME_PROPERTY] if _data.has(a_network_tag) else ""
+
+
+## Returns how long applying the privacy settings to the given network took, in milliseconds.
+func get_duration_ms(a_network_tag: String) -> float:
+	return _data[a_network_tag][DURATION_MS_PROPERTY] if _data.has(a_network_tag) else 0.0
+
+
+func is_applied(a_network_tag: String) -> bool:
+	return get_outcome(a_network_tag) == OUTCOME_APPLIED
+
+
+func get_failed_network_tags() -> Array:
+	return get_network_tags().filter(func(a_tag): return get_outcome(a_tag) == OUTCOME_FAILED)
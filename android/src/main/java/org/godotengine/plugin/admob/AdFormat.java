@@ -0,0 +1,56 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import java.util.Locale;
+
+
+/**
+ * Ad formats supported by the plugin. The key of each format matches the prefix of its Godot signals
+ * (e.g. "rewarded_interstitial" for "rewarded_interstitial_ad_loaded").
+ */
+public enum AdFormat {
+	BANNER("banner"),
+	INTERSTITIAL("interstitial"),
+	REWARDED("rewarded"),
+	REWARDED_INTERSTITIAL("rewarded_interstitial"),
+	APP_OPEN("app_open"),
+	NATIVE("native");
+
+	private final String key;
+
+	AdFormat(String key) {
+		this.key = key;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public boolean isFullScreen() {
+		return this == INTERSTITIAL || this == REWARDED || this == REWARDED_INTERSTITIAL;
+	}
+
+	/**
+	 * Looks up the format that matches the given key (case-insensitive).
+	 *
+	 * @param key Format key as sent from GDScript (e.g. "interstitial")
+	 * @return The matching format, or null if the key is unknown
+	 */
+	public static AdFormat fromKey(String key) {
+		if (key == null) {
+			return null;
+		}
+
+		String normalizedKey = key.trim().toLowerCase(Locale.ROOT);
+		for (AdFormat format : values()) {
+			if (format.key.equals(normalizedKey)) {
+				return format;
+			}
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,174 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Tracks when each loaded full-screen ad was loaded and how long it stays valid.
+ *
+ * <p>Load times are taken from a monotonic clock ({@link SystemClock#elapsedRealtime()}), so that wall-clock changes
+ * do not affect expiry. Shortly before an ad expires the listener is asked to refresh it, and once it has expired it
+ * is evicted and the listener is told to release it.
+ */
+class AdInventory {
+	private static final String CLASS_NAME = AdInventory.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	static final long DEFAULT_FULL_SCREEN_TTL_MILLIS = 60L * 60L * 1000L;	// 1 hour
+	static final long DEFAULT_APP_OPEN_TTL_MILLIS = 4L * 60L * 60L * 1000L;	// 4 hours
+	static final long MAX_REFRESH_LEAD_MILLIS = 5L * 60L * 1000L;
+	static final long NO_EXPIRY = 0L;
+
+	interface Listener {
+		/**
+		 * Called once per load, shortly before the ad expires.
+		 */
+		void onAdExpiring(AdFormat format, String adId);
+
+		/**
+		 * Called when the ad has expired and has been evicted from the inventory.
+		 */
+		void onAdExpired(AdFormat format, String adId);
+	}
+
+	private static final class Entry {
+		final AdFormat format;
+		final long loadedAt;
+		volatile boolean refreshRequested;
+
+		Entry(AdFormat format, long loadedAt) {
+			this.format = format;
+			this.loadedAt = loadedAt;
+		}
+	}
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLongArray ttlMillis = new AtomicLongArray(AdFormat.values().length);
+	private final LongSupplier clock;
+	private final Handler handler;
+	private final Runnable sweepRunnable = this::sweep;
+
+	private Listener listener;
+
+	AdInventory() {
+		this(SystemClock::elapsedRealtime, new Handler(Looper.getMainLooper()));
+	}
+
+	AdInventory(LongSupplier clock, Handler handler) {
+		this.clock = clock;
+		this.handler = handler;
+
+		for (AdFormat format : AdFormat.values()) {
+			ttlMillis.set(format.ordinal(), format == AdFormat.APP_OPEN ? DEFAULT_APP_OPEN_TTL_MILLIS
+					: format.isFullScreen() ? DEFAULT_FULL_SCREEN_TTL_MILLIS : NO_EXPIRY);
+		}
+	}
+
+	void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Sets how long ads of the given format stay valid after being loaded. A non-positive value disables expiry.
+	 */
+	void setTtlMillis(AdFormat format, long ttl) {
+		ttlMillis.set(format.ordinal(), Math.max(NO_EXPIRY, ttl));
+		scheduleSweep();
+	}
+
+	long getTtlMillis(AdFormat format) {
+		return ttlMillis.get(format.ordinal());
+	}
+
+	void recordLoad(AdFormat format, String adId) {
+		entries.put(adId, new Entry(format, clock.getAsLong()));
+		scheduleSweep();
+	}
+
+	void remove(String adId) {
+		entries.remove(adId);
+	}
+
+	void removeAll(AdFormat format) {
+		entries.values().removeIf(entry -> entry.format == format);
+	}
+
+	/**
+	 * Returns true if the ad has been loaded and has not expired, shown or been removed since.
+	 */
+	boolean isAvailable(String adId) {
+		Entry entry = entries.get(adId);
+		return entry != null && !isExpired(entry, clock.getAsLong());
+	}
+
+	/**
+	 * Evicts expired ads and requests a refresh of the ones that are about to expire, then schedules the next sweep.
+	 */
+	void sweep() {
+		long now = clock.getAsLong();
+
+		for (Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<String, Entry> mapEntry = iterator.next();
+			Entry entry = mapEntry.getValue();
+			if (isExpired(entry, now)) {
+				iterator.remove();
+				AdmobLog.d(LOG_TAG, "%s ad %s expired", entry.format.getKey(), mapEntry.getKey());
+				if (listener != null) {
+					listener.onAdExpired(entry.format, mapEntry.getKey());
+				}
+			} else if (!entry.refreshRequested && isRefreshDue(entry, now)) {
+				entry.refreshRequested = true;
+				AdmobLog.d(LOG_TAG, "%s ad %s is about to expire", entry.format.getKey(), mapEntry.getKey());
+				if (listener != null) {
+					listener.onAdExpiring(entry.format, mapEntry.getKey());
+				}
+			}
+		}
+
+		scheduleSweep();
+	}
+
+	private void scheduleSweep() {
+		long now = clock.getAsLong();
+		long nextDue = Long.MAX_VALUE;
+
+		for (Entry entry : entries.values()) {
+			long ttl = ttlMillis.get(entry.format.ordinal());
+			if (ttl > NO_EXPIRY) {
+				long due = entry.refreshRequested ? entry.loadedAt + ttl : entry.loadedAt + ttl - getRefreshLead(ttl);
+				nextDue = Math.min(nextDue, due);
+			}
+		}
+
+		handler.removeCallbacks(sweepRunnable);
+		if (nextDue != Long.MAX_VALUE) {
+			handler.postDelayed(sweepRunnable, Math.max(0L, nextDue - now));
+		}
+	}
+
+	private boolean isExpired(Entry entry, long now) {
+		long ttl = ttlMillis.get(entry.format.ordinal());
+		return ttl > NO_EXPIRY && now - entry.loadedAt >= ttl;
+	}
+
+	private boolean isRefreshDue(Entry entry, long now) {
+		long ttl = ttlMillis.get(entry.format.ordinal());
+		return ttl > NO_EXPIRY && now - entry.loadedAt >= ttl - getRefreshLead(ttl);
+	}
+
+	private static long getRefreshLead(long ttl) {
+		return Math.min(MAX_REFRESH_LEAD_MILLIS, ttl / 4);
+	}
+}
@@ -0,0 +1,173 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.os.SystemClock;
+
+import com.google.android.gms.ads.AdRequest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.godotengine.godot.Dictionary;
+
+
+/**
+ * Records load metrics per ad format and ad unit: the number of requested ads, fills, no-fills and other load errors
+ * by error code, as well as a histogram of the latencies of successful loads.
+ *
+ * <p>Ads that the SDK reloads on its own (banner refreshes) are counted as requests when their result arrives, without
+ * a latency, since the plugin does not see the request being made.
+ */
+final class AdMetrics {
+	static final long NOT_STARTED = -1L;
+
+	static final String REQUEST_COUNT_PROPERTY = "request_count";
+	static final String FILL_COUNT_PROPERTY = "fill_count";
+	static final String NO_FILL_COUNT_PROPERTY = "no_fill_count";
+	static final String FILL_RATE_PROPERTY = "fill_rate";
+	static final String ERROR_COUNTS_PROPERTY = "error_counts";
+	static final String LATENCY_P50_PROPERTY = "latency_p50_ms";
+	static final String LATENCY_P90_PROPERTY = "latency_p90_ms";
+	static final String LATENCY_P99_PROPERTY = "latency_p99_ms";
+	static final String LATENCY_MAX_PROPERTY = "latency_max_ms";
+
+	private static final class UnitMetrics {
+		final AtomicLong requestCount = new AtomicLong();
+		final AtomicLong fillCount = new AtomicLong();
+		final AtomicLong noFillCount = new AtomicLong();
+		final Map<Integer, AtomicLong> errorCounts = new ConcurrentHashMap<>();
+		final LatencyHistogram latency = new LatencyHistogram();
+	}
+
+	// Populated once; only the per-format maps are modified afterwards
+	private static final Map<AdFormat, Map<String, UnitMetrics>> METRICS = new EnumMap<>(AdFormat.class);
+
+	static {
+		for (AdFormat format : AdFormat.values()) {
+			METRICS.put(format, new ConcurrentHashMap<>());
+		}
+	}
+
+	private AdMetrics() {
+	}
+
+	/**
+	 * Records a load request and returns its start time, to be passed to {@link #onLoadSucceeded} or
+	 * {@link #onLoadFailed} along with the result.
+	 */
+	static long onLoadStarted(AdFormat format, String adUnitId) {
+		return onLoadStarted(format, adUnitId, 1);
+	}
+
+	/**
+	 * Records a request for multiple ads and returns its start time.
+	 */
+	static long onLoadStarted(AdFormat format, String adUnitId, int adCount) {
+		recordRequests(format, adUnitId, adCount);
+		return SystemClock.elapsedRealtime();
+	}
+
+	/**
+	 * Records a fill. If the load was not started through {@link #onLoadStarted}, pass {@link #NOT_STARTED} to count
+	 * the request along with the fill.
+	 */
+	static void onLoadSucceeded(AdFormat format, String adUnitId, long startedAt) {
+		if (startedAt == NOT_STARTED) {
+			recordRequests(format, adUnitId, 1);
+			recordFill(format, adUnitId, NOT_STARTED);
+		} else {
+			recordFill(format, adUnitId, SystemClock.elapsedRealtime() - startedAt);
+		}
+	}
+
+	/**
+	 * Records a failed load. If the load was not started through {@link #onLoadStarted}, pass {@link #NOT_STARTED}
+	 * to count the request along with the failure.
+	 */
+	static void onLoadFailed(AdFormat format, String adUnitId, long startedAt, int errorCode) {
+		if (startedAt == NOT_STARTED) {
+			recordRequests(format, adUnitId, 1);
+		}
+		recordFailure(format, adUnitId, errorCode);
+	}
+
+	static void recordRequests(AdFormat format, String adUnitId, int adCount) {
+		getUnitMetrics(format, adUnitId).requestCount.addAndGet(adCount);
+	}
+
+	/**
+	 * Records a fill with the given load latency, or without latency if it is negative.
+	 */
+	static void recordFill(AdFormat format, String adUnitId, long latencyMillis) {
+		UnitMetrics metrics = getUnitMetrics(format, adUnitId);
+		metrics.fillCount.incrementAndGet();
+		if (latencyMillis >= 0) {
+			metrics.latency.record(latencyMillis);
+		}
+	}
+
+	static void recordFailure(AdFormat format, String adUnitId, int errorCode) {
+		UnitMetrics metrics = getUnitMetrics(format, adUnitId);
+		if (errorCode == AdRequest.ERROR_CODE_NO_FILL || errorCode == AdRequest.ERROR_CODE_MEDIATION_NO_FILL) {
+			metrics.noFillCount.incrementAndGet();
+		} else {
+			metrics.errorCounts.computeIfAbsent(errorCode, key -> new AtomicLong()).incrementAndGet();
+		}
+	}
+
+	static void reset() {
+		for (Map<String, UnitMetrics> unitMetrics : METRICS.values()) {
+			unitMetrics.clear();
+		}
+	}
+
+	/**
+	 * Returns the metrics keyed by ad format, then by ad unit ID. Formats without any recorded loads are omitted.
+	 */
+	static Dictionary buildRawData() {
+		Dictionary data = new Dictionary();
+		for (Map.Entry<AdFormat, Map<String, UnitMetrics>> formatEntry : METRICS.entrySet()) {
+			if (formatEntry.getValue().isEmpty()) {
+				continue;
+			}
+
+			Dictionary formatData = new Dictionary();
+			for (Map.Entry<String, UnitMetrics> unitEntry : formatEntry.getValue().entrySet()) {
+				formatData.put(unitEntry.getKey(), buildUnitData(unitEntry.getValue()));
+			}
+			data.put(formatEntry.getKey().getKey(), formatData);
+		}
+		return data;
+	}
+
+	private static Dictionary buildUnitData(UnitMetrics metrics) {
+		long requestCount = metrics.requestCount.get();
+		long fillCount = metrics.fillCount.get();
+
+		Dictionary errorCounts = new Dictionary();
+		for (Map.Entry<Integer, AtomicLong> entry : metrics.errorCounts.entrySet()) {
+			errorCounts.put(String.valueOf(entry.getKey()), entry.getValue().get());
+		}
+
+		Dictionary data = new Dictionary();
+		data.put(REQUEST_COUNT_PROPERTY, requestCount);
+		data.put(FILL_COUNT_PROPERTY, fillCount);
+		data.put(NO_FILL_COUNT_PROPERTY, metrics.noFillCount.get());
+		data.put(FILL_RATE_PROPERTY, requestCount == 0 ? 0.0 : Math.min(1.0, (double) fillCount / requestCount));
+		data.put(ERROR_COUNTS_PROPERTY, errorCounts);
+		data.put(LATENCY_P50_PROPERTY, metrics.latency.getPercentile(0.50));
+		data.put(LATENCY_P90_PROPERTY, metrics.latency.getPercentile(0.90));
+		data.put(LATENCY_P99_PROPERTY, metrics.latency.getPercentile(0.99));
+		data.put(LATENCY_MAX_PROPERTY, metrics.latency.getMaxMillis());
+		return data;
+	}
+
+	private static UnitMetrics getUnitMetrics(AdFormat format, String adUnitId) {
+		return METRICS.get(format).computeIfAbsent(adUnitId, key -> new UnitMetrics());
+	}
+}
@@ -0,0 +1,170 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.os.SystemClock;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Keeps up to {@code depth} full-screen ads of a single format and ad unit loaded ahead of time, so that a show
+ * request can be served immediately instead of waiting for a network round trip.
+ */
+class AdPool {
+	private static final String CLASS_NAME = AdPool.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	static final int MIN_DEPTH = 1;
+	static final int MAX_DEPTH = 5;
+
+	interface AdFactory {
+		/**
+		 * Creates (and registers with the plugin) a new, not-yet-loaded ad for the pool.
+		 */
+		FullScreenAd create();
+	}
+
+	private static class Entry {
+		final FullScreenAd ad;
+		boolean ready;
+		long loadedAt;
+
+		Entry(FullScreenAd ad) {
+			this.ad = ad;
+		}
+	}
+
+	private final AdFormat format;
+	private final String adUnitId;
+	private final AdFactory factory;
+	private final LongSupplier clock;
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+	private int depth;
+
+	AdPool(AdFormat format, String adUnitId, int depth, AdFactory factory) {
+		this(format, adUnitId, depth, factory, SystemClock::elapsedRealtime);
+	}
+
+	AdPool(AdFormat format, String adUnitId, int depth, AdFactory factory, LongSupplier clock) {
+		this.format = format;
+		this.adUnitId = adUnitId;
+		this.factory = factory;
+		this.clock = clock;
+		this.depth = clampDepth(depth);
+	}
+
+	static String createKey(AdFormat format, String adUnitId) {
+		return format.getKey() + ":" + adUnitId;
+	}
+
+	static int clampDepth(int depth) {
+		return Math.max(MIN_DEPTH, Math.min(MAX_DEPTH, depth));
+	}
+
+	AdFormat getFormat() {
+		return format;
+	}
+
+	String getAdUnitId() {
+		return adUnitId;
+	}
+
+	synchronized int getDepth() {
+		return depth;
+	}
+
+	synchronized void setDepth(int depth) {
+		this.depth = clampDepth(depth);
+	}
+
+	/**
+	 * Starts loading new ads until the number of pooled (loading or loaded) ads reaches the configured depth.
+	 */
+	void fill() {
+		List<FullScreenAd> created = new ArrayList<>();
+		synchronized (this) {
+			while (entries.size() < depth) {
+				FullScreenAd ad = factory.create();
+				if (ad == null) {
+					break;
+				}
+				entries.put(ad.getAdId(), new Entry(ad));
+				created.add(ad);
+			}
+		}
+
+		for (FullScreenAd ad : created) {
+			AdmobLog.d(LOG_TAG, "Preloading %s for pool %s", ad.getAdId(), createKey(format, adUnitId));
+			ad.load();
+		}
+	}
+
+	synchronized boolean contains(String adId) {
+		return entries.containsKey(adId);
+	}
+
+	synchronized void onAdLoaded(String adId) {
+		Entry entry = entries.get(adId);
+		if (entry != null) {
+			entry.ready = true;
+			entry.loadedAt = clock.getAsLong();
+		}
+	}
+
+	/**
+	 * Drops the ad from the pool. Returns true if the ad was pooled.
+	 */
+	synchronized boolean discard(String adId) {
+		return entries.remove(adId) != null;
+	}
+
+	/**
+	 * Removes and returns the most recently loaded ad of the pool, or null if no pooled ad has finished loading.
+	 */
+	synchronized FullScreenAd take() {
+		Entry freshest = null;
+		for (Entry entry : entries.values()) {
+			if (entry.ready && entry.ad.isLoaded() && (freshest == null || entry.loadedAt > freshest.loadedAt)) {
+				freshest = entry;
+			}
+		}
+
+		if (freshest == null) {
+			return null;
+		}
+
+		entries.remove(freshest.ad.getAdId());
+		return freshest.ad;
+	}
+
+	synchronized int getReadyCount() {
+		int count = 0;
+		for (Entry entry : entries.values()) {
+			if (entry.ready && entry.ad.isLoaded()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	synchronized int getSize() {
+		return entries.size();
+	}
+
+	/**
+	 * Empties the pool and returns the ids of the ads that were in it, so that the caller can release them.
+	 */
+	synchronized List<String> clear() {
+		List<String> adIds = new ArrayList<>(entries.keySet());
+		entries.clear();
+		return adIds;
+	}
+}
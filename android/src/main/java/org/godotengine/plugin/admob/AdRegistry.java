@@ -0,0 +1,182 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * Registry of the plugin's live ad objects. Each registered ad gets a compact integer handle that is unique across
+ * all ad formats, in addition to its string ad ID.
+ *
+ * <p>The ads of each format are accessed through a typed {@link View}. All reads are lock-free and all operations
+ * are safe to call concurrently from the Godot thread, the main thread and SDK callback threads; iteration works on
+ * snapshots and never throws {@link java.util.ConcurrentModificationException}.
+ */
+class AdRegistry {
+	static final int NO_HANDLE = 0;
+
+	private static final class Entry<T> {
+		final int handle;
+		final String adId;
+		final T ad;
+
+		Entry(int handle, String adId, T ad) {
+			this.handle = handle;
+			this.adId = adId;
+			this.ad = ad;
+		}
+	}
+
+	/**
+	 * The ads of one format, keyed by ad ID.
+	 */
+	final class View<T> {
+		private final AdFormat format;
+		private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+
+		private View(AdFormat format) {
+			this.format = format;
+		}
+
+		AdFormat getFormat() {
+			return format;
+		}
+
+		/**
+		 * Registers the ad and returns its handle. An ad already registered under the same ID is replaced.
+		 */
+		int put(String adId, T ad) {
+			Entry<T> entry = new Entry<>(nextHandle(), adId, ad);
+			handles.put(entry.handle, entry);
+			Entry<T> previous = entries.put(adId, entry);
+			if (previous != null) {
+				handles.remove(previous.handle, previous);
+			}
+			return entry.handle;
+		}
+
+		T get(String adId) {
+			Entry<T> entry = entries.get(adId);
+			return entry == null ? null : entry.ad;
+		}
+
+		/**
+		 * Returns the ad with the given handle, or null if there is none or if it belongs to another format.
+		 */
+		T get(int handle) {
+			Entry<T> entry = findEntry(handle);
+			return entry == null ? null : entry.ad;
+		}
+
+		boolean containsKey(String adId) {
+			return entries.containsKey(adId);
+		}
+
+		int getHandle(String adId) {
+			Entry<T> entry = entries.get(adId);
+			return entry == null ? NO_HANDLE : entry.handle;
+		}
+
+		String getAdId(int handle) {
+			Entry<T> entry = findEntry(handle);
+			return entry == null ? null : entry.adId;
+		}
+
+		T remove(String adId) {
+			Entry<T> entry = entries.remove(adId);
+			if (entry == null) {
+				return null;
+			}
+			handles.remove(entry.handle, entry);
+			return entry.ad;
+		}
+
+		/**
+		 * Returns a snapshot of the ads of this format.
+		 */
+		Collection<T> values() {
+			Collection<T> ads = new ArrayList<>();
+			for (Entry<T> entry : entries.values()) {
+				ads.add(entry.ad);
+			}
+			return ads;
+		}
+
+		int count() {
+			return entries.size();
+		}
+
+		/**
+		 * Unregisters all ads of this format and returns them keyed by ad ID.
+		 */
+		Map<String, T> removeAll() {
+			Map<String, T> removed = new LinkedHashMap<>();
+			for (String adId : entries.keySet()) {
+				T ad = remove(adId);
+				if (ad != null) {
+					removed.put(adId, ad);
+				}
+			}
+			return removed;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Entry<T> findEntry(int handle) {
+			Entry<?> entry = handles.get(handle);
+			return entry != null && entries.get(entry.adId) == entry ? (Entry<T>) entry : null;
+		}
+	}
+
+	private final AtomicInteger lastHandle = new AtomicInteger(NO_HANDLE);
+	private final Map<Integer, Entry<?>> handles = new ConcurrentHashMap<>();
+	private final AtomicReferenceArray<View<?>> views = new AtomicReferenceArray<>(AdFormat.values().length);
+
+	/**
+	 * Creates the view of the given ad format. Each format's view can only be created once.
+	 */
+	<T> View<T> createView(AdFormat format) {
+		View<T> view = new View<>(format);
+		if (!views.compareAndSet(format.ordinal(), null, view)) {
+			throw new IllegalStateException("View already created for ad format: " + format);
+		}
+		return view;
+	}
+
+	/**
+	 * Returns the number of registered ads of the format.
+	 */
+	int count(AdFormat format) {
+		View<?> view = views.get(format.ordinal());
+		return view == null ? 0 : view.count();
+	}
+
+	/**
+	 * Returns the format of the ad with the given handle, or null if no ad is registered under it.
+	 */
+	AdFormat getFormat(int handle) {
+		for (int i = 0; i < views.length(); i++) {
+			View<?> view = views.get(i);
+			if (view != null && view.findEntry(handle) != null) {
+				return view.getFormat();
+			}
+		}
+		return null;
+	}
+
+	private int nextHandle() {
+		int handle = lastHandle.incrementAndGet();
+		if (handle == NO_HANDLE) {
+			handle = lastHandle.incrementAndGet();	// wrapped around
+		}
+		return handle;
+	}
+}
@@ -0,0 +1,186 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.util.Log;
+
+
+/**
+ * Logging facade of the plugin with a minimum level that can be changed at runtime.
+ *
+ * <p>Messages below the minimum level cost nothing beyond the level check: format arguments are only formatted into
+ * a message once the level is known to be enabled, and the overloads taking up to three arguments spare the varargs
+ * array. Hot paths that would have to box or compute their arguments can check {@link #isLoggable(int)} first.
+ */
+public final class AdmobLog {
+	public static final int DEBUG = Log.DEBUG;
+	public static final int INFO = Log.INFO;
+	public static final int WARN = Log.WARN;
+	public static final int ERROR = Log.ERROR;
+	public static final int NONE = Integer.MAX_VALUE;
+
+	private static volatile int level = DEBUG;
+
+	private AdmobLog() {
+	}
+
+	/**
+	 * Returns the level for the given name (debug, info, warn, error or none), or -1 if the name is unknown.
+	 */
+	public static int parseLevel(String name) {
+		return switch (name == null ? "" : name.toLowerCase()) {
+			case "debug" -> DEBUG;
+			case "info" -> INFO;
+			case "warn", "warning" -> WARN;
+			case "error" -> ERROR;
+			case "none" -> NONE;
+			default -> -1;
+		};
+	}
+
+	public static void setLevel(int level) {
+		AdmobLog.level = level;
+	}
+
+	public static int getLevel() {
+		return level;
+	}
+
+	public static boolean isLoggable(int level) {
+		return level >= AdmobLog.level;
+	}
+
+	public static void d(String tag, String message) {
+		if (isLoggable(DEBUG)) {
+			Log.d(tag, message);
+		}
+	}
+
+	public static void d(String tag, String format, Object arg1) {
+		if (isLoggable(DEBUG)) {
+			Log.d(tag, String.format(format, arg1));
+		}
+	}
+
+	public static void d(String tag, String format, Object arg1, Object arg2) {
+		if (isLoggable(DEBUG)) {
+			Log.d(tag, String.format(format, arg1, arg2));
+		}
+	}
+
+	public static void d(String tag, String format, Object arg1, Object arg2, Object arg3) {
+		if (isLoggable(DEBUG)) {
+			Log.d(tag, String.format(format, arg1, arg2, arg3));
+		}
+	}
+
+	public static void d(String tag, String format, Object... args) {
+		if (isLoggable(DEBUG)) {
+			Log.d(tag, String.format(format, args));
+		}
+	}
+
+	public static void i(String tag, String message) {
+		if (isLoggable(INFO)) {
+			Log.i(tag, message);
+		}
+	}
+
+	public static void i(String tag, String format, Object arg1) {
+		if (isLoggable(INFO)) {
+			Log.i(tag, String.format(format, arg1));
+		}
+	}
+
+	public static void i(String tag, String format, Object arg1, Object arg2) {
+		if (isLoggable(INFO)) {
+			Log.i(tag, String.format(format, arg1, arg2));
+		}
+	}
+
+	public static void i(String tag, String format, Object arg1, Object arg2, Object arg3) {
+		if (isLoggable(INFO)) {
+			Log.i(tag, String.format(format, arg1, arg2, arg3));
+		}
+	}
+
+	public static void i(String tag, String format, Object... args) {
+		if (isLoggable(INFO)) {
+			Log.i(tag, String.format(format, args));
+		}
+	}
+
+	public static void w(String tag, String message) {
+		if (isLoggable(WARN)) {
+			Log.w(tag, message);
+		}
+	}
+
+	public static void w(String tag, String format, Object arg1) {
+		if (isLoggable(WARN)) {
+			Log.w(tag, String.format(format, arg1));
+		}
+	}
+
+	public static void w(String tag, String format, Object arg1, Object arg2) {
+		if (isLoggable(WARN)) {
+			Log.w(tag, String.format(format, arg1, arg2));
+		}
+	}
+
+	public static void w(String tag, String format, Object arg1, Object arg2, Object arg3) {
+		if (isLoggable(WARN)) {
+			Log.w(tag, String.format(format, arg1, arg2, arg3));
+		}
+	}
+
+	public static void w(String tag, String format, Object... args) {
+		if (isLoggable(WARN)) {
+			Log.w(tag, String.format(format, args));
+		}
+	}
+
+	public static void w(String tag, String message, Throwable throwable) {
+		if (isLoggable(WARN)) {
+			Log.w(tag, message, throwable);
+		}
+	}
+
+	public static void e(String tag, String message) {
+		if (isLoggable(ERROR)) {
+			Log.e(tag, message);
+		}
+	}
+
+	public static void e(String tag, String format, Object arg1) {
+		if (isLoggable(ERROR)) {
+			Log.e(tag, String.format(format, arg1));
+		}
+	}
+
+	public static void e(String tag, String format, Object arg1, Object arg2) {
+		if (isLoggable(ERROR)) {
+			Log.e(tag, String.format(format, arg1, arg2));
+		}
+	}
+
+	public static void e(String tag, String format, Object arg1, Object arg2, Object arg3) {
+		if (isLoggable(ERROR)) {
+			Log.e(tag, String.format(format, arg1, arg2, arg3));
+		}
+	}
+
+	public static void e(String tag, String format, Object... args) {
+		if (isLoggable(ERROR)) {
+			Log.e(tag, String.format(format, args));
+		}
+	}
+
+	public static void e(String tag, String message, Throwable throwable) {
+		if (isLoggable(ERROR)) {
+			Log.e(tag, message, throwable);
+		}
+	}
+}
@@ -7,21 +7,25 @@ package org.godotengine.plugin.admob;
 import android.app.Activity;
 import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.net.Uri;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.provider.Settings;
-import android.util.Log;
 import android.view.View;
 import android.view.WindowManager;
 import android.widget.FrameLayout;
 
 import androidx.annotation.NonNull;
 import androidx.collection.ArraySet;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
 import androidx.lifecycle.ProcessLifecycleOwner;
 
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
+import com.google.android.gms.ads.AdView;
 import com.google.android.gms.ads.LoadAdError;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.ResponseInfo;
@@ -32,9 +36,15 @@ import com.google.android.ump.ConsentForm;
 import com.google.android.ump.ConsentInformation;
 import com.google.android.ump.UserMessagingPlatform;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.godotengine.godot.Dictionary;
 import org.godotengine.godot.Godot;
@@ -53,6 +63,8 @@ import org.godotengine.plugin.admob.model.AdmobStatus;
 import org.godotengine.plugin.admob.model.AdSettings;
 import org.godotengine.plugin.admob.model.ConsentConfiguration;
 import org.godotengine.plugin.admob.model.LoadAdRequest;
+import org.godotengine.plugin.admob.model.RetryPolicy;
+import org.godotengine.plugin.admob.model.StartupConfiguration;
 
 
 public class AdmobPlugin extends GodotPlugin {
@@ -123,11 +135,22 @@ public class AdmobPlugin extends GodotPlugin {
 	static final String SIGNAL_CONSENT_FORM_DISMISSED = "consent_form_dismissed";
 	static final String SIGNAL_CONSENT_INFO_UPDATED = "consent_info_updated";
 	static final String SIGNAL_CONSENT_INFO_UPDATE_FAILED = "consent_info_update_failed";
+	static final String SIGNAL_CONSENT_ENSURED = "consent_ensured";
+	static final String SIGNAL_MEDIATION_PRIVACY_SETTINGS_APPLIED = "mediation_privacy_settings_applied";
 
-	private static final String PREFS_NAME = "godot_admob_settings";
-	private static final String PREF_KEY_AD_VOLUME = "ad_volume";
-	private static final String PREF_KEY_ADS_MUTED = "ads_muted";
-	private static final String PREF_KEY_APPLY_AT_STARTUP = "apply_at_startup";
+	static final String SIGNAL_METRICS_REPORTED = "metrics_reported";
+
+	static final String SIGNAL_EVENTS_PENDING = "events_pending";
+
+
+	private static final long AD_POOL_REFILL_DELAY_MILLIS = 30_000L;
+
+	private static final String STARTUP_STEP_CONSENT = "consent";
+	private static final String STARTUP_STEP_SDK = "sdk";
+	private static final String STARTUP_STEP_PRELOAD = "preload";
+
+	private static final int BACKGROUND_THREAD_COUNT = 4;
+	private static final long BACKGROUND_THREAD_KEEP_ALIVE_SECONDS = 30L;
 
 	Activity activity;
 
@@ -149,33 +172,78 @@ public class AdmobPlugin extends GodotPlugin {
 
 	private FrameLayout layout = null;
 
-	private int bannerAdIdSequence;
-	private int nativeAdIdSequence;
-	private int interstitialAdIdSequence;
-	private int rewardedAdIdSequence;
-	private int rewardedInterstitialAdIdSequence;
+	// Ads are created on the Godot thread and, for loads requested before initialization, on the main thread
+	private final AtomicInteger bannerAdIdSequence = new AtomicInteger();
+	private final AtomicInteger nativeAdIdSequence = new AtomicInteger();
+	private final AtomicInteger interstitialAdIdSequence = new AtomicInteger();
+	private final AtomicInteger rewardedAdIdSequence = new AtomicInteger();
+	private final AtomicInteger rewardedInterstitialAdIdSequence = new AtomicInteger();
+
+	private volatile boolean isInitialized;
+
+	// Loads requested before initialization has completed; its lock also guards transitions of isInitialized
+	private final PendingLoadQueue pendingLoads = new PendingLoadQueue();
+
+	private final AdRegistry adRegistry;
+	private final AdRegistry.View<Banner> bannerAds;
+	private final AdRegistry.View<Native> nativeAds;
+	private final AdRegistry.View<Interstitial> interstitialAds;
+	private final AdRegistry.View<RewardedVideo> rewardedAds;
+	private final AdRegistry.View<RewardedInterstitial> rewardedInterstitialAds;
+
+	private Map<String, AdPool> adPools;
+	private Handler mainHandler;
+	private final Runnable metricsReportTask = this::reportMetrics;
+	private volatile long metricsReportIntervalMillis;
+	private final AdInventory adInventory;
+	private final RetryScheduler retryScheduler;
+	private final BannerViewPool<AdView> bannerViewPool;
+	private NativePreloader nativePreloader;
+	private DeviceIds deviceIds;
+	private volatile AdmobConfiguration requestConfiguration;	// most recently applied
+
+	private final SignalQueue signalQueue;
+	private volatile boolean isBatchedEventDeliveryEnabled;
+	private volatile boolean isCompactAdInfoEnabled;
+
+	// Fixed-size pool for work that must not run on the UI or Godot threads (SDK initialization, advertising ID
+	// lookups, settings I/O and mediation privacy settings); its queue is unbounded and idle threads are released
+	private final ExecutorService backgroundExecutor;
 
-	private boolean isInitialized;
+	private AppOpenAdManager appOpenAdManager;
 
-	private Map<String, Banner> bannerAds;
-	private Map<String, Native> nativeAds;
-	private Map<String, Interstitial> interstitialAds;
-	private Map<String, RewardedVideo> rewardedAds;
-	private Map<String, RewardedInterstitial> rewardedInterstitialAds;
+	private DefaultLifecycleObserver adViewLifecycleObserver;
 
-	private AppOpenAdManager appOpenAdManager;
+	private ConsentManager consentManager;
 
-	private ConsentForm consentForm;
+	private SettingsStore settingsStore;
 
 
 	public AdmobPlugin(Godot godot) {
 		super(godot);
 
-		bannerAds = new HashMap<>();
-		nativeAds = new HashMap<>();
-		interstitialAds = new HashMap<>();
-		rewardedAds = new HashMap<>();
-		rewardedInterstitialAds = new HashMap<>();
+		adRegistry = new AdRegistry();
+		bannerAds = adRegistry.createView(AdFormat.BANNER);
+		nativeAds = adRegistry.createView(AdFormat.NATIVE);
+		interstitialAds = adRegistry.createView(AdFormat.INTERSTITIAL);
+		rewardedAds = adRegistry.createView(AdFormat.REWARDED);
+		rewardedInterstitialAds = adRegistry.createView(AdFormat.REWARDED_INTERSTITIAL);
+		adPools = new ConcurrentHashMap<>();
+		mainHandler = new Handler(Looper.getMainLooper());
+		adInventory = new AdInventory();
+		retryScheduler = new RetryScheduler();
+		bannerViewPool = new BannerViewPool<>(mainHandler, adView -> {
+			adView.destroy();
+			LiveAdObjects.onBannerViewDestroyed();
+		});
+		signalQueue = new SignalQueue();
+		isBatchedEventDeliveryEnabled = false;
+		isCompactAdInfoEnabled = false;
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(BACKGROUND_THREAD_COUNT, BACKGROUND_THREAD_COUNT,
+				BACKGROUND_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+		executor.allowCoreThreadTimeOut(true);
+		backgroundExecutor = executor;
 
 		isInitialized = false;
 	}
@@ -257,103 +325,257 @@ public class AdmobPlugin extends GodotPlugin {
 
 		signals.add(new SignalInfo(SIGNAL_CONSENT_INFO_UPDATED));
 		signals.add(new SignalInfo(SIGNAL_CONSENT_INFO_UPDATE_FAILED, Dictionary.class));
+		signals.add(new SignalInfo(SIGNAL_CONSENT_ENSURED, Dictionary.class));
+
+		signals.add(new SignalInfo(SIGNAL_MEDIATION_PRIVACY_SETTINGS_APPLIED, Dictionary.class));
+
+		signals.add(new SignalInfo(SIGNAL_METRICS_REPORTED, Dictionary.class));
+
+		signals.add(new SignalInfo(SIGNAL_EVENTS_PENDING));
 
 		return signals;
 	}
 
 	@UsedByGodot
 	public void initialize() {
-		Log.d(LOG_TAG, "initialize()");
+		AdmobLog.d(LOG_TAG, "initialize()");
+		startUp(new StartupConfiguration(new Dictionary()));
+	}
+
+	/**
+	 * Initializes the plugin like {@link #initialize()}, overlapping the SDK initialization with an optional consent
+	 * information update and loading the configured ads as soon as both have completed and ads may be requested.
+	 * Load requests made while the SDK is initializing are carried out once initialization has completed.
+	 */
+	@UsedByGodot
+	public void start_up(Dictionary startupData) {
+		AdmobLog.d(LOG_TAG, "start_up()");
+		startUp(new StartupConfiguration(startupData));
+	}
 
-		bannerAdIdSequence = 0;
-		nativeAdIdSequence = 0;
-		interstitialAdIdSequence = 0;
-		rewardedAdIdSequence = 0;
-		rewardedInterstitialAdIdSequence = 0;
+	private void startUp(StartupConfiguration startupConfig) {
+		bannerAdIdSequence.set(0);
+		nativeAdIdSequence.set(0);
+		interstitialAdIdSequence.set(0);
+		rewardedAdIdSequence.set(0);
+		rewardedInterstitialAdIdSequence.set(0);
+
+		for (Banner banner : bannerAds.removeAll().values()) {
+			banner.dispose();
+		}
+		for (Native ad : nativeAds.removeAll().values()) {
+			ad.dispose();
+		}
+		if (nativePreloader != null) {
+			nativePreloader.clear();
+		}
+		mainHandler.post(bannerViewPool::clear);
+		disposeAll(interstitialAds);
+		disposeAll(rewardedAds);
+		disposeAll(rewardedInterstitialAds);
+		adPools.clear();
+		retryScheduler.cancelAll();
+		adInventory.removeAll(AdFormat.INTERSTITIAL);
+		adInventory.removeAll(AdFormat.REWARDED);
+		adInventory.removeAll(AdFormat.REWARDED_INTERSTITIAL);
+
+		synchronized (pendingLoads) {
+			isInitialized = false;
+		}
 
-		bannerAds.clear();
-		interstitialAds.clear();
-		rewardedAds.clear();
-		rewardedInterstitialAds.clear();
+		StartupOrchestrator orchestrator = new StartupOrchestrator();
+		orchestrator.addStep(STARTUP_STEP_SDK, this::initializeSdk);
 
-		isInitialized = false;
+		if (startupConfig.hasConsentRequest()) {
+			orchestrator.addStep(STARTUP_STEP_CONSENT,
+					onDone -> requestConsentInfoUpdate(startupConfig.getConsentConfiguration(), onDone));
+		}
+
+		if (!startupConfig.getPreloads().isEmpty()) {
+			String[] dependencies = startupConfig.hasConsentRequest()
+					? new String[] { STARTUP_STEP_SDK, STARTUP_STEP_CONSENT }
+					: new String[] { STARTUP_STEP_SDK };
+			orchestrator.addStep(STARTUP_STEP_PRELOAD, onDone -> {
+				preloadAds(startupConfig);
+				onDone.run();
+			}, dependencies);
+		}
+
+		orchestrator.start();
+	}
 
+	private void initializeSdk(Runnable onDone) {
 		// Initialize Mobile Ads SDK on a background thread
-		new Thread(new Runnable() {
+		backgroundExecutor.execute(() -> MobileAds.initialize(activity, new OnInitializationCompleteListener() {
 			@Override
-			public void run() {
-				MobileAds.initialize(activity, new OnInitializationCompleteListener() {
-					@Override
-					public void onInitializationComplete(InitializationStatus initializationStatus) {
-						// Load and apply settings if apply_at_startup is enabled
-						AdSettings settings = loadAdSettings();
-						if (settings.getApplyAtStartup()) {
-							Log.d(LOG_TAG, "Applying global settings at startup");
-							if (settings.hasAdVolume()) {
-								MobileAds.setAppVolume(settings.getAdVolume());
-							}
-							if (settings.hasAdsMuted()) {
-								MobileAds.setAppMuted(settings.areAdsMuted());
-							}
-						}
+			public void onInitializationComplete(InitializationStatus initializationStatus) {
+				// Load and apply settings if apply_at_startup is enabled
+				AdSettings settings = settingsStore.getAdSettings();
+				if (settings.getApplyAtStartup()) {
+					AdmobLog.d(LOG_TAG, "Applying global settings at startup");
+					if (settings.hasAdVolume()) {
+						MobileAds.setAppVolume(settings.getAdVolume());
+					}
+					if (settings.hasAdsMuted()) {
+						MobileAds.setAppMuted(settings.areAdsMuted());
+					}
+				}
+				applyStoredAdTtls();
 
-						isInitialized = true;
-						emitSignal(SIGNAL_INITIALIZATION_COMPLETED, new AdmobStatus(initializationStatus)
-								.buildRawData());
+				List<Runnable> loads;
+				synchronized (pendingLoads) {
+					isInitialized = true;
+					loads = pendingLoads.drain();
+				}
+
+				dispatchSignal(SIGNAL_INITIALIZATION_COMPLETED, new AdmobStatus(initializationStatus)
+						.buildRawData());
+
+				if (!loads.isEmpty()) {
+					AdmobLog.d(LOG_TAG, "Running %d load(s) requested before initialization", loads.size());
+					for (Runnable load : loads) {
+						load.run();
 					}
-				});
+				}
+
+				onDone.run();
 			}
-		}).start();
+		}));
 	}
 
-	@UsedByGodot
-	public void set_request_configuration(Dictionary configData) {
-		Log.d(LOG_TAG, "set_request_configuration()");
-		AdmobConfiguration config = new AdmobConfiguration(configData);
-		MobileAds.setRequestConfiguration(config.createRequestConfiguration(activity));
+	/**
+	 * Applies the ad TTLs stored through set_global_settings(), overriding the ones set with set_ad_ttl().
+	 */
+	private void applyStoredAdTtls() {
+		for (AdFormat format : AdFormat.values()) {
+			long seconds = settingsStore.getLong(SettingsStore.createAdTtlKey(format), -1L);
+			if (seconds >= 0) {
+				AdmobLog.d(LOG_TAG, "Applying stored TTL of %d seconds to %s ads", seconds, format.getKey());
+				adInventory.setTtlMillis(format, seconds * 1000L);
+			}
+		}
 	}
 
-	@UsedByGodot
-	public Dictionary get_initialization_status() {
-		Log.d(LOG_TAG, "get_initialization_status()");
-		return new AdmobStatus(MobileAds.getInitializationStatus()).buildRawData();
+	/**
+	 * Queues the load until the SDK has been initialized, or runs it right away if initialization has completed in the
+	 * meantime. Returns false if the load could not be queued because the pending load queue is full.
+	 */
+	private boolean runWhenInitialized(String requestType, LoadAdRequest loadAdRequest, Runnable load) {
+		synchronized (pendingLoads) {
+			if (!isInitialized) {
+				return pendingLoads.offer(PendingLoadQueue.createRequestKey(requestType, loadAdRequest.getRawData()),
+						load);
+			}
+		}
+
+		load.run();
+		return true;
+	}
+
+	private void preloadAds(StartupConfiguration startupConfig) {
+		if (startupConfig.hasConsentRequest() && !consentManager.canRequestAds()) {
+			AdmobLog.w(LOG_TAG, "Skipping startup ad loads: ads cannot be requested until consent has been obtained");
+			return;
+		}
+
+		for (StartupConfiguration.Preload preload : startupConfig.getPreloads()) {
+			AdmobLog.d(LOG_TAG, "Loading %s ad at startup", preload.getFormat().getKey());
+			switch (preload.getFormat()) {
+				case INTERSTITIAL -> load_interstitial_ad(preload.getAdRequest());
+				case REWARDED -> load_rewarded_ad(preload.getAdRequest());
+				case REWARDED_INTERSTITIAL -> load_rewarded_interstitial_ad(preload.getAdRequest());
+				case APP_OPEN -> load_app_open_ad(preload.getAdRequest(), appOpenAdManager.autoShowOnResume);
+				default -> AdmobLog.w(LOG_TAG, "Startup loading of %s ads is not supported",
+						preload.getFormat().getKey());
+			}
+		}
 	}
 
-	private SharedPreferences getAdSettingsPrefs() {
-		return getActivity().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+	/**
+	 * Enables or disables batched signal delivery. While enabled, signals are queued instead of being emitted and
+	 * must be collected by calling {@link #poll_events()}. The first signal queued after each poll emits
+	 * {@code events_pending}, so that GDScript only needs to poll after that. Any events still queued when batching
+	 * is disabled are emitted immediately.
+	 */
+	@UsedByGodot
+	public void set_batched_events(boolean enabled) {
+		AdmobLog.d(LOG_TAG, "set_batched_events(%b)", enabled);
+		isBatchedEventDeliveryEnabled = enabled;
+		if (!enabled) {
+			signalQueue.flush((signalName, signalArgs) -> emitSignal(signalName, signalArgs));
+		}
 	}
 
-	private AdSettings loadAdSettings() {
-		SharedPreferences prefs = getAdSettingsPrefs();
+	/**
+	 * Returns (and removes) the signals queued since the last call as an array of {"signal": String, "args": Array}
+	 * dictionaries.
+	 */
+	@UsedByGodot
+	public Object[] poll_events() {
+		return signalQueue.drain();
+	}
 
-		AdSettings adSettings = new AdSettings();
-		adSettings.setAdVolume(prefs.getFloat(PREF_KEY_AD_VOLUME, AdSettings.DEFAULT_AD_VOLUME));
-		adSettings.setAdsMuted(prefs.getBoolean(PREF_KEY_ADS_MUTED, AdSettings.DEFAULT_ADS_MUTED));
-		adSettings.setApplyAtStartup(prefs.getBoolean(PREF_KEY_APPLY_AT_STARTUP, AdSettings.DEFAULT_APPLY_AT_STARTUP));
+	private void dispatchSignal(String signalName, Object... signalArgs) {
+		if (isBatchedEventDeliveryEnabled) {
+			if (signalQueue.enqueue(signalName, signalArgs)) {
+				emitSignal(SIGNAL_EVENTS_PENDING);
+			}
+		} else {
+			emitSignal(signalName, signalArgs);
+		}
+	}
 
-		return adSettings;
+	/**
+	 * When enabled, lifecycle events (impression, click, open, close, reward, etc.) carry a compact ad info payload
+	 * that only contains the ad ID plus any properties that changed since the previous event for the same ad.
+	 */
+	@UsedByGodot
+	public void set_compact_ad_info(boolean enabled) {
+		AdmobLog.d(LOG_TAG, "set_compact_ad_info(%b)", enabled);
+		isCompactAdInfoEnabled = enabled;
 	}
 
-	private void saveAdSettings(AdSettings settings) {
-		SharedPreferences.Editor editor = getAdSettingsPrefs().edit();
+	private Dictionary buildAdInfoData(AdmobAdInfo adInfo) {
+		return isCompactAdInfoEnabled ? adInfo.buildDeltaData() : adInfo.buildRawData();
+	}
 
-		editor.putFloat(PREF_KEY_AD_VOLUME, settings.getAdVolume());
-		editor.putBoolean(PREF_KEY_ADS_MUTED, settings.areAdsMuted());
-		editor.putBoolean(PREF_KEY_APPLY_AT_STARTUP, settings.getApplyAtStartup());
+	/**
+	 * Applies the request configuration. When not real, the advertising ID of the device is resolved in the background
+	 * on first use, and the configuration is applied again with it once it is known.
+	 */
+	@UsedByGodot
+	public void set_request_configuration(Dictionary configData) {
+		AdmobLog.d(LOG_TAG, "set_request_configuration()");
+		AdmobConfiguration config = new AdmobConfiguration(configData);
+		requestConfiguration = config;
+		MobileAds.setRequestConfiguration(config.createRequestConfiguration(deviceIds));
+
+		if (!config.isReal() && !deviceIds.isAdvertisingIdResolved()) {
+			deviceIds.resolveAdvertisingId(backgroundExecutor, () -> {
+				if (requestConfiguration == config) {	// not replaced in the meantime
+					AdmobLog.d(LOG_TAG, "Applying request configuration with resolved advertising ID");
+					MobileAds.setRequestConfiguration(config.createRequestConfiguration(deviceIds));
+				}
+			});
+		}
+	}
 
-		editor.apply();
+	@UsedByGodot
+	public Dictionary get_initialization_status() {
+		AdmobLog.d(LOG_TAG, "get_initialization_status()");
+		return new AdmobStatus(MobileAds.getInitializationStatus()).buildRawData();
 	}
 
 	@UsedByGodot
 	public Dictionary get_global_settings() {
-		Log.d(LOG_TAG, "get_global_settings()");
+		AdmobLog.d(LOG_TAG, "get_global_settings()");
 
-		return loadAdSettings().getRawData();
+		return settingsStore.getAdSettings().getRawData();
 	}
 
 	@UsedByGodot
 	public void set_global_settings(Dictionary settingsDict) {
-		Log.d(LOG_TAG, "set_global_settings()");
+		AdmobLog.d(LOG_TAG, "set_global_settings()");
 
 		AdSettings adSettings = new AdSettings(settingsDict);
 		if (adSettings.hasAdsMuted()) {
@@ -364,12 +586,12 @@ public class AdmobPlugin extends GodotPlugin {
 			MobileAds.setAppVolume(adSettings.getAdVolume());
 		}
 
-		saveAdSettings(adSettings);	// Persist
+		settingsStore.update(settingsDict);	// Persist changed settings
 	}
 
 	@UsedByGodot
 	public Dictionary get_current_adaptive_banner_size(int width) {
-		Log.d(LOG_TAG, "get_current_adaptive_banner_size()");
+		AdmobLog.d(LOG_TAG, "get_current_adaptive_banner_size()");
 		int currentWidth = (width == AdSize.FULL_WIDTH) ? Banner.getAdWidth(activity) : width;
 		AdmobAdSize adSize = new AdmobAdSize(AdSize.getCurrentOrientationAnchoredAdaptiveBannerAdSize(activity,
 				currentWidth));
@@ -378,7 +600,7 @@ public class AdmobPlugin extends GodotPlugin {
 
 	@UsedByGodot
 	public Dictionary get_portrait_adaptive_banner_size(int width) {
-		Log.d(LOG_TAG, "get_portrait_adaptive_banner_size()");
+		AdmobLog.d(LOG_TAG, "get_portrait_adaptive_banner_size()");
 		int currentWidth = (width == AdSize.FULL_WIDTH) ? Banner.getAdWidth(activity) : width;
 		AdmobAdSize adSize = new AdmobAdSize(AdSize.getPortraitAnchoredAdaptiveBannerAdSize(activity, currentWidth));
 		return adSize.buildRawData();
@@ -386,7 +608,7 @@ public class AdmobPlugin extends GodotPlugin {
 
 	@UsedByGodot
 	public Dictionary get_landscape_adaptive_banner_size(int width) {
-		Log.d(LOG_TAG, "get_landscape_adaptive_banner_size()");
+		AdmobLog.d(LOG_TAG, "get_landscape_adaptive_banner_size()");
 		int currentWidth = (width == AdSize.FULL_WIDTH) ? Banner.getAdWidth(activity) : width;
 		AdmobAdSize adSize = new AdmobAdSize(AdSize.getLandscapeAnchoredAdaptiveBannerAdSize(activity, currentWidth));
 		return adSize.buildRawData();
@@ -394,109 +616,163 @@ public class AdmobPlugin extends GodotPlugin {
 
 	@UsedByGodot
 	public void load_banner_ad(Dictionary adData) {
+		loadBannerAd(new LoadAdRequest(adData));
+	}
+
+	private void loadBannerAd(LoadAdRequest loadAdRequest) {
 		if (isInitialized) {
-			Log.d(LOG_TAG, "load_banner_ad()");
+			AdmobLog.d(LOG_TAG, "load_banner_ad()");
 
-			LoadAdRequest loadAdRequest = new LoadAdRequest(adData);
 			if (loadAdRequest.isValid()) {
-				String adId = loadAdRequest.generateAdId(++bannerAdIdSequence);
+				String adId = loadAdRequest.generateAdId(bannerAdIdSequence.incrementAndGet());
 				AdmobAdInfo adInfo = new AdmobAdInfo(adId, loadAdRequest);
-				Banner banner = new Banner(adInfo, activity, layout,
+				Banner banner = new Banner(adInfo, activity, layout, bannerViewPool,
 					new BannerListener() {
 						@Override
 						public void onAdLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
-							emitSignal(SIGNAL_BANNER_AD_LOADED, adInfo.buildRawData(), new AdmobResponse(responseInfo)
-									.buildRawData());
+							retryScheduler.onLoadSucceeded(adInfo.getAdId());
+							dispatchSignal(SIGNAL_BANNER_AD_LOADED, adInfo.buildRawData(),
+									new AdmobResponse(responseInfo).buildRawData());
 						}
 
 						@Override
 						public void onAdRefreshed(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
-							emitSignal(SIGNAL_BANNER_AD_REFRESHED, adInfo.buildRawData(),
+							dispatchSignal(SIGNAL_BANNER_AD_REFRESHED, adInfo.buildRawData(),
 								new AdmobResponse(responseInfo).buildRawData());
 						}
 
 						@Override
 						public void onAdFailedToLoad(AdmobAdInfo adInfo, LoadAdError adError) {
-							emitSignal(SIGNAL_BANNER_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
+							Banner failedBanner = bannerAds.get(adInfo.getAdId());
+							if (failedBanner != null && !failedBanner.hasLoaded() && retryScheduler.scheduleRetry(
+									AdFormat.BANNER, adInfo.getAdId(), adError.getCode(), failedBanner::retryLoad)) {
+								return;
+							}
+							dispatchSignal(SIGNAL_BANNER_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
 								new AdmobLoadAdError(adError).buildRawData());
 						}
 
 						@Override
 						public void onAdImpression(AdmobAdInfo adInfo) {
-							emitSignal(SIGNAL_BANNER_AD_IMPRESSION, adInfo.buildRawData());
+							dispatchSignal(SIGNAL_BANNER_AD_IMPRESSION, buildAdInfoData(adInfo));
 						}
 
 						@Override
 						public void onAdSizeMeasured(AdmobAdInfo adInfo) {
-							emitSignal(SIGNAL_BANNER_AD_SIZE_MEASURED, adInfo.buildRawData());
+							dispatchSignal(SIGNAL_BANNER_AD_SIZE_MEASURED, adInfo.buildRawData());
 						}
 
 						@Override
 						public void onAdClicked(AdmobAdInfo adInfo) {
-							emitSignal(SIGNAL_BANNER_AD_CLICKED, adInfo.buildRawData());
+							dispatchSignal(SIGNAL_BANNER_AD_CLICKED, buildAdInfoData(adInfo));
 						}
 
 						@Override
 						public void onAdOpened(AdmobAdInfo adInfo) {
-							emitSignal(SIGNAL_BANNER_AD_OPENED, adInfo.buildRawData());
+							dispatchSignal(SIGNAL_BANNER_AD_OPENED, buildAdInfoData(adInfo));
 						}
 
 						@Override
 						public void onAdClosed(AdmobAdInfo adInfo) {
-							emitSignal(SIGNAL_BANNER_AD_CLOSED, adInfo.buildRawData());
+							dispatchSignal(SIGNAL_BANNER_AD_CLOSED, buildAdInfoData(adInfo));
 						}
 					});
-				bannerAds.put(adId, banner);
+				adInfo.setHandle(bannerAds.put(adId, banner));
 				banner.load();
 			} else {
-				Log.e(LOG_TAG, "load_banner_ad(): Error: Ad request data is invalid.");
+				AdmobLog.e(LOG_TAG, "load_banner_ad(): Error: Ad request data is invalid.");
 			}
-		} else {
-			Log.e(LOG_TAG, "load_banner_ad(): Error: Plugin is not initialized!");
+		} else if (!runWhenInitialized(AdFormat.BANNER.getKey(), loadAdRequest, () -> loadBannerAd(loadAdRequest))) {
+			AdmobLog.e(LOG_TAG, "load_banner_ad(): Error: Plugin is not initialized!");
 		}
 	}
 
 	@UsedByGodot
 	public void show_banner_ad(String adId) {
 		if (bannerAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("show_banner_ad(): %s", adId));
+			AdmobLog.d(LOG_TAG, "show_banner_ad(): %s", adId);
 			Banner bannerAd = bannerAds.get(adId);
 			bannerAd.show();
 		} else {
-			Log.e(LOG_TAG, String.format("show_banner_ad(): Error: banner ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "show_banner_ad(): Error: banner ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void hide_banner_ad(String adId) {
 		if (bannerAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("hide_banner_ad(): %s", adId));
+			AdmobLog.d(LOG_TAG, "hide_banner_ad(): %s", adId);
 			Banner bannerAd = bannerAds.get(adId);
 			bannerAd.hide();
 		} else {
-			Log.e(LOG_TAG, String.format("hide_banner_ad(): Error: banner ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "hide_banner_ad(): Error: banner ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void remove_banner_ad(String adId) {
 		if (bannerAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("remove_banner_ad(): %s", adId));
+			AdmobLog.d(LOG_TAG, "remove_banner_ad(): %s", adId);
 			Banner bannerAd = bannerAds.remove(adId);
-			bannerAd.remove();
+			retryScheduler.cancel(adId);
+			bannerAd.dispose();
 		} else {
-			Log.e(LOG_TAG, String.format("remove_banner_ad(): Error: banner ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "remove_banner_ad(): Error: banner ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void move_banner_ad(String adId, float x, float y) {
-		Log.d(LOG_TAG, String.format("move_banner_ad('%s', %.1f, %.1f)", adId, x, y));
+		if (AdmobLog.isLoggable(AdmobLog.DEBUG)) {
+			AdmobLog.d(LOG_TAG, "move_banner_ad('%s', %.1f, %.1f)", adId, x, y);
+		}
 		Banner banner = bannerAds.get(adId);
 		if (banner != null) {
 			banner.move(x, y);
 		} else {
-			Log.e(LOG_TAG, String.format("move_banner_ad(): Error: banner ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "move_banner_ad(): Error: banner ad %s not found", adId);
+		}
+	}
+
+	/**
+	 * Variant of move_banner_ad() that identifies the banner by its ad handle, for frequent calls.
+	 */
+	@UsedByGodot
+	public void move_banner_ad_by_handle(int handle, float x, float y) {
+		Banner banner = bannerAds.get(handle);
+		if (banner != null) {
+			banner.move(x, y);
+		} else {
+			AdmobLog.e(LOG_TAG, "move_banner_ad_by_handle(): Error: banner ad handle %d not found", handle);
+		}
+	}
+
+	/**
+	 * Makes the banner hide itself while at least the given portion (0.0 to 1.0) of its area lies outside of the clip
+	 * rectangle set by update_banner_ad_clip_rect(), and show itself again otherwise. A threshold of 0 disables this.
+	 */
+	@UsedByGodot
+	public void set_banner_ad_clipping(String adId, float clipThreshold) {
+		Banner banner = bannerAds.get(adId);
+		if (banner != null) {
+			AdmobLog.d(LOG_TAG, "set_banner_ad_clipping('%s', %.2f)", adId, clipThreshold);
+			banner.setClipThreshold(clipThreshold);
+		} else {
+			AdmobLog.e(LOG_TAG, "set_banner_ad_clipping(): Error: banner ad %s not found", adId);
+		}
+	}
+
+	/**
+	 * Sets the rectangle (in pixels) within which the banner is visible, typically the visible area of the container
+	 * that holds it. Only needs to be called when the rectangle changes.
+	 */
+	@UsedByGodot
+	public void update_banner_ad_clip_rect(String adId, float x, float y, float width, float height) {
+		Banner banner = bannerAds.get(adId);
+		if (banner != null) {
+			banner.updateClipRect(Math.round(x), Math.round(y), Math.round(width), Math.round(height));
+		} else {
+			AdmobLog.e(LOG_TAG, "update_banner_ad_clip_rect(): Error: banner ad %s not found", adId);
 		}
 	}
 
@@ -505,11 +781,11 @@ public class AdmobPlugin extends GodotPlugin {
 		int result = 0;
 
 		if (bannerAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("get_banner_width(): %s", adId));
+			AdmobLog.d(LOG_TAG, "get_banner_width(): %s", adId);
 			Banner bannerAd = bannerAds.get(adId);
 			result = bannerAd.getWidth();
 		} else {
-			Log.e(LOG_TAG, String.format("get_banner_width(): Error: banner ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "get_banner_width(): Error: banner ad %s not found", adId);
 		}
 
 		return result;
@@ -520,11 +796,11 @@ public class AdmobPlugin extends GodotPlugin {
 		int result = 0;
 
 		if (bannerAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("get_banner_height(): %s", adId));
+			AdmobLog.d(LOG_TAG, "get_banner_height(): %s", adId);
 			Banner bannerAd = bannerAds.get(adId);
 			result = bannerAd.getHeight();
 		} else {
-			Log.e(LOG_TAG, String.format("get_banner_height(): Error: banner ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "get_banner_height(): Error: banner ad %s not found", adId);
 		}
 
 		return result;
@@ -537,9 +813,9 @@ public class AdmobPlugin extends GodotPlugin {
 		if (bannerAds.containsKey(adId)) {
 			Banner bannerAd = bannerAds.get(adId);
 			result = bannerAd.getWidthInPixels();
-			Log.d(LOG_TAG, String.format("get_banner_width_in_pixels(): %s - %d", adId, result));
+			AdmobLog.d(LOG_TAG, "get_banner_width_in_pixels(): %s - %d", adId, result);
 		} else {
-			Log.e(LOG_TAG, String.format("get_banner_width_in_pixels(): Error: banner ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "get_banner_width_in_pixels(): Error: banner ad %s not found", adId);
 		}
 
 		return result;
@@ -552,9 +828,9 @@ public class AdmobPlugin extends GodotPlugin {
 		if (bannerAds.containsKey(adId)) {
 			Banner bannerAd = bannerAds.get(adId);
 			result = bannerAd.getHeightInPixels();
-			Log.d(LOG_TAG, String.format("get_banner_height_in_pixels(): %s - %d", adId, result));
+			AdmobLog.d(LOG_TAG, "get_banner_height_in_pixels(): %s - %d", adId, result);
 		} else {
-			Log.e(LOG_TAG, String.format("get_banner_height_in_pixels(): Error: banner ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "get_banner_height_in_pixels(): Error: banner ad %s not found", adId);
 		}
 
 		return result;
@@ -562,280 +838,722 @@ public class AdmobPlugin extends GodotPlugin {
 
 	@UsedByGodot
 	public void load_interstitial_ad(Dictionary adData) {
+		loadInterstitialAd(new LoadAdRequest(adData));
+	}
+
+	private void loadInterstitialAd(LoadAdRequest loadAdRequest) {
 		if (isInitialized) {
-			Log.d(LOG_TAG, "load_interstitial_ad()");
+			AdmobLog.d(LOG_TAG, "load_interstitial_ad()");
 
-			LoadAdRequest loadAdRequest = new LoadAdRequest(adData);
 			if (loadAdRequest.isValid()) {
-				String adId = loadAdRequest.generateAdId(++interstitialAdIdSequence);
+				Interstitial ad = createInterstitial(loadAdRequest, false);
+				AdmobLog.d(LOG_TAG, "load_interstitial_ad(): %s", ad.getAdId());
+				ad.load();
+			} else {
+				AdmobLog.e(LOG_TAG, "load_interstitial_ad(): Error: Ad request data is invalid.");
+			}
+		} else if (!runWhenInitialized(AdFormat.INTERSTITIAL.getKey(), loadAdRequest,
+				() -> loadInterstitialAd(loadAdRequest))) {
+			AdmobLog.e(LOG_TAG, "load_interstitial_ad(): Error: Plugin is not initialized!");
+		}
+	}
 
-				AdmobAdInfo adInfo = new AdmobAdInfo(adId, loadAdRequest);
-				Interstitial ad = new Interstitial(adInfo, activity, new InterstitialListener() {
-					@Override
-					public void onInterstitialLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
-						emitSignal(SIGNAL_INTERSTITIAL_AD_LOADED, adInfo.buildRawData(),
-								new AdmobResponse(responseInfo).buildRawData());
-					}
+	private Interstitial createInterstitial(LoadAdRequest loadAdRequest, boolean isPooled) {
+		String adId = loadAdRequest.generateAdId(interstitialAdIdSequence.incrementAndGet());
+		AdmobAdInfo adInfo = new AdmobAdInfo(adId, loadAdRequest);
+		adInfo.setIsPooled(isPooled);
+		Interstitial ad = new Interstitial(adInfo, activity, new InterstitialListener() {
+			@Override
+			public void onInterstitialLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
+				retryScheduler.onLoadSucceeded(adInfo.getAdId());
+				adInventory.recordLoad(AdFormat.INTERSTITIAL, adInfo.getAdId());
+				notifyAdPoolOfLoad(adInfo.getAdId());
+				dispatchSignal(SIGNAL_INTERSTITIAL_AD_LOADED, adInfo.buildRawData(),
+						new AdmobResponse(responseInfo).buildRawData());
+			}
 
-					@Override
-					public void onInterstitialReloaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
-						emitSignal(SIGNAL_INTERSTITIAL_AD_REFRESHED, adInfo.buildRawData(),
-								new AdmobResponse(responseInfo).buildRawData());
-					}
+			@Override
+			public void onInterstitialReloaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
+				retryScheduler.onLoadSucceeded(adInfo.getAdId());
+				adInventory.recordLoad(AdFormat.INTERSTITIAL, adInfo.getAdId());
+				notifyAdPoolOfLoad(adInfo.getAdId());
+				dispatchSignal(SIGNAL_INTERSTITIAL_AD_REFRESHED, adInfo.buildRawData(),
+						new AdmobResponse(responseInfo).buildRawData());
+			}
 
-					@Override
-					public void onInterstitialFailedToLoad(AdmobAdInfo adInfo, LoadAdError loadAdError) {
-						emitSignal(SIGNAL_INTERSTITIAL_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
-								new AdmobLoadAdError(loadAdError).buildRawData());
-					}
+			@Override
+			public void onInterstitialFailedToLoad(AdmobAdInfo adInfo, LoadAdError loadAdError) {
+				adInventory.remove(adInfo.getAdId());
+				if (notifyAdPoolOfFailure(adInfo.getAdId())) {
+					disposeAd(interstitialAds.remove(adInfo.getAdId()));
+				} else if (scheduleFullScreenAdRetry(AdFormat.INTERSTITIAL, adInfo.getAdId(), loadAdError)) {
+					return;
+				}
+				dispatchSignal(SIGNAL_INTERSTITIAL_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
+						new AdmobLoadAdError(loadAdError).buildRawData());
+			}
 
-					@Override
-					public void onInterstitialFailedToShow(AdmobAdInfo adInfo, AdError adError) {
-						emitSignal(SIGNAL_INTERSTITIAL_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT, adInfo.buildRawData(),
-								new AdmobAdError(adError).buildRawData());
-					}
+			@Override
+			public void onInterstitialFailedToShow(AdmobAdInfo adInfo, AdError adError) {
+				dispatchSignal(SIGNAL_INTERSTITIAL_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT, buildAdInfoData(adInfo),
+						new AdmobAdError(adError).buildRawData());
+				releaseIfPooled(AdFormat.INTERSTITIAL, adInfo);
+			}
 
-					@Override
-					public void onInterstitialOpened(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_INTERSTITIAL_AD_SHOWED_FULL_SCREEN_CONTENT, adInfo.buildRawData());
-					}
+			@Override
+			public void onInterstitialOpened(AdmobAdInfo adInfo) {
+				adInventory.remove(adInfo.getAdId());
+				replacePooledAd(adInfo.getAdId());
+				dispatchSignal(SIGNAL_INTERSTITIAL_AD_SHOWED_FULL_SCREEN_CONTENT, buildAdInfoData(adInfo));
+			}
 
-					@Override
-					public void onInterstitialClosed(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_INTERSTITIAL_AD_DISMISSED_FULL_SCREEN_CONTENT, adInfo.buildRawData());
-					}
+			@Override
+			public void onInterstitialClosed(AdmobAdInfo adInfo) {
+				dispatchSignal(SIGNAL_INTERSTITIAL_AD_DISMISSED_FULL_SCREEN_CONTENT, buildAdInfoData(adInfo));
+				releaseIfPooled(AdFormat.INTERSTITIAL, adInfo);
+			}
 
-					@Override
-					public void onInterstitialClicked(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_INTERSTITIAL_AD_CLICKED, adInfo.buildRawData());
-					}
+			@Override
+			public void onInterstitialClicked(AdmobAdInfo adInfo) {
+				dispatchSignal(SIGNAL_INTERSTITIAL_AD_CLICKED, buildAdInfoData(adInfo));
+			}
 
-					@Override
-					public void onInterstitialImpression(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_INTERSTITIAL_AD_IMPRESSION, adInfo.buildRawData());
-					}
-				});
-				interstitialAds.put(adId, ad);
-				Log.d(LOG_TAG, String.format("load_interstitial_ad(): %s", adId));
-				ad.load();
-			} else {
-				Log.e(LOG_TAG, "load_interstitial_ad(): Error: Ad request data is invalid.");
+			@Override
+			public void onInterstitialImpression(AdmobAdInfo adInfo) {
+				dispatchSignal(SIGNAL_INTERSTITIAL_AD_IMPRESSION, buildAdInfoData(adInfo));
 			}
-		} else {
-			Log.e(LOG_TAG, "load_interstitial_ad(): Error: Plugin is not initialized!");
-		}
+		});
+		adInfo.setHandle(interstitialAds.put(adId, ad));
+		return ad;
 	}
 
 	@UsedByGodot
 	public void show_interstitial_ad(String adId) {
 		if (interstitialAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("show_interstitial_ad(): %s", adId));
+			AdmobLog.d(LOG_TAG, "show_interstitial_ad(): %s", adId);
 			Interstitial ad = interstitialAds.get(adId);
 			assert ad != null;
 			ad.show();
 		} else {
-			Log.e(LOG_TAG, String.format("show_interstitial_ad(): Error: ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "show_interstitial_ad(): Error: ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void remove_interstitial_ad(String adId) {
 		if (interstitialAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("remove_interstitial_ad(): %s", adId));
-			interstitialAds.remove(adId);
+			AdmobLog.d(LOG_TAG, "remove_interstitial_ad(): %s", adId);
+			interstitialAds.remove(adId).dispose();
+			adInventory.remove(adId);
+			retryScheduler.cancel(adId);
+			replacePooledAd(adId);
 		} else {
-			Log.e(LOG_TAG, String.format("remove_interstitial_ad(): Error: ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "remove_interstitial_ad(): Error: ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void load_rewarded_ad(Dictionary adData) {
+		loadRewardedAd(new LoadAdRequest(adData));
+	}
+
+	private void loadRewardedAd(LoadAdRequest loadAdRequest) {
 		if (isInitialized) {
-			Log.d(LOG_TAG, "load_rewarded_ad()");
+			AdmobLog.d(LOG_TAG, "load_rewarded_ad()");
 
-			LoadAdRequest loadAdRequest = new LoadAdRequest(adData);
 			if (loadAdRequest.isValid()) {
-				String adId = loadAdRequest.generateAdId(++rewardedAdIdSequence);
+				RewardedVideo ad = createRewardedVideo(loadAdRequest, false);
+				AdmobLog.d(LOG_TAG, "load_rewarded_ad(): %s", ad.getAdId());
+				ad.load();
+			} else {
+				AdmobLog.e(LOG_TAG, "load_rewarded_ad(): Error: Ad request data is invalid.");
+			}
+		} else if (!runWhenInitialized(AdFormat.REWARDED.getKey(), loadAdRequest,
+				() -> loadRewardedAd(loadAdRequest))) {
+			AdmobLog.e(LOG_TAG, "load_rewarded_ad(): Error: Plugin is not initialized!");
+		}
+	}
 
-				AdmobAdInfo adInfo = new AdmobAdInfo(adId, loadAdRequest);
-				RewardedVideo ad = new RewardedVideo(adInfo, activity, new RewardedVideoListener() {
-					@Override
-					public void onRewardedVideoLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
-						emitSignal(SIGNAL_REWARDED_AD_LOADED, adInfo.buildRawData(),
-								new AdmobResponse(responseInfo).buildRawData());
-					}
+	private RewardedVideo createRewardedVideo(LoadAdRequest loadAdRequest, boolean isPooled) {
+		String adId = loadAdRequest.generateAdId(rewardedAdIdSequence.incrementAndGet());
+		AdmobAdInfo adInfo = new AdmobAdInfo(adId, loadAdRequest);
+		adInfo.setIsPooled(isPooled);
+		RewardedVideo ad = new RewardedVideo(adInfo, activity, new RewardedVideoListener() {
+			@Override
+			public void onRewardedVideoLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
+				retryScheduler.onLoadSucceeded(adInfo.getAdId());
+				adInventory.recordLoad(AdFormat.REWARDED, adInfo.getAdId());
+				notifyAdPoolOfLoad(adInfo.getAdId());
+				dispatchSignal(SIGNAL_REWARDED_AD_LOADED, adInfo.buildRawData(),
+						new AdmobResponse(responseInfo).buildRawData());
+			}
 
-					@Override
-					public void onRewardedVideoFailedToLoad(AdmobAdInfo adInfo, LoadAdError loadAdError) {
-						emitSignal(SIGNAL_REWARDED_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
-								new AdmobLoadAdError(loadAdError).buildRawData());
-					}
+			@Override
+			public void onRewardedVideoRefreshed(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
+				// The refreshed ad silently replaces one that GDScript was already told about
+				retryScheduler.onLoadSucceeded(adInfo.getAdId());
+				adInventory.recordLoad(AdFormat.REWARDED, adInfo.getAdId());
+				notifyAdPoolOfLoad(adInfo.getAdId());
+			}
 
-					@Override
-					public void onRewardedVideoOpened(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_REWARDED_AD_SHOWED_FULL_SCREEN_CONTENT, adInfo.buildRawData());
-					}
+			@Override
+			public void onRewardedVideoFailedToLoad(AdmobAdInfo adInfo, LoadAdError loadAdError) {
+				adInventory.remove(adInfo.getAdId());
+				if (notifyAdPoolOfFailure(adInfo.getAdId())) {
+					disposeAd(rewardedAds.remove(adInfo.getAdId()));
+				} else if (scheduleFullScreenAdRetry(AdFormat.REWARDED, adInfo.getAdId(), loadAdError)) {
+					return;
+				}
+				dispatchSignal(SIGNAL_REWARDED_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
+						new AdmobLoadAdError(loadAdError).buildRawData());
+			}
 
-					@Override
-					public void onRewardedVideoFailedToShow(AdmobAdInfo adInfo, AdError adError) {
-						emitSignal(SIGNAL_REWARDED_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT, adInfo.buildRawData(),
-								new AdmobAdError(adError).buildRawData());
-					}
+			@Override
+			public void onRewardedVideoOpened(AdmobAdInfo adInfo) {
+				adInventory.remove(adInfo.getAdId());
+				replacePooledAd(adInfo.getAdId());
+				dispatchSignal(SIGNAL_REWARDED_AD_SHOWED_FULL_SCREEN_CONTENT, buildAdInfoData(adInfo));
+			}
 
-					@Override
-					public void onRewardedVideoClosed(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_REWARDED_AD_DISMISSED_FULL_SCREEN_CONTENT, adInfo.buildRawData());
-					}
+			@Override
+			public void onRewardedVideoFailedToShow(AdmobAdInfo adInfo, AdError adError) {
+				dispatchSignal(SIGNAL_REWARDED_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT, buildAdInfoData(adInfo),
+						new AdmobAdError(adError).buildRawData());
+				releaseIfPooled(AdFormat.REWARDED, adInfo);
+			}
 
-					@Override
-					public void onRewardedClicked(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_REWARDED_AD_CLICKED, adInfo.buildRawData());
-					}
+			@Override
+			public void onRewardedVideoClosed(AdmobAdInfo adInfo) {
+				dispatchSignal(SIGNAL_REWARDED_AD_DISMISSED_FULL_SCREEN_CONTENT, buildAdInfoData(adInfo));
+				releaseIfPooled(AdFormat.REWARDED, adInfo);
+			}
 
-					@Override
-					public void onRewardedAdImpression(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_REWARDED_AD_IMPRESSION, adInfo.buildRawData());
-					}
+			@Override
+			public void onRewardedClicked(AdmobAdInfo adInfo) {
+				dispatchSignal(SIGNAL_REWARDED_AD_CLICKED, buildAdInfoData(adInfo));
+			}
 
-					@Override
-					public void onRewarded(AdmobAdInfo adInfo, RewardItem reward) {
-						emitSignal(SIGNAL_REWARDED_AD_USER_EARNED_REWARD, adInfo.buildRawData(),
-								GodotConverter.convert(reward));
-					}
-				});
-				rewardedAds.put(adId, ad);
-				Log.d(LOG_TAG, String.format("load_rewarded_ad(): %s", adId));
-				ad.load();
-			} else {
-				Log.e(LOG_TAG, "load_rewarded_ad(): Error: Ad request data is invalid.");
+			@Override
+			public void onRewardedAdImpression(AdmobAdInfo adInfo) {
+				dispatchSignal(SIGNAL_REWARDED_AD_IMPRESSION, buildAdInfoData(adInfo));
 			}
-		} else {
-			Log.e(LOG_TAG, "load_rewarded_ad(): Error: Plugin is not initialized!");
-		}
+
+			@Override
+			public void onRewarded(AdmobAdInfo adInfo, RewardItem reward) {
+				dispatchSignal(SIGNAL_REWARDED_AD_USER_EARNED_REWARD, buildAdInfoData(adInfo),
+						GodotConverter.convert(reward));
+			}
+		});
+		adInfo.setHandle(rewardedAds.put(adId, ad));
+		return ad;
 	}
 
 	@UsedByGodot
 	public void show_rewarded_ad(String adId) {
 		if (rewardedAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("show_rewarded_ad(): %s", adId));
+			AdmobLog.d(LOG_TAG, "show_rewarded_ad(): %s", adId);
 			RewardedVideo ad = rewardedAds.get(adId);
 			ad.show();
 		} else {
-			Log.e(LOG_TAG, String.format("show_rewarded_ad(): Error: ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "show_rewarded_ad(): Error: ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void remove_rewarded_ad(String adId) {
 		if (rewardedAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("remove_rewarded_ad(): %s", adId));
-			rewardedAds.remove(adId);
+			AdmobLog.d(LOG_TAG, "remove_rewarded_ad(): %s", adId);
+			rewardedAds.remove(adId).dispose();
+			adInventory.remove(adId);
+			retryScheduler.cancel(adId);
+			replacePooledAd(adId);
 		} else {
-			Log.e(LOG_TAG, String.format("remove_rewarded_ad(): Error: ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "remove_rewarded_ad(): Error: ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void load_rewarded_interstitial_ad(Dictionary adData) {
+		loadRewardedInterstitialAd(new LoadAdRequest(adData));
+	}
+
+	private void loadRewardedInterstitialAd(LoadAdRequest loadAdRequest) {
 		if (isInitialized) {
-			Log.d(LOG_TAG, "load_rewarded_interstitial_ad()");
+			AdmobLog.d(LOG_TAG, "load_rewarded_interstitial_ad()");
 
-			LoadAdRequest loadAdRequest = new LoadAdRequest(adData);
 			if (loadAdRequest.isValid()) {
-				String adId = loadAdRequest.generateAdId(++rewardedInterstitialAdIdSequence);
+				RewardedInterstitial ad = createRewardedInterstitial(loadAdRequest, false);
+				AdmobLog.d(LOG_TAG, "load_rewarded_interstitial_ad(): %s", ad.getAdId());
+				ad.load();
+			} else {
+				AdmobLog.e(LOG_TAG, "load_rewarded_interstitial_ad(): Error: Ad request data is invalid.");
+			}
+		} else if (!runWhenInitialized(AdFormat.REWARDED_INTERSTITIAL.getKey(), loadAdRequest,
+				() -> loadRewardedInterstitialAd(loadAdRequest))) {
+			AdmobLog.e(LOG_TAG, "load_rewarded_interstitial_ad(): Error: Plugin is not initialized!");
+		}
+	}
 
-				AdmobAdInfo adInfo = new AdmobAdInfo(adId, loadAdRequest);
-				RewardedInterstitial ad = new RewardedInterstitial(adInfo, activity,
-					new RewardedInterstitialListener() {
-						@Override
-						public void onRewardedInterstitialLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
-							emitSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_LOADED, adInfo.buildRawData(),
-									new AdmobResponse(responseInfo).buildRawData());
-						}
+	private RewardedInterstitial createRewardedInterstitial(LoadAdRequest loadAdRequest, boolean isPooled) {
+		String adId = loadAdRequest.generateAdId(rewardedInterstitialAdIdSequence.incrementAndGet());
+		AdmobAdInfo adInfo = new AdmobAdInfo(adId, loadAdRequest);
+		adInfo.setIsPooled(isPooled);
+		RewardedInterstitial ad = new RewardedInterstitial(adInfo, activity, new RewardedInterstitialListener() {
+			@Override
+			public void onRewardedInterstitialLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
+				retryScheduler.onLoadSucceeded(adInfo.getAdId());
+				adInventory.recordLoad(AdFormat.REWARDED_INTERSTITIAL, adInfo.getAdId());
+				notifyAdPoolOfLoad(adInfo.getAdId());
+				dispatchSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_LOADED, adInfo.buildRawData(),
+						new AdmobResponse(responseInfo).buildRawData());
+			}
 
-						@Override
-						public void onRewardedInterstitialFailedToLoad(AdmobAdInfo adInfo, LoadAdError loadAdError) {
-							emitSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
-									new AdmobLoadAdError(loadAdError).buildRawData());
-						}
+			@Override
+			public void onRewardedInterstitialRefreshed(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
+				// The refreshed ad silently replaces one that GDScript was already told about
+				retryScheduler.onLoadSucceeded(adInfo.getAdId());
+				adInventory.recordLoad(AdFormat.REWARDED_INTERSTITIAL, adInfo.getAdId());
+				notifyAdPoolOfLoad(adInfo.getAdId());
+			}
 
-						@Override
-						public void onRewardedInterstitialOpened(AdmobAdInfo adInfo) {
-							emitSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_SHOWED_FULL_SCREEN_CONTENT,
-									adInfo.buildRawData());
-						}
+			@Override
+			public void onRewardedInterstitialFailedToLoad(AdmobAdInfo adInfo, LoadAdError loadAdError) {
+				adInventory.remove(adInfo.getAdId());
+				if (notifyAdPoolOfFailure(adInfo.getAdId())) {
+					disposeAd(rewardedInterstitialAds.remove(adInfo.getAdId()));
+				} else if (scheduleFullScreenAdRetry(AdFormat.REWARDED_INTERSTITIAL, adInfo.getAdId(), loadAdError)) {
+					return;
+				}
+				dispatchSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
+						new AdmobLoadAdError(loadAdError).buildRawData());
+			}
 
-						@Override
-						public void onRewardedInterstitialFailedToShow(AdmobAdInfo adInfo, AdError adError) {
-							emitSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT,
-									adInfo.buildRawData(), new AdmobAdError(adError).buildRawData());
-						}
+			@Override
+			public void onRewardedInterstitialOpened(AdmobAdInfo adInfo) {
+				adInventory.remove(adInfo.getAdId());
+				replacePooledAd(adInfo.getAdId());
+				dispatchSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_SHOWED_FULL_SCREEN_CONTENT,
+						buildAdInfoData(adInfo));
+			}
 
-						@Override
-						public void onRewardedInterstitialClosed(AdmobAdInfo adInfo) {
-							emitSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_DISMISSED_FULL_SCREEN_CONTENT,
-									adInfo.buildRawData());
-						}
+			@Override
+			public void onRewardedInterstitialFailedToShow(AdmobAdInfo adInfo, AdError adError) {
+				dispatchSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT,
+						buildAdInfoData(adInfo), new AdmobAdError(adError).buildRawData());
+				releaseIfPooled(AdFormat.REWARDED_INTERSTITIAL, adInfo);
+			}
 
-						@Override
-						public void onRewardedClicked(AdmobAdInfo adInfo) {
-							emitSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_CLICKED, adInfo.buildRawData());
-						}
+			@Override
+			public void onRewardedInterstitialClosed(AdmobAdInfo adInfo) {
+				dispatchSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_DISMISSED_FULL_SCREEN_CONTENT,
+						buildAdInfoData(adInfo));
+				releaseIfPooled(AdFormat.REWARDED_INTERSTITIAL, adInfo);
+			}
 
-						@Override
-						public void onRewardedAdImpression(AdmobAdInfo adInfo) {
-							emitSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_IMPRESSION, adInfo.buildRawData());
-						}
+			@Override
+			public void onRewardedClicked(AdmobAdInfo adInfo) {
+				dispatchSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_CLICKED, buildAdInfoData(adInfo));
+			}
 
-						@Override
-						public void onRewarded(AdmobAdInfo adInfo, RewardItem reward) {
-							emitSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_USER_EARNED_REWARD, adInfo.buildRawData(),
-									GodotConverter.convert(reward));
-						}
-					});
-				rewardedInterstitialAds.put(adId, ad);
-				Log.d(LOG_TAG, String.format("load_rewarded_interstitial_ad(): %s", adId));
-				ad.load();
-			} else {
-				Log.e(LOG_TAG, "load_rewarded_interstitial_ad(): Error: Ad request data is invalid.");
+			@Override
+			public void onRewardedAdImpression(AdmobAdInfo adInfo) {
+				dispatchSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_IMPRESSION, buildAdInfoData(adInfo));
 			}
-		} else {
-			Log.e(LOG_TAG, "load_rewarded_interstitial_ad(): Error: Plugin is not initialized!");
-		}
+
+			@Override
+			public void onRewarded(AdmobAdInfo adInfo, RewardItem reward) {
+				dispatchSignal(SIGNAL_REWARDED_INTERSTITIAL_AD_USER_EARNED_REWARD, buildAdInfoData(adInfo),
+						GodotConverter.convert(reward));
+			}
+		});
+		adInfo.setHandle(rewardedInterstitialAds.put(adId, ad));
+		return ad;
 	}
 
 	@UsedByGodot
 	public void show_rewarded_interstitial_ad(String adId) {
 		if (rewardedInterstitialAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("show_rewarded_interstitial_ad(): %s", adId));
+			AdmobLog.d(LOG_TAG, "show_rewarded_interstitial_ad(): %s", adId);
 			RewardedInterstitial ad = rewardedInterstitialAds.get(adId);
 			ad.show();
 		} else {
-			Log.e(LOG_TAG, String.format("show_rewarded_interstitial_ad(): Error: ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "show_rewarded_interstitial_ad(): Error: ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void remove_rewarded_interstitial_ad(String adId) {
 		if (rewardedInterstitialAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("remove_rewarded_interstitial_ad(): %s", adId));
-			rewardedInterstitialAds.remove(adId);
+			AdmobLog.d(LOG_TAG, "remove_rewarded_interstitial_ad(): %s", adId);
+			rewardedInterstitialAds.remove(adId).dispose();
+			adInventory.remove(adId);
+			retryScheduler.cancel(adId);
+			replacePooledAd(adId);
+		} else {
+			AdmobLog.e(LOG_TAG, "remove_rewarded_interstitial_ad(): Error: ad %s not found", adId);
+		}
+	}
+
+	@UsedByGodot
+	public void set_ad_ttl(String format, int seconds) {
+		AdFormat adFormat = AdFormat.fromKey(format);
+		if (adFormat == null) {
+			AdmobLog.e(LOG_TAG, "set_ad_ttl(): Error: unknown ad format '%s'", format);
+		} else {
+			AdmobLog.d(LOG_TAG, "set_ad_ttl('%s', %d)", format, seconds);
+			adInventory.setTtlMillis(adFormat, seconds * 1000L);
+		}
+	}
+
+	/**
+	 * Sets the minimum level (debug, info, warn, error or none) of the messages that the plugin logs.
+	 */
+	@UsedByGodot
+	public void set_log_level(String level) {
+		int logLevel = AdmobLog.parseLevel(level);
+		if (logLevel < 0) {
+			AdmobLog.e(LOG_TAG, "set_log_level(): Error: unknown log level '%s'", level);
+		} else {
+			AdmobLog.setLevel(logLevel);
+		}
+	}
+
+	/**
+	 * Returns the number of ad objects per ad format that have been created but not removed yet, and the number of
+	 * banner ad views that have not been destroyed yet (including pooled ones). Meant for detecting leaks.
+	 */
+	@UsedByGodot
+	public Dictionary get_live_ad_counts() {
+		return LiveAdObjects.buildRawData();
+	}
+
+	/**
+	 * Returns the load metrics (request, fill, no-fill and error counts, and load latency percentiles) recorded since
+	 * startup or the last call to {@link #reset_metrics()}, keyed by ad format and then by ad unit ID.
+	 */
+	@UsedByGodot
+	public Dictionary get_metrics() {
+		return AdMetrics.buildRawData();
+	}
+
+	@UsedByGodot
+	public void reset_metrics() {
+		AdmobLog.d(LOG_TAG, "reset_metrics()");
+		AdMetrics.reset();
+	}
+
+	/**
+	 * Emits the metrics_reported signal with the current load metrics every given number of seconds, or stops doing so
+	 * if the interval is 0.
+	 */
+	@UsedByGodot
+	public void set_metrics_report_interval(int seconds) {
+		AdmobLog.d(LOG_TAG, "set_metrics_report_interval(%d)", seconds);
+		mainHandler.removeCallbacks(metricsReportTask);
+		metricsReportIntervalMillis = Math.max(0, seconds) * 1000L;
+		if (metricsReportIntervalMillis > 0) {
+			mainHandler.postDelayed(metricsReportTask, metricsReportIntervalMillis);
+		}
+	}
+
+	private void reportMetrics() {
+		dispatchSignal(SIGNAL_METRICS_REPORTED, AdMetrics.buildRawData());
+		if (metricsReportIntervalMillis > 0) {
+			mainHandler.postDelayed(metricsReportTask, metricsReportIntervalMillis);
+		}
+	}
+
+	/**
+	 * Returns the number of live ads of the given format, or 0 if the format is unknown or not tracked per ad.
+	 */
+	@UsedByGodot
+	public int get_ad_count(String format) {
+		AdFormat adFormat = AdFormat.fromKey(format);
+		return adFormat == null ? 0 : adRegistry.count(adFormat);
+	}
+
+	/**
+	 * Removes all ads of the given format. Ad pools of a full-screen format are removed along with their ads.
+	 */
+	@UsedByGodot
+	public void remove_all_ads(String format) {
+		AdFormat adFormat = AdFormat.fromKey(format);
+		if (adFormat == null || adFormat == AdFormat.APP_OPEN) {
+			AdmobLog.e(LOG_TAG, "remove_all_ads(): Error: unsupported ad format '%s'", format);
+			return;
+		}
+
+		AdmobLog.d(LOG_TAG, "remove_all_ads(): %s", format);
+		switch (adFormat) {
+			case BANNER -> {
+				for (Map.Entry<String, Banner> entry : bannerAds.removeAll().entrySet()) {
+					retryScheduler.cancel(entry.getKey());
+					entry.getValue().dispose();
+				}
+			}
+			case NATIVE -> {
+				for (Map.Entry<String, Native> entry : nativeAds.removeAll().entrySet()) {
+					retryScheduler.cancel(entry.getKey());
+					entry.getValue().dispose();
+				}
+			}
+			default -> {
+				adPools.values().removeIf(pool -> {
+					if (pool.getFormat() == adFormat) {
+						pool.clear();
+						return true;
+					}
+					return false;
+				});
+				for (Map.Entry<String, ? extends FullScreenAd> entry
+						: getFullScreenAds(adFormat).removeAll().entrySet()) {
+					adInventory.remove(entry.getKey());
+					retryScheduler.cancel(entry.getKey());
+					entry.getValue().dispose();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sets how failed loads of the given ad format are retried. While a retry is pending, the failed-to-load signal is
+	 * not emitted; it is emitted once the error is not retryable or the retries have been used up.
+	 */
+	@UsedByGodot
+	public void set_retry_policy(String format, Dictionary policyData) {
+		AdFormat adFormat = AdFormat.fromKey(format);
+		if (adFormat == null) {
+			AdmobLog.e(LOG_TAG, "set_retry_policy(): Error: unknown ad format '%s'", format);
+		} else {
+			AdmobLog.d(LOG_TAG, "set_retry_policy('%s')", format);
+			retryScheduler.setPolicy(adFormat, new RetryPolicy(policyData));
+		}
+	}
+
+	@UsedByGodot
+	public boolean is_interstitial_ad_available(String adId) {
+		return adInventory.isAvailable(adId);
+	}
+
+	@UsedByGodot
+	public boolean is_rewarded_ad_available(String adId) {
+		return adInventory.isAvailable(adId);
+	}
+
+	@UsedByGodot
+	public boolean is_rewarded_interstitial_ad_available(String adId) {
+		return adInventory.isAvailable(adId);
+	}
+
+	@UsedByGodot
+	public void create_ad_pool(String format, Dictionary adData, int depth) {
+		createAdPool(format, new LoadAdRequest(adData), depth);
+	}
+
+	private void createAdPool(String format, LoadAdRequest loadAdRequest, int depth) {
+		if (isInitialized) {
+			AdFormat adFormat = AdFormat.fromKey(format);
+			if (adFormat == null || !adFormat.isFullScreen()) {
+				AdmobLog.e(LOG_TAG, "create_ad_pool(): Error: ad format '%s' cannot be pooled", format);
+			} else if (loadAdRequest.isValid()) {
+				String adUnitId = loadAdRequest.getAdUnitId();
+				AdmobLog.d(LOG_TAG, "create_ad_pool('%s', '%s', %d)", format, adUnitId, depth);
+
+				String poolKey = AdPool.createKey(adFormat, adUnitId);
+				AdPool pool = adPools.get(poolKey);
+				if (pool == null) {
+					pool = new AdPool(adFormat, adUnitId, depth, createAdPoolFactory(adFormat, loadAdRequest));
+					adPools.put(poolKey, pool);
+				} else {
+					pool.setDepth(depth);
+				}
+				pool.fill();
+			} else {
+				AdmobLog.e(LOG_TAG, "create_ad_pool(): Error: Ad request data is invalid.");
+			}
+		} else if (!runWhenInitialized("pool_" + format, loadAdRequest,
+				() -> createAdPool(format, loadAdRequest, depth))) {
+			AdmobLog.e(LOG_TAG, "create_ad_pool(): Error: Plugin is not initialized!");
+		}
+	}
+
+	@UsedByGodot
+	public boolean show_pooled_ad(String format, String adUnitId) {
+		boolean result = false;
+
+		AdPool pool = findAdPool("show_pooled_ad", format, adUnitId);
+		if (pool != null) {
+			FullScreenAd ad = pool.take();
+			if (ad == null) {
+				AdmobLog.w(LOG_TAG, "show_pooled_ad(): no ad is ready in pool %s:%s", format, adUnitId);
+			} else {
+				AdmobLog.d(LOG_TAG, "show_pooled_ad(): %s", ad.getAdId());
+				ad.show();
+				result = true;
+			}
+			pool.fill();
+		}
+
+		return result;
+	}
+
+	@UsedByGodot
+	public boolean is_pooled_ad_available(String format, String adUnitId) {
+		AdPool pool = findAdPool("is_pooled_ad_available", format, adUnitId);
+		return pool != null && pool.getReadyCount() > 0;
+	}
+
+	@UsedByGodot
+	public int get_pooled_ad_count(String format, String adUnitId) {
+		AdPool pool = findAdPool("get_pooled_ad_count", format, adUnitId);
+		return pool == null ? 0 : pool.getReadyCount();
+	}
+
+	@UsedByGodot
+	public void remove_ad_pool(String format, String adUnitId) {
+		AdPool pool = findAdPool("remove_ad_pool", format, adUnitId);
+		if (pool != null) {
+			AdmobLog.d(LOG_TAG, "remove_ad_pool('%s', '%s')", format, adUnitId);
+			adPools.remove(AdPool.createKey(pool.getFormat(), adUnitId));
+
+			AdRegistry.View<? extends FullScreenAd> ads = getFullScreenAds(pool.getFormat());
+			List<String> adIds = pool.clear();
+			for (String adId : adIds) {
+				disposeAd(ads.remove(adId));
+			}
+		}
+	}
+
+	private AdPool findAdPool(String caller, String format, String adUnitId) {
+		AdPool pool = null;
+
+		AdFormat adFormat = AdFormat.fromKey(format);
+		if (adFormat == null) {
+			AdmobLog.e(LOG_TAG, "%s(): Error: unknown ad format '%s'", caller, format);
 		} else {
-			Log.e(LOG_TAG, String.format("remove_rewarded_interstitial_ad(): Error: ad %s not found", adId));
+			pool = adPools.get(AdPool.createKey(adFormat, adUnitId));
+			if (pool == null) {
+				AdmobLog.e(LOG_TAG, "%s(): Error: ad pool %s:%s not found", caller, format, adUnitId);
+			}
+		}
+
+		return pool;
+	}
+
+	private AdPool.AdFactory createAdPoolFactory(AdFormat format, LoadAdRequest loadAdRequest) {
+		return switch (format) {
+			case INTERSTITIAL -> () -> {
+				Interstitial ad = createInterstitial(loadAdRequest, true);
+				ad.setAutoReload(false);	// the pool replaces consumed ads with new instances
+				return ad;
+			};
+			case REWARDED -> () -> createRewardedVideo(loadAdRequest, true);
+			case REWARDED_INTERSTITIAL -> () -> createRewardedInterstitial(loadAdRequest, true);
+			default -> throw new IllegalArgumentException("Ad format cannot be pooled: " + format);
+		};
+	}
+
+	private AdRegistry.View<? extends FullScreenAd> getFullScreenAds(AdFormat format) {
+		return switch (format) {
+			case INTERSTITIAL -> interstitialAds;
+			case REWARDED -> rewardedAds;
+			case REWARDED_INTERSTITIAL -> rewardedInterstitialAds;
+			default -> throw new IllegalArgumentException("Not a full-screen ad format: " + format);
+		};
+	}
+
+	private void notifyAdPoolOfLoad(String adId) {
+		for (AdPool pool : adPools.values()) {
+			if (pool.contains(adId)) {
+				pool.onAdLoaded(adId);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Drops a pooled ad that failed to load and schedules a delayed refill of its pool.
+	 *
+	 * @return true if the ad belonged to a pool
+	 */
+	private boolean notifyAdPoolOfFailure(String adId) {
+		for (AdPool pool : adPools.values()) {
+			if (pool.discard(adId)) {
+				String poolKey = AdPool.createKey(pool.getFormat(), pool.getAdUnitId());
+				mainHandler.postDelayed(() -> {
+					if (adPools.get(poolKey) == pool) {
+						pool.fill();
+					}
+				}, AD_POOL_REFILL_DELAY_MILLIS);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void disposeAd(FullScreenAd ad) {
+		if (ad != null) {
+			ad.dispose();
+		}
+	}
+
+	private static void disposeAll(AdRegistry.View<? extends FullScreenAd> ads) {
+		for (FullScreenAd ad : ads.removeAll().values()) {
+			ad.dispose();
+		}
+	}
+
+	/**
+	 * Schedules a reload of the full-screen ad if the retry policy of its format allows it. The reload is skipped if
+	 * the ad has been removed in the meantime.
+	 */
+	private boolean scheduleFullScreenAdRetry(AdFormat format, String adId, LoadAdError loadAdError) {
+		return retryScheduler.scheduleRetry(format, adId, loadAdError.getCode(), () -> {
+			FullScreenAd ad = getFullScreenAds(format).get(adId);
+			if (ad != null) {
+				ad.load();
+			}
+		});
+	}
+
+	/**
+	 * Drops the ad from its pool (if it is pooled) and starts loading a replacement.
+	 */
+	private void replacePooledAd(String adId) {
+		for (AdPool pool : adPools.values()) {
+			if (pool.discard(adId)) {
+				pool.fill();
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Releases a pooled ad for good once it has been shown, has failed to show or has expired: the ad is unregistered
+	 * and disposed, and its pool (if it is still in one) is refilled. Ads that are not pooled are left alone.
+	 */
+	private void releaseIfPooled(AdFormat format, AdmobAdInfo adInfo) {
+		if (adInfo.isPooled()) {
+			String adId = adInfo.getAdId();
+			AdmobLog.d(LOG_TAG, "Releasing pooled ad %s", adId);
+			replacePooledAd(adId);
+			adInventory.remove(adId);
+			retryScheduler.cancel(adId);
+			disposeAd(getFullScreenAds(format).remove(adId));
 		}
 	}
 
 	@UsedByGodot
 	public void load_app_open_ad(Dictionary adRequest, boolean autoShowOnResume) {
 		LoadAdRequest loadAdRequest = new LoadAdRequest(adRequest);
-		Log.d(LOG_TAG, String.format("load_app_open_ad('%s', %b)", loadAdRequest.getAdUnitId(), autoShowOnResume));
+		AdmobLog.d(LOG_TAG, "load_app_open_ad('%s', %b)", loadAdRequest.getAdUnitId(), autoShowOnResume);
 		appOpenAdManager.autoShowOnResume = autoShowOnResume;
 		appOpenAdManager.loadAd(loadAdRequest);
 	}
 
 	@UsedByGodot
 	public void show_app_open_ad() {
-		Log.d(LOG_TAG, "show_app_open_ad()");
+		AdmobLog.d(LOG_TAG, "show_app_open_ad()");
 		appOpenAdManager.showAd();
 	}
 
@@ -846,98 +1564,143 @@ public class AdmobPlugin extends GodotPlugin {
 
 	@UsedByGodot
 	public void load_native_ad(Dictionary adData) {
+		loadNativeAd(new LoadAdRequest(adData));
+	}
+
+	private void loadNativeAd(LoadAdRequest loadAdRequest) {
 		if (isInitialized) {
-			Log.d(LOG_TAG, "load_native_ad()");
+			AdmobLog.d(LOG_TAG, "load_native_ad()");
 
-			LoadAdRequest loadAdRequest = new LoadAdRequest(adData);
 			if (loadAdRequest.isValid()) {
-				String adId = loadAdRequest.generateAdId(++nativeAdIdSequence);
+				String adId = loadAdRequest.generateAdId(nativeAdIdSequence.incrementAndGet());
 
 				AdmobAdInfo adInfo = new AdmobAdInfo(adId, loadAdRequest);
-				Native ad = new Native(adInfo, activity, layout, new NativeListener() {
+				Native ad = new Native(adInfo, activity, layout, nativePreloader, new NativeListener() {
 					@Override
 					public void onAdLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
-						emitSignal(SIGNAL_NATIVE_AD_LOADED, adInfo.buildRawData(),
+						retryScheduler.onLoadSucceeded(adInfo.getAdId());
+						dispatchSignal(SIGNAL_NATIVE_AD_LOADED, adInfo.buildRawData(),
 							new AdmobResponse(responseInfo).buildRawData());
 					}
 
 					@Override
 					public void onAdFailedToLoad(AdmobAdInfo adInfo, LoadAdError error) {
-						emitSignal(SIGNAL_NATIVE_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
+						String failedAdId = adInfo.getAdId();
+						if (retryScheduler.scheduleRetry(AdFormat.NATIVE, failedAdId, error.getCode(), () -> {
+							Native failedAd = nativeAds.get(failedAdId);
+							if (failedAd != null) {
+								failedAd.load();
+							}
+						})) {
+							return;
+						}
+						dispatchSignal(SIGNAL_NATIVE_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
 							new AdmobLoadAdError(error).buildRawData());
 					}
 
 					@Override
 					public void onAdImpression(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_NATIVE_AD_IMPRESSION, adInfo.buildRawData());
+						dispatchSignal(SIGNAL_NATIVE_AD_IMPRESSION, buildAdInfoData(adInfo));
 					}
 
 					@Override
 					public void onAdClicked(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_NATIVE_AD_CLICKED, adInfo.buildRawData());
+						dispatchSignal(SIGNAL_NATIVE_AD_CLICKED, buildAdInfoData(adInfo));
 					}
 
 					@Override
 					public void onAdOpened(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_NATIVE_AD_OPENED, adInfo.buildRawData());
+						dispatchSignal(SIGNAL_NATIVE_AD_OPENED, buildAdInfoData(adInfo));
 					}
 
 					@Override
 					public void onAdClosed(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_NATIVE_AD_CLOSED, adInfo.buildRawData());
+						dispatchSignal(SIGNAL_NATIVE_AD_CLOSED, buildAdInfoData(adInfo));
 					}
 
 					@Override
 					public void onAdSwipeGestureClicked(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_NATIVE_AD_SWIPE_GESTURE_CLICKED, adInfo.buildRawData());
+						dispatchSignal(SIGNAL_NATIVE_AD_SWIPE_GESTURE_CLICKED, buildAdInfoData(adInfo));
 					}
 
 					@Override
 					public void onAdSizeMeasured(AdmobAdInfo adInfo) {
-						emitSignal(SIGNAL_NATIVE_AD_SIZE_MEASURED, adInfo.buildRawData());
+						dispatchSignal(SIGNAL_NATIVE_AD_SIZE_MEASURED, adInfo.buildRawData());
 					}
 				});
-				nativeAds.put(adId, ad);
-				Log.d(LOG_TAG, String.format("load_native_ad(): %s", adId));
+				adInfo.setHandle(nativeAds.put(adId, ad));
+				AdmobLog.d(LOG_TAG, "load_native_ad(): %s", adId);
 				ad.load();
 			} else {
-				Log.e(LOG_TAG, "load_native_ad(): Error: Ad request data is invalid.");
+				AdmobLog.e(LOG_TAG, "load_native_ad(): Error: Ad request data is invalid.");
 			}
-		} else {
-			Log.e(LOG_TAG, "load_native_ad(): Error: Plugin is not initialized!");
+		} else if (!runWhenInitialized(AdFormat.NATIVE.getKey(), loadAdRequest, () -> loadNativeAd(loadAdRequest))) {
+			AdmobLog.e(LOG_TAG, "load_native_ad(): Error: Plugin is not initialized!");
 		}
 	}
 
+	/**
+	 * Preloads the given number of native ads for the request's ad unit in batches, so that subsequent
+	 * load_native_ad() calls for the ad unit are served instantly. Preloaded ads that are not used within an hour are
+	 * destroyed.
+	 */
+	@UsedByGodot
+	public void preload_native_ads(Dictionary adData, int count) {
+		preloadNativeAds(new LoadAdRequest(adData), count);
+	}
+
+	private void preloadNativeAds(LoadAdRequest loadAdRequest, int count) {
+		if (isInitialized) {
+			if (!loadAdRequest.isValid()) {
+				AdmobLog.e(LOG_TAG, "preload_native_ads(): Error: Ad request data is invalid.");
+			} else if (count < 1) {
+				AdmobLog.e(LOG_TAG, "preload_native_ads(): Error: Invalid count %d", count);
+			} else {
+				AdmobLog.d(LOG_TAG, "preload_native_ads(): %d for %s", count, loadAdRequest.getAdUnitId());
+				nativePreloader.preload(loadAdRequest, count);
+			}
+		} else if (!runWhenInitialized("preload_" + AdFormat.NATIVE.getKey(), loadAdRequest,
+				() -> preloadNativeAds(loadAdRequest, count))) {
+			AdmobLog.e(LOG_TAG, "preload_native_ads(): Error: Plugin is not initialized!");
+		}
+	}
+
+	@UsedByGodot
+	public int get_preloaded_native_ad_count(String adUnitId) {
+		return nativePreloader == null ? 0 : nativePreloader.getCount(adUnitId);
+	}
+
 	@UsedByGodot
 	public void show_native_ad(String adId) {
 		if (nativeAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("show_native_ad(): %s", adId));
+			AdmobLog.d(LOG_TAG, "show_native_ad(): %s", adId);
 			Native ad = nativeAds.get(adId);
 			ad.show();
 		} else {
-			Log.e(LOG_TAG, String.format("show_native_ad(): Error: native ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "show_native_ad(): Error: native ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void hide_native_ad(String adId) {
 		if (nativeAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("hide_native_ad(): %s", adId));
+			AdmobLog.d(LOG_TAG, "hide_native_ad(): %s", adId);
 			Native ad = nativeAds.get(adId);
 			ad.hide();
 		} else {
-			Log.e(LOG_TAG, String.format("hide_native_ad(): Error: native ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "hide_native_ad(): Error: native ad %s not found", adId);
 		}
 	}
 
 	@UsedByGodot
 	public void remove_native_ad(String adId) {
 		if (nativeAds.containsKey(adId)) {
-			Log.d(LOG_TAG, String.format("remove_native_ad(): %s", adId));
+			AdmobLog.d(LOG_TAG, "remove_native_ad(): %s", adId);
 			Native ad = nativeAds.remove(adId);
-			ad.remove();
+			retryScheduler.cancel(adId);
+			ad.dispose();
 		} else {
-			Log.e(LOG_TAG, String.format("remove_native_ad(): Error: native ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "remove_native_ad(): Error: native ad %s not found", adId);
 		}
 	}
 
@@ -947,101 +1710,131 @@ public class AdmobPlugin extends GodotPlugin {
 			Native ad = nativeAds.get(adId);
 			ad.updateLayout(x, y, width, height, visible);
 		} else {
-			Log.e(LOG_TAG, String.format("update_native_ad_layout(): Error: native ad %s not found", adId));
+			AdmobLog.e(LOG_TAG, "update_native_ad_layout(): Error: native ad %s not found", adId);
+		}
+	}
+
+	/**
+	 * Variant of update_native_ad_layout() that identifies the native ad by its ad handle, for frequent calls.
+	 */
+	@UsedByGodot
+	public void update_native_ad_layout_by_handle(int handle, int x, int y, int width, int height, boolean visible) {
+		Native ad = nativeAds.get(handle);
+		if (ad != null) {
+			ad.updateLayout(x, y, width, height, visible);
+		} else {
+			AdmobLog.e(LOG_TAG, "update_native_ad_layout_by_handle(): Error: native ad handle %d not found",
+					handle);
 		}
 	}
 
 	@UsedByGodot
 	public void load_consent_form() {
-		Log.d(LOG_TAG, "load_consent_form()");
-		activity.runOnUiThread(() -> {
-			UserMessagingPlatform.loadConsentForm(
-					activity,
-					(UserMessagingPlatform.OnConsentFormLoadSuccessListener) loadedForm -> {
-						consentForm = loadedForm;
-						emitSignal(SIGNAL_CONSENT_FORM_LOADED);
-					},
-					(UserMessagingPlatform.OnConsentFormLoadFailureListener) formError -> {
-						emitSignal(SIGNAL_CONSENT_FORM_FAILED_TO_LOAD, GodotConverter.convert(formError));
-					}
-			);
-		});
+		AdmobLog.d(LOG_TAG, "load_consent_form()");
+		consentManager.loadForm(
+				(UserMessagingPlatform.OnConsentFormLoadSuccessListener) loadedForm -> {
+					dispatchSignal(SIGNAL_CONSENT_FORM_LOADED);
+				},
+				(UserMessagingPlatform.OnConsentFormLoadFailureListener) formError -> {
+					dispatchSignal(SIGNAL_CONSENT_FORM_FAILED_TO_LOAD, GodotConverter.convert(formError));
+				}
+		);
 	}
 
 	@UsedByGodot
 	public void show_consent_form() {
-		if (consentForm == null) {
-			Log.e(LOG_TAG, "show_consent_form(): Error: consent form not found!");
-		} else {
-			Log.d(LOG_TAG, "show_consent_form()");
-			activity.runOnUiThread(() -> {
-				consentForm.show(activity, (ConsentForm.OnConsentFormDismissedListener) formError -> {
-					emitSignal(SIGNAL_CONSENT_FORM_DISMISSED, GodotConverter.convert(formError));
-				});
-			});
+		AdmobLog.d(LOG_TAG, "show_consent_form()");
+		boolean isShown = consentManager.showForm((ConsentForm.OnConsentFormDismissedListener) formError -> {
+			dispatchSignal(SIGNAL_CONSENT_FORM_DISMISSED, GodotConverter.convert(formError));
+		});
+		if (!isShown) {
+			AdmobLog.e(LOG_TAG, "show_consent_form(): Error: consent form not found!");
 		}
 	}
 
 	@UsedByGodot
 	public String get_consent_status() {
-		int consentStatus = UserMessagingPlatform.getConsentInformation(activity).getConsentStatus();
-		Log.d(LOG_TAG, String.format("get_consent_status(): %s", consentStatus));
-		return switch (consentStatus) {
-			case ConsentInformation.ConsentStatus.NOT_REQUIRED -> "NOT_REQUIRED";
-			case ConsentInformation.ConsentStatus.REQUIRED -> "REQUIRED";
-			case ConsentInformation.ConsentStatus.OBTAINED -> "OBTAINED";
-			default -> "UNKNOWN";
-		};
+		String consentStatus = ConsentManager.getStatusName(consentManager.getConsentStatus());
+		AdmobLog.d(LOG_TAG, "get_consent_status(): %s", consentStatus);
+		return consentStatus;
 	}
 
 	@UsedByGodot
 	public boolean is_consent_form_available() {
-		Log.d(LOG_TAG, "is_consent_form_available()");
-		return UserMessagingPlatform.getConsentInformation(activity).isConsentFormAvailable();
+		AdmobLog.d(LOG_TAG, "is_consent_form_available()");
+		return consentManager.isConsentFormAvailable();
 	}
 
 	@UsedByGodot
 	public void update_consent_info(Dictionary consentRequestParameters) {
 		ConsentConfiguration consentConfig = new ConsentConfiguration(consentRequestParameters);
-		Log.d(LOG_TAG, "update_consent_info(" + consentConfig.toString() + ")");
-		ConsentInformation consentInformation = UserMessagingPlatform.getConsentInformation(activity);
+		AdmobLog.d(LOG_TAG, "update_consent_info(%s)", consentConfig.toString());
+		requestConsentInfoUpdate(consentConfig, () -> {});
+	}
+
+	/**
+	 * Updates the consent information, then loads and shows the consent form only if the consent status requires
+	 * it. Emits {@code consent_ensured} once done.
+	 */
+	@UsedByGodot
+	public void ensure_consent(Dictionary consentRequestParameters) {
+		ConsentConfiguration consentConfig = new ConsentConfiguration(consentRequestParameters);
+		AdmobLog.d(LOG_TAG, "ensure_consent(%s)", consentConfig.toString());
+		consentManager.ensureConsent(consentConfig.createConsentRequestParameters(activity),
+				resultData -> dispatchSignal(SIGNAL_CONSENT_ENSURED, resultData));
+	}
 
-		consentInformation.requestConsentInfoUpdate(
-				activity,
+	private void requestConsentInfoUpdate(ConsentConfiguration consentConfig, Runnable onDone) {
+		consentManager.requestConsentInfoUpdate(
 				consentConfig.createConsentRequestParameters(activity),
 				(ConsentInformation.OnConsentInfoUpdateSuccessListener) () -> {
-					emitSignal(SIGNAL_CONSENT_INFO_UPDATED);
+					dispatchSignal(SIGNAL_CONSENT_INFO_UPDATED);
+					onDone.run();
 				},
 				(ConsentInformation.OnConsentInfoUpdateFailureListener) requestConsentError -> {
-					emitSignal(SIGNAL_CONSENT_INFO_UPDATE_FAILED, GodotConverter.convert(requestConsentError));
-					Log.w(LOG_TAG, String.format("%s: %s", requestConsentError.getErrorCode(),
-							requestConsentError.getMessage()));
+					dispatchSignal(SIGNAL_CONSENT_INFO_UPDATE_FAILED, GodotConverter.convert(requestConsentError));
+					AdmobLog.w(LOG_TAG, "%s: %s", requestConsentError.getErrorCode(),
+							requestConsentError.getMessage());
+					onDone.run();
 				}
 		);
 	}
 
 	@UsedByGodot
 	public void reset_consent_info() {
-		Log.d(LOG_TAG, "reset_consent_info()");
-		UserMessagingPlatform.getConsentInformation(activity).reset();
+		AdmobLog.d(LOG_TAG, "reset_consent_info()");
+		consentManager.reset();
 	}
 
 	@UsedByGodot
 	public void set_mediation_privacy_settings(Dictionary settings) {
-		Log.d(LOG_TAG, "set_mediation_privacy_settings()");
+		AdmobLog.d(LOG_TAG, "set_mediation_privacy_settings()");
 
 		PrivacySettings privacySettings = new PrivacySettings(settings);
 		privacySettings.applyPrivacySettings(activity.getApplicationContext());
 	}
 
+	/**
+	 * Applies the mediation privacy settings to the enabled networks concurrently on background threads and emits
+	 * {@code mediation_privacy_settings_applied} with each network's outcome and duration once all are done.
+	 */
+	@UsedByGodot
+	public void set_mediation_privacy_settings_async(Dictionary settings) {
+		AdmobLog.d(LOG_TAG, "set_mediation_privacy_settings_async()");
+
+		PrivacySettings privacySettings = new PrivacySettings(settings);
+		privacySettings.applyPrivacySettingsAsync(activity.getApplicationContext(), backgroundExecutor,
+				results -> dispatchSignal(SIGNAL_MEDIATION_PRIVACY_SETTINGS_APPLIED, results));
+	}
+
 	@UsedByGodot
 	public void open_app_settings() {
 		if (!isInitialized) {
-			Log.e(LOG_TAG, "open_app_settings(): plugin is not initialized!");
+			AdmobLog.e(LOG_TAG, "open_app_settings(): plugin is not initialized!");
 			return;
 		}
 
-		Log.d(LOG_TAG, "open_app_settings()");
+		AdmobLog.d(LOG_TAG, "open_app_settings()");
 
 		try {
 			Intent intent = new Intent(Settings.ACTION_APPLICATION_DETAILS_SETTINGS);
@@ -1050,69 +1843,162 @@ public class AdmobPlugin extends GodotPlugin {
 			intent.setData(uri);
 			activity.startActivity(intent);
 		} catch (Exception e) {
-			Log.e(LOG_TAG, "open_app_settings():: Failed due to " + e.getMessage());
+			AdmobLog.e(LOG_TAG, "open_app_settings():: Failed due to %s", e.getMessage());
 		}
 	}
 
 	@Override
 	public View onMainCreate(Activity activity) {
 		this.activity = activity;
-
-		appOpenAdManager = new AppOpenAdManager(activity, new AppOpenListener() {
+		this.deviceIds = new DeviceIds(activity);
+		this.settingsStore = new SettingsStore(
+				() -> activity.getSharedPreferences(SettingsStore.PREFS_NAME, Context.MODE_PRIVATE),
+				backgroundExecutor);
+		settingsStore.preload();
+		this.consentManager = new ConsentManager(activity);
+		this.nativePreloader = new NativePreloader(activity, mainHandler);
+
+		appOpenAdManager = new AppOpenAdManager(activity, adInventory, new AppOpenListener() {
 			@Override
 			public void onAdLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo) {
-				emitSignal(SIGNAL_APP_OPEN_AD_LOADED, adInfo.buildRawData(),
+				retryScheduler.onLoadSucceeded(adInfo.getAdId());
+				dispatchSignal(SIGNAL_APP_OPEN_AD_LOADED, adInfo.buildRawData(),
 					new AdmobResponse(responseInfo).buildRawData());
 			}
 
 			@Override
 			public void onAdFailedToLoad(AdmobAdInfo adInfo, LoadAdError loadAdError) {
-				emitSignal(SIGNAL_APP_OPEN_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
+				if (retryScheduler.scheduleRetry(AdFormat.APP_OPEN, adInfo.getAdId(), loadAdError.getCode(),
+						appOpenAdManager::refresh)) {
+					return;
+				}
+				dispatchSignal(SIGNAL_APP_OPEN_AD_FAILED_TO_LOAD, adInfo.buildRawData(),
 					new AdmobLoadAdError(loadAdError).buildRawData());
 			}
 
 			@Override
 			public void onAdShowed(AdmobAdInfo adInfo) {
-				emitSignal(SIGNAL_APP_OPEN_AD_SHOWED_FULL_SCREEN_CONTENT, adInfo.buildRawData());
+				dispatchSignal(SIGNAL_APP_OPEN_AD_SHOWED_FULL_SCREEN_CONTENT, buildAdInfoData(adInfo));
 			}
 
 			@Override
 			public void onAdFailedToShow(AdmobAdInfo adInfo, AdError adError) {
-				emitSignal(SIGNAL_APP_OPEN_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT, adInfo.buildRawData(),
+				dispatchSignal(SIGNAL_APP_OPEN_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT, buildAdInfoData(adInfo),
 					new AdmobAdError(adError).buildRawData());
 			}
 
 			@Override
 			public void onAdImpression(AdmobAdInfo adInfo) {
-				emitSignal(SIGNAL_APP_OPEN_AD_IMPRESSION, adInfo.buildRawData());
+				dispatchSignal(SIGNAL_APP_OPEN_AD_IMPRESSION, buildAdInfoData(adInfo));
 			}
 
 			@Override
 			public void onAdClicked(AdmobAdInfo adInfo) {
-				emitSignal(SIGNAL_APP_OPEN_AD_CLICKED, adInfo.buildRawData());
+				dispatchSignal(SIGNAL_APP_OPEN_AD_CLICKED, buildAdInfoData(adInfo));
 			}
 
 			@Override
 			public void onAdClosed(AdmobAdInfo adInfo) {
-				emitSignal(SIGNAL_APP_OPEN_AD_DISMISSED_FULL_SCREEN_CONTENT, adInfo.buildRawData());
+				dispatchSignal(SIGNAL_APP_OPEN_AD_DISMISSED_FULL_SCREEN_CONTENT, buildAdInfoData(adInfo));
+			}
+		});
+		adViewLifecycleObserver = new DefaultLifecycleObserver() {
+			@Override
+			public void onStart(@NonNull LifecycleOwner owner) {
+				AdmobLog.d(LOG_TAG, "App is in the foreground. Resuming ad views.");
+				for (Banner banner : bannerAds.values()) {
+					banner.resume();
+				}
+				for (Native ad : nativeAds.values()) {
+					ad.resume();
+				}
+			}
+
+			@Override
+			public void onStop(@NonNull LifecycleOwner owner) {
+				AdmobLog.d(LOG_TAG, "App is in the background. Pausing ad views.");
+				for (Banner banner : bannerAds.values()) {
+					banner.pause();
+				}
+				for (Native ad : nativeAds.values()) {
+					ad.pause();
+				}
+			}
+		};
+		Lifecycle processLifecycle = ProcessLifecycleOwner.get().getLifecycle();
+		processLifecycle.addObserver(appOpenAdManager);
+		processLifecycle.addObserver(retryScheduler);
+		processLifecycle.addObserver(adViewLifecycleObserver);
+
+		adInventory.setListener(new AdInventory.Listener() {
+			@Override
+			public void onAdExpiring(AdFormat format, String adId) {
+				if (format == AdFormat.APP_OPEN) {
+					appOpenAdManager.refresh();
+				} else {
+					FullScreenAd ad = getFullScreenAds(format).get(adId);
+					if (ad != null) {
+						AdmobLog.d(LOG_TAG, "Refreshing %s before it expires", adId);
+						ad.refresh();
+					}
+				}
+			}
+
+			@Override
+			public void onAdExpired(AdFormat format, String adId) {
+				if (format == AdFormat.APP_OPEN) {
+					appOpenAdManager.expire();
+				} else {
+					FullScreenAd ad = getFullScreenAds(format).get(adId);
+					if (ad == null) {
+						return;
+					}
+					if (ad.getAdInfo().isPooled()) {
+						releaseIfPooled(format, ad.getAdInfo());
+					} else {
+						ad.expire();
+					}
+				}
 			}
 		});
-		ProcessLifecycleOwner.get().getLifecycle().addObserver(appOpenAdManager);
 
 		activity.getWindow().setSoftInputMode(WindowManager.LayoutParams.SOFT_INPUT_ADJUST_NOTHING);
 		this.layout = new FrameLayout(activity); // create and add a new layout to Godot
+		this.layout.addOnLayoutChangeListener((view, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBot) -> {
+			int oldWidth = oldRight - oldLeft;
+			if (oldWidth > 0 && right - left != oldWidth) {
+				// Resize outside of the layout pass; pooled views of the new size are reused
+				mainHandler.post(() -> {
+					for (Banner banner : bannerAds.values()) {
+						banner.onContainerWidthChanged();
+					}
+				});
+			}
+		});
 		return layout;
 	}
 
+	@Override
+	public void onMainDestroy() {
+		// The process lifecycle outlives the activity, so its observers must not keep this plugin alive
+		Lifecycle processLifecycle = ProcessLifecycleOwner.get().getLifecycle();
+		processLifecycle.removeObserver(appOpenAdManager);
+		processLifecycle.removeObserver(retryScheduler);
+		processLifecycle.removeObserver(adViewLifecycleObserver);
+		mainHandler.removeCallbacks(metricsReportTask);
+		bannerViewPool.clear();
+		super.onMainDestroy();
+	}
+
 	/*** UNSUPPORTED METHODS ***/
 
 	@UsedByGodot
 	public void set_app_pause_on_background(boolean value) {
-		Log.w(LOG_TAG, "set_app_pause_on_background() not supported on Android");
+		AdmobLog.w(LOG_TAG, "set_app_pause_on_background() not supported on Android");
 	}
 
 	@UsedByGodot
 	public void request_tracking_authorization() {
-		Log.w(LOG_TAG, "request_tracking_authorization() not supported on Android");
+		AdmobLog.w(LOG_TAG, "request_tracking_authorization() not supported on Android");
 	}
 }
@@ -7,7 +7,6 @@ package org.godotengine.plugin.admob;
 import android.app.Activity;
 import android.os.Handler;
 import android.os.Looper;
-import android.util.Log;
 
 import androidx.annotation.NonNull;
 
@@ -22,8 +21,6 @@ import com.google.android.gms.ads.ResponseInfo;
 import com.google.android.gms.ads.appopen.AppOpenAd;
 import com.google.android.gms.ads.appopen.AppOpenAd.AppOpenAdLoadCallback;
 
-import java.util.Date;
-
 import org.godotengine.plugin.admob.model.AdmobAdInfo;
 import org.godotengine.plugin.admob.model.LoadAdRequest;
 
@@ -48,103 +45,132 @@ interface AppOpenListener {
 public class AppOpenAdManager implements DefaultLifecycleObserver {
 	private static final String LOG_TAG = AdmobPlugin.LOG_TAG + "::" + AppOpenAdManager.class.getSimpleName();
 
-	private static final int AD_LIFETIME_HOURS = 4;
-	private static final long ONE_HOUR_IN_MILLISECONDS = 3600000L;
-
 	public boolean autoShowOnResume;
 	public boolean isLoadingAd;
 	public boolean isShowingAd;
 
 	private Activity activity;
 	private AppOpenListener listener;
+	private final AdInventory inventory;
 
 	private AdmobAdInfo adInfo;
 	private AppOpenAd appOpenAd;
-	private long loadTime;
 
 	public AppOpenAdManager(Activity activity, AppOpenListener listener) {
+		this(activity, new AdInventory(), listener);
+	}
+
+	AppOpenAdManager(Activity activity, AdInventory inventory, AppOpenListener listener) {
 		this.activity = activity;
 		this.listener = listener;
+		this.inventory = inventory;
 		this.appOpenAd = null;
 		this.autoShowOnResume = false;
 		this.isLoadingAd = false;
 		this.isShowingAd = false;
-		this.loadTime = 0L;
 	}
 
 	public void loadAd(LoadAdRequest loadAdRequest) {
 		this.adInfo = new AdmobAdInfo(loadAdRequest.getAdUnitId(), loadAdRequest);
 		if (isLoadingAd) {
-			Log.e(LOG_TAG, "Cannot load app open ad: loading already in progress");
+			AdmobLog.e(LOG_TAG, "Cannot load app open ad: loading already in progress");
 		} else if (isAdAvailable()) {
-			Log.e(LOG_TAG, "Cannot load app open ad: already loaded");
+			AdmobLog.e(LOG_TAG, "Cannot load app open ad: already loaded");
 			isLoadingAd = false;
 		} else if (this.activity == null) {
-			Log.e(LOG_TAG, "Cannot load app open ad: activity is null");
+			AdmobLog.e(LOG_TAG, "Cannot load app open ad: activity is null");
 			isLoadingAd = false;
 		} else if (this.activity.isFinishing()) {
-			Log.e(LOG_TAG, "Cannot load app open ad: activity is finishing");
+			AdmobLog.e(LOG_TAG, "Cannot load app open ad: activity is finishing");
 			isLoadingAd = false;
 		} else {
-			isLoadingAd = true;
-			String adUnitId = loadAdRequest.getAdUnitId();
-			Log.d(LOG_TAG, "Loading app open ad: " + adUnitId);
-			this.activity.runOnUiThread(() -> {
-				AdRequest request = loadAdRequest.createAdRequest();
-				AppOpenAd.load(AppOpenAdManager.this.activity, adUnitId, request, new AppOpenAdLoadCallback() {
-					@Override
-					public void onAdLoaded(@NonNull AppOpenAd ad) {
-						Log.d(LOG_TAG, "App open ad loaded.");
-						appOpenAd = ad;
-						isLoadingAd = false;
-						loadTime = (new Date()).getTime();
-						AppOpenAdManager.this.listener.onAdLoaded(AppOpenAdManager.this.adInfo, ad.getResponseInfo());
-					}
+			requestAd(loadAdRequest);
+		}
+	}
 
-					@Override
-					public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
-						Log.e(LOG_TAG, "App open ad failed to load: " + loadAdError.getMessage());
-						isLoadingAd = false;
-						AppOpenAdManager.this.listener.onAdFailedToLoad(AppOpenAdManager.this.adInfo, loadAdError);
-					}
-				});
-			});
+	/**
+	 * Replaces the loaded app open ad with a fresh one before it expires. The current ad remains available until the
+	 * new one has loaded.
+	 */
+	void refresh() {
+		if (isLoadingAd || isShowingAd || adInfo == null || activity == null || activity.isFinishing()) {
+			AdmobLog.d(LOG_TAG, "Skipping app open ad refresh");
+		} else {
+			requestAd(adInfo.getLoadAdRequest());
 		}
 	}
 
+	/**
+	 * Drops the loaded app open ad after it has expired.
+	 */
+	void expire() {
+		AdmobLog.d(LOG_TAG, "App open ad expired.");
+		appOpenAd = null;
+	}
+
+	private void requestAd(LoadAdRequest loadAdRequest) {
+		isLoadingAd = true;
+		String adUnitId = loadAdRequest.getAdUnitId();
+		AdmobLog.d(LOG_TAG, "Loading app open ad: %s", adUnitId);
+		this.activity.runOnUiThread(() -> {
+			AdRequest request = loadAdRequest.createAdRequest();
+			final long loadStartedAt = AdMetrics.onLoadStarted(AdFormat.APP_OPEN, adUnitId);
+			AppOpenAd.load(AppOpenAdManager.this.activity, adUnitId, request, new AppOpenAdLoadCallback() {
+				@Override
+				public void onAdLoaded(@NonNull AppOpenAd ad) {
+					AdmobLog.d(LOG_TAG, "App open ad loaded.");
+					AdMetrics.onLoadSucceeded(AdFormat.APP_OPEN, adUnitId, loadStartedAt);
+					appOpenAd = ad;
+					isLoadingAd = false;
+					inventory.recordLoad(AdFormat.APP_OPEN, AppOpenAdManager.this.adInfo.getAdId());
+					AppOpenAdManager.this.listener.onAdLoaded(AppOpenAdManager.this.adInfo, ad.getResponseInfo());
+				}
+
+				@Override
+				public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
+					AdmobLog.e(LOG_TAG, "App open ad failed to load: %s", loadAdError.getMessage());
+					AdMetrics.onLoadFailed(AdFormat.APP_OPEN, adUnitId, loadStartedAt, loadAdError.getCode());
+					isLoadingAd = false;
+					AppOpenAdManager.this.listener.onAdFailedToLoad(AppOpenAdManager.this.adInfo, loadAdError);
+				}
+			});
+		});
+	}
+
 	public void showAd() {
 		if (isShowingAd) {
-			Log.d(LOG_TAG, "Cannot show app open ad: The app open ad is already showing.");
+			AdmobLog.d(LOG_TAG, "Cannot show app open ad: The app open ad is already showing.");
 		} else if (!isAdAvailable()) {
-			Log.d(LOG_TAG, "Cannot show app open ad: The app open ad is not ready yet.");
+			AdmobLog.d(LOG_TAG, "Cannot show app open ad: The app open ad is not ready yet.");
 		} else {
 			this.activity.runOnUiThread(() -> {
 				appOpenAd.setFullScreenContentCallback(new FullScreenContentCallback() {
 					@Override
 					public void onAdDismissedFullScreenContent() {
-						Log.d(LOG_TAG, "App open ad dismissed fullscreen content.");
+						AdmobLog.d(LOG_TAG, "App open ad dismissed fullscreen content.");
 						AppOpenAdManager.this.listener.onAdClosed(AppOpenAdManager.this.adInfo);
 						AppOpenAdManager.this.isShowingAd = false;
 					}
 
 					@Override
 					public void onAdFailedToShowFullScreenContent(@NonNull AdError adError) {
-						Log.e(LOG_TAG, "App open ad failed to show fullscreen content: " + adError.getMessage());
+						AdmobLog.e(LOG_TAG, "App open ad failed to show fullscreen content: %s", adError.getMessage());
 						AppOpenAdManager.this.listener.onAdFailedToShow(AppOpenAdManager.this.adInfo, adError);
 						AppOpenAdManager.this.appOpenAd = null;
 					}
 
 					@Override
 					public void onAdShowedFullScreenContent() {
-						Log.d(LOG_TAG, "App open ad showed fullscreen content.");
+						AdmobLog.d(LOG_TAG, "App open ad showed fullscreen content.");
 						AppOpenAdManager.this.listener.onAdShowed(AppOpenAdManager.this.adInfo);
 						AppOpenAdManager.this.appOpenAd = null;
+						inventory.remove(AppOpenAdManager.this.adInfo.getAdId());
 						AppOpenAdManager.this.isShowingAd = true;
 					}
 
 					@Override
 					public void onAdImpression() {
-						Log.d(LOG_TAG, "App open ad recorded an impression.");
+						AdmobLog.d(LOG_TAG, "App open ad recorded an impression.");
 						AppOpenAdManager.this.listener.onAdImpression(AppOpenAdManager.this.adInfo);
 						AppOpenAdManager.this.appOpenAd = null;
 						AppOpenAdManager.this.isShowingAd = true;
@@ -152,35 +178,30 @@ public class AppOpenAdManager implements DefaultLifecycleObserver {
 
 					@Override
 					public void onAdClicked() {
-						Log.d(LOG_TAG, "App open ad was clicked.");
+						AdmobLog.d(LOG_TAG, "App open ad was clicked.");
 						AppOpenAdManager.this.listener.onAdClicked(AppOpenAdManager.this.adInfo);
 					}
 				});
 
 				if (this.activity == null || this.activity.isFinishing()) {
-					Log.w(LOG_TAG, "Cannot show ad: invalid activity");
+					AdmobLog.w(LOG_TAG, "Cannot show ad: invalid activity");
 				} else {
-					Log.d(LOG_TAG, "Showing app open ad.");
+					AdmobLog.d(LOG_TAG, "Showing app open ad.");
 					appOpenAd.show(this.activity);
 				}
 			});
 		}
 	}
 
-	private boolean wasLoadTimeLessThanNHoursAgo(long numHours) {
-		long dateDifference = (new Date()).getTime() - loadTime;
-		return (dateDifference < (ONE_HOUR_IN_MILLISECONDS * numHours));
-	}
-
 	public boolean isAdAvailable() {
-		return appOpenAd != null && wasLoadTimeLessThanNHoursAgo(AD_LIFETIME_HOURS);
+		return appOpenAd != null && adInfo != null && inventory.isAvailable(adInfo.getAdId());
 	}
 
 	@Override
 	public void onStart(@NonNull LifecycleOwner owner) {
-		Log.i(LOG_TAG, "App moved to foreground");
+		AdmobLog.i(LOG_TAG, "App moved to foreground");
 		if (autoShowOnResume) {
-			Log.d(LOG_TAG, "App has resumed and autoShowOnResume is true. Attempting to show app open ad.");
+			AdmobLog.d(LOG_TAG, "App has resumed and autoShowOnResume is true. Attempting to show app open ad.");
 
 			// Wait for app to be moved to foreground
 			new Handler(Looper.getMainLooper()).postDelayed(new Runnable() {
@@ -190,12 +211,12 @@ public class AppOpenAdManager implements DefaultLifecycleObserver {
 				}
 			}, 100); // Delay in milliseconds
 		} else {
-			Log.d(LOG_TAG, "App has resumed, but autoShowOnResume is false. Not showing app open ad.");
+			AdmobLog.d(LOG_TAG, "App has resumed, but autoShowOnResume is false. Not showing app open ad.");
 		}
 	}
 
 	@Override
 	public void onStop(@NonNull LifecycleOwner owner) {
-		Log.i(LOG_TAG, "App moved to background");
+		AdmobLog.i(LOG_TAG, "App moved to background");
 	}
 }
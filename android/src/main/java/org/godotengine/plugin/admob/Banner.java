@@ -6,8 +6,9 @@ package org.godotengine.plugin.admob;
 
 import android.app.Activity;
 import android.graphics.Color;
+import android.os.SystemClock;
 import android.util.DisplayMetrics;
-import android.util.Log;
+import android.view.Choreographer;
 import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
@@ -79,58 +80,82 @@ public class Banner {
 	private AdmobAdInfo adInfo;
 	private final Activity activity;
 	private final FrameLayout layout;
+	private final BannerViewPool<AdView> viewPool;
 	private final BannerListener bannerListener;
 	private final String adId;
 	private final LoadAdRequest loadRequest;
 	private final BannerSize bannerSize;
 	private AdPosition adPosition;
 	private AdView adView; // Banner view
+	private String adViewKey;
+	private boolean isAdViewLoaded;
 	private FrameLayout.LayoutParams adParams;
 	private AdListener adListener;
 	private boolean anchorToSafeArea;
 
+	// Hidden refresh suppression; accessed on the main thread only
+	private final boolean suppressHiddenRefresh;
+	private long loadedAt;	// elapsed realtime of the last load or refresh of the creative
+	private long loadStartedAt = AdMetrics.NOT_STARTED;	// start of the pending request made by the plugin
+	private boolean isOffScreen;
+
+	// Most recently requested position and clip rectangle of a moved banner; guarded by layoutLock
+	private final Object layoutLock = new Object();
+	private int lastMoveX = Integer.MIN_VALUE;
+	private int lastMoveY = Integer.MIN_VALUE;
+	private boolean hasClipRect;
+	private int clipLeft;
+	private int clipTop;
+	private int clipWidth;
+	private int clipHeight;
+	private boolean isLayoutPending;
+	private final Choreographer.FrameCallback layoutFrameCallback = frameTimeNanos -> applyLayout();
+
+	// Portion of the banner's area that must be clipped for the banner to be hidden; 0 disables clipping
+	private volatile float clipThreshold;
+	private boolean isClippedOut;	// main thread only
+
 	private boolean firstLoad;
+	private boolean isDisposed;
 
 
-	Banner(AdmobAdInfo adInfo, final Activity activity, final FrameLayout layout, final BannerListener listener) {
+	Banner(AdmobAdInfo adInfo, final Activity activity, final FrameLayout layout,
+			final BannerViewPool<AdView> viewPool, final BannerListener listener) {
 		this.adInfo = adInfo;
 		this.adId = adInfo.getAdId();
 		this.loadRequest = adInfo.getLoadAdRequest();
 
 		this.activity = activity;
 		this.layout = layout;
+		this.viewPool = viewPool;
 		this.bannerListener = listener;
 
 		if (this.loadRequest.hasAdSize()) {
 			this.bannerSize = BannerSize.valueOf(this.loadRequest.getAdSize());
 		} else {
 			this.bannerSize = BannerSize.BANNER;
-			Log.e(LOG_TAG, "Error: Banner size is required! Defaulting to BANNER.");
+			AdmobLog.e(LOG_TAG, "Error: Banner size is required! Defaulting to BANNER.");
 		}
 
 		this.adPosition = this.loadRequest.hasAdPosition() ? AdPosition.valueOf(this.loadRequest.getAdPosition())
 				: AdPosition.TOP;
 		this.anchorToSafeArea = this.loadRequest.doAnchorToSafeArea();
+		this.suppressHiddenRefresh = this.loadRequest.doSuppressHiddenRefresh();
 
 		firstLoad = true;
 
 		this.adListener = new AdListener() {
 			@Override
 			public void onAdLoaded() {
-				Banner.this.adInfo.setMeasuredWidth(adView.getAdSize().getWidth());
-				Banner.this.adInfo.setMeasuredHeight(adView.getAdSize().getHeight());
-				Banner.this.adInfo.setIsCollapsible(Banner.this.adView.isCollapsible());
-
-				if (Banner.this.firstLoad) {
-					Banner.this.firstLoad = false;
-					listener.onAdLoaded(Banner.this.adInfo, Banner.this.adView.getResponseInfo());
-				} else {
-					listener.onAdRefreshed(Banner.this.adInfo, Banner.this.adView.getResponseInfo());
-				}
+				AdMetrics.onLoadSucceeded(AdFormat.BANNER, loadRequest.getAdUnitId(), loadStartedAt);
+				loadStartedAt = AdMetrics.NOT_STARTED;
+				onBannerLoaded();
 			}
 
 			@Override
 			public void onAdFailedToLoad(@NonNull LoadAdError error) {
+				AdMetrics.onLoadFailed(AdFormat.BANNER, loadRequest.getAdUnitId(), loadStartedAt, error.getCode());
+				loadStartedAt = AdMetrics.NOT_STARTED;
 				listener.onAdFailedToLoad(Banner.this.adInfo, error);
 			}
 
@@ -153,79 +178,242 @@ public class Banner {
 
 		this.adView = null;
 		this.adParams = null;
+
+		LiveAdObjects.onAdCreated(AdFormat.BANNER);
 	}
 
 	void load() {
 		activity.runOnUiThread(() -> {
-			addBanner(getGravity(adPosition), getAdSize(bannerSize));
+			if (!isDisposed) {
+				addBanner(getGravity(adPosition), getAdSize(bannerSize));
+			}
+		});
+	}
+
+	/**
+	 * Requests an ad again for the existing ad view after its first load has failed. Once the banner has loaded, the
+	 * SDK refreshes it on its own and failed refreshes are not retried.
+	 */
+	void retryLoad() {
+		activity.runOnUiThread(() -> {
+			if (adView != null && firstLoad) {
+				requestAd();
+			}
 		});
 	}
 
+	boolean hasLoaded() {
+		return !firstLoad;
+	}
+
 	void show() {
 		if (adView == null) {
-			Log.w(LOG_TAG, "show(): Warning: banner ad not loaded.");
+			AdmobLog.w(LOG_TAG, "show(): Warning: banner ad not loaded.");
 		} else if (adView.getVisibility() == View.VISIBLE) {
-			Log.w(LOG_TAG, "show(): Warning: banner ad already visible.");
+			AdmobLog.w(LOG_TAG, "show(): Warning: banner ad already visible.");
 		} else {
-			Log.d(LOG_TAG, String.format("show(): %s", this.adId));
+			AdmobLog.d(LOG_TAG, "show(): %s", this.adId);
 			activity.runOnUiThread(() -> {
-				adView.setVisibility(View.VISIBLE);
-				adView.resume();
+				final AdView view = this.adView;
+				if (view == null) {
+					return;	// removed in the meantime
+				}
+
+				view.setVisibility(isClippedOut ? View.INVISIBLE : View.VISIBLE);
+				if (!isClippedOut && (!suppressHiddenRefresh || !isOffScreen)) {
+					view.resume();
+					refreshIfStale();
+				}
 
 				// Add to layout and load ad
-				layout.addView(adView, adParams);
+				if (view.getParent() != layout) {
+					layout.addView(view, adParams);
+				}
 
 				if (anchorToSafeArea && adPosition != AdPosition.CUSTOM) {
-					ViewCompat.requestApplyInsets(adView);
+					ViewCompat.requestApplyInsets(view);
 
 					// Force manual application using parent's insets
 					WindowInsetsCompat rootInsets = ViewCompat.getRootWindowInsets(layout);
 					if (rootInsets != null) {
-						Log.d(LOG_TAG, "Banner.show: Manually applying insets from parent layout.");
-						applyInsets(adView, rootInsets);
+						AdmobLog.d(LOG_TAG, "Banner.show: Manually applying insets from parent layout.");
+						applyInsets(view, rootInsets);
 					} else {
-						Log.w(LOG_TAG,
+						AdmobLog.w(LOG_TAG,
 								"Banner.show: Parent insets are null, relying on listener (which might not fire).");
 					}
 				}
 
-				adView.post(() -> {
+				view.post(() -> {
 					// Convert Pixels to DP so Godot receives logical units
 					DisplayMetrics outMetrics = activity.getApplicationContext().getResources().getDisplayMetrics();
 					float density = outMetrics.density;
 
-					int widthDp = Math.round(adView.getMeasuredWidth() / density);
-					int heightDp = Math.round(adView.getMeasuredHeight() / density);
+					int widthDp = Math.round(view.getMeasuredWidth() / density);
+					int heightDp = Math.round(view.getMeasuredHeight() / density);
 
 					Banner.this.adInfo.setMeasuredWidth(widthDp);
 					Banner.this.adInfo.setMeasuredHeight(heightDp);
 
-					Log.d(LOG_TAG, String.format("Actual size (px): [%d,%d] -> (dp): [%d, %d]",
-							adView.getMeasuredWidth(), adView.getMeasuredHeight(), widthDp, heightDp));
+					AdmobLog.d(LOG_TAG, "Actual size (px): [%d,%d] -> (dp): [%d, %d]",
+							view.getMeasuredWidth(), view.getMeasuredHeight(), widthDp, heightDp);
 
+					forgetLastMove();
 					Banner.this.bannerListener.onAdSizeMeasured(Banner.this.adInfo);
 				});
 			});
 		}
 	}
 
+	/**
+	 * Switches the banner to the ad size that currently applies to it. Nothing is reloaded if the size has not
+	 * changed, and a pooled view of the new size is reused if there is one; only otherwise is a new ad requested.
+	 */
 	void resize() {
 		if (layout == null || adView == null || adParams == null) {
-			Log.w(LOG_TAG, "resize(): Warning: banner ad not loaded.");
+			AdmobLog.w(LOG_TAG, "resize(): Warning: banner ad not loaded.");
 		} else {
-			Log.d(LOG_TAG, String.format("resize(): %s", this.adId));
-
 			activity.runOnUiThread(() -> {
-				layout.removeView(adView); // Remove the old view
+				if (adView == null) {
+					return;	// removed in the meantime
+				}
 
-				addBanner(adParams.gravity, getAdSize(bannerSize));
+				AdSize size = getAdSize(bannerSize);
+				if (createAdViewKey(size).equals(adViewKey)) {
+					AdmobLog.d(LOG_TAG, "resize(): %s size is unchanged", this.adId);
+					return;
+				}
 
-				// Add to layout and load ad
+				AdmobLog.d(LOG_TAG, "resize(): %s", this.adId);
+				boolean wasVisible = adView.getVisibility() == View.VISIBLE;
+				int gravity = adParams.gravity;
+
+				releaseAdView(true); // Remove the old view
+
+				addBanner(gravity, size);
+
+				// Add to layout
 				layout.addView(adView, adParams);
+				if (wasVisible) {
+					adView.setVisibility(View.VISIBLE);
+					if (!suppressHiddenRefresh || !isOffScreen) {
+						adView.resume();
+					} else {
+						adView.pause();	// a new ad view starts out running
+					}
+				}
 			});
 		}
 	}
 
+	/**
+	 * Called when the width of the banner's container has changed (e.g. after a rotation). Anchored adaptive banners
+	 * that span the screen width are resized to the new width.
+	 */
+	void onContainerWidthChanged() {
+		if (bannerSize == BannerSize.ADAPTIVE && loadRequest.getAdaptiveWidth() == -1 && adView != null) {
+			resize();
+		}
+	}
+
+	/**
+	 * Handles a loaded or refreshed creative, as well as a pooled ad view that already holds one.
+	 */
+	private void onBannerLoaded() {
+		isAdViewLoaded = true;
+		adInfo.setMeasuredWidth(adView.getAdSize().getWidth());
+		adInfo.setMeasuredHeight(adView.getAdSize().getHeight());
+		adInfo.setIsCollapsible(adView.isCollapsible());
+		loadedAt = SystemClock.elapsedRealtime();
+		forgetLastMove();
+
+		if (firstLoad) {
+			firstLoad = false;
+			bannerListener.onAdLoaded(adInfo, adView.getResponseInfo());
+		} else if (suppressHiddenRefresh && !isOnScreen()) {
+			AdmobLog.d(LOG_TAG, "Suppressed refresh signal of hidden banner %s", adId);
+		} else {
+			bannerListener.onAdRefreshed(adInfo, adView.getResponseInfo());
+		}
+	}
+
+	private void requestAd() {
+		loadStartedAt = AdMetrics.onLoadStarted(AdFormat.BANNER, loadRequest.getAdUnitId());
+		adView.loadAd(loadRequest.createAdRequest());
+	}
+
+	private boolean isOnScreen() {
+		return adView != null && adView.getVisibility() == View.VISIBLE && !isOffScreen;
+	}
+
+	/**
+	 * Requests a catch-up refresh if refreshes of the banner are suppressed while it is hidden and its creative has
+	 * become older than the configured age. Must be called on the main thread.
+	 */
+	private void refreshIfStale() {
+		if (suppressHiddenRefresh && isAdViewLoaded && adView != null
+				&& SystemClock.elapsedRealtime() - loadedAt >= loadRequest.getCatchUpRefreshAgeMillis()) {
+			AdmobLog.d(LOG_TAG, "Refreshing stale banner %s on re-show", adId);
+			requestAd();
+		}
+	}
+
+	/**
+	 * Pauses or resumes the ad view when a moved banner leaves or re-enters the visible area of the layout. Only used
+	 * when refreshes of hidden banners are suppressed. Must be called on the main thread.
+	 */
+	private void updateOffScreen() {
+		int width = adView.getWidth();
+		int height = adView.getHeight();
+		boolean offScreen = width > 0 && height > 0 && layout.getWidth() > 0 && layout.getHeight() > 0
+				&& (adParams.leftMargin >= layout.getWidth() || adParams.topMargin >= layout.getHeight()
+				|| adParams.leftMargin + width <= 0 || adParams.topMargin + height <= 0);
+		if (offScreen == isOffScreen) {
+			return;
+		}
+
+		isOffScreen = offScreen;
+		if (adView.getVisibility() == View.VISIBLE) {
+			if (offScreen) {
+				AdmobLog.d(LOG_TAG, "Banner %s moved off-screen. Pausing.", adId);
+				adView.pause();
+			} else {
+				AdmobLog.d(LOG_TAG, "Banner %s moved on-screen. Resuming.", adId);
+				adView.resume();
+				refreshIfStale();
+			}
+		}
+	}
+
+	private String createAdViewKey(AdSize size) {
+		return BannerViewPool.createKey(loadRequest.getAdUnitId(), size.getWidth(), size.getHeight());
+	}
+
+	/**
+	 * Detaches the ad view from the banner. If the view may be reused and holds a loaded ad, it is pooled for reuse;
+	 * otherwise it is destroyed. Must be called on the main thread.
+	 */
+	private void releaseAdView(boolean isReusable) {
+		if (adView != null) {
+			layout.removeView(adView);
+			ViewCompat.setOnApplyWindowInsetsListener(adView, null);
+			adView.setAdListener(new AdListener() {});
+			adView.setVisibility(View.GONE);
+			adView.pause();
+
+			if (isReusable && isAdViewLoaded) {
+				viewPool.release(adViewKey, adView);
+			} else {
+				adView.destroy();
+				LiveAdObjects.onBannerViewDestroyed();
+			}
+
+			adView = null;
+			adViewKey = null;
+			isAdViewLoaded = false;
+		}
+	}
+
 	private void addBanner(final int gravity, final AdSize size) {
 		adParams = new FrameLayout.LayoutParams(
 			FrameLayout.LayoutParams.WRAP_CONTENT,
@@ -242,11 +430,21 @@ public class Banner {
 			adParams.gravity = gravity;
 		}
 
-		// Create new view & set old params
-		adView = new AdView(activity);
-		adView.setAdUnitId(loadRequest.getAdUnitId());
-		adView.setBackgroundColor(Color.TRANSPARENT);
-		adView.setAdSize(size);
+		adViewKey = createAdViewKey(size);
+		AdView pooledView = viewPool.acquire(adViewKey);
+		if (pooledView == null) {
+			// Create new view & set old params
+			adView = new AdView(activity);
+			LiveAdObjects.onBannerViewCreated();
+			adView.setAdUnitId(loadRequest.getAdUnitId());
+			adView.setBackgroundColor(Color.TRANSPARENT);
+			adView.setAdSize(size);
+			isAdViewLoaded = false;
+		} else {
+			// Reuse a view that already holds an ad of this unit and size
+			adView = pooledView;
+			isAdViewLoaded = true;
+		}
 		adView.setAdListener(adListener);
 		adView.setVisibility(View.GONE);
 		adView.pause();
@@ -259,8 +457,12 @@ public class Banner {
 			});
 		}
 
-		// Request
-		adView.loadAd(loadRequest.createAdRequest());
+		if (isAdViewLoaded) {
+			onBannerLoaded();
+		} else {
+			// Request
+			requestAd();
+		}
 	}
 
 	/**
@@ -283,8 +485,8 @@ public class Banner {
 		leftInset = Math.max(leftInset, cutoutInsets.left);
 		rightInset = Math.max(rightInset, cutoutInsets.right);
 
-		Log.d(LOG_TAG, String.format("Anchor to Safe Area: Insets (T, B, L, R) in Pixels: %d, %d, %d, %d",
-				topInset, bottomInset, leftInset, rightInset));
+		AdmobLog.d(LOG_TAG, "Anchor to Safe Area: Insets (T, B, L, R) in Pixels: %d, %d, %d, %d",
+				topInset, bottomInset, leftInset, rightInset);
 
 		FrameLayout.LayoutParams params = (FrameLayout.LayoutParams) view.getLayoutParams();
 		// Reset margins
@@ -326,43 +528,238 @@ public class Banner {
 		view.setLayoutParams(params);
 	}
 
+	/**
+	 * Requests the banner to be moved to the given position. Callers may call it every frame: a move to the position
+	 * that was last requested is ignored, and the latest requested position is applied at most once per display frame
+	 * on the main thread.
+	 */
 	public void move(final float x, final float y) {
-		this.adParams.leftMargin = (int) x;
-		this.adParams.topMargin = (int) y;
-		this.adParams.height = ViewGroup.LayoutParams.WRAP_CONTENT;
-		if (this.bannerSize == Banner.BannerSize.INLINE_ADAPTIVE) {
+		int xPx = (int) x;
+		int yPx = (int) y;
+		synchronized (layoutLock) {
+			if (xPx == lastMoveX && yPx == lastMoveY) {
+				return;
+			}
+
+			lastMoveX = xPx;
+			lastMoveY = yPx;
+
+			if (isLayoutPending) {
+				return;	// the pending frame callback picks up the latest position
+			}
+			isLayoutPending = true;
+		}
+
+		postLayout();
+	}
+
+	/**
+	 * Enables tracking of the banner's visibility within the clip rectangle set by {@link #updateClipRect}: the banner
+	 * hides itself while at least the given portion (0.0 to 1.0) of its area is clipped, and shows itself again once
+	 * less is clipped. A threshold of 0 disables the tracking.
+	 */
+	void setClipThreshold(float threshold) {
+		clipThreshold = Math.max(0f, Math.min(threshold, 1f));
+		requestLayout();
+	}
+
+	/**
+	 * Sets the rectangle (in pixels) outside of which the banner is considered clipped, such as the visible area of
+	 * the scroll container that holds it. Changes are applied at most once per display frame.
+	 */
+	void updateClipRect(int left, int top, int width, int height) {
+		synchronized (layoutLock) {
+			if (hasClipRect && left == clipLeft && top == clipTop && width == clipWidth && height == clipHeight) {
+				return;
+			}
+
+			hasClipRect = true;
+			clipLeft = left;
+			clipTop = top;
+			clipWidth = width;
+			clipHeight = height;
+
+			if (isLayoutPending) {
+				return;
+			}
+			isLayoutPending = true;
+		}
+
+		postLayout();
+	}
+
+	/**
+	 * Returns the portion (0.0 to 1.0) of the banner's area that lies outside of the clip rectangle, or 0 if the size
+	 * of the banner is not known.
+	 */
+	static float getClippedRatio(int left, int top, int width, int height, int clipLeft, int clipTop, int clipWidth,
+			int clipHeight) {
+		if (width <= 0 || height <= 0) {
+			return 0f;
+		}
+
+		long visibleWidth = Math.max(0, Math.min(left + width, clipLeft + clipWidth) - Math.max(left, clipLeft));
+		long visibleHeight = Math.max(0, Math.min(top + height, clipTop + clipHeight) - Math.max(top, clipTop));
+		return 1f - (float) (visibleWidth * visibleHeight) / ((long) width * height);
+	}
+
+	/**
+	 * Makes the next move() apply even if its position has not changed, after the size of the banner has changed.
+	 */
+	private void forgetLastMove() {
+		synchronized (layoutLock) {
+			lastMoveX = Integer.MIN_VALUE;
+			lastMoveY = Integer.MIN_VALUE;
+		}
+	}
+
+	private void requestLayout() {
+		synchronized (layoutLock) {
+			if (isLayoutPending) {
+				return;
+			}
+			isLayoutPending = true;
+		}
+
+		postLayout();
+	}
+
+	private void postLayout() {
+		activity.runOnUiThread(() -> Choreographer.getInstance().postFrameCallback(layoutFrameCallback));
+	}
+
+	private void applyLayout() {
+		int x;
+		int y;
+		boolean doClip;
+		int left;
+		int top;
+		int width;
+		int height;
+		synchronized (layoutLock) {
+			isLayoutPending = false;
+			x = lastMoveX;
+			y = lastMoveY;
+			doClip = hasClipRect;
+			left = clipLeft;
+			top = clipTop;
+			width = clipWidth;
+			height = clipHeight;
+		}
+
+		if (adView == null || adParams == null) {
+			return;	// removed in the meantime
+		}
+
+		if (x != Integer.MIN_VALUE) {
+			applyPosition(x, y);
+		}
+
+		float threshold = clipThreshold;
+		if (threshold > 0f && doClip) {
+			setClippedOut(getClippedRatio(adParams.leftMargin, adParams.topMargin, adView.getWidth(),
+					adView.getHeight(), left, top, width, height) >= threshold);
+		} else {
+			setClippedOut(false);
+		}
+	}
+
+	private void applyPosition(int x, int y) {
+		adParams.leftMargin = x;
+		adParams.topMargin = y;
+		adParams.height = ViewGroup.LayoutParams.WRAP_CONTENT;
+		if (bannerSize == Banner.BannerSize.INLINE_ADAPTIVE) {
 			// adInfo holds DP, but LayoutParams needs Pixels. Convert back.
-			int measuredWidthDp = this.adInfo.getMeasuredWidth();
+			int measuredWidthDp = adInfo.getMeasuredWidth();
 			int measuredWidthPx = (int) (measuredWidthDp * activity.getResources().getDisplayMetrics().density);
 
-			this.adParams.width = measuredWidthDp > 0 ? measuredWidthPx : this.getWidthInPixels();
+			adParams.width = measuredWidthDp > 0 ? measuredWidthPx : getWidthInPixels();
 		} else {
-			this.adParams.width = ViewGroup.LayoutParams.WRAP_CONTENT;
+			adParams.width = ViewGroup.LayoutParams.WRAP_CONTENT;
+		}
+		if (adView.getParent() == layout) {
+			layout.updateViewLayout(adView, adParams);	// otherwise applied when the banner is shown
+		}
+		if (suppressHiddenRefresh && adPosition == AdPosition.CUSTOM) {
+			updateOffScreen();
 		}
-		activity.runOnUiThread(() -> {
-			layout.updateViewLayout(this.adView, this.adParams);
-		});
 	}
 
-	public void remove() {
-		if (adView == null) {
-			Log.w(LOG_TAG, "remove(): Warning: adView is null.");
+	/**
+	 * Hides a shown banner while it is clipped out, keeping it attached so that it can be shown again without a
+	 * layout pass. Must be called on the main thread.
+	 */
+	private void setClippedOut(boolean clippedOut) {
+		if (clippedOut == isClippedOut) {
+			return;
+		}
+
+		isClippedOut = clippedOut;
+		if (adView == null || adView.getParent() != layout) {
+			return;	// not shown; applied when the banner is shown
+		}
+
+		if (clippedOut) {
+			AdmobLog.d(LOG_TAG, "Banner %s clipped out. Hiding.", adId);
+			adView.setVisibility(View.INVISIBLE);
+			adView.pause();
 		} else {
-			activity.runOnUiThread(() -> {
-				layout.removeView(adView);
-			});
+			AdmobLog.d(LOG_TAG, "Banner %s no longer clipped out. Showing.", adId);
+			adView.setVisibility(View.VISIBLE);
+			if (!suppressHiddenRefresh || !isOffScreen) {
+				adView.resume();
+				refreshIfStale();
+			}
+		}
+	}
+
+	/**
+	 * Removes the banner for good: its ad view is detached from the layout and from the banner's listeners, then
+	 * destroyed. Calling it again has no effect.
+	 */
+	public void dispose() {
+		if (isDisposed) {
+			AdmobLog.w(LOG_TAG, "dispose(): Warning: banner ad already disposed.");
+		} else {
+			isDisposed = true;
+			LiveAdObjects.onAdDisposed(AdFormat.BANNER);
+			activity.runOnUiThread(() -> releaseAdView(false));
+		}
+	}
+
+	/**
+	 * Pauses the ad view while the app is in the background, stopping its refreshes and WebView timers. Must be called
+	 * on the main thread.
+	 */
+	void pause() {
+		if (adView != null) {
+			adView.pause();
+		}
+	}
+
+	/**
+	 * Resumes the ad view when the app returns to the foreground, unless the banner is hidden or off-screen. Must be
+	 * called on the main thread.
+	 */
+	void resume() {
+		if (isOnScreen()) {
+			adView.resume();
 		}
 	}
 
 	public void hide() {
-		if (adView.getVisibility() != View.GONE) {
+		if (adView == null) {
+			AdmobLog.w(LOG_TAG, "hide(): Warning: banner ad not loaded.");
+		} else if (adView.getVisibility() != View.GONE) {
 			activity.runOnUiThread(() -> {
-				adView.setVisibility(View.GONE);
-				adView.pause();
-				layout.removeView(adView);
+				if (adView != null) {
+					adView.setVisibility(View.GONE);
+					adView.pause();
+					layout.removeView(adView);
+				}
 			});
 		} else {
-			Log.e(LOG_TAG, "Error: can't hide banner ad. Ad is not visible.");
+			AdmobLog.e(LOG_TAG, "Error: can't hide banner ad. Ad is not visible.");
 		}
 	}
 
@@ -395,8 +792,8 @@ public class Banner {
 			}
 			default -> AdSize.getCurrentOrientationAnchoredAdaptiveBannerAdSize(activity, getAdWidth(activity));
 		};
-		Log.d(LOG_TAG, String.format("getAdSize('%s'): result = [width: %d; height: %d].", bannerSize.name(),
-				result.getWidth(), result.getHeight()));
+		AdmobLog.d(LOG_TAG, "getAdSize('%s'): result = [width: %d; height: %d].", bannerSize.name(),
+				result.getWidth(), result.getHeight());
 		return result;
 	}
 
@@ -414,7 +811,7 @@ public class Banner {
 			case CENTER -> Gravity.CENTER;
 			case CUSTOM -> 0;
 		};
-		Log.d(LOG_TAG, String.format("getGravity('%s'): result = %d.", position.name(), result));
+		AdmobLog.d(LOG_TAG, "getGravity('%s'): result = %d.", position.name(), result);
 		return result;
 	}
 
@@ -0,0 +1,148 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Keeps banner ad views that already hold a loaded ad after their banner has been resized, so that a banner of the
+ * same ad unit and size can reuse the view (and its ad) instead of creating a new view and issuing a new ad request.
+ * The typical case is orientation changes back and forth. Views of removed banners are destroyed rather than pooled.
+ *
+ * <p>Idle views are destroyed once more than {@code maxIdleViews} are pooled or once they have been idle for
+ * {@code idleTimeoutMillis}. The pool is only used from the main thread.
+ */
+class BannerViewPool<V> {
+	private static final String CLASS_NAME = BannerViewPool.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	static final int DEFAULT_MAX_IDLE_VIEWS = 4;
+	static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60_000L;
+
+	private static final class IdleView<V> {
+		final String key;
+		final V view;
+		final long releasedAt;
+
+		IdleView(String key, V view, long releasedAt) {
+			this.key = key;
+			this.view = view;
+			this.releasedAt = releasedAt;
+		}
+	}
+
+	private final EvictionScheduler evictionScheduler;
+	private final Consumer<V> destroyer;
+	private final int maxIdleViews;
+	private final long idleTimeoutMillis;
+
+	// Oldest first; keyed by view identity so that the same view cannot be pooled twice
+	private final Map<V, IdleView<V>> idleViews = new LinkedHashMap<>();
+
+	BannerViewPool(Handler handler, Consumer<V> destroyer) {
+		this(handler, SystemClock::elapsedRealtime, destroyer, DEFAULT_MAX_IDLE_VIEWS, DEFAULT_IDLE_TIMEOUT_MILLIS);
+	}
+
+	BannerViewPool(Handler handler, LongSupplier clock, Consumer<V> destroyer, int maxIdleViews,
+			long idleTimeoutMillis) {
+		this.evictionScheduler = new EvictionScheduler(handler, clock, this::evictExpired);
+		this.destroyer = destroyer;
+		this.maxIdleViews = maxIdleViews;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	static String createKey(String adUnitId, int widthDp, int heightDp) {
+		return String.format("%s:%dx%d", adUnitId, widthDp, heightDp);
+	}
+
+	/**
+	 * Removes and returns the most recently released view for the key, or null if there is none.
+	 */
+	V acquire(String key) {
+		IdleView<V> match = null;
+		for (IdleView<V> idleView : idleViews.values()) {
+			if (idleView.key.equals(key)) {
+				match = idleView;
+			}
+		}
+
+		if (match == null) {
+			return null;
+		}
+
+		idleViews.remove(match.view);
+		AdmobLog.d(LOG_TAG, "Reusing banner view for %s", key);
+		return match.view;
+	}
+
+	/**
+	 * Pools the view for reuse, destroying the oldest idle view if the pool is full.
+	 */
+	void release(String key, V view) {
+		if (idleViews.containsKey(view)) {
+			return;
+		}
+
+		long now = evictionScheduler.now();
+		idleViews.put(view, new IdleView<>(key, view, now));
+		AdmobLog.d(LOG_TAG, "Pooled banner view for %s (%d idle)", key, idleViews.size());
+
+		while (idleViews.size() > maxIdleViews) {
+			Iterator<IdleView<V>> iterator = idleViews.values().iterator();
+			IdleView<V> oldest = iterator.next();
+			iterator.remove();
+			destroyer.accept(oldest.view);
+		}
+
+		evictionScheduler.scheduleExpiryOf(now, idleTimeoutMillis);
+	}
+
+	int getIdleCount() {
+		return idleViews.size();
+	}
+
+	/**
+	 * Destroys all idle views that have been pooled for longer than the idle timeout.
+	 */
+	void evictExpired() {
+		long now = evictionScheduler.now();
+		List<V> expired = new ArrayList<>();
+		Iterator<IdleView<V>> iterator = idleViews.values().iterator();
+		while (iterator.hasNext()) {
+			IdleView<V> idleView = iterator.next();
+			if (now - idleView.releasedAt >= idleTimeoutMillis) {
+				iterator.remove();
+				expired.add(idleView.view);
+			}
+		}
+
+		for (V view : expired) {
+			destroyer.accept(view);
+		}
+
+		if (!idleViews.isEmpty()) {
+			evictionScheduler.scheduleExpiryOf(idleViews.values().iterator().next().releasedAt, idleTimeoutMillis);
+		}
+	}
+
+	void clear() {
+		evictionScheduler.cancel();
+		List<V> views = new ArrayList<>(idleViews.keySet());
+		idleViews.clear();
+		for (V view : views) {
+			destroyer.accept(view);
+		}
+	}
+}
@@ -0,0 +1,209 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.app.Activity;
+
+import com.google.android.ump.ConsentForm;
+import com.google.android.ump.ConsentInformation;
+import com.google.android.ump.ConsentRequestParameters;
+import com.google.android.ump.FormError;
+import com.google.android.ump.UserMessagingPlatform;
+
+import org.godotengine.godot.Dictionary;
+
+
+/**
+ * Wraps the User Messaging Platform for the plugin (the Android counterpart of the iOS {@code ConsentManager}).
+ *
+ * <p>The last known consent status, {@link ConsentInformation#canRequestAds()} result and form availability are
+ * cached and refreshed whenever the UMP SDK may have changed them (consent information updates, form dismissals and
+ * resets), so that reading them costs no SDK call. A loaded consent form is kept until it is shown or the consent
+ * information is updated, so loading it again before then completes immediately.
+ */
+class ConsentManager {
+	private static final String CLASS_NAME = ConsentManager.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	static final String STATUS_PROPERTY = "status";
+	static final String CAN_REQUEST_ADS_PROPERTY = "can_request_ads";
+	static final String FORM_SHOWN_PROPERTY = "form_shown";
+	static final String ERROR_PROPERTY = "error";
+
+	interface EnsureConsentListener {
+		/**
+		 * Called once the consent flow has completed with the data built by {@link #buildResultData}.
+		 */
+		void onConsentEnsured(Dictionary resultData);
+	}
+
+	private final Activity activity;
+	private final ConsentInformation consentInformation;
+
+	private volatile int consentStatus;
+	private volatile boolean canRequestAds;
+	private volatile boolean isConsentFormAvailable;
+
+	// Loaded form that has not been shown yet; a form can only be shown once and is dropped when the consent
+	// information is updated, as it may no longer match the consent status
+	private volatile ConsentForm consentForm;
+
+	ConsentManager(Activity activity) {
+		this(activity, UserMessagingPlatform.getConsentInformation(activity));
+	}
+
+	ConsentManager(Activity activity, ConsentInformation consentInformation) {
+		this.activity = activity;
+		this.consentInformation = consentInformation;
+		refresh();
+	}
+
+	/**
+	 * Returns the last known consent status as one of the {@link ConsentInformation.ConsentStatus} constants.
+	 */
+	int getConsentStatus() {
+		return consentStatus;
+	}
+
+	boolean canRequestAds() {
+		return canRequestAds;
+	}
+
+	boolean isConsentFormAvailable() {
+		return isConsentFormAvailable;
+	}
+
+	boolean hasLoadedForm() {
+		return consentForm != null;
+	}
+
+	static String getStatusName(int consentStatus) {
+		return switch (consentStatus) {
+			case ConsentInformation.ConsentStatus.NOT_REQUIRED -> "NOT_REQUIRED";
+			case ConsentInformation.ConsentStatus.REQUIRED -> "REQUIRED";
+			case ConsentInformation.ConsentStatus.OBTAINED -> "OBTAINED";
+			default -> "UNKNOWN";
+		};
+	}
+
+	void requestConsentInfoUpdate(ConsentRequestParameters parameters,
+			ConsentInformation.OnConsentInfoUpdateSuccessListener successListener,
+			ConsentInformation.OnConsentInfoUpdateFailureListener failureListener) {
+		consentInformation.requestConsentInfoUpdate(
+				activity,
+				parameters,
+				() -> {
+					consentForm = null;
+					refresh();
+					successListener.onConsentInfoUpdateSuccess();
+				},
+				formError -> {
+					consentForm = null;
+					refresh();
+					failureListener.onConsentInfoUpdateFailure(formError);
+				}
+		);
+	}
+
+	/**
+	 * Loads the consent form on the main thread. If a form has been loaded but not shown yet and the consent
+	 * information has not been updated since, it is handed to the success listener without loading a new one.
+	 */
+	void loadForm(UserMessagingPlatform.OnConsentFormLoadSuccessListener successListener,
+			UserMessagingPlatform.OnConsentFormLoadFailureListener failureListener) {
+		activity.runOnUiThread(() -> {
+			ConsentForm loadedForm = consentForm;
+			if (loadedForm != null) {
+				AdmobLog.d(LOG_TAG, "Reusing loaded consent form");
+				successListener.onConsentFormLoadSuccess(loadedForm);
+				return;
+			}
+
+			UserMessagingPlatform.loadConsentForm(
+					activity,
+					(UserMessagingPlatform.OnConsentFormLoadSuccessListener) form -> {
+						consentForm = form;
+						successListener.onConsentFormLoadSuccess(form);
+					},
+					failureListener
+			);
+		});
+	}
+
+	/**
+	 * Shows the loaded consent form on the main thread and discards it. Returns false if no form has been loaded.
+	 */
+	boolean showForm(ConsentForm.OnConsentFormDismissedListener dismissedListener) {
+		ConsentForm form = consentForm;
+		if (form == null) {
+			return false;
+		}
+		consentForm = null;
+
+		activity.runOnUiThread(() -> form.show(activity, formError -> {
+			refresh();
+			dismissedListener.onConsentFormDismissed(formError);
+		}));
+		return true;
+	}
+
+	/**
+	 * Updates the consent information and shows the consent form only if the updated status requires it, loading
+	 * the form only then. The listener is called exactly once, after the flow has completed or failed.
+	 */
+	void ensureConsent(ConsentRequestParameters parameters, EnsureConsentListener listener) {
+		requestConsentInfoUpdate(
+				parameters,
+				() -> {
+					if (consentStatus != ConsentInformation.ConsentStatus.REQUIRED || !isConsentFormAvailable) {
+						AdmobLog.d(LOG_TAG, "Consent form not required (status: %s)", getStatusName(consentStatus));
+						listener.onConsentEnsured(buildResultData(false, null));
+						return;
+					}
+
+					loadForm(
+							form -> {
+								boolean isShown = showForm(
+										formError -> listener.onConsentEnsured(buildResultData(true, formError)));
+								if (!isShown) {
+									listener.onConsentEnsured(buildResultData(false, null));
+								}
+							},
+							formError -> {
+								AdmobLog.w(LOG_TAG, "Failed to load consent form: %s", formError.getMessage());
+								listener.onConsentEnsured(buildResultData(false, formError));
+							}
+					);
+				},
+				formError -> {
+					AdmobLog.w(LOG_TAG, "Failed to update consent information: %s", formError.getMessage());
+					listener.onConsentEnsured(buildResultData(false, formError));
+				}
+		);
+	}
+
+	void reset() {
+		consentInformation.reset();
+		consentForm = null;
+		refresh();
+	}
+
+	Dictionary buildResultData(boolean isFormShown, FormError formError) {
+		Dictionary dict = new Dictionary();
+		dict.put(STATUS_PROPERTY, getStatusName(consentStatus));
+		dict.put(CAN_REQUEST_ADS_PROPERTY, canRequestAds);
+		dict.put(FORM_SHOWN_PROPERTY, isFormShown);
+		if (formError != null) {
+			dict.put(ERROR_PROPERTY, GodotConverter.convert(formError));
+		}
+		return dict;
+	}
+
+	private void refresh() {
+		consentStatus = consentInformation.getConsentStatus();
+		canRequestAds = consentInformation.canRequestAds();
+		isConsentFormAvailable = consentInformation.isConsentFormAvailable();
+	}
+}
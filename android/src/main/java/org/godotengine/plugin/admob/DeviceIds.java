@@ -0,0 +1,114 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.app.Activity;
+
+import com.google.android.gms.ads.identifier.AdvertisingIdClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+
+/**
+ * Resolves and caches the IDs that identify this device as a test device: the hashed device ID, which is computed
+ * once on first use, and the advertising ID, which is retrieved once in the background because its retrieval is a
+ * blocking IPC that must not run on the main thread.
+ */
+public class DeviceIds {
+	private static final String CLASS_NAME = DeviceIds.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	private final Activity activity;
+
+	private volatile String hashedDeviceId;
+
+	// Guarded by this
+	private boolean isAdvertisingIdResolved;
+	private boolean isAdvertisingIdResolving;
+	private String advertisingId;
+	private final List<Runnable> resolvedCallbacks = new ArrayList<>();
+
+	public DeviceIds(Activity activity) {
+		this.activity = activity;
+	}
+
+	/**
+	 * Returns the hashed device ID, computing it on the first call only.
+	 */
+	public String getHashedDeviceId() {
+		String result = hashedDeviceId;
+		if (result == null) {
+			result = GodotConverter.getAdMobDeviceId(activity);
+			hashedDeviceId = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the advertising ID if it has been resolved and ad tracking is not limited, or null otherwise. Never
+	 * blocks.
+	 */
+	public synchronized String getAdvertisingId() {
+		return advertisingId;
+	}
+
+	public synchronized boolean isAdvertisingIdResolved() {
+		return isAdvertisingIdResolved;
+	}
+
+	/**
+	 * Retrieves the advertising ID on the given executor unless it has been resolved already, then runs the callback
+	 * (on the executor's thread, or on the calling thread if the ID has been resolved already). Concurrent calls share
+	 * a single retrieval. If the retrieval fails, the ID remains unresolved and a later call retries it.
+	 */
+	public void resolveAdvertisingId(Executor executor, Runnable onResolved) {
+		synchronized (this) {
+			if (!isAdvertisingIdResolved) {
+				resolvedCallbacks.add(onResolved);
+				if (!isAdvertisingIdResolving) {
+					isAdvertisingIdResolving = true;
+					executor.execute(this::retrieveAdvertisingId);
+				}
+				return;
+			}
+		}
+
+		onResolved.run();
+	}
+
+	private void retrieveAdvertisingId() {
+		boolean resolved = false;
+		String id = null;
+		try {
+			AdvertisingIdClient.Info info = AdvertisingIdClient.getAdvertisingIdInfo(activity);
+			if (!info.isLimitAdTrackingEnabled() && info.getId() != null) {
+				id = info.getId();
+				AdmobLog.d(LOG_TAG, "Resolved advertising ID: %s", id);
+			} else {
+				AdmobLog.d(LOG_TAG, "Advertising ID not available: limit tracking enabled or ID null");
+			}
+			resolved = true;
+		} catch (Exception e) {
+			AdmobLog.e(LOG_TAG, "Failed to retrieve advertising ID", e);
+		}
+
+		List<Runnable> callbacks;
+		synchronized (this) {
+			isAdvertisingIdResolving = false;
+			isAdvertisingIdResolved = resolved;
+			advertisingId = id;
+			callbacks = new ArrayList<>(resolvedCallbacks);
+			resolvedCallbacks.clear();
+		}
+
+		if (resolved) {
+			for (Runnable callback : callbacks) {
+				callback.run();
+			}
+		}
+	}
+}
@@ -0,0 +1,63 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.os.Handler;
+
+import java.util.function.LongSupplier;
+
+
+/**
+ * Schedules the eviction pass of a cache whose entries expire a fixed time after they were added, and supplies the
+ * clock that the entries are timestamped with.
+ *
+ * <p>At most one pass is pending at a time, for the earliest expiry it has been told about. The pass is expected to
+ * report the expiry of the oldest entry it kept, if any, so that the next pass gets scheduled.
+ */
+final class EvictionScheduler {
+	private static final long NONE = Long.MAX_VALUE;
+
+	private final Handler handler;
+	private final LongSupplier clock;
+	private final Runnable evictionTask;
+
+	// Guarded by this
+	private long pendingExpiry = NONE;
+
+	EvictionScheduler(Handler handler, LongSupplier clock, Runnable eviction) {
+		this.handler = handler;
+		this.clock = clock;
+		this.evictionTask = () -> {
+			synchronized (this) {
+				pendingExpiry = NONE;
+			}
+			eviction.run();
+		};
+	}
+
+	long now() {
+		return clock.getAsLong();
+	}
+
+	/**
+	 * Makes sure that a pass runs once the entry added at {@code addedAt} has expired. A pending pass is only moved if
+	 * it would run later than that.
+	 */
+	synchronized void scheduleExpiryOf(long addedAt, long timeToLiveMillis) {
+		long expiresAt = addedAt + timeToLiveMillis;
+		if (expiresAt >= pendingExpiry) {
+			return;
+		}
+
+		handler.removeCallbacks(evictionTask);
+		pendingExpiry = expiresAt;
+		handler.postDelayed(evictionTask, Math.max(0L, expiresAt - now()));
+	}
+
+	synchronized void cancel() {
+		handler.removeCallbacks(evictionTask);
+		pendingExpiry = NONE;
+	}
+}
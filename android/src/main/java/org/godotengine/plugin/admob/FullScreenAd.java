@@ -0,0 +1,41 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import org.godotengine.plugin.admob.model.AdmobAdInfo;
+
+
+/**
+ * Common contract of the single-use, full-screen ad wrappers ({@link Interstitial}, {@link RewardedVideo} and
+ * {@link RewardedInterstitial}).
+ */
+interface FullScreenAd {
+	String getAdId();
+
+	AdmobAdInfo getAdInfo();
+
+	void load();
+
+	/**
+	 * Loads a replacement for the loaded ad, which is swapped in only once it has loaded. If loading the replacement
+	 * fails, the loaded ad is kept until it expires and no failure is reported.
+	 */
+	void refresh();
+
+	void show();
+
+	boolean isLoaded();
+
+	/**
+	 * Releases the loaded ad without showing it (e.g. because it has expired).
+	 */
+	void expire();
+
+	/**
+	 * Releases the ad and its callbacks for good, e.g. because it has been removed. A load that is still in progress
+	 * is discarded when it completes, and further loads are ignored. Calling it again has no effect.
+	 */
+	void dispose();
+}
@@ -7,7 +7,6 @@ package org.godotengine.plugin.admob;
 import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.provider.Settings;
-import android.util.Log;
 
 import com.google.android.gms.ads.rewarded.RewardItem;
 import com.google.android.ump.FormError;
@@ -69,7 +68,7 @@ public class GodotConverter {
 			}
 			return hexString.toString();
 		} catch (NoSuchAlgorithmException e) {
-			Log.e(LOG_TAG, "md5() - no such algorithm");
+			AdmobLog.e(LOG_TAG, "md5() - no such algorithm");
 		}
 		return "";
 	}
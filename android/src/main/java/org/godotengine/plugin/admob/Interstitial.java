@@ -8,7 +8,6 @@ import android.app.Activity;
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
-import android.util.Log;
 import android.view.Window;
 import android.view.WindowManager;
 
@@ -45,7 +44,7 @@ interface InterstitialListener {
 	void onInterstitialImpression(AdmobAdInfo adInfo);
 }
 
-public class Interstitial {
+public class Interstitial implements FullScreenAd {
 	private static final String CLASS_NAME = Interstitial.class.getSimpleName();
 	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
 
@@ -55,9 +54,11 @@ public class Interstitial {
 	private final Activity activity;
 	private final InterstitialListener listener;
 
-	private InterstitialAd interstitialAd = null;
+	private volatile InterstitialAd interstitialAd = null;
+	private volatile boolean isDisposed;
 
 	boolean firstLoad;
+	private boolean autoReload;
 
 	Interstitial(AdmobAdInfo adInfo, final Activity activity, final InterstitialListener listener) {
 		this.adInfo = adInfo;
@@ -67,22 +68,90 @@ public class Interstitial {
 		this.activity = activity;
 		this.listener = listener;
 		this.firstLoad = true;
+		this.autoReload = true;
+		LiveAdObjects.onAdCreated(AdFormat.INTERSTITIAL);
 	}
 
-	void load() {
+	/**
+	 * Disables the automatic reload that follows a dismissed interstitial. Used for pooled ads, which are
+	 * replaced by a new instance instead.
+	 */
+	void setAutoReload(boolean autoReload) {
+		this.autoReload = autoReload;
+	}
+
+	@Override
+	public String getAdId() {
+		return adId;
+	}
+
+	@Override
+	public AdmobAdInfo getAdInfo() {
+		return adInfo;
+	}
+
+	@Override
+	public boolean isLoaded() {
+		return interstitialAd != null;
+	}
+
+	@Override
+	public void expire() {
+		activity.runOnUiThread(() -> {
+			if (interstitialAd != null) {
+				AdmobLog.i(LOG_TAG, "interstitial ad expired");
+				setAd(null);
+			}
+		});
+	}
+
+	@Override
+	public void dispose() {
+		if (isDisposed) {
+			return;
+		}
+		isDisposed = true;
+		LiveAdObjects.onAdDisposed(AdFormat.INTERSTITIAL);
 		activity.runOnUiThread(() -> {
+			if (interstitialAd != null) {
+				setAd(null);
+			}
+		});
+	}
+
+	@Override
+	public void load() {
+		load(false);
+	}
+
+	@Override
+	public void refresh() {
+		load(true);
+	}
+
+	private void load(boolean isRefresh) {
+		if (isDisposed) {
+			AdmobLog.w(LOG_TAG, "load(): interstitial ad has been disposed");
+			return;
+		}
+		activity.runOnUiThread(() -> {
+			final long loadStartedAt = AdMetrics.onLoadStarted(AdFormat.INTERSTITIAL, loadRequest.getAdUnitId());
 			InterstitialAd.load(activity, loadRequest.getAdUnitId(), loadRequest.createAdRequest(),
 				new InterstitialAdLoadCallback() {
 					@Override
 					public void onAdLoaded(@NonNull InterstitialAd interstitialAd) {
 						super.onAdLoaded(interstitialAd);
+						AdMetrics.onLoadSucceeded(AdFormat.INTERSTITIAL, loadRequest.getAdUnitId(), loadStartedAt);
+						if (isDisposed) {
+							return;
+						}
 						setAd(interstitialAd);
 						if (firstLoad) {
-							Log.i(LOG_TAG, "interstitial ad loaded");
+							AdmobLog.i(LOG_TAG, "interstitial ad loaded");
 							firstLoad = false;
 							listener.onInterstitialLoaded(Interstitial.this.adInfo, interstitialAd.getResponseInfo());
 						} else {
-							Log.i(LOG_TAG, "interstitial ad refreshed");
+							AdmobLog.i(LOG_TAG, "interstitial ad refreshed");
 							listener.onInterstitialReloaded(Interstitial.this.adInfo, interstitialAd.getResponseInfo());
 						}
 					}
@@ -90,15 +159,27 @@ public class Interstitial {
 					@Override
 					public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
 						super.onAdFailedToLoad(loadAdError);
+						AdMetrics.onLoadFailed(AdFormat.INTERSTITIAL, loadRequest.getAdUnitId(), loadStartedAt,
+								loadAdError.getCode());
+						if (isDisposed) {
+							return;
+						}
+						if (isRefresh && interstitialAd != null) {
+							// Keep the loaded ad until it expires instead of dropping it early
+							AdmobLog.w(LOG_TAG, "interstitial ad refresh failed - error code: %s",
+									loadAdError.getCode());
+							return;
+						}
 						setAd(null);	// safety
-						Log.e(LOG_TAG, "interstitial ad failed to load - error code: " + loadAdError.getCode());
+						AdmobLog.e(LOG_TAG, "interstitial ad failed to load - error code: %s", loadAdError.getCode());
 						listener.onInterstitialFailedToLoad(Interstitial.this.adInfo, loadAdError);
 					}
 				});
 		});
 	}
 
-	void show() {
+	@Override
+	public void show() {
 		if (interstitialAd != null) {
 			activity.runOnUiThread(() -> {
 				Window window = activity.getWindow();
@@ -138,13 +219,13 @@ public class Interstitial {
 				});
 			});
 		} else {
-			Log.w(LOG_TAG, "show(): interstitial not loaded");
+			AdmobLog.w(LOG_TAG, "show(): interstitial not loaded");
 		}
 	}
 
 	private void setAd(InterstitialAd interstitialAd) {
 		if (interstitialAd == this.interstitialAd) {
-			Log.w(LOG_TAG, "setAd(): interstitial already set");
+			AdmobLog.w(LOG_TAG, "setAd(): interstitial already set");
 		} else {
 			// Avoid memory leaks
 			if (this.interstitialAd != null) {
@@ -157,7 +238,7 @@ public class Interstitial {
 					@Override
 					public void onAdClicked() {
 						super.onAdClicked();
-						Log.i(LOG_TAG, "interstitial ad clicked");
+						AdmobLog.i(LOG_TAG, "interstitial ad clicked");
 						listener.onInterstitialClicked(Interstitial.this.adInfo);
 					}
 
@@ -165,29 +246,31 @@ public class Interstitial {
 					public void onAdDismissedFullScreenContent() {
 						super.onAdDismissedFullScreenContent();
 						setAd(null);
-						Log.i(LOG_TAG, "interstitial ad dismissed full screen content");
+						AdmobLog.i(LOG_TAG, "interstitial ad dismissed full screen content");
 						listener.onInterstitialClosed(Interstitial.this.adInfo);
-						load();
+						if (autoReload) {
+							load();
+						}
 					}
 
 					@Override
 					public void onAdFailedToShowFullScreenContent(@NonNull AdError adError) {
 						super.onAdFailedToShowFullScreenContent(adError);
-						Log.e(LOG_TAG, "interstitial ad failed to show full screen content");
+						AdmobLog.e(LOG_TAG, "interstitial ad failed to show full screen content");
 						listener.onInterstitialFailedToShow(Interstitial.this.adInfo, adError);
 					}
 
 					@Override
 					public void onAdShowedFullScreenContent() {
 						super.onAdShowedFullScreenContent();
-						Log.i(LOG_TAG, "interstitial ad showed full screen content");
+						AdmobLog.i(LOG_TAG, "interstitial ad showed full screen content");
 						listener.onInterstitialOpened(Interstitial.this.adInfo);
 					}
 
 					@Override
 					public void onAdImpression() {
 						super.onAdImpression();
-						Log.i(LOG_TAG, "interstitial ad impression");
+						AdmobLog.i(LOG_TAG, "interstitial ad impression");
 						listener.onInterstitialImpression(Interstitial.this.adInfo);
 					}
 				});
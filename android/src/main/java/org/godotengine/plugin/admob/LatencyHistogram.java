@@ -0,0 +1,66 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Fixed-bucket histogram of latencies in milliseconds. Recording a value is a binary search over the bucket bounds
+ * plus one atomic increment, so it can be called from any thread without locking or allocating.
+ *
+ * <p>Percentiles are reported as the upper bound of the bucket that contains them, capped at the largest recorded
+ * value. The bucket bounds are tight for the sub-second range where most ad loads complete and get coarser above it.
+ */
+final class LatencyHistogram {
+	// Upper bounds (inclusive) of the buckets; values above the last bound go to an overflow bucket
+	static final long[] BUCKET_BOUNDS_MILLIS = {
+		25, 50, 75, 100, 150, 200, 250, 300, 400, 500, 600, 750, 1_000, 1_250, 1_500, 2_000, 2_500, 3_000, 4_000,
+		5_000, 7_500, 10_000, 15_000, 20_000, 30_000, 60_000
+	};
+
+	private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_BOUNDS_MILLIS.length + 1);
+	private final AtomicLong maxMillis = new AtomicLong();
+
+	void record(long millis) {
+		long value = Math.max(0L, millis);
+		int index = Arrays.binarySearch(BUCKET_BOUNDS_MILLIS, value);
+		bucketCounts.incrementAndGet(index >= 0 ? index : -index - 1);
+		maxMillis.accumulateAndGet(value, Math::max);
+	}
+
+	long getMaxMillis() {
+		return maxMillis.get();
+	}
+
+	/**
+	 * Returns the latency below which the given fraction (0.0 to 1.0) of the recorded values fall, or 0 if no values
+	 * have been recorded.
+	 */
+	long getPercentile(double fraction) {
+		long total = 0;
+		long[] counts = new long[bucketCounts.length()];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = bucketCounts.get(i);
+			total += counts[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1L, (long) Math.ceil(fraction * total));
+		long max = maxMillis.get();
+		long cumulative = 0;
+		for (int i = 0; i < counts.length; i++) {
+			cumulative += counts[i];
+			if (cumulative >= rank) {
+				return i < BUCKET_BOUNDS_MILLIS.length ? Math.min(BUCKET_BOUNDS_MILLIS[i], max) : max;
+			}
+		}
+		return max;
+	}
+}
@@ -0,0 +1,61 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.godotengine.godot.Dictionary;
+
+
+/**
+ * Counts the ad objects that have been created but not yet disposed, per ad format, as well as the banner ad views
+ * that have not been destroyed yet (including pooled ones). Meant for verifying that long sessions do not leak ads:
+ * the counts should stay flat as ads are loaded and removed.
+ */
+final class LiveAdObjects {
+	static final String BANNER_VIEW_PROPERTY = "banner_view";
+
+	private static final AtomicIntegerArray AD_COUNTS = new AtomicIntegerArray(AdFormat.values().length);
+	private static final AtomicInteger BANNER_VIEW_COUNT = new AtomicInteger();
+
+	private LiveAdObjects() {
+	}
+
+	static void onAdCreated(AdFormat format) {
+		AD_COUNTS.incrementAndGet(format.ordinal());
+	}
+
+	static void onAdDisposed(AdFormat format) {
+		AD_COUNTS.decrementAndGet(format.ordinal());
+	}
+
+	static void onBannerViewCreated() {
+		BANNER_VIEW_COUNT.incrementAndGet();
+	}
+
+	static void onBannerViewDestroyed() {
+		BANNER_VIEW_COUNT.decrementAndGet();
+	}
+
+	static int getAdCount(AdFormat format) {
+		return AD_COUNTS.get(format.ordinal());
+	}
+
+	static int getBannerViewCount() {
+		return BANNER_VIEW_COUNT.get();
+	}
+
+	static Dictionary buildRawData() {
+		Dictionary data = new Dictionary();
+		for (AdFormat format : AdFormat.values()) {
+			if (format != AdFormat.APP_OPEN) {	// the app open ad is owned by AppOpenAdManager, not an ad object
+				data.put(format.getKey(), getAdCount(format));
+			}
+		}
+		data.put(BANNER_VIEW_PROPERTY, getBannerViewCount());
+		return data;
+	}
+}
@@ -2,7 +2,7 @@ package org.godotengine.plugin.admob;
 
 import android.app.Activity;
 import android.util.DisplayMetrics;
-import android.util.Log;
+import android.view.Choreographer;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.Button;
@@ -16,6 +16,8 @@ import com.google.android.gms.ads.AdListener;
 import com.google.android.gms.ads.AdLoader;
 import com.google.android.gms.ads.LoadAdError;
 import com.google.android.gms.ads.ResponseInfo;
+import com.google.android.gms.ads.VideoController;
+import com.google.android.gms.ads.nativead.MediaContent;
 import com.google.android.gms.ads.nativead.MediaView;
 import com.google.android.gms.ads.nativead.NativeAd;
 import com.google.android.gms.ads.nativead.NativeAdOptions;
@@ -50,6 +52,8 @@ public class Native {
 	private final Activity activity;
 	private final FrameLayout layout;
 	private final NativeListener nativeListener;
+	private final NativePreloader preloader;
+	private final AdListener adListener;
 
 	private final AdmobAdInfo adInfo;
 	private final LoadAdRequest loadRequest;
@@ -62,14 +66,46 @@ public class Native {
 	private FrameLayout container;
 	private FrameLayout.LayoutParams layoutParams;
 
+	/**
+	 * The asset views of the inflated native ad layout, looked up once and reused when the ad is reloaded.
+	 */
+	private static final class AssetViews {
+		final TextView headline;
+		final MediaView media;
+		final Button callToAction;
+		final ImageView icon;
+
+		AssetViews(NativeAdView adView) {
+			this.headline = adView.findViewById(R.id.ad_headline);
+			this.media = adView.findViewById(R.id.ad_media);
+			this.callToAction = adView.findViewById(R.id.ad_call_to_action);
+			this.icon = adView.findViewById(R.id.ad_app_icon);
+		}
+	}
+
+	// Layout changes smaller than this (in pixels) are ignored to filter out jitter
+	static final int LAYOUT_TOLERANCE_PX = 1;
+
+	private AssetViews assetViews;
+
+	// Most recently requested layout; guarded by layoutLock
+	private final Object layoutLock = new Object();
 	private int lastX = -1;
 	private int lastY = -1;
 	private int lastW = -1;
 	private int lastH = -1;
 	private boolean lastVisible = true;
+	private boolean isLayoutPending;
+	private final Choreographer.FrameCallback layoutFrameCallback = frameTimeNanos -> applyLayout();
+
+	private boolean isVideoPaused;	// video paused because the app went to the background
+	private volatile boolean isDisposed;
+	private long loadStartedAt = AdMetrics.NOT_STARTED;	// start of the pending request; main thread only
+	private NativePreloader.BatchListener batchListener;	// forwards the events of a preloaded ad; main thread only
 
 
-	Native(AdmobAdInfo adInfo, Activity activity, FrameLayout layout, NativeListener listener) {
+	Native(AdmobAdInfo adInfo, Activity activity, FrameLayout layout, NativePreloader preloader,
+			NativeListener listener) {
 		this.adInfo = adInfo;
 		this.adId = adInfo.getAdId();
 		this.loadRequest = adInfo.getLoadAdRequest();
@@ -77,14 +113,61 @@ public class Native {
 		this.activity = activity;
 		this.layout = layout;
 		this.nativeListener = listener;
+		this.preloader = preloader;
 
 		this.nativeAd = null;
 		this.adView = null;
 		this.adParams = null;
+
+		this.adListener = new AdListener() {
+			@Override
+			public void onAdFailedToLoad(@NonNull LoadAdError error) {
+				AdMetrics.onLoadFailed(AdFormat.NATIVE, loadRequest.getAdUnitId(), loadStartedAt, error.getCode());
+				if (!isDisposed) {
+					nativeListener.onAdFailedToLoad(adInfo, error);
+				}
+			}
+
+			@Override
+			public void onAdImpression() {
+				nativeListener.onAdImpression(adInfo);
+			}
+
+			@Override
+			public void onAdClicked() {
+				nativeListener.onAdClicked(adInfo);
+			}
+
+			@Override
+			public void onAdSwipeGestureClicked() {
+				nativeListener.onAdSwipeGestureClicked(adInfo);
+			}
+
+			@Override
+			public void onAdOpened() {
+				nativeListener.onAdOpened(adInfo);
+			}
+
+			@Override
+			public void onAdClosed() {
+				nativeListener.onAdClosed(adInfo);
+			}
+		};
+
+		LiveAdObjects.onAdCreated(AdFormat.NATIVE);
 	}
 
 	void load() {
 		activity.runOnUiThread(() -> {
+			NativePreloader.PreloadedAd preloadedAd = preloader.take(loadRequest.getAdUnitId());
+			if (preloadedAd != null) {
+				AdmobLog.d(LOG_TAG, "load(): using preloaded native ad for %s", adId);
+				batchListener = preloadedAd.batchListener;
+				batchListener.setDelegate(adListener);
+				onNativeAdLoaded(preloadedAd.nativeAd);
+				return;
+			}
+
 			// Build NativeAdOptions from whatever the caller included in the request dictionary.
 			// createNativeAdOptions() only calls setter methods for keys that were explicitly set,
 			// so all unset options remain at their SDK defaults.
@@ -94,63 +177,54 @@ public class Native {
 				// The GMS Ads SDK does not expose a public API to disable the native ad validator.
 				// This flag is recorded here for forward-compatibility; if Google adds a public
 				// API it can be wired in by calling the appropriate builder method above.
-				Log.d(LOG_TAG, "load(): native_disable_validator is set "
+				AdmobLog.d(LOG_TAG, "load(): native_disable_validator is set "
 						+ "(no public SDK API available — flag recorded for future use)");
 			}
 
 			AdLoader adLoader = new AdLoader.Builder(activity, loadRequest.getAdUnitId())
 					.forNativeAd(ad -> {
-						nativeAd = ad;
-						createView();
-						nativeListener.onAdLoaded(adInfo, ad.getResponseInfo());
+						AdMetrics.onLoadSucceeded(AdFormat.NATIVE, loadRequest.getAdUnitId(), loadStartedAt);
+						onNativeAdLoaded(ad);
 					})
 					.withNativeAdOptions(nativeAdOptions)
-					.withAdListener(new AdListener() {
-						@Override
-						public void onAdFailedToLoad(@NonNull LoadAdError error) {
-							nativeListener.onAdFailedToLoad(adInfo, error);
-						}
-
-						@Override
-						public void onAdImpression() {
-							nativeListener.onAdImpression(adInfo);
-						}
-
-						@Override
-						public void onAdClicked() {
-							nativeListener.onAdClicked(adInfo);
-						}
-
-						@Override
-						public void onAdSwipeGestureClicked() {
-							nativeListener.onAdSwipeGestureClicked(adInfo);
-						}
-
-						@Override
-						public void onAdOpened() {
-							nativeListener.onAdOpened(adInfo);
-						}
-
-						@Override
-						public void onAdClosed() {
-							nativeListener.onAdClosed(adInfo);
-						}
-					})
+					.withAdListener(adListener)
 					.build();
 
+			loadStartedAt = AdMetrics.onLoadStarted(AdFormat.NATIVE, loadRequest.getAdUnitId());
 			adLoader.loadAd(loadRequest.createAdRequest());
 		});
 	}
 
+	private void onNativeAdLoaded(NativeAd ad) {
+		if (isDisposed) {
+			ad.destroy();	// loaded after the native ad was removed
+			return;
+		}
+		NativeAd previousAd = nativeAd;
+		nativeAd = ad;
+		if (container == null) {
+			createView();
+		} else {
+			bindNativeAd(adView, ad);	// reloaded: reuse the existing view hierarchy
+		}
+		if (previousAd != null) {
+			previousAd.destroy();
+		}
+		nativeListener.onAdLoaded(adInfo, ad.getResponseInfo());
+	}
+
 	private void createView() {
 		if (container != null) {
 			return;
 		}
 		LayoutInflater inflater = LayoutInflater.from(activity);
 		adView = (NativeAdView) inflater.inflate(R.layout.native_ad, layout, false);
+		assetViews = new AssetViews(adView);
+		adView.setPadding(0, 0, 0, 0);
 		bindNativeAd(adView, nativeAd);
 
 		container = new FrameLayout(activity);
+		container.setPadding(0, 0, 0, 0);
 
 		layoutParams = new FrameLayout.LayoutParams(FrameLayout.LayoutParams.WRAP_CONTENT,
 			FrameLayout.LayoutParams.WRAP_CONTENT);
@@ -164,11 +238,15 @@ public class Native {
 		container.setBackgroundColor(0x33FF0000);
 		adView.setBackgroundColor(0x3300FF00);
 
-		adView.post(() -> {
+		final NativeAdView view = adView;
+		view.post(() -> {
+			if (isDisposed) {
+				return;
+			}
 			DisplayMetrics metrics = activity.getResources().getDisplayMetrics();
 			float density = metrics.density;
-			int widthDp = Math.round(adView.getMeasuredWidth() / density);
-			int heightDp = Math.round(adView.getMeasuredHeight() / density);
+			int widthDp = Math.round(view.getMeasuredWidth() / density);
+			int heightDp = Math.round(view.getMeasuredHeight() / density);
 			adInfo.setMeasuredWidth(widthDp);
 			adInfo.setMeasuredHeight(heightDp);
 			nativeListener.onAdSizeMeasured(adInfo);
@@ -180,7 +258,7 @@ public class Native {
 			return;
 		}
 		if (nativeAd == null) {
-			Log.w(LOG_TAG, "show(): native ad not loaded.");
+			AdmobLog.w(LOG_TAG, "show(): native ad not loaded.");
 			return;
 		}
 		activity.runOnUiThread(() -> {
@@ -195,13 +273,67 @@ public class Native {
 		activity.runOnUiThread(() -> container.setVisibility(View.GONE));
 	}
 
-	public void remove() {
+	/**
+	 * Pauses the ad's video, if it has one, while the app is in the background. Must be called on the main thread.
+	 */
+	void pause() {
+		VideoController videoController = getVideoController();
+		if (videoController != null) {
+			videoController.pause();
+			isVideoPaused = true;
+		}
+	}
+
+	/**
+	 * Resumes a video paused by {@link #pause()} when the app returns to the foreground, unless the native ad is
+	 * hidden. Must be called on the main thread.
+	 */
+	void resume() {
+		if (isVideoPaused && container != null && container.getVisibility() == View.VISIBLE) {
+			VideoController videoController = getVideoController();
+			if (videoController != null) {
+				videoController.play();
+			}
+		}
+		isVideoPaused = false;
+	}
+
+	private VideoController getVideoController() {
+		if (nativeAd == null) {
+			return null;
+		}
+		MediaContent mediaContent = nativeAd.getMediaContent();
+		return mediaContent != null && mediaContent.hasVideoContent() ? mediaContent.getVideoController() : null;
+	}
+
+	/**
+	 * Removes the native ad for good: its views are detached and destroyed, the ad is destroyed and its events are no
+	 * longer forwarded. A load that is still in progress is discarded when it completes. Calling it again has no
+	 * effect.
+	 */
+	public void dispose() {
+		if (isDisposed) {
+			AdmobLog.w(LOG_TAG, "dispose(): Warning: native ad already disposed.");
+			return;
+		}
+		isDisposed = true;
+		LiveAdObjects.onAdDisposed(AdFormat.NATIVE);
+
 		activity.runOnUiThread(() -> {
+			if (batchListener != null) {
+				batchListener.clearDelegate(adListener);
+				batchListener = null;
+			}
 			if (container != null) {
 				layout.removeView(container);
+				container.removeAllViews();
 				container = null;
 			}
-			adView = null;
+			if (adView != null) {
+				adView.destroy();
+				adView = null;
+			}
+			assetViews = null;
 			if (nativeAd != null) {
 				nativeAd.destroy();
 				nativeAd = null;
@@ -218,10 +350,10 @@ public class Native {
 	 * type the Android view defaults ({@code FIT_CENTER}) are left in place.
 	 */
 	private void bindNativeAd(NativeAdView adView, NativeAd ad) {
-		TextView headline = adView.findViewById(R.id.ad_headline);
-		MediaView media = adView.findViewById(R.id.ad_media);
-		Button cta = adView.findViewById(R.id.ad_call_to_action);
-		ImageView icon = adView.findViewById(R.id.ad_app_icon);
+		TextView headline = assetViews.headline;
+		MediaView media = assetViews.media;
+		Button cta = assetViews.callToAction;
+		ImageView icon = assetViews.icon;
 
 		headline.setText(ad.getHeadline());
 		adView.setHeadlineView(headline);
@@ -246,38 +378,72 @@ public class Native {
 		if (loadRequest.hasNativeImageScaleType()) {
 			ImageView.ScaleType scaleType = loadRequest.getNativeImageScaleType();
 			icon.setScaleType(scaleType);
-			Log.d(LOG_TAG, "bindNativeAd(): applying image scale type " + scaleType.name()
-					+ " to icon view");
+			AdmobLog.d(LOG_TAG, "bindNativeAd(): applying image scale type %s to icon view", scaleType.name());
 		}
 
 		adView.setNativeAd(ad);
 	}
 
+	/**
+	 * Requests the native ad to be laid out at the given position and size. Called every time the ad's Control moves,
+	 * so changes within {@link #LAYOUT_TOLERANCE_PX} are ignored and the requested layout is applied at most once per
+	 * frame on the main thread.
+	 */
 	public void updateLayout(int xPx, int yPx, int widthPx, int heightPx, boolean visible) {
 		if (container == null || layoutParams == null) {
 			return;
 		}
-		container.setPadding(0, 0, 0, 0);
-		adView.setPadding(0, 0, 0, 0);
 
-		if (xPx == lastX && yPx == lastY && widthPx == lastW && heightPx == lastH && visible == lastVisible) {
-			return;
+		synchronized (layoutLock) {
+			if (visible == lastVisible && isWithinTolerance(xPx, lastX) && isWithinTolerance(yPx, lastY)
+					&& isWithinTolerance(widthPx, lastW) && isWithinTolerance(heightPx, lastH)) {
+				return;
+			}
+
+			lastX = xPx;
+			lastY = yPx;
+			lastW = widthPx;
+			lastH = heightPx;
+			lastVisible = visible;
+
+			if (isLayoutPending) {
+				return;	// the pending frame callback picks up the latest values
+			}
+			isLayoutPending = true;
+		}
+
+		activity.runOnUiThread(() -> Choreographer.getInstance().postFrameCallback(layoutFrameCallback));
+	}
+
+	private static boolean isWithinTolerance(int value, int lastValue) {
+		return Math.abs(value - lastValue) <= LAYOUT_TOLERANCE_PX;
+	}
+
+	private void applyLayout() {
+		int x;
+		int y;
+		int width;
+		int height;
+		boolean visible;
+		synchronized (layoutLock) {
+			isLayoutPending = false;
+			x = lastX;
+			y = lastY;
+			width = lastW;
+			height = lastH;
+			visible = lastVisible;
 		}
 
-		lastX = xPx;
-		lastY = yPx;
-		lastW = widthPx;
-		lastH = heightPx;
-		lastVisible = visible;
+		if (container == null) {
+			return;	// disposed in the meantime
+		}
 
-		activity.runOnUiThread(() -> {
-			layoutParams.leftMargin = xPx;
-			layoutParams.topMargin = yPx;
-			layoutParams.width = widthPx > 0 ? widthPx : FrameLayout.LayoutParams.WRAP_CONTENT;
-			layoutParams.height = heightPx > 0 ? heightPx : FrameLayout.LayoutParams.WRAP_CONTENT;
-			container.setVisibility(visible ? View.VISIBLE : View.GONE);
-			layout.updateViewLayout(container, layoutParams);
-		});
+		layoutParams.leftMargin = x;
+		layoutParams.topMargin = y;
+		layoutParams.width = width > 0 ? width : FrameLayout.LayoutParams.WRAP_CONTENT;
+		layoutParams.height = height > 0 ? height : FrameLayout.LayoutParams.WRAP_CONTENT;
+		container.setVisibility(visible ? View.VISIBLE : View.GONE);
+		layout.updateViewLayout(container, layoutParams);
 	}
 
 }
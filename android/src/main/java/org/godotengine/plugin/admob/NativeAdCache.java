@@ -0,0 +1,163 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Holds preloaded native ads per ad unit until they are handed out to native ad slots.
+ *
+ * <p>Ads are handed out oldest first, so that they are used before they expire. Ads that have been cached for longer
+ * than {@code ttlMillis} are evicted and destroyed, as are ads offered while the ad unit's queue is full.
+ */
+class NativeAdCache<A> {
+	private static final String CLASS_NAME = NativeAdCache.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	static final int DEFAULT_MAX_ADS_PER_UNIT = 10;
+	static final long DEFAULT_TTL_MILLIS = 60L * 60L * 1000L;	// 1 hour
+
+	private static final class CachedAd<A> {
+		final A ad;
+		final long loadedAt;
+
+		CachedAd(A ad, long loadedAt) {
+			this.ad = ad;
+			this.loadedAt = loadedAt;
+		}
+	}
+
+	private final EvictionScheduler evictionScheduler;
+	private final Consumer<A> destroyer;
+	private final int maxAdsPerUnit;
+	private final long ttlMillis;
+
+	// Guarded by this; oldest first
+	private final Map<String, Deque<CachedAd<A>>> cachedAds = new HashMap<>();
+
+	NativeAdCache(Handler handler, Consumer<A> destroyer) {
+		this(handler, SystemClock::elapsedRealtime, destroyer, DEFAULT_MAX_ADS_PER_UNIT, DEFAULT_TTL_MILLIS);
+	}
+
+	NativeAdCache(Handler handler, LongSupplier clock, Consumer<A> destroyer, int maxAdsPerUnit, long ttlMillis) {
+		this.evictionScheduler = new EvictionScheduler(handler, clock, this::evictExpired);
+		this.destroyer = destroyer;
+		this.maxAdsPerUnit = maxAdsPerUnit;
+		this.ttlMillis = ttlMillis;
+	}
+
+	/**
+	 * Caches the ad for the ad unit. If the ad unit's queue is full, the ad is destroyed and false is returned.
+	 */
+	boolean offer(String adUnitId, A ad) {
+		synchronized (this) {
+			Deque<CachedAd<A>> queue = cachedAds.computeIfAbsent(adUnitId, key -> new ArrayDeque<>());
+			if (queue.size() < maxAdsPerUnit) {
+				long now = evictionScheduler.now();
+				queue.addLast(new CachedAd<>(ad, now));
+				AdmobLog.d(LOG_TAG, "Cached native ad for %s (%d cached)", adUnitId, queue.size());
+				evictionScheduler.scheduleExpiryOf(now, ttlMillis);
+				return true;
+			}
+		}
+
+		AdmobLog.w(LOG_TAG, "Native ad cache for %s is full. Discarding ad.", adUnitId);
+		destroyer.accept(ad);
+		return false;
+	}
+
+	/**
+	 * Removes and returns the oldest unexpired ad of the ad unit, or null if there is none.
+	 */
+	A poll(String adUnitId) {
+		List<A> expired = new ArrayList<>();
+		A result = null;
+		synchronized (this) {
+			Deque<CachedAd<A>> queue = cachedAds.get(adUnitId);
+			long now = evictionScheduler.now();
+			while (queue != null && !queue.isEmpty() && result == null) {
+				CachedAd<A> cachedAd = queue.pollFirst();
+				if (now - cachedAd.loadedAt < ttlMillis) {
+					result = cachedAd.ad;
+				} else {
+					expired.add(cachedAd.ad);
+				}
+			}
+		}
+
+		for (A ad : expired) {
+			destroyer.accept(ad);
+		}
+		return result;
+	}
+
+	synchronized int getCount(String adUnitId) {
+		Deque<CachedAd<A>> queue = cachedAds.get(adUnitId);
+		return queue == null ? 0 : queue.size();
+	}
+
+	/**
+	 * Destroys all cached ads that have been cached for longer than the time to live.
+	 */
+	void evictExpired() {
+		List<A> expired = new ArrayList<>();
+		synchronized (this) {
+			long now = evictionScheduler.now();
+			long oldestLoadedAt = Long.MAX_VALUE;
+			Iterator<Deque<CachedAd<A>>> queues = cachedAds.values().iterator();
+			while (queues.hasNext()) {
+				Deque<CachedAd<A>> queue = queues.next();
+				while (!queue.isEmpty() && now - queue.peekFirst().loadedAt >= ttlMillis) {
+					expired.add(queue.pollFirst().ad);
+				}
+				if (queue.isEmpty()) {
+					queues.remove();
+				} else {
+					oldestLoadedAt = Math.min(oldestLoadedAt, queue.peekFirst().loadedAt);
+				}
+			}
+
+			if (oldestLoadedAt != Long.MAX_VALUE) {
+				evictionScheduler.scheduleExpiryOf(oldestLoadedAt, ttlMillis);
+			}
+		}
+
+		if (!expired.isEmpty()) {
+			AdmobLog.d(LOG_TAG, "Evicting %d expired native ads", expired.size());
+		}
+		for (A ad : expired) {
+			destroyer.accept(ad);
+		}
+	}
+
+	void clear() {
+		List<A> ads = new ArrayList<>();
+		synchronized (this) {
+			evictionScheduler.cancel();
+			for (Deque<CachedAd<A>> queue : cachedAds.values()) {
+				for (CachedAd<A> cachedAd : queue) {
+					ads.add(cachedAd.ad);
+				}
+			}
+			cachedAds.clear();
+		}
+
+		for (A ad : ads) {
+			destroyer.accept(ad);
+		}
+	}
+}
@@ -0,0 +1,169 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.app.Activity;
+import android.os.Handler;
+
+import androidx.annotation.NonNull;
+
+import com.google.android.gms.ads.AdListener;
+import com.google.android.gms.ads.AdLoader;
+import com.google.android.gms.ads.LoadAdError;
+import com.google.android.gms.ads.nativead.NativeAd;
+
+import org.godotengine.plugin.admob.model.LoadAdRequest;
+
+
+/**
+ * Preloads native ads in batches using the SDK's multiple-ads-per-request loading, and hands them out to native ad
+ * slots so that they can be shown without a round trip.
+ *
+ * <p>The SDK reports ad events (impression, click, ...) of a batch through a single listener that does not tell the
+ * ads apart. Events of a batch are therefore forwarded to the slot that most recently took an ad from it.
+ */
+class NativePreloader {
+	private static final String CLASS_NAME = NativePreloader.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	// Maximum number of ads that the SDK loads with a single AdLoader.loadAds() call
+	static final int MAX_ADS_PER_REQUEST = 5;
+
+	/**
+	 * Forwards the ad events of a batch to the slot that most recently took an ad from the batch.
+	 */
+	static final class BatchListener extends AdListener {
+		private final String adUnitId;
+		private volatile AdListener delegate;
+		private long loadStartedAt = AdMetrics.NOT_STARTED;	// main thread only
+
+		BatchListener(String adUnitId) {
+			this.adUnitId = adUnitId;
+		}
+
+		void setLoadStartedAt(long loadStartedAt) {
+			this.loadStartedAt = loadStartedAt;
+		}
+
+		synchronized void setDelegate(AdListener delegate) {
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Stops forwarding events to the given delegate, unless another slot has taken an ad from the batch since.
+		 */
+		synchronized void clearDelegate(AdListener delegate) {
+			if (this.delegate == delegate) {
+				this.delegate = null;
+			}
+		}
+
+		@Override
+		public void onAdFailedToLoad(@NonNull LoadAdError error) {
+			AdmobLog.w(LOG_TAG, "Failed to preload native ads for %s: %s", adUnitId, error.getMessage());
+			AdMetrics.onLoadFailed(AdFormat.NATIVE, adUnitId, loadStartedAt, error.getCode());
+		}
+
+		@Override
+		public void onAdImpression() {
+			AdListener listener = delegate;
+			if (listener != null) {
+				listener.onAdImpression();
+			}
+		}
+
+		@Override
+		public void onAdClicked() {
+			AdListener listener = delegate;
+			if (listener != null) {
+				listener.onAdClicked();
+			}
+		}
+
+		@Override
+		public void onAdSwipeGestureClicked() {
+			AdListener listener = delegate;
+			if (listener != null) {
+				listener.onAdSwipeGestureClicked();
+			}
+		}
+
+		@Override
+		public void onAdOpened() {
+			AdListener listener = delegate;
+			if (listener != null) {
+				listener.onAdOpened();
+			}
+		}
+
+		@Override
+		public void onAdClosed() {
+			AdListener listener = delegate;
+			if (listener != null) {
+				listener.onAdClosed();
+			}
+		}
+	}
+
+	static final class PreloadedAd {
+		final NativeAd nativeAd;
+		final BatchListener batchListener;
+
+		PreloadedAd(NativeAd nativeAd, BatchListener batchListener) {
+			this.nativeAd = nativeAd;
+			this.batchListener = batchListener;
+		}
+	}
+
+	private final Activity activity;
+	private final NativeAdCache<PreloadedAd> cache;
+
+	NativePreloader(Activity activity, Handler mainHandler) {
+		this.activity = activity;
+		this.cache = new NativeAdCache<>(mainHandler,
+				preloadedAd -> activity.runOnUiThread(preloadedAd.nativeAd::destroy));
+	}
+
+	/**
+	 * Loads the given number of native ads for the request's ad unit, in batches of at most
+	 * {@link #MAX_ADS_PER_REQUEST}, and caches them as they arrive.
+	 */
+	void preload(LoadAdRequest loadRequest, int count) {
+		final String adUnitId = loadRequest.getAdUnitId();
+		activity.runOnUiThread(() -> {
+			for (int remaining = count; remaining > 0; remaining -= MAX_ADS_PER_REQUEST) {
+				int batchSize = Math.min(remaining, MAX_ADS_PER_REQUEST);
+				BatchListener batchListener = new BatchListener(adUnitId);
+				AdLoader adLoader = new AdLoader.Builder(activity, adUnitId)
+						.forNativeAd(ad -> {
+							AdMetrics.onLoadSucceeded(AdFormat.NATIVE, adUnitId, batchListener.loadStartedAt);
+							cache.offer(adUnitId, new PreloadedAd(ad, batchListener));
+						})
+						.withNativeAdOptions(loadRequest.createNativeAdOptions())
+						.withAdListener(batchListener)
+						.build();
+
+				AdmobLog.d(LOG_TAG, "Preloading %d native ads for %s", batchSize, adUnitId);
+				batchListener.setLoadStartedAt(AdMetrics.onLoadStarted(AdFormat.NATIVE, adUnitId, batchSize));
+				adLoader.loadAds(loadRequest.createAdRequest(), batchSize);
+			}
+		});
+	}
+
+	/**
+	 * Removes and returns a preloaded ad of the ad unit, or null if there is none.
+	 */
+	PreloadedAd take(String adUnitId) {
+		return cache.poll(adUnitId);
+	}
+
+	int getCount(String adUnitId) {
+		return cache.getCount(adUnitId);
+	}
+
+	void clear() {
+		cache.clear();
+	}
+}
@@ -0,0 +1,118 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import org.godotengine.godot.Dictionary;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Holds ad loads that were requested before the Mobile Ads SDK finished initializing, so that they can be carried out
+ * as soon as initialization completes instead of being rejected.
+ *
+ * <p>The queue is bounded and keeps at most one load per request key. The key is made of the request type and the
+ * complete request data, so only identical requests are de-duplicated: requesting the same key again replaces the
+ * queued load with the newer one while keeping its place in the queue, and its caller receives the same signals the
+ * replaced one would have. Different requests for the same ad unit (e.g. two banners at different positions) are
+ * queued separately.
+ */
+class PendingLoadQueue {
+	private static final String CLASS_NAME = PendingLoadQueue.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	static final int DEFAULT_CAPACITY = 16;
+
+	private final int capacity;
+	private final Map<List<Object>, Runnable> loads = new LinkedHashMap<>();
+
+	PendingLoadQueue() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	PendingLoadQueue(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Pending load queue capacity must be positive: " + capacity);
+		}
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Returns the key identifying a request of the given type with the given data. Keys of requests with equal data
+	 * are equal.
+	 */
+	static List<Object> createRequestKey(String requestType, Dictionary requestData) {
+		// Copied so that later changes to the request data do not change the key
+		return List.of(requestType, normalize(requestData));
+	}
+
+	/**
+	 * Returns a copy of the value that compares by content: arrays (e.g. keywords) become lists and nested maps (e.g.
+	 * network extras) are copied, both recursively.
+	 */
+	private static Object normalize(Object value) {
+		if (value instanceof Map) {
+			Map<Object, Object> normalized = new HashMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				normalized.put(entry.getKey(), normalize(entry.getValue()));
+			}
+			return normalized;
+		}
+
+		if (value != null && value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			List<Object> normalized = new ArrayList<>(length);
+			for (int i = 0; i < length; i++) {
+				normalized.add(normalize(Array.get(value, i)));
+			}
+			return normalized;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Queues the load under the given key. Returns false if the key is not queued yet and the queue is full.
+	 */
+	synchronized boolean offer(List<Object> requestKey, Runnable load) {
+		if (loads.containsKey(requestKey)) {
+			AdmobLog.d(LOG_TAG, "Replacing identical pending %s load request", requestKey.get(0));
+			loads.put(requestKey, load);
+			return true;
+		}
+
+		if (loads.size() >= capacity) {
+			AdmobLog.w(LOG_TAG, "Cannot queue %s load request: queue is full (%d)", requestKey.get(0), capacity);
+			return false;
+		}
+
+		AdmobLog.d(LOG_TAG, "Queued %s load request until initialization completes", requestKey.get(0));
+		loads.put(requestKey, load);
+		return true;
+	}
+
+	synchronized int size() {
+		return loads.size();
+	}
+
+	/**
+	 * Removes all queued loads and returns them in the order they were first requested.
+	 */
+	synchronized List<Runnable> drain() {
+		if (loads.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Runnable> drained = new ArrayList<>(loads.values());
+		loads.clear();
+		return drained;
+	}
+}
@@ -0,0 +1,174 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.DoubleSupplier;
+
+import org.godotengine.plugin.admob.model.RetryPolicy;
+
+
+/**
+ * Schedules retries of failed ad loads according to the {@link RetryPolicy} of each ad format.
+ *
+ * <p>Retries are held back while the app is in the background (between {@code onStop} and {@code onStart} of the
+ * process lifecycle) and are rescheduled with their full delay once it returns to the foreground.
+ */
+class RetryScheduler implements DefaultLifecycleObserver {
+	private static final String CLASS_NAME = RetryScheduler.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	private final class PendingRetry implements Runnable {
+		final String adId;
+		final Runnable reload;
+		final long delayMillis;
+
+		PendingRetry(String adId, Runnable reload, long delayMillis) {
+			this.adId = adId;
+			this.reload = reload;
+			this.delayMillis = delayMillis;
+		}
+
+		@Override
+		public void run() {
+			if (onRetryDue(this)) {
+				reload.run();
+			}
+		}
+	}
+
+	private final Handler handler;
+	private final DoubleSupplier random;
+	private final AtomicReferenceArray<RetryPolicy> policies = new AtomicReferenceArray<>(AdFormat.values().length);
+
+	// Guarded by this
+	private final Map<String, Integer> retryCounts = new HashMap<>();
+	private final Map<String, PendingRetry> pendingRetries = new HashMap<>();
+	private boolean isPaused;
+
+	RetryScheduler() {
+		this(new Handler(Looper.getMainLooper()), () -> ThreadLocalRandom.current().nextDouble());
+	}
+
+	RetryScheduler(Handler handler, DoubleSupplier random) {
+		this.handler = handler;
+		this.random = random;
+		for (int i = 0; i < AdFormat.values().length; i++) {
+			policies.set(i, RetryPolicy.DISABLED);
+		}
+	}
+
+	void setPolicy(AdFormat format, RetryPolicy policy) {
+		policies.set(format.ordinal(), policy == null ? RetryPolicy.DISABLED : policy);
+	}
+
+	RetryPolicy getPolicy(AdFormat format) {
+		return policies.get(format.ordinal());
+	}
+
+	/**
+	 * Schedules the next retry of the ad if the policy of its format allows one for the error. Returns false if the
+	 * failure is final, in which case the ad's retry count is reset.
+	 */
+	synchronized boolean scheduleRetry(AdFormat format, String adId, int errorCode, Runnable reload) {
+		int retryNumber = retryCounts.getOrDefault(adId, 0) + 1;
+		long delayMillis = getPolicy(format).getDelayMillis(errorCode, retryNumber, random.getAsDouble());
+		if (delayMillis == RetryPolicy.NO_RETRY) {
+			retryCounts.remove(adId);
+			return false;
+		}
+
+		retryCounts.put(adId, retryNumber);
+
+		PendingRetry retry = new PendingRetry(adId, reload, delayMillis);
+		PendingRetry previous = pendingRetries.put(adId, retry);
+		if (previous != null) {
+			handler.removeCallbacks(previous);
+		}
+
+		AdmobLog.d(LOG_TAG, "Retry %d of %s (error code %d) in %d ms%s", retryNumber, adId, errorCode,
+				delayMillis, isPaused ? " once the app returns to the foreground" : "");
+		if (!isPaused) {
+			handler.postDelayed(retry, delayMillis);
+		}
+		return true;
+	}
+
+	/**
+	 * Resets the retry count of the ad after it has loaded successfully.
+	 */
+	synchronized void onLoadSucceeded(String adId) {
+		retryCounts.remove(adId);
+	}
+
+	/**
+	 * Cancels any pending retry of the ad and resets its retry count (e.g. because the ad has been removed).
+	 */
+	synchronized void cancel(String adId) {
+		retryCounts.remove(adId);
+		PendingRetry retry = pendingRetries.remove(adId);
+		if (retry != null) {
+			handler.removeCallbacks(retry);
+		}
+	}
+
+	synchronized void cancelAll() {
+		for (PendingRetry retry : pendingRetries.values()) {
+			handler.removeCallbacks(retry);
+		}
+		pendingRetries.clear();
+		retryCounts.clear();
+	}
+
+	synchronized int getPendingRetryCount() {
+		return pendingRetries.size();
+	}
+
+	synchronized void pause() {
+		if (!isPaused) {
+			isPaused = true;
+			for (PendingRetry retry : pendingRetries.values()) {
+				handler.removeCallbacks(retry);
+			}
+		}
+	}
+
+	synchronized void resume() {
+		if (isPaused) {
+			isPaused = false;
+			for (PendingRetry retry : pendingRetries.values()) {
+				handler.postDelayed(retry, retry.delayMillis);
+			}
+		}
+	}
+
+	@Override
+	public void onStart(@NonNull LifecycleOwner owner) {
+		resume();
+	}
+
+	@Override
+	public void onStop(@NonNull LifecycleOwner owner) {
+		pause();
+	}
+
+	private synchronized boolean onRetryDue(PendingRetry retry) {
+		if (pendingRetries.get(retry.adId) != retry || isPaused) {
+			return false;
+		}
+		pendingRetries.remove(retry.adId);
+		return true;
+	}
+}
@@ -5,7 +5,6 @@
 package org.godotengine.plugin.admob;
 
 import android.app.Activity;
-import android.util.Log;
 
 import androidx.annotation.NonNull;
 
@@ -23,6 +22,8 @@ import org.godotengine.plugin.admob.model.LoadAdRequest;
 interface RewardedInterstitialListener {
 	void onRewardedInterstitialLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo);
 
+	void onRewardedInterstitialRefreshed(AdmobAdInfo adInfo, ResponseInfo responseInfo);
+
 	void onRewardedInterstitialFailedToLoad(AdmobAdInfo adInfo, LoadAdError loadAdError);
 
 	void onRewardedInterstitialOpened(AdmobAdInfo adInfo);
@@ -38,7 +39,7 @@ interface RewardedInterstitialListener {
 	void onRewarded(AdmobAdInfo adInfo, RewardItem reward);
 }
 
-public class RewardedInterstitial {
+public class RewardedInterstitial implements FullScreenAd {
 	private static final String CLASS_NAME = RewardedInterstitial.class.getSimpleName();
 	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
 
@@ -48,7 +49,8 @@ public class RewardedInterstitial {
 	private final Activity activity;
 	private final RewardedInterstitialListener listener;
 
-	private RewardedInterstitialAd rewardedAd;
+	private volatile RewardedInterstitialAd rewardedAd;
+	private volatile boolean isDisposed;
 
 	RewardedInterstitial(AdmobAdInfo adInfo, Activity activity, final RewardedInterstitialListener listener) {
 		this.adInfo = adInfo;
@@ -58,39 +60,119 @@ public class RewardedInterstitial {
 		this.activity = activity;
 		this.listener = listener;
 		this.rewardedAd = null;
+		LiveAdObjects.onAdCreated(AdFormat.REWARDED_INTERSTITIAL);
+	}
+
+	@Override
+	public String getAdId() {
+		return adId;
+	}
+
+	@Override
+	public AdmobAdInfo getAdInfo() {
+		return adInfo;
+	}
+
+	@Override
+	public boolean isLoaded() {
+		return rewardedAd != null;
+	}
+
+	@Override
+	public void expire() {
+		activity.runOnUiThread(() -> {
+			if (rewardedAd != null) {
+				AdmobLog.i(LOG_TAG, "rewarded interstitial ad expired");
+				setAd(null);
+			}
+		});
 	}
 
-	void load() {
+	@Override
+	public void dispose() {
+		if (isDisposed) {
+			return;
+		}
+		isDisposed = true;
+		LiveAdObjects.onAdDisposed(AdFormat.REWARDED_INTERSTITIAL);
+		activity.runOnUiThread(() -> {
+			if (rewardedAd != null) {
+				setAd(null);
+			}
+		});
+	}
+
+	@Override
+	public void load() {
+		load(false);
+	}
+
+	@Override
+	public void refresh() {
+		load(true);
+	}
+
+	private void load(boolean isRefresh) {
+		if (isDisposed) {
+			AdmobLog.w(LOG_TAG, "load(): rewarded interstitial ad has been disposed");
+			return;
+		}
 		activity.runOnUiThread(() -> {
+			final long loadStartedAt = AdMetrics.onLoadStarted(AdFormat.REWARDED_INTERSTITIAL,
+					loadRequest.getAdUnitId());
 			RewardedInterstitialAd.load(activity, loadRequest.getAdUnitId(), loadRequest.createAdRequest(),
 				new RewardedInterstitialAdLoadCallback() {
 					@Override
 					public void onAdLoaded(@NonNull RewardedInterstitialAd rewardedAd) {
 						super.onAdLoaded(rewardedAd);
+						AdMetrics.onLoadSucceeded(AdFormat.REWARDED_INTERSTITIAL, loadRequest.getAdUnitId(),
+								loadStartedAt);
+						if (isDisposed) {
+							return;
+						}
 						setAd(rewardedAd);
-						Log.i(LOG_TAG, "rewarded interstitial ad loaded");
-						listener.onRewardedInterstitialLoaded(RewardedInterstitial.this.adInfo,
-								rewardedAd.getResponseInfo());
+						if (isRefresh) {
+							AdmobLog.i(LOG_TAG, "rewarded interstitial ad refreshed");
+							listener.onRewardedInterstitialRefreshed(RewardedInterstitial.this.adInfo,
+									rewardedAd.getResponseInfo());
+						} else {
+							AdmobLog.i(LOG_TAG, "rewarded interstitial ad loaded");
+							listener.onRewardedInterstitialLoaded(RewardedInterstitial.this.adInfo,
+									rewardedAd.getResponseInfo());
+						}
 					}
 
 					@Override
 					public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
 						super.onAdFailedToLoad(loadAdError);
+						AdMetrics.onLoadFailed(AdFormat.REWARDED_INTERSTITIAL, loadRequest.getAdUnitId(), loadStartedAt,
+								loadAdError.getCode());
+						if (isDisposed) {
+							return;
+						}
+						if (isRefresh && rewardedAd != null) {
+							// Keep the loaded ad until it expires instead of dropping it early
+							AdmobLog.w(LOG_TAG, "rewarded interstitial ad refresh failed. errorCode: %d",
+									loadAdError.getCode());
+							return;
+						}
 
 						setAd(null); // safety
-						Log.e(LOG_TAG, "rewarded interstitial ad failed to load. errorCode: " + loadAdError.getCode());
+						AdmobLog.e(LOG_TAG, "rewarded interstitial ad failed to load. errorCode: %d",
+								loadAdError.getCode());
 						listener.onRewardedInterstitialFailedToLoad(RewardedInterstitial.this.adInfo, loadAdError);
 					}
 				});
 		});
 	}
 
-	void show() {
+	@Override
+	public void show() {
 		if (rewardedAd != null) {
 			activity.runOnUiThread(() -> {
 				rewardedAd.show(activity, rewardItem -> {
-					Log.i(LOG_TAG, String.format("rewarded interstitial ad rewarded! currency: %s amount: %d",
-							rewardItem.getType(), rewardItem.getAmount()));
+					AdmobLog.i(LOG_TAG, "rewarded interstitial ad rewarded! currency: %s amount: %d",
+							rewardItem.getType(), rewardItem.getAmount());
 					listener.onRewarded(RewardedInterstitial.this.adInfo, rewardItem);
 				});
 			});
@@ -99,42 +181,42 @@ public class RewardedInterstitial {
 
 	private void setAd(RewardedInterstitialAd rewardedAd) {
 		if (rewardedAd == this.rewardedAd) {
-			Log.w(LOG_TAG, "setAd(): rewarded interstitial already set");
+			AdmobLog.w(LOG_TAG, "setAd(): rewarded interstitial already set");
 		} else {
 			if (rewardedAd != null) {
 				rewardedAd.setFullScreenContentCallback(new FullScreenContentCallback() {
 					@Override
 					public void onAdClicked() {
 						super.onAdClicked();
-						Log.i(LOG_TAG, "rewarded interstitial ad clicked");
+						AdmobLog.i(LOG_TAG, "rewarded interstitial ad clicked");
 						listener.onRewardedClicked(RewardedInterstitial.this.adInfo);
 					}
 
 					@Override
 					public void onAdDismissedFullScreenContent() {
 						super.onAdDismissedFullScreenContent();
-						Log.i(LOG_TAG, "rewarded interstitial ad dismissed full screen content");
+						AdmobLog.i(LOG_TAG, "rewarded interstitial ad dismissed full screen content");
 						listener.onRewardedInterstitialClosed(RewardedInterstitial.this.adInfo);
 					}
 
 					@Override
 					public void onAdFailedToShowFullScreenContent(@NonNull AdError adError) {
 						super.onAdFailedToShowFullScreenContent(adError);
-						Log.e(LOG_TAG, "rewarded interstitial ad failed to show full screen content");
+						AdmobLog.e(LOG_TAG, "rewarded interstitial ad failed to show full screen content");
 						listener.onRewardedInterstitialFailedToShow(RewardedInterstitial.this.adInfo, adError);
 					}
 
 					@Override
 					public void onAdImpression() {
 						super.onAdImpression();
-						Log.i(LOG_TAG, "rewarded interstitial ad impression");
+						AdmobLog.i(LOG_TAG, "rewarded interstitial ad impression");
 						listener.onRewardedAdImpression(RewardedInterstitial.this.adInfo);
 					}
 
 					@Override
 					public void onAdShowedFullScreenContent() {
 						super.onAdShowedFullScreenContent();
-						Log.i(LOG_TAG, "rewarded interstitial ad showed full screen content");
+						AdmobLog.i(LOG_TAG, "rewarded interstitial ad showed full screen content");
 						listener.onRewardedInterstitialOpened(RewardedInterstitial.this.adInfo);
 					}
 				});
@@ -5,7 +5,6 @@
 package org.godotengine.plugin.admob;
 
 import android.app.Activity;
-import android.util.Log;
 
 import androidx.annotation.NonNull;
 
@@ -24,6 +23,8 @@ import org.godotengine.plugin.admob.model.LoadAdRequest;
 interface RewardedVideoListener {
 	void onRewardedVideoLoaded(AdmobAdInfo adInfo, ResponseInfo responseInfo);
 
+	void onRewardedVideoRefreshed(AdmobAdInfo adInfo, ResponseInfo responseInfo);
+
 	void onRewardedVideoFailedToLoad(AdmobAdInfo adInfo, LoadAdError loadAdError);
 
 	void onRewardedVideoOpened(AdmobAdInfo adInfo);
@@ -40,7 +41,7 @@ interface RewardedVideoListener {
 }
 
 
-public class RewardedVideo {
+public class RewardedVideo implements FullScreenAd {
 	private static final String CLASS_NAME = RewardedVideo.class.getSimpleName();
 	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
 
@@ -50,7 +51,8 @@ public class RewardedVideo {
 	private final Activity activity;
 	private final RewardedVideoListener listener;
 
-	private RewardedAd rewardedAd;
+	private volatile RewardedAd rewardedAd;
+	private volatile boolean isDisposed;
 
 	RewardedVideo(AdmobAdInfo adInfo, Activity activity, final RewardedVideoListener listener) {
 		this.adInfo = adInfo;
@@ -60,38 +62,114 @@ public class RewardedVideo {
 		this.activity = activity;
 		this.listener = listener;
 		this.rewardedAd = null;
+		LiveAdObjects.onAdCreated(AdFormat.REWARDED);
+	}
+
+	@Override
+	public String getAdId() {
+		return adId;
+	}
+
+	@Override
+	public AdmobAdInfo getAdInfo() {
+		return adInfo;
+	}
+
+	@Override
+	public boolean isLoaded() {
+		return rewardedAd != null;
+	}
+
+	@Override
+	public void expire() {
+		activity.runOnUiThread(() -> {
+			if (rewardedAd != null) {
+				AdmobLog.i(LOG_TAG, "rewarded video ad expired");
+				setAd(null);
+			}
+		});
 	}
 
-	void load() {
+	@Override
+	public void dispose() {
+		if (isDisposed) {
+			return;
+		}
+		isDisposed = true;
+		LiveAdObjects.onAdDisposed(AdFormat.REWARDED);
+		activity.runOnUiThread(() -> {
+			if (rewardedAd != null) {
+				setAd(null);
+			}
+		});
+	}
+
+	@Override
+	public void load() {
+		load(false);
+	}
+
+	@Override
+	public void refresh() {
+		load(true);
+	}
+
+	private void load(boolean isRefresh) {
+		if (isDisposed) {
+			AdmobLog.w(LOG_TAG, "load(): rewarded video ad has been disposed");
+			return;
+		}
 		activity.runOnUiThread(() -> {
+			final long loadStartedAt = AdMetrics.onLoadStarted(AdFormat.REWARDED, loadRequest.getAdUnitId());
 			RewardedAd.load(activity, loadRequest.getAdUnitId(), loadRequest.createAdRequest(),
 				new RewardedAdLoadCallback() {
 					@Override
 					public void onAdLoaded(@NonNull RewardedAd rewardedAd) {
 						super.onAdLoaded(rewardedAd);
+						AdMetrics.onLoadSucceeded(AdFormat.REWARDED, loadRequest.getAdUnitId(), loadStartedAt);
+						if (isDisposed) {
+							return;
+						}
 						setAd(rewardedAd);
-						Log.i(LOG_TAG, "rewarded video ad loaded");
-						listener.onRewardedVideoLoaded(RewardedVideo.this.adInfo, rewardedAd.getResponseInfo());
+						if (isRefresh) {
+							AdmobLog.i(LOG_TAG, "rewarded video ad refreshed");
+							listener.onRewardedVideoRefreshed(RewardedVideo.this.adInfo, rewardedAd.getResponseInfo());
+						} else {
+							AdmobLog.i(LOG_TAG, "rewarded video ad loaded");
+							listener.onRewardedVideoLoaded(RewardedVideo.this.adInfo, rewardedAd.getResponseInfo());
+						}
 					}
 
 					@Override
 					public void onAdFailedToLoad(@NonNull LoadAdError loadAdError) {
 						super.onAdFailedToLoad(loadAdError);
+						AdMetrics.onLoadFailed(AdFormat.REWARDED, loadRequest.getAdUnitId(), loadStartedAt,
+								loadAdError.getCode());
+						if (isDisposed) {
+							return;
+						}
+						if (isRefresh && rewardedAd != null) {
+							// Keep the loaded ad until it expires instead of dropping it early
+							AdmobLog.w(LOG_TAG, "rewarded video ad refresh failed. errorCode: %s",
+									loadAdError.getCode());
+							return;
+						}
 						// safety
 						setAd(null);
-						Log.e(LOG_TAG, "rewarded video ad failed to load. errorCode: " + loadAdError.getCode());
+						AdmobLog.e(LOG_TAG, "rewarded video ad failed to load. errorCode: %s", loadAdError.getCode());
 						listener.onRewardedVideoFailedToLoad(RewardedVideo.this.adInfo, loadAdError);
 					}
 				});
 		});
 	}
 
-	void show() {
+	@Override
+	public void show() {
 		if (rewardedAd != null) {
 			activity.runOnUiThread(() -> {
 				rewardedAd.show(activity, rewardItem -> {
-					Log.i(LOG_TAG, String.format("rewarded video ad reward received! currency: %s amount: %d",
-							rewardItem.getType(), rewardItem.getAmount()));
+					AdmobLog.i(LOG_TAG, "rewarded video ad reward received! currency: %s amount: %d",
+							rewardItem.getType(), rewardItem.getAmount());
 					listener.onRewarded(RewardedVideo.this.adInfo, rewardItem);
 				});
 			});
@@ -100,42 +178,42 @@ public class RewardedVideo {
 
 	private void setAd(RewardedAd rewardedAd) {
 		if (rewardedAd == this.rewardedAd) {
-			Log.w(LOG_TAG, "setAd(): rewarded already set");
+			AdmobLog.w(LOG_TAG, "setAd(): rewarded already set");
 		} else {
 			if (rewardedAd != null) {
 				rewardedAd.setFullScreenContentCallback(new FullScreenContentCallback() {
 					@Override
 					public void onAdClicked() {
 						super.onAdClicked();
-						Log.i(LOG_TAG, "rewarded video ad clicked");
+						AdmobLog.i(LOG_TAG, "rewarded video ad clicked");
 						listener.onRewardedClicked(RewardedVideo.this.adInfo);
 					}
 
 					@Override
 					public void onAdDismissedFullScreenContent() {
 						super.onAdDismissedFullScreenContent();
-						Log.i(LOG_TAG, "rewarded video ad dismissed full screen content");
+						AdmobLog.i(LOG_TAG, "rewarded video ad dismissed full screen content");
 						listener.onRewardedVideoClosed(RewardedVideo.this.adInfo);
 					}
 
 					@Override
 					public void onAdFailedToShowFullScreenContent(@NonNull AdError adError) {
 						super.onAdFailedToShowFullScreenContent(adError);
-						Log.e(LOG_TAG, "rewarded video ad failed to show full screen content");
+						AdmobLog.e(LOG_TAG, "rewarded video ad failed to show full screen content");
 						listener.onRewardedVideoFailedToShow(RewardedVideo.this.adInfo, adError);
 					}
 
 					@Override
 					public void onAdImpression() {
 						super.onAdImpression();
-						Log.i(LOG_TAG, "rewarded video ad impression");
+						AdmobLog.i(LOG_TAG, "rewarded video ad impression");
 						listener.onRewardedAdImpression(RewardedVideo.this.adInfo);
 					}
 
 					@Override
 					public void onAdShowedFullScreenContent() {
 						super.onAdShowedFullScreenContent();
-						Log.i(LOG_TAG, "rewarded video ad showed full screen content");
+						AdmobLog.i(LOG_TAG, "rewarded video ad showed full screen content");
 						listener.onRewardedVideoOpened(RewardedVideo.this.adInfo);
 					}
 				});
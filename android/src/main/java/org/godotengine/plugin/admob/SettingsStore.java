@@ -0,0 +1,205 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import android.content.SharedPreferences;
+
+import org.godotengine.godot.Dictionary;
+
+import org.godotengine.plugin.admob.model.AdSettings;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+
+/**
+ * Persisted global settings of the plugin, served from memory.
+ *
+ * <p>The settings are read from {@link SharedPreferences} once, preferably in the background through
+ * {@link #preload()}, and all reads after that are served from memory. Updates are applied to memory immediately and
+ * only the settings whose values actually changed are written back, in the background and in update order.
+ *
+ * <p>Besides the settings known to {@link AdSettings}, any setting with a boolean, integer, float or string value is
+ * stored under its own key, so that new settings need no new JNI methods. Setting a key to null removes it. The
+ * per-format ad TTLs (see {@link #createAdTtlKey}) are read back by the plugin when SDK initialization completes.
+ */
+class SettingsStore {
+	private static final String CLASS_NAME = SettingsStore.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	static final String PREFS_NAME = "godot_admob_settings";
+
+	private static final String AD_TTL_KEY_SUFFIX = "_ttl_seconds";
+
+	private final Supplier<SharedPreferences> prefsSupplier;
+	private final Executor executor;
+
+	// Guarded by this
+	private SharedPreferences prefs;
+	private Map<String, Object> values;
+
+	// Guarded by this; changed values that have not been written yet, null values for removed keys
+	private final Map<String, Object> pendingWrites = new LinkedHashMap<>();
+
+	// Held while writing, so that writes are applied in the order of the updates
+	private final Object writeLock = new Object();
+
+	SettingsStore(Supplier<SharedPreferences> prefsSupplier, Executor executor) {
+		this.prefsSupplier = prefsSupplier;
+		this.executor = executor;
+	}
+
+	/**
+	 * Loads the settings on the executor, so that later reads do not have to wait for disk I/O.
+	 */
+	void preload() {
+		executor.execute(this::ensureLoaded);
+	}
+
+	/**
+	 * Returns the settings known to {@link AdSettings}, with defaults for the ones that have not been set, along with
+	 * all other stored settings.
+	 */
+	AdSettings getAdSettings() {
+		Dictionary data = new Dictionary();
+		synchronized (this) {
+			ensureLoaded();
+			data.putAll(values);
+		}
+
+		AdSettings adSettings = new AdSettings(data);
+		if (!adSettings.hasAdVolume()) {
+			adSettings.setAdVolume(AdSettings.DEFAULT_AD_VOLUME);
+		}
+		if (!adSettings.hasAdsMuted()) {
+			adSettings.setAdsMuted(AdSettings.DEFAULT_ADS_MUTED);
+		}
+		if (!adSettings.hasApplyAtStartup()) {
+			adSettings.setApplyAtStartup(AdSettings.DEFAULT_APPLY_AT_STARTUP);
+		}
+		return adSettings;
+	}
+
+	/**
+	 * Returns the stored integer setting, or the default value if it has not been set.
+	 */
+	synchronized long getLong(String key, long defaultValue) {
+		ensureLoaded();
+		Object value = values.get(key);
+		return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+	}
+
+	/**
+	 * Returns the key of the setting that holds how long ads of the given format stay valid, in seconds (e.g.
+	 * "interstitial_ttl_seconds").
+	 */
+	static String createAdTtlKey(AdFormat format) {
+		return format.getKey() + AD_TTL_KEY_SUFFIX;
+	}
+
+	/**
+	 * Stores the given settings and schedules writing the ones whose values changed. Settings that are not given
+	 * keep their stored values. Returns the number of changed settings.
+	 */
+	int update(Dictionary settings) {
+		int changeCount = 0;
+		synchronized (this) {
+			ensureLoaded();
+			for (Map.Entry<String, Object> entry : settings.entrySet()) {
+				String key = entry.getKey();
+				Object value = normalize(key, entry.getValue());
+				if (value == null && entry.getValue() != null) {
+					AdmobLog.w(LOG_TAG, "Ignoring setting %s: unsupported value type %s", key,
+							entry.getValue().getClass().getSimpleName());
+				} else if (value == null ? values.containsKey(key) : !value.equals(values.get(key))) {
+					if (value == null) {
+						values.remove(key);
+					} else {
+						values.put(key, value);
+					}
+					pendingWrites.put(key, value);
+					changeCount++;
+				}
+			}
+		}
+
+		if (changeCount > 0) {
+			AdmobLog.d(LOG_TAG, "Writing %d changed settings", changeCount);
+			executor.execute(this::writePending);
+		} else {
+			AdmobLog.d(LOG_TAG, "Settings unchanged");
+		}
+		return changeCount;
+	}
+
+	/**
+	 * Converts the value to the type it is stored as, or returns null if it is null or cannot be stored. The settings
+	 * known to {@link AdSettings} keep their type; integers are stored as longs and other numbers as floats.
+	 */
+	static Object normalize(String key, Object value) {
+		if (value == null) {
+			return null;
+		}
+		if (AdSettings.DATA_KEY_AD_VOLUME.equals(key)) {
+			return value instanceof Number ? ((Number) value).floatValue() : null;
+		}
+		if (AdSettings.DATA_KEY_ADS_MUTED.equals(key) || AdSettings.DATA_KEY_APPLY_AT_STARTUP.equals(key)) {
+			return value instanceof Boolean ? value : null;
+		}
+		if (value instanceof Boolean || value instanceof String) {
+			return value;
+		}
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).longValue();
+		}
+		if (value instanceof Number) {
+			return ((Number) value).floatValue();
+		}
+		return null;
+	}
+
+	private synchronized void ensureLoaded() {
+		if (values == null) {
+			prefs = prefsSupplier.get();
+			values = new HashMap<>(prefs.getAll());
+			AdmobLog.d(LOG_TAG, "Loaded %d settings", values.size());
+		}
+	}
+
+	private void writePending() {
+		synchronized (writeLock) {
+			SharedPreferences.Editor editor;
+			Map<String, Object> writes;
+			synchronized (this) {
+				if (pendingWrites.isEmpty()) {
+					return;	// already written by a previous task
+				}
+				writes = new LinkedHashMap<>(pendingWrites);
+				pendingWrites.clear();
+				editor = prefs.edit();
+			}
+
+			for (Map.Entry<String, Object> entry : writes.entrySet()) {
+				String key = entry.getKey();
+				Object value = entry.getValue();
+				if (value == null) {
+					editor.remove(key);
+				} else if (value instanceof Boolean) {
+					editor.putBoolean(key, (Boolean) value);
+				} else if (value instanceof Long) {
+					editor.putLong(key, (Long) value);
+				} else if (value instanceof Float) {
+					editor.putFloat(key, (Float) value);
+				} else {
+					editor.putString(key, (String) value);
+				}
+			}
+			editor.apply();
+		}
+	}
+}
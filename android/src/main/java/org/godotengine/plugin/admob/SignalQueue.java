@@ -0,0 +1,79 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.godotengine.godot.Dictionary;
+
+
+/**
+ * Collects plugin signals while batched delivery is enabled, so that GDScript can drain them once per frame with a
+ * single JNI call instead of receiving one {@code emitSignal()} call per event.
+ */
+class SignalQueue {
+	static final String EVENT_SIGNAL_PROPERTY = "signal";
+	static final String EVENT_ARGS_PROPERTY = "args";
+
+	private static final Object[] NO_EVENTS = new Object[0];
+
+	interface SignalEmitter {
+		void emit(String signalName, Object... signalArgs);
+	}
+
+	private final ConcurrentLinkedQueue<Dictionary> events = new ConcurrentLinkedQueue<>();
+
+	// Set by the first event queued since the last drain
+	private final AtomicBoolean hasUndrainedEvents = new AtomicBoolean();
+
+	/**
+	 * Queues the event. Returns true if it is the first event since the queue was last drained, i.e. if GDScript
+	 * needs to be told that there are events to drain.
+	 */
+	boolean enqueue(String signalName, Object... signalArgs) {
+		Dictionary event = new Dictionary();
+		event.put(EVENT_SIGNAL_PROPERTY, signalName);
+		event.put(EVENT_ARGS_PROPERTY, signalArgs);
+		events.add(event);
+		return hasUndrainedEvents.compareAndSet(false, true);
+	}
+
+	boolean isEmpty() {
+		return events.isEmpty();
+	}
+
+	/**
+	 * Removes all queued events and returns them in the order they were queued.
+	 */
+	Object[] drain() {
+		// Cleared first, so that events queued while draining notify again
+		hasUndrainedEvents.set(false);
+		if (events.isEmpty()) {
+			return NO_EVENTS;
+		}
+
+		List<Dictionary> drained = new ArrayList<>();
+		Dictionary event;
+		while ((event = events.poll()) != null) {
+			drained.add(event);
+		}
+
+		return drained.toArray();
+	}
+
+	/**
+	 * Removes all queued events and emits them one by one through the given emitter.
+	 */
+	void flush(SignalEmitter emitter) {
+		hasUndrainedEvents.set(false);
+		Dictionary event;
+		while ((event = events.poll()) != null) {
+			emitter.emit((String) event.get(EVENT_SIGNAL_PROPERTY), (Object[]) event.get(EVENT_ARGS_PROPERTY));
+		}
+	}
+}
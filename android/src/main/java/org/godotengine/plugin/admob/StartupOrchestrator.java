@@ -0,0 +1,120 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Runs the startup steps of the plugin (consent update, SDK initialization, first ad loads, ...) as a small
+ * dependency graph: every step is started as soon as all of the steps it depends on have completed, so that
+ * independent steps overlap instead of running one after the other.
+ *
+ * <p>Steps are asynchronous; each one receives a callback that it must invoke exactly once when it is done, on any
+ * thread. Dependent steps are started on the thread that completed their last dependency.
+ */
+class StartupOrchestrator {
+	private static final String CLASS_NAME = StartupOrchestrator.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	interface Step {
+		void run(Runnable onDone);
+	}
+
+	private static final class Node {
+		final String name;
+		final Step step;
+		final Set<String> dependencies;
+		boolean isStarted;
+
+		Node(String name, Step step, Set<String> dependencies) {
+			this.name = name;
+			this.step = step;
+			this.dependencies = dependencies;
+		}
+	}
+
+	private final Map<String, Node> nodes = new LinkedHashMap<>();
+	private final Set<String> completed = new HashSet<>();
+	private boolean isStarted;
+
+	/**
+	 * Adds a step that starts once all of the given steps have completed. Dependencies must have been added before.
+	 */
+	synchronized StartupOrchestrator addStep(String name, Step step, String... dependsOn) {
+		if (isStarted) {
+			throw new IllegalStateException("Cannot add step '" + name + "' after startup has begun");
+		}
+		if (nodes.containsKey(name)) {
+			throw new IllegalArgumentException("Duplicate startup step '" + name + "'");
+		}
+
+		Set<String> dependencies = new HashSet<>();
+		for (String dependency : dependsOn) {
+			if (!nodes.containsKey(dependency)) {
+				throw new IllegalArgumentException(String.format("Startup step '%s' depends on unknown step '%s'",
+						name, dependency));
+			}
+			dependencies.add(dependency);
+		}
+
+		nodes.put(name, new Node(name, step, dependencies));
+		return this;
+	}
+
+	void start() {
+		List<Node> ready;
+		synchronized (this) {
+			isStarted = true;
+			ready = collectReadyNodes();
+		}
+		runNodes(ready);
+	}
+
+	synchronized boolean isCompleted(String name) {
+		return completed.contains(name);
+	}
+
+	synchronized boolean isFinished() {
+		return completed.size() == nodes.size();
+	}
+
+	private void onStepDone(Node node) {
+		List<Node> ready;
+		synchronized (this) {
+			if (!completed.add(node.name)) {
+				AdmobLog.w(LOG_TAG, "Startup step '%s' reported completion more than once", node.name);
+				return;
+			}
+			AdmobLog.d(LOG_TAG, "Startup step '%s' completed", node.name);
+			ready = collectReadyNodes();
+		}
+		runNodes(ready);
+	}
+
+	private List<Node> collectReadyNodes() {
+		List<Node> ready = new ArrayList<>();
+		for (Node node : nodes.values()) {
+			if (!node.isStarted && completed.containsAll(node.dependencies)) {
+				node.isStarted = true;
+				ready.add(node);
+			}
+		}
+		return ready;
+	}
+
+	private void runNodes(List<Node> ready) {
+		for (Node node : ready) {
+			AdmobLog.d(LOG_TAG, "Starting startup step '%s'", node.name);
+			node.step.run(() -> onStepDone(node));
+		}
+	}
+}
@@ -5,10 +5,13 @@
 package org.godotengine.plugin.admob.mediation;
 
 import android.content.Context;
-import android.util.Log;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.godotengine.godot.Dictionary;
 
+import org.godotengine.plugin.admob.AdmobLog;
 import org.godotengine.plugin.admob.AdmobPlugin;
 import org.godotengine.plugin.admob.mediation.network.MediationNetwork;
 import org.godotengine.plugin.admob.mediation.network.MediationNetworkFactory;
@@ -22,11 +25,33 @@ public class PrivacySettings {
 		void apply(PrivacySettings settings, Context context);
 	}
 
+	/**
+	 * Result of applying the privacy settings to a single mediation network
+	 */
+	public enum Outcome {
+		APPLIED,		// at least one setting was applied and none failed
+		UNSUPPORTED,	// the network does not need the settings or its adapter is not included
+		FAILED			// the network is unknown or at least one setting could not be applied
+	}
+
+	public interface CompletionListener {
+		/**
+		 * Called once the privacy settings have been applied to all enabled networks
+		 *
+		 * @param results Per-network results keyed by network tag (see {@link #OUTCOME_PROPERTY} and
+		 * 			{@link #DURATION_MS_PROPERTY})
+		 */
+		void onCompleted(Dictionary results);
+	}
+
 	public static final String HAS_GDPR_CONSENT_PROPERTY = "has_gdpr_consent";
 	public static final String IS_AGE_RESTRICTED_USER_PROPERTY = "is_age_restricted_user";
 	public static final String HAS_CCPA_SALE_CONSENT_PROPERTY = "has_ccpa_sale_consent";
 	public static final String ENABLED_NETWORKS_PROPERTY = "enabled_networks";
 
+	public static final String OUTCOME_PROPERTY = "outcome";
+	public static final String DURATION_MS_PROPERTY = "duration_ms";
+
 	private Dictionary rawData;
 
 	public PrivacySettings(Dictionary rawData) {
@@ -34,20 +59,72 @@ public class PrivacySettings {
 	}
 
 	public void applyPrivacySettings(Context context) {
-		Log.d(LOG_TAG, "applyPrivacySettings()");
+		AdmobLog.d(LOG_TAG, "applyPrivacySettings()");
 		Object[] enabledNetworksArray = getEnabledNetworks();
-		Log.d(LOG_TAG, "Found " + enabledNetworksArray.length + " enabled networks to process");
+		AdmobLog.d(LOG_TAG, "Found %s enabled networks to process", enabledNetworksArray.length);
 
 		for (Object networkTag : enabledNetworksArray) {
-			MediationNetwork network = MediationNetworkFactory.createNetwork((String) networkTag);
-			if (network == null) {
-				Log.w(LOG_TAG, "Mediation network not found for network tag '" + network + "'");
-			} else {
-				network.applyPrivacySettings(this, context);
-			}
+			applyToNetwork((String) networkTag, context);
 		}
 	}
 
+	/**
+	 * Applies the privacy settings to the enabled networks concurrently on the given executor, so that a slow
+	 * network SDK neither blocks the caller's thread nor the other networks.
+	 *
+	 * @param context The Android Context required for SDK calls
+	 * @param executor The executor that runs one task per network
+	 * @param listener Notified on an executor thread once all networks have been processed
+	 */
+	public void applyPrivacySettingsAsync(Context context, Executor executor, CompletionListener listener) {
+		AdmobLog.d(LOG_TAG, "applyPrivacySettingsAsync()");
+		Object[] enabledNetworksArray = getEnabledNetworks();
+		AdmobLog.d(LOG_TAG, "Found %s enabled networks to process", enabledNetworksArray.length);
+
+		Dictionary results = new Dictionary();
+		if (enabledNetworksArray.length == 0) {
+			listener.onCompleted(results);
+			return;
+		}
+
+		AtomicInteger remaining = new AtomicInteger(enabledNetworksArray.length);
+		for (Object networkTag : enabledNetworksArray) {
+			executor.execute(() -> {
+				Dictionary result = applyToNetwork((String) networkTag, context);
+				synchronized (results) {
+					results.put((String) networkTag, result);
+				}
+				if (remaining.decrementAndGet() == 0) {
+					listener.onCompleted(results);
+				}
+			});
+		}
+	}
+
+	Dictionary applyToNetwork(String networkTag, Context context) {
+		long startTime = System.nanoTime();
+
+		Outcome outcome;
+		MediationNetwork network = MediationNetworkFactory.createNetwork(networkTag);
+		if (network == null) {
+			AdmobLog.w(LOG_TAG, "Mediation network not found for network tag '%s'", networkTag);
+			outcome = Outcome.FAILED;
+		} else if (network.isAvailable()) {
+			outcome = network.applyPrivacySettings(this, context);
+		} else {
+			AdmobLog.d(LOG_TAG, "Skipping privacy settings for '%s': mediation adapter not found", networkTag);
+			outcome = Outcome.UNSUPPORTED;
+		}
+
+		double durationMs = (System.nanoTime() - startTime) / 1_000_000.0;
+		AdmobLog.d(LOG_TAG, "Privacy settings for '%s': %s (%.2f ms)", networkTag, outcome, durationMs);
+
+		Dictionary result = new Dictionary();
+		result.put(OUTCOME_PROPERTY, outcome.name());
+		result.put(DURATION_MS_PROPERTY, durationMs);
+		return result;
+	}
+
 	// Predicates
 
 	public boolean containsGdprConsentData() {
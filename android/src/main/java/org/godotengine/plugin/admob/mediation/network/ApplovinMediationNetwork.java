@@ -30,9 +30,9 @@ public class ApplovinMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the required privacy settings class
-		Class<?> privacyClass = Class.forName("com.applovin.sdk.AppLovinPrivacySettings");
+		Class<?> privacyClass = findClass("com.applovin.sdk.AppLovinPrivacySettings");
 
-		Method setConsentMethod = privacyClass.getMethod("setHasUserConsent", boolean.class, Context.class);
+		Method setConsentMethod = findMethod(privacyClass, "setHasUserConsent", boolean.class, Context.class);
 		setConsentMethod.invoke(null, hasGdprConsent, context); // static call
 	}
 
@@ -48,9 +48,9 @@ public class ApplovinMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the required privacy settings class
-		Class<?> privacyClass = Class.forName("com.applovin.sdk.AppLovinPrivacySettings");
+		Class<?> privacyClass = findClass("com.applovin.sdk.AppLovinPrivacySettings");
 
-		Method setDoNotSellMethod = privacyClass.getMethod("setDoNotSell", boolean.class, Context.class);
+		Method setDoNotSellMethod = findMethod(privacyClass, "setDoNotSell", boolean.class, Context.class);
 		setDoNotSellMethod.invoke(null, !hasCcpaConsent, context); // static call
 	}
 }
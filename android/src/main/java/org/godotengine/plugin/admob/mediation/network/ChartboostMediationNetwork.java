@@ -32,30 +32,30 @@ public class ChartboostMediationNetwork extends MediationNetwork {
 		 * DataUseConsent dataUseConsent = new GDPR(GDPR.GDPR_CONSENT.BEHAVIORAL [or NON_BEHAVIORAL]);
 		 * Chartboost.addDataUseConsent(context, dataUseConsent);
 		 */
-		Class<?> chartboostClass = Class.forName("com.chartboost.sdk.Chartboost");
+		Class<?> chartboostClass = findClass("com.chartboost.sdk.Chartboost");
 
 		// The second parameter for addDataUseConsent()
-		Class<?> dataUseConsentInterface = Class.forName("com.chartboost.sdk.privacy.model.DataUseConsent");
+		Class<?> dataUseConsentInterface = findClass("com.chartboost.sdk.privacy.model.DataUseConsent");
 
 		// Get the Method object for addDataUseConsent(Context, DataUseConsent)
-		Method addConsentMethod = chartboostClass.getMethod("addDataUseConsent", Context.class,
+		Method addConsentMethod = findMethod(chartboostClass, "addDataUseConsent", Context.class,
 				dataUseConsentInterface);
 
-		Class<?> gdprClass = Class.forName("com.chartboost.sdk.privacy.model.GDPR");
-		Class<?> gdprConsentClass = Class.forName("com.chartboost.sdk.privacy.model.GDPR$GDPR_CONSENT");
+		Class<?> gdprClass = findClass("com.chartboost.sdk.privacy.model.GDPR");
+		Class<?> gdprConsentClass = findClass("com.chartboost.sdk.privacy.model.GDPR$GDPR_CONSENT");
 
 		// Get the public static field 'NON_BEHAVIORAL'
-		Field consentConstantField = gdprConsentClass.getField("NON_BEHAVIORAL");
+		Field consentConstantField = findField(gdprConsentClass, "NON_BEHAVIORAL");
 		// Retrieve the actual value of the static field. Pass 'null' because it's a static field.
 		Object nonBehavioralConstant = consentConstantField.get(null);
 
 		// Get the public static field 'BEHAVIORAL'
-		consentConstantField = gdprConsentClass.getField("BEHAVIORAL");
+		consentConstantField = findField(gdprConsentClass, "BEHAVIORAL");
 		// Retrieve the actual value of the static field. Pass 'null' because it's a static field.
 		Object behavioralConstant = consentConstantField.get(null);
 
 		// Get the constructor for GDPR that takes a GDPR_CONSENT enum.
-		Constructor<?> gdprConstructor = gdprClass.getConstructor(gdprConsentClass);
+		Constructor<?> gdprConstructor = findConstructor(gdprClass, gdprConsentClass);
 
 		// Call the constructor to create the new object.
 		Object dataUseConsent = gdprConstructor.newInstance(hasGdprConsent ? behavioralConstant
@@ -76,30 +76,30 @@ public class ChartboostMediationNetwork extends MediationNetwork {
 		 * DataUseConsent dataUseConsent = new CCPA(CCPA.CCPA_CONSENT.OPT_IN_SALE);
 		 * Chartboost.addDataUseConsent(context, dataUseConsent);
 		 */
-		Class<?> chartboostClass = Class.forName("com.chartboost.sdk.Chartboost");
+		Class<?> chartboostClass = findClass("com.chartboost.sdk.Chartboost");
 
 		// The second parameter for addDataUseConsent()
-		Class<?> dataUseConsentInterface = Class.forName("com.chartboost.sdk.privacy.model.DataUseConsent");
+		Class<?> dataUseConsentInterface = findClass("com.chartboost.sdk.privacy.model.DataUseConsent");
 
 		// Get the Method object for addDataUseConsent(Context, DataUseConsent)
-		Method addConsentMethod = chartboostClass.getMethod("addDataUseConsent", Context.class,
+		Method addConsentMethod = findMethod(chartboostClass, "addDataUseConsent", Context.class,
 				dataUseConsentInterface);
 
-		Class<?> ccpaClass = Class.forName("com.chartboost.sdk.privacy.model.CCPA");
-		Class<?> ccpaConsentClass = Class.forName("com.chartboost.sdk.privacy.model.CCPA$CCPA_CONSENT");
+		Class<?> ccpaClass = findClass("com.chartboost.sdk.privacy.model.CCPA");
+		Class<?> ccpaConsentClass = findClass("com.chartboost.sdk.privacy.model.CCPA$CCPA_CONSENT");
 
 		// Get the public static field 'NON_BEHAVIORAL'
-		Field consentConstantField = ccpaConsentClass.getField("OPT_OUT_SALE");
+		Field consentConstantField = findField(ccpaConsentClass, "OPT_OUT_SALE");
 		// Retrieve the actual value of the static field. Pass 'null' because it's a static field.
 		Object optOutConstant = consentConstantField.get(null);
 
 		// Get the public static field 'BEHAVIORAL'
-		consentConstantField = ccpaConsentClass.getField("OPT_IN_SALE");
+		consentConstantField = findField(ccpaConsentClass, "OPT_IN_SALE");
 		// Retrieve the actual value of the static field. Pass 'null' because it's a static field.
 		Object optInConstant = consentConstantField.get(null);
 
 		// Get the constructor for CCPA that takes a CCPA_CONSENT enum.
-		Constructor<?> ccpaConstructor = ccpaClass.getConstructor(ccpaConsentClass);
+		Constructor<?> ccpaConstructor = findConstructor(ccpaClass, ccpaConsentClass);
 
 		// Call the constructor to create the new object.
 		Object dataUseConsent = ccpaConstructor.newInstance(hasCcpaConsent ? optInConstant : optOutConstant);
@@ -41,10 +41,10 @@ public class DtexchangeMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the Class object for InneractiveAdManager
-		Class<?> managerClass = Class.forName("com.fyber.inneractive.sdk.external.InneractiveAdManager");
+		Class<?> managerClass = findClass("com.fyber.inneractive.sdk.external.InneractiveAdManager");
 
 		// Get the Method object for setUSPrivacyString(String)
-		Method setPrivacyMethod = managerClass.getMethod("setUSPrivacyString", String.class);
+		Method setPrivacyMethod = findMethod(managerClass, "setUSPrivacyString", String.class);
 
 		// "1---": CCPA does not apply, for example, the user is not a California resident
 		// "1YNN": User does NOT opt out, ad experience continues
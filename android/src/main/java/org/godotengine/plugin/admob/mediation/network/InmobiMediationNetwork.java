@@ -35,24 +35,24 @@ public class InmobiMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the required Classes
-		Class<?> jsonObjectClass = Class.forName("org.json.JSONObject");
-		Class<?> inMobiSdkClass = Class.forName("com.inmobi.sdk.InMobiSdk");
+		Class<?> jsonObjectClass = findClass("org.json.JSONObject");
+		Class<?> inMobiSdkClass = findClass("com.inmobi.sdk.InMobiSdk");
 
 		// Instantiate JSONObject: new JSONObject() with the default, no-argument constructor
-		Constructor<?> jsonConstructor = jsonObjectClass.getConstructor();
+		Constructor<?> jsonConstructor = findConstructor(jsonObjectClass);
 
 		// Create the new object instance
 		Object consentObject = jsonConstructor.newInstance();
 
 		// Get the static field InMobiSdk.IM_GDPR_CONSENT_AVAILABLE (the value is needed as the key for the first
 		// 'put' call)
-		Field gdprAvailableField = inMobiSdkClass.getField("IM_GDPR_CONSENT_AVAILABLE");
+		Field gdprAvailableField = findField(inMobiSdkClass, "IM_GDPR_CONSENT_AVAILABLE");
 
 		// Retrieve the actual String value of the static field. Pass 'null' because it's static.
 		String gdprAvailableKey = (String) gdprAvailableField.get(null);
 
 		// Get the Method object for put(String, Object)
-		Method putMethod = jsonObjectClass.getMethod("put", String.class, Object.class);
+		Method putMethod = findMethod(jsonObjectClass, "put", String.class, Object.class);
 
 		// Invoke the 'put' method twice
 		// consentObject.put(InMobiSdk.IM_GDPR_CONSENT_AVAILABLE, true);
@@ -62,10 +62,10 @@ public class InmobiMediationNetwork extends MediationNetwork {
 		putMethod.invoke(consentObject, "gdpr", hasGdprConsent ? "1" : "0");
 
 		// Get the Class object for InMobiConsent
-		Class<?> consentClass = Class.forName("com.google.ads.mediation.inmobi.InMobiConsent");
+		Class<?> consentClass = findClass("com.google.ads.mediation.inmobi.InMobiConsent");
 
 		// Get the Method object for updateGDPRConsent(String)
-		Method updateConsentMethod = consentClass.getMethod("updateGDPRConsent", jsonObjectClass);
+		Method updateConsentMethod = findMethod(consentClass, "updateGDPRConsent", jsonObjectClass);
 
 		// Invoke the static method with 'null', because the method is static, and the consentObject.
 		updateConsentMethod.invoke(null, consentObject);
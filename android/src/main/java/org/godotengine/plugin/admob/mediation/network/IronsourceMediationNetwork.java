@@ -41,10 +41,10 @@ public class IronsourceMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the Class object for LevelPlay
-		Class<?> levelPlayClass = Class.forName("com.unity3d.mediation.LevelPlay");
+		Class<?> levelPlayClass = findClass("com.unity3d.mediation.LevelPlay");
 
 		// Get the Method object for setMetaData(String, String)
-		Method setMetaDataMethod = levelPlayClass.getMethod("setMetaData", String.class, String.class);
+		Method setMetaDataMethod = findMethod(levelPlayClass, "setMetaData", String.class, String.class);
 
 		String value = hasCcpaConsent ? "true" : "false";
 
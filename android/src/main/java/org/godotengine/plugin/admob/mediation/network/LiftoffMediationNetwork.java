@@ -41,10 +41,10 @@ public class LiftoffMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the Class object for VunglePrivacySettings
-		Class<?> privacyClass = Class.forName("com.vungle.ads.VunglePrivacySettings");
+		Class<?> privacyClass = findClass("com.vungle.ads.VunglePrivacySettings");
 
 		// Get the Method object for setCCPAStatus(boolean)
-		Method setStatusMethod = privacyClass.getMethod("setCCPAStatus", boolean.class);
+		Method setStatusMethod = findMethod(privacyClass, "setCCPAStatus", boolean.class);
 
 		// Invoke the static method with 'null', because the method is static, and the boolean value.
 		setStatusMethod.invoke(null, hasCcpaConsent);
@@ -5,8 +5,14 @@
 package org.godotengine.plugin.admob.mediation.network;
 
 import android.content.Context;
-import android.util.Log;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.godotengine.plugin.admob.AdmobLog;
 import org.godotengine.plugin.admob.AdmobPlugin;
 import org.godotengine.plugin.admob.mediation.PrivacySettings;
 
@@ -15,11 +21,24 @@ import org.godotengine.plugin.admob.mediation.PrivacySettings;
  *
  * Subclasses combine the responsibilities of providing the Google Mediation Adapter
  * class name and applying network-specific privacy settings.
+ *
+ * Reflective lookups of SDK classes and members should go through {@link #findClass},
+ * {@link #findMethod}, {@link #findConstructor} and {@link #findField}, which resolve each
+ * lookup only once. Classes that are not on the classpath are remembered as well, so that
+ * missing SDKs are not searched for again each time privacy settings are applied.
  */
 public abstract class MediationNetwork {
 	private static final String CLASS_NAME = MediationNetwork.class.getSimpleName();
 	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
 
+	// Marks classes that were not found on the classpath
+	private static final Object MISSING_CLASS = new Object();
+
+	private static final Map<String, Object> CLASS_CACHE = new ConcurrentHashMap<>();
+	private static final Map<String, Method> METHOD_CACHE = new ConcurrentHashMap<>();
+	private static final Map<String, Constructor<?>> CONSTRUCTOR_CACHE = new ConcurrentHashMap<>();
+	private static final Map<String, Field> FIELD_CACHE = new ConcurrentHashMap<>();
+
 	protected String tag; // network tag
 
 	public MediationNetwork(String tag) {
@@ -34,6 +53,20 @@ public abstract class MediationNetwork {
 	 */
 	public abstract String getAdapterClassName();
 
+	/**
+	 * Checks whether the network's mediation adapter (and therefore its SDK) has been included in the app
+	 *
+	 * @return true if the adapter class is on the classpath
+	 */
+	public boolean isAvailable() {
+		try {
+			findClass(getAdapterClassName());
+			return true;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Applies the GDPR privacy settings to the specific network via reflection calls
 	 *
@@ -64,45 +97,129 @@ public abstract class MediationNetwork {
 	 *
 	 * @param settings The consolidated privacy settings (GDPR, CCPA, etc.)
 	 * @param context The Android Context required for SDK calls
+	 * @return {@link PrivacySettings.Outcome#FAILED} if any setting failed, {@link PrivacySettings.Outcome#APPLIED}
+	 * 			if at least one setting was applied, {@link PrivacySettings.Outcome#UNSUPPORTED} otherwise
 	 */
-	public void applyPrivacySettings(PrivacySettings settings, Context context) {
+	public PrivacySettings.Outcome applyPrivacySettings(PrivacySettings settings, Context context) {
+		boolean applied = false;
+		boolean failed = false;
+
 		if (settings.containsGdprConsentData()) {
-			Log.d(LOG_TAG, "Applying GDPR settings for " + tag);
+			AdmobLog.d(LOG_TAG, "Applying GDPR settings for %s", tag);
 			try {
 				applyGDPRSettings(settings.hasGdprConsent(), context);
-				Log.d(LOG_TAG, "GDPR consent set successfully for " + tag);
+				applied = true;
+				AdmobLog.d(LOG_TAG, "GDPR consent set successfully for %s", tag);
 			} catch (UnsupportedOperationException uoe) {
-				Log.d(LOG_TAG, "GDPR settings not needed by " + tag);
+				AdmobLog.d(LOG_TAG, "GDPR settings not needed by %s", tag);
 			} catch (Exception e) {
-				Log.e(LOG_TAG, e.getClass().getSimpleName() + ":: " + e.getMessage()
-						+ ":: Failed to set GDPR settings for " + tag);
+				failed = true;
+				AdmobLog.e(LOG_TAG, "%s:: %s:: Failed to set GDPR settings for %s", e.getClass().getSimpleName(),
+						e.getMessage(), tag);
 			}
 		}
 
 		if (settings.containsAgeRestrictedUserData()) {
-			Log.d(LOG_TAG, "Applying age-restricted user settings for " + tag);
+			AdmobLog.d(LOG_TAG, "Applying age-restricted user settings for %s", tag);
 			try {
 				applyAgeRestrictedUserSettings(settings.isAgeRestrictedUser(), context);
-				Log.d(LOG_TAG, "Age-restricted user settings set successfully for " + tag);
+				applied = true;
+				AdmobLog.d(LOG_TAG, "Age-restricted user settings set successfully for %s", tag);
 			} catch (UnsupportedOperationException uoe) {
-				Log.d(LOG_TAG, "Age-restricted user settings not needed by " + tag);
+				AdmobLog.d(LOG_TAG, "Age-restricted user settings not needed by %s", tag);
 			} catch (Exception e) {
-				Log.e(LOG_TAG, e.getClass().getSimpleName() + ":: " + e.getMessage()
-						+ ":: Failed to set age-restricted user settings for " + tag);
+				failed = true;
+				AdmobLog.e(LOG_TAG, "%s:: %s:: Failed to set age-restricted user settings for %s",
+						e.getClass().getSimpleName(), e.getMessage(), tag);
 			}
 		}
 
 		if (settings.containsCcpaSaleConsentData()) {
-			Log.d(LOG_TAG, "Applying CCPA settings for " + tag);
+			AdmobLog.d(LOG_TAG, "Applying CCPA settings for %s", tag);
 			try {
 				applyCCPASettings(settings.hasCcpaSaleConsent(), context);
-				Log.d(LOG_TAG, "CCPA sale consent set successfully for " + tag);
+				applied = true;
+				AdmobLog.d(LOG_TAG, "CCPA sale consent set successfully for %s", tag);
 			} catch (UnsupportedOperationException uoe) {
-				Log.d(LOG_TAG, "CCPA settings not needed by " + tag);
+				AdmobLog.d(LOG_TAG, "CCPA settings not needed by %s", tag);
 			} catch (Exception e) {
-				Log.e(LOG_TAG, e.getClass().getSimpleName() + ":: " + e.getMessage()
-						+ ":: Failed to set CCPA settings for " + tag);
+				failed = true;
+				AdmobLog.e(LOG_TAG, "%s:: %s:: Failed to set CCPA settings for %s", e.getClass().getSimpleName(),
+						e.getMessage(), tag);
+			}
+		}
+
+		return failed ? PrivacySettings.Outcome.FAILED
+				: applied ? PrivacySettings.Outcome.APPLIED : PrivacySettings.Outcome.UNSUPPORTED;
+	}
+
+	/**
+	 * Cached equivalent of {@link Class#forName(String)}
+	 */
+	protected static Class<?> findClass(String className) throws ClassNotFoundException {
+		Object cached = CLASS_CACHE.get(className);
+		if (cached == null) {
+			try {
+				cached = Class.forName(className);
+			} catch (ClassNotFoundException e) {
+				cached = MISSING_CLASS;
 			}
+			CLASS_CACHE.put(className, cached);
+		}
+
+		if (cached == MISSING_CLASS) {
+			throw new ClassNotFoundException(className);
+		}
+
+		return (Class<?>) cached;
+	}
+
+	/**
+	 * Cached equivalent of {@link Class#getMethod(String, Class[])}
+	 */
+	protected static Method findMethod(Class<?> clazz, String methodName, Class<?>... parameterTypes)
+			throws NoSuchMethodException {
+		String key = createMemberKey(clazz, methodName, parameterTypes);
+		Method method = METHOD_CACHE.get(key);
+		if (method == null) {
+			method = clazz.getMethod(methodName, parameterTypes);
+			METHOD_CACHE.put(key, method);
+		}
+		return method;
+	}
+
+	/**
+	 * Cached equivalent of {@link Class#getConstructor(Class[])}
+	 */
+	protected static Constructor<?> findConstructor(Class<?> clazz, Class<?>... parameterTypes)
+			throws NoSuchMethodException {
+		String key = createMemberKey(clazz, "<init>", parameterTypes);
+		Constructor<?> constructor = CONSTRUCTOR_CACHE.get(key);
+		if (constructor == null) {
+			constructor = clazz.getConstructor(parameterTypes);
+			CONSTRUCTOR_CACHE.put(key, constructor);
+		}
+		return constructor;
+	}
+
+	/**
+	 * Cached equivalent of {@link Class#getField(String)}
+	 */
+	protected static Field findField(Class<?> clazz, String fieldName) throws NoSuchFieldException {
+		String key = createMemberKey(clazz, fieldName);
+		Field field = FIELD_CACHE.get(key);
+		if (field == null) {
+			field = clazz.getField(fieldName);
+			FIELD_CACHE.put(key, field);
+		}
+		return field;
+	}
+
+	private static String createMemberKey(Class<?> clazz, String memberName, Class<?>... parameterTypes) {
+		StringBuilder key = new StringBuilder(clazz.getName()).append('#').append(memberName);
+		for (Class<?> parameterType : parameterTypes) {
+			key.append(',').append(parameterType.getName());
 		}
+		return key.toString();
 	}
 }
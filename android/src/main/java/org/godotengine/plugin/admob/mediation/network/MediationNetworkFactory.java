@@ -4,12 +4,13 @@
 
 package org.godotengine.plugin.admob.mediation.network;
 
-import android.util.Log;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import org.godotengine.plugin.admob.AdmobLog;
 import org.godotengine.plugin.admob.AdmobPlugin;
 
 
@@ -40,6 +41,9 @@ public class MediationNetworkFactory {
 		NETWORK_FACTORY_MAP.put(UnityMediationNetwork.TAG, UnityMediationNetwork::new);
 	}
 
+	// Networks are stateless, so a single instance of each is shared once it has been created
+	private static final Map<String, MediationNetwork> NETWORK_INSTANCES = new ConcurrentHashMap<>();
+
 	// A map that allows lookup of a network's tag from its adapter class name
 	private static final Map<String, String> ADAPTER_TO_TAG_MAP = new HashMap<>();
 
@@ -64,10 +68,10 @@ public class MediationNetworkFactory {
 	}
 
 	/**
-	 * Creates a MediationNetwork instance based on the input tag
+	 * Returns the shared MediationNetwork instance for the input tag, creating it on first use
 	 *
 	 * @param networkTag The string identifier for the network (e.g., "applovin")
-	 * @return A configured MediationNetwork instance, or null if the tag is unknown
+	 * @return The MediationNetwork instance, or null if the tag is unknown
 	 */
 	public static MediationNetwork createNetwork(String networkTag) {
 		String tag = (networkTag != null) ? networkTag.trim().toLowerCase() : "";
@@ -75,12 +79,13 @@ public class MediationNetworkFactory {
 		Supplier<MediationNetwork> supplier = NETWORK_FACTORY_MAP.get(tag);
 
 		if (supplier == null) {
-			Log.e(LOG_TAG, "Invalid or unsupported network tag '" + networkTag + "'. Unable to create network object.");
+			AdmobLog.e(LOG_TAG, "Invalid or unsupported network tag '%s'. Unable to create network object.",
+					networkTag);
 			return null;
 		}
 
 		// The supplier function instantiates the correct concrete class (e.g., new ApplovinMediationNetwork())
-		return supplier.get();
+		return NETWORK_INSTANCES.computeIfAbsent(tag, key -> supplier.get());
 	}
 
 	/**
@@ -31,11 +31,11 @@ public class MintegralMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the required Classes
-		Class<?> sdkFactoryClass = Class.forName("com.mbridge.msdk.out.MBridgeSDKFactory");
-		Class<?> sdkClass = Class.forName("com.mbridge.msdk.MBridgeSDK");
+		Class<?> sdkFactoryClass = findClass("com.mbridge.msdk.out.MBridgeSDKFactory");
+		Class<?> sdkClass = findClass("com.mbridge.msdk.MBridgeSDK");
 
 		// Instantiate MBridgeSDK: MBridgeSDKFactory.getMBridgeSDK()
-		Method getSdkMethod = sdkFactoryClass.getMethod("getMBridgeSDK");
+		Method getSdkMethod = findMethod(sdkFactoryClass, "getMBridgeSDK");
 		Object mBridgeSdkInstance = getSdkMethod.invoke(null);
 
 		/*
@@ -43,18 +43,18 @@ public class MintegralMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the static constant values for MBridgeConstans.IS_SWITCH_ON and IS_SWITCH_OFF
-		Class<?> constantsClass = Class.forName("com.mbridge.msdk.MBridgeConstans");
-		Field constantsClassField = constantsClass.getField("IS_SWITCH_ON");
+		Class<?> constantsClass = findClass("com.mbridge.msdk.MBridgeConstans");
+		Field constantsClassField = findField(constantsClass, "IS_SWITCH_ON");
 
 		// Retrieve the actual value of the static field. Pass 'null' because it's static.
 		Object switchOnConstant = constantsClassField.get(null);
-		constantsClassField = constantsClass.getField("IS_SWITCH_OFF");
+		constantsClassField = findField(constantsClass, "IS_SWITCH_OFF");
 
 		// Retrieve the actual value of the static field. Pass 'null' because it's static.
 		Object switchOffConstant = constantsClassField.get(null);
 
 		// Get sdk.setConsentStatus(context, MBridgeConstans.IS_SWITCH_ON or IS_SWITCH_OFF)
-		Method setConsentMethod = sdkClass.getMethod("setConsentStatus", Context.class, int.class);
+		Method setConsentMethod = findMethod(sdkClass, "setConsentStatus", Context.class, int.class);
 
 		// Invoke the instance method with the 'mBridgeSdkInstance' object and the subsequent arguments: 'context'
 		// and the constant value.
@@ -73,11 +73,11 @@ public class MintegralMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the required Classes
-		Class<?> sdkFactoryClass = Class.forName("com.mbridge.msdk.out.MBridgeSDKFactory");
-		Class<?> sdkClass = Class.forName("com.mbridge.msdk.MBridgeSDK");
+		Class<?> sdkFactoryClass = findClass("com.mbridge.msdk.out.MBridgeSDKFactory");
+		Class<?> sdkClass = findClass("com.mbridge.msdk.MBridgeSDK");
 
 		// Instantiate MBridgeSDK: MBridgeSDKFactory.getMBridgeSDK()
-		Method getSdkMethod = sdkFactoryClass.getMethod("getMBridgeSDK");
+		Method getSdkMethod = findMethod(sdkFactoryClass, "getMBridgeSDK");
 		Object mBridgeSdkInstance = getSdkMethod.invoke(null);
 
 		/*
@@ -85,7 +85,7 @@ public class MintegralMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get sdk.setDoNotTrackStatus(value)
-		Method setDoNotTrackStatusMethod = sdkClass.getMethod("setDoNotTrackStatus", boolean.class);
+		Method setDoNotTrackStatusMethod = findMethod(sdkClass, "setDoNotTrackStatus", boolean.class);
 
 		// Invoke the instance method with the 'mBridgeSdkInstance' object and the subsequent boolean argument value.
 		setDoNotTrackStatusMethod.invoke(mBridgeSdkInstance, !hasCcpaConsent);
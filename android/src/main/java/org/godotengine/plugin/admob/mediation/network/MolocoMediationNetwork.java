@@ -5,11 +5,11 @@
 package org.godotengine.plugin.admob.mediation.network;
 
 import android.content.Context;
-import android.util.Log;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
+import org.godotengine.plugin.admob.AdmobLog;
 import org.godotengine.plugin.admob.AdmobPlugin;
 import org.godotengine.plugin.admob.mediation.PrivacySettings;
 
@@ -46,8 +46,8 @@ public class MolocoMediationNetwork extends MediationNetwork {
 	}
 
 	@Override
-	public void applyPrivacySettings(PrivacySettings settings, Context context) {
-		Log.d(LOG_TAG, "Applying privacy settings for Moloco");
+	public PrivacySettings.Outcome applyPrivacySettings(PrivacySettings settings, Context context) {
+		AdmobLog.d(LOG_TAG, "Applying privacy settings for Moloco");
 
 		try {
 			/*
@@ -59,12 +59,12 @@ public class MolocoMediationNetwork extends MediationNetwork {
 			 */
 
 			// Get the required Classes using the fully qualified names
-			Class<?> privacySettingsClass = Class.forName(
+			Class<?> privacySettingsClass = findClass(
 					"com.moloco.sdk.publisher.privacy.MolocoPrivacy$PrivacySettings");
-			Class<?> molocoPrivacyClass = Class.forName("com.moloco.sdk.publisher.privacy.MolocoPrivacy");
+			Class<?> molocoPrivacyClass = findClass("com.moloco.sdk.publisher.privacy.MolocoPrivacy");
 
 			// Instantiate PrivacySettings: new PrivacySettings(false, false, true) constructor
-			Constructor<?> settingsConstructor = privacySettingsClass.getConstructor(
+			Constructor<?> settingsConstructor = findConstructor(privacySettingsClass, 
 					Boolean.class,	// isUserConsent
 					Boolean.class,	// isAgeRestrictedUser
 					Boolean.class 	// isDoNotSell
@@ -78,14 +78,16 @@ public class MolocoMediationNetwork extends MediationNetwork {
 			);
 
 			// Invoke MolocoPrivacy.setPrivacy(privacySettings)
-			Method setPrivacyMethod = molocoPrivacyClass.getMethod("setPrivacy", privacySettingsClass);
+			Method setPrivacyMethod = findMethod(molocoPrivacyClass, "setPrivacy", privacySettingsClass);
 			setPrivacyMethod.invoke(null, privacySettingsInstance);
 
-			Log.d(LOG_TAG, "MolocoPrivacy.setPrivacy(new PrivacySettings(isUserConsent, isAgeRestrictedUser, "
+			AdmobLog.d(LOG_TAG, "MolocoPrivacy.setPrivacy(new PrivacySettings(isUserConsent, isAgeRestrictedUser, "
 					+ "isDoNotSell)) called successfully.");
+			return PrivacySettings.Outcome.APPLIED;
 		} catch (Exception e) {
-			Log.e(LOG_TAG, e.getClass().getSimpleName() + ":: " + e.getMessage() + ":: Failed to set GDPR settings for "
-					+ tag);
+			AdmobLog.e(LOG_TAG, "%s:: %s:: Failed to set GDPR settings for %s", e.getClass().getSimpleName(),
+					e.getMessage(), tag);
+			return PrivacySettings.Outcome.FAILED;
 		}
 	}
 }
@@ -26,14 +26,14 @@ public class MytargetMediationNetwork extends MediationNetwork {
 	@Override
 	protected void applyGDPRSettings(boolean hasGdprConsent, Context context) throws Exception {
 		// Get the Class object for MyTargetPrivacy
-		Class<?> privacyClass = Class.forName("com.my.target.common.MyTargetPrivacy");
+		Class<?> privacyClass = findClass("com.my.target.common.MyTargetPrivacy");
 
 		/*
 		 * MyTargetPrivacy.setUserConsent(true or false);
 		 */
 
 		// Get the Method object for setUserConsent(boolean)
-		Method setUserConsentMethod = privacyClass.getMethod("setUserConsent", boolean.class);
+		Method setUserConsentMethod = findMethod(privacyClass, "setUserConsent", boolean.class);
 
 		// Invoke the static method with 'null', because the method is static, and the boolean value.
 		setUserConsentMethod.invoke(null, hasGdprConsent);
@@ -42,14 +42,14 @@ public class MytargetMediationNetwork extends MediationNetwork {
 	@Override
 	protected void applyAgeRestrictedUserSettings(boolean isAgeRestrictedUser, Context context) throws Exception {
 		// Get the Class object for MyTargetPrivacy
-		Class<?> privacyClass = Class.forName("com.my.target.common.MyTargetPrivacy");
+		Class<?> privacyClass = findClass("com.my.target.common.MyTargetPrivacy");
 
 		/*
 		 * MyTargetPrivacy.setUserAgeRestricted(true or false);
 		 */
 
 		// Get the Method object for setUserAgeRestricted(boolean)
-		Method setUserAgeRestrictedMethod = privacyClass.getMethod("setUserAgeRestricted", boolean.class);
+		Method setUserAgeRestrictedMethod = findMethod(privacyClass, "setUserAgeRestricted", boolean.class);
 
 		// Invoke the static method with 'null', because the method is static, and the boolean value.
 		setUserAgeRestrictedMethod.invoke(null, isAgeRestrictedUser);
@@ -58,14 +58,14 @@ public class MytargetMediationNetwork extends MediationNetwork {
 	@Override
 	protected void applyCCPASettings(boolean hasCcpaConsent, Context context) throws Exception {
 		// Get the Class object for MyTargetPrivacy
-		Class<?> privacyClass = Class.forName("com.my.target.common.MyTargetPrivacy");
+		Class<?> privacyClass = findClass("com.my.target.common.MyTargetPrivacy");
 
 		/*
 		 * MyTargetPrivacy.setCcpaUserConsent(true or false);
 		 */
 
 		// Get the Method object for setCcpaUserConsent(boolean)
-		Method setCcpaUserConsentMethod = privacyClass.getMethod("setCcpaUserConsent", boolean.class);
+		Method setCcpaUserConsentMethod = findMethod(privacyClass, "setCcpaUserConsent", boolean.class);
 
 		// Invoke the static method with 'null', because the method is static, and the boolean value.
 		setCcpaUserConsentMethod.invoke(null, hasCcpaConsent);
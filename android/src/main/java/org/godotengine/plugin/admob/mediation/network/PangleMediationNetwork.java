@@ -27,26 +27,26 @@ public class PangleMediationNetwork extends MediationNetwork {
 	@Override
 	protected void applyGDPRSettings(boolean hasGdprConsent, Context context) throws Exception {
 		// Get the required Classes
-		Class<?> adapterClass = Class.forName("com.google.ads.mediation.pangle.PangleMediationAdapter");
-		Class<?> constantClass = Class.forName("com.bytedance.sdk.openadsdk.api.PAGConstant");
+		Class<?> adapterClass = findClass("com.google.ads.mediation.pangle.PangleMediationAdapter");
+		Class<?> constantClass = findClass("com.bytedance.sdk.openadsdk.api.PAGConstant");
 
 		/*
 		 * PangleMediationAdapter.setGDPRConsent(PAGConstant.PAGGDPRConsentType.PAG_GDPR_CONSENT_TYPE_CONSENT);
 		 */
 
 		// Get the inner enum class: PAGConstant.PAGGDPRConsentType
-		Class<?> consentTypeClass = Class.forName("com.bytedance.sdk.openadsdk.api.PAGConstant$PAGGDPRConsentType");
+		Class<?> consentTypeClass = findClass("com.bytedance.sdk.openadsdk.api.PAGConstant$PAGGDPRConsentType");
 
 		// Get the static constant value: PAG_GDPR_CONSENT_TYPE_CONSENT
-		Field consentField = consentTypeClass.getField("PAG_GDPR_CONSENT_TYPE_CONSENT");
+		Field consentField = findField(consentTypeClass, "PAG_GDPR_CONSENT_TYPE_CONSENT");
 		Object consentConstant = consentField.get(null); // Pass 'null' because it's a static field.
 
 		// Get the static constant value: PAG_GDPR_CONSENT_TYPE_CONSENT
-		consentField = consentTypeClass.getField("PAG_GDPR_CONSENT_TYPE_NO_CONSENT");
+		consentField = findField(consentTypeClass, "PAG_GDPR_CONSENT_TYPE_NO_CONSENT");
 		Object noConsentConstant = consentField.get(null); // Pass 'null' because it's a static field.
 
 		// Invoke PangleMediationAdapter.setGDPRConsent(consentConstant)
-		Method setConsentMethod = adapterClass.getMethod("setGDPRConsent", int.class);
+		Method setConsentMethod = findMethod(adapterClass, "setGDPRConsent", int.class);
 
 		// The first argument is 'null' because the method is static.
 		setConsentMethod.invoke(null, hasGdprConsent ? consentConstant : noConsentConstant);
@@ -60,26 +60,26 @@ public class PangleMediationNetwork extends MediationNetwork {
 	@Override
 	protected void applyCCPASettings(boolean hasCcpaConsent, Context context) throws Exception {
 		// Get the required Classes
-		Class<?> adapterClass = Class.forName("com.google.ads.mediation.pangle.PangleMediationAdapter");
-		Class<?> constantClass = Class.forName("com.bytedance.sdk.openadsdk.api.PAGConstant");
+		Class<?> adapterClass = findClass("com.google.ads.mediation.pangle.PangleMediationAdapter");
+		Class<?> constantClass = findClass("com.bytedance.sdk.openadsdk.api.PAGConstant");
 
 		/*
 		 * PangleMediationAdapter.setPAConsent(PAGConstant.PAGPAConsentType.PAG_PA_CONSENT_TYPE_CONSENT);
 		 */
 
 		// Get the inner enum class: PAGConstant.PAGPAConsentType
-		Class<?> consentTypeClass = Class.forName("com.bytedance.sdk.openadsdk.api.PAGConstant$PAGPAConsentType");
+		Class<?> consentTypeClass = findClass("com.bytedance.sdk.openadsdk.api.PAGConstant$PAGPAConsentType");
 
 		// Get the static constant value: PAG_GDPR_CONSENT_TYPE_CONSENT
-		Field consentField = consentTypeClass.getField("PAG_PA_CONSENT_TYPE_CONSENT");
+		Field consentField = findField(consentTypeClass, "PAG_PA_CONSENT_TYPE_CONSENT");
 		Object consentConstant = consentField.get(null); // Pass 'null' because it's a static field.
 
 		// Get the static constant value: PAG_PA_CONSENT_TYPE_NO_CONSENT
-		consentField = consentTypeClass.getField("PAG_PA_CONSENT_TYPE_NO_CONSENT");
+		consentField = findField(consentTypeClass, "PAG_PA_CONSENT_TYPE_NO_CONSENT");
 		Object noConsentConstant = consentField.get(null); // Pass 'null' because it's a static field.
 
 		// Invoke PangleMediationAdapter.setPAConsent(consentConstant)
-		Method setConsentMethod = adapterClass.getMethod("setPAConsent", int.class);
+		Method setConsentMethod = findMethod(adapterClass, "setPAConsent", int.class);
 
 		// The first argument is 'null' because the method is static.
 		setConsentMethod.invoke(null, hasCcpaConsent ? consentConstant : noConsentConstant);
@@ -34,23 +34,23 @@ public class UnityMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the required Class
-		Class<?> metaDataClass = Class.forName("com.unity3d.ads.metadata.MetaData");
+		Class<?> metaDataClass = findClass("com.unity3d.ads.metadata.MetaData");
 
 		// Instantiate MetaData: new MetaData(context); get the constructor that takes a Context object.
-		Constructor<?> metaDataConstructor = metaDataClass.getConstructor(Context.class);
+		Constructor<?> metaDataConstructor = findConstructor(metaDataClass, Context.class);
 
 		// Create the new object instance, passing the 'context' instance.
 		Object metaDataInstance = metaDataConstructor.newInstance(context);
 
 		// Get the Method object for set(String, Object), which is used twice for the 'gdpr.consent' and
 		// 'privacy.consent' keys.
-		Method setMethod = metaDataClass.getMethod("set", String.class, Object.class);
+		Method setMethod = findMethod(metaDataClass, "set", String.class, Object.class);
 
 		// metaData.set("gdpr.consent", true);
 		setMethod.invoke(metaDataInstance, "gdpr.consent", hasGdprConsent ? true : false);
 
 		// Get the Method object for commit()
-		Method commitMethod = metaDataClass.getMethod("commit");
+		Method commitMethod = findMethod(metaDataClass, "commit");
 
 		// metaData.commit();
 		commitMethod.invoke(metaDataInstance);
@@ -71,23 +71,23 @@ public class UnityMediationNetwork extends MediationNetwork {
 		 */
 
 		// Get the required Class
-		Class<?> metaDataClass = Class.forName("com.unity3d.ads.metadata.MetaData");
+		Class<?> metaDataClass = findClass("com.unity3d.ads.metadata.MetaData");
 
 		// Instantiate MetaData: new MetaData(context); get the constructor that takes a Context object.
-		Constructor<?> metaDataConstructor = metaDataClass.getConstructor(Context.class);
+		Constructor<?> metaDataConstructor = findConstructor(metaDataClass, Context.class);
 
 		// Create the new object instance, passing the 'context' instance.
 		Object metaDataInstance = metaDataConstructor.newInstance(context);
 
 		// Get the Method object for set(String, Object), which is used twice for the 'gdpr.consent' and
 		// 'privacy.consent' keys.
-		Method setMethod = metaDataClass.getMethod("set", String.class, Object.class);
+		Method setMethod = findMethod(metaDataClass, "set", String.class, Object.class);
 
 		// metaData.set("privacy.consent", true);
 		setMethod.invoke(metaDataInstance, "privacy.consent", hasCcpaConsent ? true : false);
 
 		// Get the Method object for commit()
-		Method commitMethod = metaDataClass.getMethod("commit");
+		Method commitMethod = findMethod(metaDataClass, "commit");
 
 		// metaData.commit();
 		commitMethod.invoke(metaDataInstance);
@@ -13,9 +13,9 @@ public class AdSettings {
 	private static final String CLASS_NAME = AdSettings.class.getSimpleName();
 	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
 
-	private static final String DATA_KEY_AD_VOLUME = "ad_volume";
-	private static final String DATA_KEY_ADS_MUTED = "ads_muted";
-	private static final String DATA_KEY_APPLY_AT_STARTUP = "apply_at_startup";
+	public static final String DATA_KEY_AD_VOLUME = "ad_volume";
+	public static final String DATA_KEY_ADS_MUTED = "ads_muted";
+	public static final String DATA_KEY_APPLY_AT_STARTUP = "apply_at_startup";
 
 	public static final float DEFAULT_AD_VOLUME = 1.0f;
 	public static final boolean DEFAULT_ADS_MUTED = false;
@@ -10,17 +10,30 @@ import org.godotengine.godot.Dictionary;
 public class AdmobAdInfo {
 
 	private static String AD_ID_PROPERTY = "ad_id";
+	private static String AD_HANDLE_PROPERTY = "ad_handle";
 	private static String MEASURED_WIDTH_PROPERTY = "measured_width";
 	private static String MEASURED_HEIGHT_PROPERTY = "measured_height";
 	private static String IS_COLLAPSIBLE_PROPERTY = "is_collapsible";
 	private static String LOAD_AD_REQUEST_PROPERTY = "load_ad_request";
+	private static String IS_POOLED_PROPERTY = "is_pooled";
+
+	private static final int MEASURED_WIDTH_CHANGED = 1;
+	private static final int MEASURED_HEIGHT_CHANGED = 1 << 1;
+	private static final int IS_COLLAPSIBLE_CHANGED = 1 << 2;
 
 	private String adId;
+	private int adHandle;
 	private int measuredWidth;
 	private int measuredHeight;
 	private boolean isCollapsible;
+	private boolean isPooled;
 	private LoadAdRequest loadAdRequest;
 
+	// Snapshots handed out to Godot are never modified; a new one is built after a property changes.
+	private Dictionary rawData;
+	private Dictionary adIdData;
+	private int changedProperties;
+
 	public AdmobAdInfo(String adId, LoadAdRequest loadAdRequest) {
 		this.adId = adId;
 		this.isCollapsible = false;
@@ -31,40 +44,131 @@ public class AdmobAdInfo {
 		return this.adId;
 	}
 
+	public synchronized int getHandle() {
+		return this.adHandle;
+	}
+
+	/**
+	 * Sets the integer handle under which the ad is registered. Once set, it is included in all payloads, including
+	 * compact ones, so that Godot can use it instead of the ad ID for frequent calls.
+	 */
+	public synchronized void setHandle(int handle) {
+		if (this.adHandle != handle) {
+			this.adHandle = handle;
+			this.rawData = null;
+			this.adIdData = null;
+		}
+	}
+
 	public int getMeasuredWidth() {
 		return this.measuredWidth;
 	}
 
-	public void setMeasuredWidth(int width) {
-		this.measuredWidth = width;
+	public synchronized void setMeasuredWidth(int width) {
+		if (this.measuredWidth != width) {
+			this.measuredWidth = width;
+			this.rawData = null;
+			this.changedProperties |= MEASURED_WIDTH_CHANGED;
+		}
 	}
 
 	public int getMeasuredHeight() {
 		return this.measuredHeight;
 	}
 
-	public void setMeasuredHeight(int height) {
-		this.measuredHeight = height;
+	public synchronized void setMeasuredHeight(int height) {
+		if (this.measuredHeight != height) {
+			this.measuredHeight = height;
+			this.rawData = null;
+			this.changedProperties |= MEASURED_HEIGHT_CHANGED;
+		}
+	}
+
+	public synchronized void setIsCollapsible(boolean isCollapsible) {
+		if (this.isCollapsible != isCollapsible) {
+			this.isCollapsible = isCollapsible;
+			this.rawData = null;
+			this.changedProperties |= IS_COLLAPSIBLE_CHANGED;
+		}
 	}
 
-	public void setIsCollapsible(boolean isCollapsible) {
-		this.isCollapsible = isCollapsible;
+	public synchronized boolean isPooled() {
+		return this.isPooled;
+	}
+
+	/**
+	 * Marks the ad as owned by an ad pool. Pooled ads are released by the plugin once shown or expired, so Godot
+	 * does not keep track of them.
+	 */
+	public synchronized void setIsPooled(boolean isPooled) {
+		if (this.isPooled != isPooled) {
+			this.isPooled = isPooled;
+			this.rawData = null;
+		}
 	}
 
 	public LoadAdRequest getLoadAdRequest() {
 		return this.loadAdRequest;
 	}
 
-	public Dictionary buildRawData() {
-		Dictionary dict = new Dictionary();
+	/**
+	 * Returns a snapshot of all ad info properties. The snapshot is cached and only rebuilt after a property value
+	 * has changed.
+	 */
+	public synchronized Dictionary buildRawData() {
+		if (this.rawData == null) {
+			Dictionary dict = new Dictionary();
+
+			dict.put(AD_ID_PROPERTY, this.adId);
+			putHandle(dict);
+			dict.put(MEASURED_WIDTH_PROPERTY, this.measuredWidth);
+			dict.put(MEASURED_HEIGHT_PROPERTY, this.measuredHeight);
+			dict.put(IS_COLLAPSIBLE_PROPERTY, this.isCollapsible);
+			dict.put(IS_POOLED_PROPERTY, this.isPooled);
+			dict.put(LOAD_AD_REQUEST_PROPERTY, this.loadAdRequest == null ? new Dictionary()
+					: this.loadAdRequest.getRawData());
+
+			this.rawData = dict;
+		}
+
+		this.changedProperties = 0;
+		return this.rawData;
+	}
 
-		dict.put(AD_ID_PROPERTY, this.adId);
-		dict.put(MEASURED_WIDTH_PROPERTY, this.measuredWidth);
-		dict.put(MEASURED_HEIGHT_PROPERTY, this.measuredHeight);
-		dict.put(IS_COLLAPSIBLE_PROPERTY, this.isCollapsible);
-		dict.put(LOAD_AD_REQUEST_PROPERTY, this.loadAdRequest == null ? new Dictionary()
-				: this.loadAdRequest.getRawData());
+	/**
+	 * Returns a compact payload that contains the ad ID and handle plus only the properties that have changed since the
+	 * last payload (full or compact) was built.
+	 */
+	public synchronized Dictionary buildDeltaData() {
+		if (this.changedProperties == 0) {
+			if (this.adIdData == null) {
+				this.adIdData = new Dictionary();
+				this.adIdData.put(AD_ID_PROPERTY, this.adId);
+				putHandle(this.adIdData);
+			}
+			return this.adIdData;
+		}
 
+		Dictionary dict = new Dictionary();
+		dict.put(AD_ID_PROPERTY, this.adId);
+		putHandle(dict);
+		if ((this.changedProperties & MEASURED_WIDTH_CHANGED) != 0) {
+			dict.put(MEASURED_WIDTH_PROPERTY, this.measuredWidth);
+		}
+		if ((this.changedProperties & MEASURED_HEIGHT_CHANGED) != 0) {
+			dict.put(MEASURED_HEIGHT_PROPERTY, this.measuredHeight);
+		}
+		if ((this.changedProperties & IS_COLLAPSIBLE_CHANGED) != 0) {
+			dict.put(IS_COLLAPSIBLE_PROPERTY, this.isCollapsible);
+		}
+
+		this.changedProperties = 0;
 		return dict;
 	}
+
+	private void putHandle(Dictionary dict) {
+		if (this.adHandle != 0) {
+			dict.put(AD_HANDLE_PROPERTY, this.adHandle);
+		}
+	}
 }
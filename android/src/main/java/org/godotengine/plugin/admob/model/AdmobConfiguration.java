@@ -5,20 +5,19 @@
 package org.godotengine.plugin.admob.model;
 
 import android.app.Activity;
-import android.util.Log;
 
 import com.google.android.gms.ads.AdRequest;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.RequestConfiguration;
-import com.google.android.gms.ads.identifier.AdvertisingIdClient;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 
 import org.godotengine.godot.Dictionary;
 
+import org.godotengine.plugin.admob.AdmobLog;
 import org.godotengine.plugin.admob.AdmobPlugin;
-import org.godotengine.plugin.admob.GodotConverter;
+import org.godotengine.plugin.admob.DeviceIds;
 
 
 public class AdmobConfiguration {
@@ -67,7 +66,18 @@ public class AdmobConfiguration {
 		return (String[]) data.get(TEST_DEVICE_IDS_PROPERTY);
 	}
 
+	/**
+	 * Creates the request configuration without the advertising ID, which has not been resolved for a new DeviceIds.
+	 */
 	public RequestConfiguration createRequestConfiguration(Activity activity) {
+		return createRequestConfiguration(new DeviceIds(activity));
+	}
+
+	/**
+	 * Creates the request configuration. When not real, the cached IDs of the device are added as test device IDs;
+	 * this never blocks.
+	 */
+	public RequestConfiguration createRequestConfiguration(DeviceIds deviceIds) {
 		RequestConfiguration.Builder builder = MobileAds.getRequestConfiguration().toBuilder();
 
 		if (data.containsKey(MAX_AD_CONTENT_RATING_PROPERTY)) {
@@ -86,7 +96,7 @@ public class AdmobConfiguration {
 			// Note: Android RequestConfiguration does not have a direct equivalent for iOS's
 			// setPublisherFirstPartyIDEnabled. First-party user IDs are typically set per AdRequest via
 			// setFirstPartyUserId.
-			Log.d(LOG_TAG, "firstPartyIdEnabled: " + getFirstPartyIdEnabled() + " (handled per AdRequest on Android)");
+			AdmobLog.d(LOG_TAG, "firstPartyIdEnabled: %s (handled per AdRequest on Android)", getFirstPartyIdEnabled());
 		}
 
 		if (data.containsKey(PERSONALIZATION_STATE_PROPERTY)) {
@@ -113,28 +123,18 @@ public class AdmobConfiguration {
 			// Add emulator ID (equivalent to iOS kGADSimulatorID)
 			testDeviceIds.add(AdRequest.DEVICE_ID_EMULATOR);
 			// Add hashed device ID (equivalent to iOS hashed device ID)
-			testDeviceIds.add(GodotConverter.getAdMobDeviceId(activity));
-			// Retrieve and add Advertising ID if tracking is not limited (mirroring iOS ATTrackingManager logic)
-			// Note: getAdvertisingIdInfo() must NOT be called on the main thread to avoid ANR. For production, use
-			// async retrieval.
-			try {
-				AdvertisingIdClient.Info adInfo = AdvertisingIdClient.getAdvertisingIdInfo(activity);
-				if (!adInfo.isLimitAdTrackingEnabled() && adInfo.getId() != null) {
-					testDeviceIds.add(adInfo.getId());
-					Log.d(LOG_TAG, "Added Advertising ID as test device: " + adInfo.getId());
-				} else {
-					Log.d(LOG_TAG, "Advertising ID not added: limit tracking enabled or ID null");
-				}
-			} catch (IllegalStateException e) {
-				Log.w(LOG_TAG, "Advertising ID retrieval blocked (likely main thread); using fallback hashed ID", e);
-			} catch (Exception e) {
-				Log.e(LOG_TAG, "Failed to retrieve Advertising ID", e);
+			testDeviceIds.add(deviceIds.getHashedDeviceId());
+			// Add Advertising ID if it has been resolved and tracking is not limited (mirroring iOS ATTrackingManager
+			// logic). Its retrieval is a blocking IPC, so it is resolved in the background by the caller.
+			String advertisingId = deviceIds.getAdvertisingId();
+			if (advertisingId != null) {
+				testDeviceIds.add(advertisingId);
 			}
 		}
 
 		if (!testDeviceIds.isEmpty()) {
 			builder.setTestDeviceIds(testDeviceIds);
-			Log.d(LOG_TAG, "Set test device IDs: " + testDeviceIds);
+			AdmobLog.d(LOG_TAG, "Set test device IDs: %s", testDeviceIds);
 		}
 
 		return builder.build();
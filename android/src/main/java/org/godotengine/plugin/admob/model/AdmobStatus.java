@@ -4,7 +4,6 @@
 
 package org.godotengine.plugin.admob.model;
 
-import android.util.Log;
 
 import com.google.android.gms.ads.initialization.AdapterStatus;
 import com.google.android.gms.ads.initialization.InitializationStatus;
@@ -13,6 +12,7 @@ import java.util.Map;
 
 import org.godotengine.godot.Dictionary;
 
+import org.godotengine.plugin.admob.AdmobLog;
 import org.godotengine.plugin.admob.AdmobPlugin;
 import org.godotengine.plugin.admob.mediation.network.MediationNetworkFactory;
 
@@ -49,11 +49,11 @@ public class AdmobStatus {
 			String networkTag = MediationNetworkFactory.getTagForAdapterClass(adapterClass);
 			if (networkTag != null) {
 				dict.put(networkTag, statusDict);
-				Log.d(LOG_TAG, "Initialization status " + adapterStatusStr + " for network tag '" + networkTag + "'.");
+				AdmobLog.d(LOG_TAG, "Initialization status %s for network tag '%s'.", adapterStatusStr, networkTag);
 			} else {
 				dict.put(adapterClass, statusDict);
-				Log.w(LOG_TAG, "Initialization status " + adapterStatusStr
-						+ " for an invalid or unsupported adapter class '" + adapterClass + "'.");
+				AdmobLog.w(LOG_TAG, "Initialization status %s for an invalid or unsupported adapter class '%s'.",
+						adapterStatusStr, adapterClass);
 			}
 		}
 
@@ -5,13 +5,13 @@
 package org.godotengine.plugin.admob.model;
 
 import android.app.Activity;
-import android.util.Log;
 
 import com.google.android.ump.ConsentDebugSettings;
 import com.google.android.ump.ConsentRequestParameters;
 
 import org.godotengine.godot.Dictionary;
 
+import org.godotengine.plugin.admob.AdmobLog;
 import org.godotengine.plugin.admob.AdmobPlugin;
 import org.godotengine.plugin.admob.GodotConverter;
 
@@ -49,44 +49,43 @@ public class ConsentConfiguration {
 		}
 
 		if (data.containsKey(IS_REAL_PROPERTY) && !isReal()) {
-			Log.d(LOG_TAG, "Creating debug settings for user consent.");
+			AdmobLog.d(LOG_TAG, "Creating debug settings for user consent.");
 			ConsentDebugSettings.Builder debugSettingsBuilder = new ConsentDebugSettings.Builder(activity);
 
 			if (data.containsKey(DEBUG_GEOGRAPHY_PROPERTY)) {
 				Object debugGeographyObj = data.get(DEBUG_GEOGRAPHY_PROPERTY);
 				if (debugGeographyObj instanceof Number) {
 					int debugGeography = toInt(debugGeographyObj);
-					Log.d(LOG_TAG, "Setting debug geography to: " + debugGeography);
+					AdmobLog.d(LOG_TAG, "Setting debug geography to: %s", debugGeography);
 					debugSettingsBuilder.setDebugGeography(debugGeography);
 				} else {
-					Log.e(LOG_TAG, "Invalid " + DEBUG_GEOGRAPHY_PROPERTY + " type: " +
-							(debugGeographyObj != null ? debugGeographyObj.getClass().getSimpleName() : "null") +
-							", value: " + debugGeographyObj);
+					AdmobLog.e(LOG_TAG, "Invalid %s type: %s, value: %s", DEBUG_GEOGRAPHY_PROPERTY,
+							debugGeographyObj != null ? debugGeographyObj.getClass().getSimpleName() : "null",
+							debugGeographyObj);
 				}
 			} else {
-				Log.w(LOG_TAG, DEBUG_GEOGRAPHY_PROPERTY + " key not found in dictionary");
+				AdmobLog.w(LOG_TAG, "%s key not found in dictionary", DEBUG_GEOGRAPHY_PROPERTY);
 			}
 
 			if (data.containsKey(TEST_DEVICE_HASHED_IDS_PROPERTY)) {
 				Object deviceIdsObj = data.get(TEST_DEVICE_HASHED_IDS_PROPERTY);
 				if (deviceIdsObj instanceof Object[]) {
 					Object[] deviceIds = (Object[]) deviceIdsObj;
-					Log.d(LOG_TAG, "Found " + deviceIds.length + " device IDs in Object array.");
+					AdmobLog.d(LOG_TAG, "Found %s device IDs in Object array.", deviceIds.length);
 					for (Object deviceId : deviceIds) {
 						if (deviceId instanceof String && !((String) deviceId).isEmpty()) {
-							Log.d(LOG_TAG, "Adding test device id: " + deviceId);
+							AdmobLog.d(LOG_TAG, "Adding test device id: %s", deviceId);
 							debugSettingsBuilder.addTestDeviceHashedId((String) deviceId);
 						} else {
-							Log.w(LOG_TAG, "Skipping invalid device ID: " + deviceId);
+							AdmobLog.w(LOG_TAG, "Skipping invalid device ID: %s", deviceId);
 						}
 					}
 				} else {
-					Log.e(LOG_TAG, "Invalid " + TEST_DEVICE_HASHED_IDS_PROPERTY + " type: " +
-							(deviceIdsObj != null ? deviceIdsObj.getClass().getName() : "null") +
-							", value: " + deviceIdsObj);
+					AdmobLog.e(LOG_TAG, "Invalid %s type: %s, value: %s", TEST_DEVICE_HASHED_IDS_PROPERTY,
+							deviceIdsObj != null ? deviceIdsObj.getClass().getName() : "null", deviceIdsObj);
 				}
 			} else {
-				Log.w(LOG_TAG, TEST_DEVICE_HASHED_IDS_PROPERTY + " key not found in dictionary");
+				AdmobLog.w(LOG_TAG, "%s key not found in dictionary", TEST_DEVICE_HASHED_IDS_PROPERTY);
 			}
 
 			debugSettingsBuilder.addTestDeviceHashedId(GodotConverter.getAdMobDeviceId(activity));
@@ -119,7 +118,7 @@ public class ConsentConfiguration {
 						}
 						sb.append((String) deviceId);
 					} else {
-						Log.w(LOG_TAG, "invalid id:" + deviceId);
+						AdmobLog.w(LOG_TAG, "invalid id:%s", deviceId);
 					}
 				}
 			} else {
@@ -5,7 +5,6 @@
 package org.godotengine.plugin.admob.model;
 
 import android.os.Bundle;
-import android.util.Log;
 import android.widget.ImageView;
 
 import com.google.ads.mediation.admob.AdMobAdapter;
@@ -14,13 +13,27 @@ import com.google.android.gms.ads.mediation.Adapter;
 import com.google.android.gms.ads.nativead.NativeAdOptions;
 import com.google.android.gms.ads.rewarded.ServerSideVerificationOptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.godotengine.godot.Dictionary;
 
+import org.godotengine.plugin.admob.AdmobLog;
 import org.godotengine.plugin.admob.AdmobPlugin;
 import org.godotengine.plugin.admob.mediation.network.MediationNetwork;
 import org.godotengine.plugin.admob.mediation.network.MediationNetworkFactory;
 
 
+/**
+ * Typed, immutable view of a load request received from Godot.
+ *
+ * <p>The request dictionary is parsed once, when the object is created, and any validation problems are logged at
+ * that point. The {@link AdRequest} and the other SDK option objects are built on first use and then reused, so that
+ * reloading an ad with the same request does not rebuild them.
+ */
 public class LoadAdRequest {
 	private static final String CLASS_NAME = LoadAdRequest.class.getSimpleName();
 	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
@@ -37,6 +50,8 @@ public class LoadAdRequest {
 	private static final String AD_POSITION_PROPERTY = "ad_position";
 	private static final String COLLAPSIBLE_POSITION_PROPERTY = "collapsible_position";
 	private static final String ANCHOR_TO_SAFE_AREA_PROPERTY = "anchor_to_safe_area";
+	private static final String SUPPRESS_HIDDEN_REFRESH_PROPERTY = "suppress_hidden_refresh";
+	private static final String CATCH_UP_REFRESH_AGE_PROPERTY = "catch_up_refresh_age_ms";
 	private static final String KEYWORDS_PROPERTY = "keywords";
 	private static final String USER_ID_PROPERTY = "user_id";
 	private static final String CUSTOM_DATA_PROPERTY = "custom_data";
@@ -47,6 +62,8 @@ public class LoadAdRequest {
 	private static final String COLLAPSIBLE_NETWORK_EXTRAS_KEY = "collapsible";
 	private static final String AD_ID_FORMAT = "%s-%d";
 
+	public static final int DEFAULT_CATCH_UP_REFRESH_AGE_MILLIS = 60_000;
+
 	// -------------------------------------------------------------------------
 	// Native ad option keys  (mirror DATA_KEY_NATIVE_* in LoadAdRequest.gd)
 	// -------------------------------------------------------------------------
@@ -58,66 +75,153 @@ public class LoadAdRequest {
 	private static final String NATIVE_IMAGE_SCALE_TYPE_PROPERTY = "native_image_scale_type";
 	private static final String NATIVE_DISABLE_VALIDATOR_PROPERTY = "native_disable_validator";
 
-	private Dictionary data;
+	/**
+	 * Extra parameters of a mediation network, resolved to the network's adapter class.
+	 */
+	private static final class NetworkExtras {
+		final String networkTag;
+		final Class<? extends Adapter> adapterClass;
+		final Map<String, Object> params;
+
+		NetworkExtras(String networkTag, Class<? extends Adapter> adapterClass, Map<String, Object> params) {
+			this.networkTag = networkTag;
+			this.adapterClass = adapterClass;
+			this.params = params;
+		}
+	}
+
+	private final Dictionary data;
+
+	private final String adUnitId;
+	private final String requestAgent;
+	private final String adSize;
+	private final int adaptiveWidth;
+	private final int adaptiveMaxHeight;
+	private final String adPosition;
+	private final String collapsiblePosition;
+	private final boolean anchorToSafeArea;
+	private final boolean suppressHiddenRefresh;
+	private final int catchUpRefreshAgeMillis;
+	private final List<String> keywords;
+	private final String userId;
+	private final String customData;
+	private final List<NetworkExtras> networkExtras;
+
+	private final Integer nativeMediaAspectRatio;
+	private final Boolean nativeReturnUrlsForImageAssets;
+	private final Boolean nativeRequestMultipleImages;
+	private final Integer nativeAdChoicesPlacement;
+	private final ImageView.ScaleType nativeImageScaleType;
+	private final boolean nativeValidatorDisabled;
+
+	private AdRequest adRequest;
+	private NativeAdOptions nativeAdOptions;
+	private ServerSideVerificationOptions serverSideVerificationOptions;
 
 	public LoadAdRequest(Dictionary data) {
 		this.data = data;
+
+		this.adUnitId = readString(AD_UNIT_ID_PROPERTY);
+		this.requestAgent = readString(REQUEST_AGENT_PROPERTY);
+		this.adSize = readString(AD_SIZE_PROPERTY);
+		this.adaptiveWidth = readInt(ADAPTIVE_WIDTH_PROPERTY, -1);
+		this.adaptiveMaxHeight = readInt(ADAPTIVE_MAX_HEIGHT_PROPERTY, -1);
+		this.adPosition = readString(AD_POSITION_PROPERTY);
+		this.collapsiblePosition = readString(COLLAPSIBLE_POSITION_PROPERTY);
+		this.anchorToSafeArea = Boolean.TRUE.equals(readBoolean(ANCHOR_TO_SAFE_AREA_PROPERTY));
+		this.suppressHiddenRefresh = Boolean.TRUE.equals(readBoolean(SUPPRESS_HIDDEN_REFRESH_PROPERTY));
+		this.catchUpRefreshAgeMillis = readInt(CATCH_UP_REFRESH_AGE_PROPERTY, DEFAULT_CATCH_UP_REFRESH_AGE_MILLIS);
+		this.keywords = readKeywords();
+		this.userId = readString(USER_ID_PROPERTY);
+		this.customData = readString(CUSTOM_DATA_PROPERTY);
+		this.networkExtras = readNetworkExtras();
+
+		String mediaAspectRatio = readString(NATIVE_MEDIA_ASPECT_RATIO_PROPERTY);
+		this.nativeMediaAspectRatio = mediaAspectRatio == null ? null : parseMediaAspectRatio(mediaAspectRatio);
+		this.nativeReturnUrlsForImageAssets = readBoolean(NATIVE_RETURN_URLS_FOR_IMAGE_ASSETS_PROPERTY);
+		this.nativeRequestMultipleImages = readBoolean(NATIVE_REQUEST_MULTIPLE_IMAGES_PROPERTY);
+		String adChoicesPlacement = readString(NATIVE_AD_CHOICES_PLACEMENT_PROPERTY);
+		this.nativeAdChoicesPlacement = adChoicesPlacement == null ? null
+				: parseAdChoicesPlacement(adChoicesPlacement);
+		String imageScaleType = readString(NATIVE_IMAGE_SCALE_TYPE_PROPERTY);
+		this.nativeImageScaleType = imageScaleType == null ? null : parseImageScaleType(imageScaleType);
+		this.nativeValidatorDisabled = Boolean.TRUE.equals(readBoolean(NATIVE_DISABLE_VALIDATOR_PROPERTY));
+
+		if (this.adUnitId == null) {
+			AdmobLog.e(LOG_TAG, "Invalid load ad request: '%s' is missing", AD_UNIT_ID_PROPERTY);
+		}
 	}
 
 
 	public boolean isValid() {
-		return data.containsKey(AD_UNIT_ID_PROPERTY);
+		return adUnitId != null;
 	}
 
 
 	public String getAdUnitId() {
-		return (String) data.get(AD_UNIT_ID_PROPERTY);
+		return adUnitId;
 	}
 
 
 	public boolean hasAdSize() {
-		return data.containsKey(AD_SIZE_PROPERTY);
+		return adSize != null;
 	}
 
 
 	public String getAdSize() {
-		return (String) data.get(AD_SIZE_PROPERTY);
+		return adSize;
 	}
 
 
 	public int getAdaptiveWidth() {
-		return data.containsKey(ADAPTIVE_WIDTH_PROPERTY) ? toInt(data.get(ADAPTIVE_WIDTH_PROPERTY)) : -1;
+		return adaptiveWidth;
 	}
 
 
 	public int getAdaptiveMaxHeight() {
-		return data.containsKey(ADAPTIVE_MAX_HEIGHT_PROPERTY) ? toInt(data.get(ADAPTIVE_MAX_HEIGHT_PROPERTY)) : -1;
+		return adaptiveMaxHeight;
 	}
 
 
 	public boolean hasAdPosition() {
-		return data.containsKey(AD_POSITION_PROPERTY);
+		return adPosition != null;
 	}
 
 
 	public String getAdPosition() {
-		return (String) data.get(AD_POSITION_PROPERTY);
+		return adPosition;
 	}
 
 
 	public boolean hasCollapsiblePosition() {
-		return data.containsKey(COLLAPSIBLE_POSITION_PROPERTY);
+		return collapsiblePosition != null;
 	}
 
 
 	public String getCollapsiblePosition() {
-		return (String) data.get(COLLAPSIBLE_POSITION_PROPERTY);
+		return collapsiblePosition;
 	}
 
 
 	public boolean doAnchorToSafeArea() {
-		return data.containsKey(ANCHOR_TO_SAFE_AREA_PROPERTY) ? (boolean) data.get(ANCHOR_TO_SAFE_AREA_PROPERTY)
-				: false;
+		return anchorToSafeArea;
+	}
+
+
+	/**
+	 * Whether a banner's refreshes are suppressed while it is hidden or positioned off-screen.
+	 */
+	public boolean doSuppressHiddenRefresh() {
+		return suppressHiddenRefresh;
+	}
+
+
+	/**
+	 * Minimum age of a banner's creative for a catch-up refresh when the banner is shown again after refreshes were
+	 * suppressed.
+	 */
+	public int getCatchUpRefreshAgeMillis() {
+		return catchUpRefreshAgeMillis;
 	}
 
 
@@ -131,66 +235,49 @@ public class LoadAdRequest {
 	// -------------------------------------------------------------------------
 
 	/**
-	 * Builds a {@link NativeAdOptions} instance from the request dictionary,
-	 * applying only the keys that were actually set by the caller.
+	 * Returns the {@link NativeAdOptions} of the request, applying only the keys that were actually set by the
+	 * caller. The options are built on first use and reused afterwards.
 	 */
-	public NativeAdOptions createNativeAdOptions() {
-		NativeAdOptions.Builder builder = new NativeAdOptions.Builder();
+	public synchronized NativeAdOptions createNativeAdOptions() {
+		if (nativeAdOptions == null) {
+			NativeAdOptions.Builder builder = new NativeAdOptions.Builder();
 
-		if (data.containsKey(NATIVE_MEDIA_ASPECT_RATIO_PROPERTY)) {
-			String ratio = (String) data.get(NATIVE_MEDIA_ASPECT_RATIO_PROPERTY);
-			builder.setMediaAspectRatio(parseMediaAspectRatio(ratio));
-		}
+			if (nativeMediaAspectRatio != null) {
+				builder.setMediaAspectRatio(nativeMediaAspectRatio);
+			}
 
-		if (data.containsKey(NATIVE_RETURN_URLS_FOR_IMAGE_ASSETS_PROPERTY)) {
-			builder.setReturnUrlsForImageAssets((boolean) data.get(NATIVE_RETURN_URLS_FOR_IMAGE_ASSETS_PROPERTY));
-		}
+			if (nativeReturnUrlsForImageAssets != null) {
+				builder.setReturnUrlsForImageAssets(nativeReturnUrlsForImageAssets);
+			}
 
-		if (data.containsKey(NATIVE_REQUEST_MULTIPLE_IMAGES_PROPERTY)) {
-			builder.setRequestMultipleImages((boolean) data.get(NATIVE_REQUEST_MULTIPLE_IMAGES_PROPERTY));
-		}
+			if (nativeRequestMultipleImages != null) {
+				builder.setRequestMultipleImages(nativeRequestMultipleImages);
+			}
+
+			if (nativeAdChoicesPlacement != null) {
+				builder.setAdChoicesPlacement(nativeAdChoicesPlacement);
+			}
 
-		if (data.containsKey(NATIVE_AD_CHOICES_PLACEMENT_PROPERTY)) {
-			String placement = (String) data.get(NATIVE_AD_CHOICES_PLACEMENT_PROPERTY);
-			builder.setAdChoicesPlacement(parseAdChoicesPlacement(placement));
+			nativeAdOptions = builder.build();
 		}
 
-		return builder.build();
+		return nativeAdOptions;
 	}
 
 	/**
 	 * Returns true when the caller set a preferred image scale type for native ad assets.
 	 */
 	public boolean hasNativeImageScaleType() {
-		return data.containsKey(NATIVE_IMAGE_SCALE_TYPE_PROPERTY);
+		return nativeImageScaleType != null;
 	}
 
 	/**
-	 * Translates the GDScript enum string to the matching Android {@link ImageView.ScaleType}.
+	 * Returns the Android {@link ImageView.ScaleType} that matches the GDScript enum string.
 	 * Falls back to {@link ImageView.ScaleType#FIT_CENTER} (the Android view default) when the
 	 * value is absent or unrecognised.
 	 */
 	public ImageView.ScaleType getNativeImageScaleType() {
-		if (!data.containsKey(NATIVE_IMAGE_SCALE_TYPE_PROPERTY)) {
-			return ImageView.ScaleType.FIT_CENTER;
-		}
-		String value = (String) data.get(NATIVE_IMAGE_SCALE_TYPE_PROPERTY);
-		switch (value) {
-			case "MATRIX":        return ImageView.ScaleType.MATRIX;
-			case "FIT_XY":        return ImageView.ScaleType.FIT_XY;
-			case "FIT_START":     return ImageView.ScaleType.FIT_START;
-			case "FIT_END":       return ImageView.ScaleType.FIT_END;
-			case "CENTER":        return ImageView.ScaleType.CENTER;
-			case "CENTER_CROP":   return ImageView.ScaleType.CENTER_CROP;
-			case "CENTER_INSIDE": return ImageView.ScaleType.CENTER_INSIDE;
-			case "FIT_CENTER":    // fall-through to default
-			default:
-				if (!value.equals("FIT_CENTER")) {
-					Log.w(LOG_TAG, "getNativeImageScaleType(): unknown value '" + value
-							+ "', falling back to FIT_CENTER");
-				}
-				return ImageView.ScaleType.FIT_CENTER;
-		}
+		return nativeImageScaleType == null ? ImageView.ScaleType.FIT_CENTER : nativeImageScaleType;
 	}
 
 	/**
@@ -205,156 +292,247 @@ public class LoadAdRequest {
 	 * an API, or via any undocumented mechanism the caller wishes to layer on top.
 	 */
 	public boolean isNativeValidatorDisabled() {
-		return data.containsKey(NATIVE_DISABLE_VALIDATOR_PROPERTY)
-				&& (boolean) data.get(NATIVE_DISABLE_VALIDATOR_PROPERTY);
+		return nativeValidatorDisabled;
 	}
 
 	// -------------------------------------------------------------------------
 	// AdRequest
 	// -------------------------------------------------------------------------
 
-	public AdRequest createAdRequest() {
-		AdRequest.Builder builder = new AdRequest.Builder();
+	/**
+	 * Returns the {@link AdRequest} of the request. It is built on first use and the same instance is reused for
+	 * subsequent loads and reloads.
+	 */
+	public synchronized AdRequest createAdRequest() {
+		if (adRequest == null) {
+			adRequest = buildAdRequest();
+		}
 
-		if (data.containsKey(REQUEST_AGENT_PROPERTY)) {
-			String requestAgent = (String) data.get(REQUEST_AGENT_PROPERTY);
-			if (requestAgent != null && !requestAgent.isEmpty()) {
-				builder.setRequestAgent(requestAgent);
+		return adRequest;
+	}
+
+
+	public boolean hasServerSideVerificationOptions() {
+		return customData != null || userId != null;
+	}
+
+
+	public synchronized ServerSideVerificationOptions createServerSideVerificationOptions() {
+		if (serverSideVerificationOptions == null) {
+			ServerSideVerificationOptions.Builder builder = new ServerSideVerificationOptions.Builder();
+
+			if (customData != null) {
+				builder.setCustomData(customData);
 			}
-		}
 
-		if (data.containsKey(KEYWORDS_PROPERTY)) {
-			for (Object keyword : (Object[]) data.get(KEYWORDS_PROPERTY)) {
-				builder.addKeyword((String) keyword);
+			if (userId != null) {
+				builder.setUserId(userId);
 			}
+
+			serverSideVerificationOptions = builder.build();
+		}
+
+		return serverSideVerificationOptions;
+	}
+
+	public Dictionary getRawData() {
+		return data;
+	}
+
+	// -------------------------------------------------------------------------
+	// Private helpers
+	// -------------------------------------------------------------------------
+
+	private AdRequest buildAdRequest() {
+		AdRequest.Builder builder = new AdRequest.Builder();
+
+		if (requestAgent != null && !requestAgent.isEmpty()) {
+			builder.setRequestAgent(requestAgent);
+		}
+
+		for (String keyword : keywords) {
+			builder.addKeyword(keyword);
 		}
 
 		if (hasCollapsiblePosition()) {
-			String collapsiblePosition = getCollapsiblePosition();
-			Log.d(LOG_TAG, "Loading collapsible banner (" + collapsiblePosition + ")");
+			AdmobLog.d(LOG_TAG, "Loading collapsible banner (%s)", collapsiblePosition);
 
 			Bundle extras = new Bundle();
 			extras.putString(COLLAPSIBLE_NETWORK_EXTRAS_KEY, collapsiblePosition);
 			builder.addNetworkExtrasBundle(AdMobAdapter.class, extras);
 		}
 
-		// Mediation support: AdRequest extras for specific networks (e.g., waterfall parameters).
-		// Expects data to contain "network_extras" as an Array of Dictionaries, where each entry is:
-		// {"network_tag": "tagfornetwork", "extras": {"param_key": "value"}}
-		// Supports only String as param_key and String, Number (int/double/long), Boolean as value.
-		// Basic bidding/waterfall handled by AdMob SDK; extras only for custom network params.
-		if (data.containsKey(NETWORK_EXTRAS_PROPERTY)) {
-			Object extrasObj = data.get(NETWORK_EXTRAS_PROPERTY);
-			if (extrasObj instanceof Object[]) {
-				Object[] extrasArray = (Object[]) extrasObj;
-				for (Object entryObj : extrasArray) {
-					if (entryObj instanceof Dictionary) {
-						@SuppressWarnings("unchecked")
-						Dictionary entry = (Dictionary) entryObj;
-						String networkTag = (String) entry.get(NETWORK_TAG_SUBPROPERTY);
-						MediationNetwork network = MediationNetworkFactory.createNetwork(networkTag);
-						if (network != null) {
-							Object extrasParamsObj = entry.get(EXTRAS_SUBPROPERTY);
-							if (extrasParamsObj instanceof Dictionary) {
-								try {
-									@SuppressWarnings("unchecked")
-									Dictionary params = (Dictionary) extrasParamsObj;
-									Log.d(LOG_TAG, String.format("Processing %d extra parameters for %s",
-											params.size(), networkTag));
-									Bundle bundle = new Bundle();
-									for (String key : params.keySet()) {
-										Object val = params.get(key);
-										if (val instanceof String) {
-											bundle.putString(key, (String) val);
-											Log.d(LOG_TAG, String.format("Added ['%s',%s] extra for %s",
-													key, val, networkTag));
-										} else if (val instanceof Integer || val instanceof Double) {
-											bundle.putDouble(key, ((Number) val).doubleValue());
-											Log.d(LOG_TAG, String.format("Added ['%s',%.2f] extra for %s",
-													key, val, networkTag));
-										} else if (val instanceof Boolean) {
-											bundle.putBoolean(key, (Boolean) val);
-											Log.d(LOG_TAG, String.format("Added ['%s',%b] extra for %s",
-													key, val, networkTag));
-										} else if (val instanceof Long) {
-											bundle.putLong(key, (Long) val);
-											Log.d(LOG_TAG, String.format("Added ['%s',%d] extra for %s",
-													key, val, networkTag));
-										}
-									}
-									if (bundle.size() > 0) {
-										Log.d(LOG_TAG, String.format("%d extras were added to bundle",
-												bundle.size()));
-										@SuppressWarnings("unchecked")
-										Class<? extends Adapter> adapterClass =
-												(Class<? extends Adapter>) Class.forName(
-														network.getAdapterClassName());
-										if (adapterClass != null) {
-											builder.addNetworkExtrasBundle(adapterClass, bundle);
-											Log.d(LOG_TAG, "Added extras for " + networkTag);
-										}
-									}
-								} catch (ClassNotFoundException e) {
-									Log.w(LOG_TAG, "Class not found for adapter: "
-											+ network.getAdapterClassName()
-											+ ". Skipping. Ensure the mediation dependency is included.");
-								} catch (ClassCastException e) {
-									Log.w(LOG_TAG, "Adapter class " + network.getAdapterClassName()
-											+ " does not extend Adapter. Skipping.");
-								} catch (Exception e) {
-									Log.e(LOG_TAG, "Error adding extras for "
-											+ network.getAdapterClassName() + ": " + e.getMessage());
-								}
-							} else {
-								Log.w(LOG_TAG, String.format(
-										"Invalid %s entry: Missing '%s' or '%s'. Skipping.",
-										NETWORK_EXTRAS_PROPERTY, NETWORK_TAG_SUBPROPERTY,
-										EXTRAS_SUBPROPERTY));
-							}
-						} else {
-							Log.e(LOG_TAG, "Cannot set extras for network '" + networkTag
-									+ "': Network not supported.");
-						}
-					}
+		for (NetworkExtras extras : networkExtras) {
+			Bundle bundle = new Bundle();
+			for (Map.Entry<String, Object> param : extras.params.entrySet()) {
+				Object val = param.getValue();
+				if (val instanceof String) {
+					bundle.putString(param.getKey(), (String) val);
+				} else if (val instanceof Long) {
+					bundle.putLong(param.getKey(), (Long) val);
+				} else if (val instanceof Boolean) {
+					bundle.putBoolean(param.getKey(), (Boolean) val);
+				} else {
+					bundle.putDouble(param.getKey(), ((Number) val).doubleValue());
 				}
-			} else {
-				Log.w(LOG_TAG, "network_extras must be an Array of Dictionaries. Skipping.");
 			}
+			builder.addNetworkExtrasBundle(extras.adapterClass, bundle);
+			AdmobLog.d(LOG_TAG, "Added %d extras for %s", extras.params.size(), extras.networkTag);
 		}
 
 		return builder.build();
 	}
 
+	private String readString(String key) {
+		Object value = data.get(key);
+		if (value == null || value instanceof String) {
+			return (String) value;
+		}
+		logInvalidType(key, "String", value);
+		return null;
+	}
 
-	public boolean hasServerSideVerificationOptions() {
-		return data.containsKey(CUSTOM_DATA_PROPERTY) || data.containsKey(USER_ID_PROPERTY);
+	private Boolean readBoolean(String key) {
+		Object value = data.get(key);
+		if (value == null || value instanceof Boolean) {
+			return (Boolean) value;
+		}
+		logInvalidType(key, "bool", value);
+		return null;
 	}
 
+	private int readInt(String key, int defaultValue) {
+		Object value = data.get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+		if (value instanceof Number) {
+			return ((Number) value).intValue();
+		}
+		logInvalidType(key, "int", value);
+		return defaultValue;
+	}
 
-	public ServerSideVerificationOptions createServerSideVerificationOptions() {
-		ServerSideVerificationOptions.Builder builder = new ServerSideVerificationOptions.Builder();
+	private List<String> readKeywords() {
+		Object value = data.get(KEYWORDS_PROPERTY);
+		if (value == null) {
+			return Collections.emptyList();
+		}
+		if (!(value instanceof Object[])) {
+			logInvalidType(KEYWORDS_PROPERTY, "Array", value);
+			return Collections.emptyList();
+		}
 
-		if (data.containsKey(CUSTOM_DATA_PROPERTY)) {
-			builder.setCustomData((String) data.get(CUSTOM_DATA_PROPERTY));
+		List<String> result = new ArrayList<>();
+		for (Object keyword : (Object[]) value) {
+			if (keyword instanceof String) {
+				result.add((String) keyword);
+			} else {
+				AdmobLog.w(LOG_TAG, "Ignoring non-String keyword '%s'", keyword);
+			}
 		}
+		return Collections.unmodifiableList(result);
+	}
 
-		if (data.containsKey(USER_ID_PROPERTY)) {
-			builder.setUserId((String) data.get(USER_ID_PROPERTY));
+	/**
+	 * Mediation support: AdRequest extras for specific networks (e.g., waterfall parameters).
+	 * Expects data to contain "network_extras" as an Array of Dictionaries, where each entry is:
+	 * {"network_tag": "tagfornetwork", "extras": {"param_key": "value"}}
+	 * Supports only String as param_key and String, Number (int/double/long), Boolean as value.
+	 * Basic bidding/waterfall handled by AdMob SDK; extras only for custom network params.
+	 */
+	private List<NetworkExtras> readNetworkExtras() {
+		Object extrasObj = data.get(NETWORK_EXTRAS_PROPERTY);
+		if (extrasObj == null) {
+			return Collections.emptyList();
+		}
+		if (!(extrasObj instanceof Object[])) {
+			AdmobLog.w(LOG_TAG, "network_extras must be an Array of Dictionaries. Skipping.");
+			return Collections.emptyList();
 		}
 
-		return builder.build();
-	}
+		List<NetworkExtras> result = new ArrayList<>();
+		for (Object entryObj : (Object[]) extrasObj) {
+			if (!(entryObj instanceof Dictionary)) {
+				continue;
+			}
 
-	public Dictionary getRawData() {
-		return data;
+			Dictionary entry = (Dictionary) entryObj;
+			String networkTag = (String) entry.get(NETWORK_TAG_SUBPROPERTY);
+			MediationNetwork network = MediationNetworkFactory.createNetwork(networkTag);
+			if (network == null) {
+				AdmobLog.e(LOG_TAG, "Cannot set extras for network '%s': Network not supported.", networkTag);
+				continue;
+			}
+
+			Object extrasParamsObj = entry.get(EXTRAS_SUBPROPERTY);
+			if (!(extrasParamsObj instanceof Dictionary)) {
+				AdmobLog.w(LOG_TAG, "Invalid %s entry: Missing '%s' or '%s'. Skipping.",
+						NETWORK_EXTRAS_PROPERTY, NETWORK_TAG_SUBPROPERTY, EXTRAS_SUBPROPERTY);
+				continue;
+			}
+
+			Dictionary params = (Dictionary) extrasParamsObj;
+			AdmobLog.d(LOG_TAG, "Processing %d extra parameters for %s", params.size(), networkTag);
+			Map<String, Object> supportedParams = new LinkedHashMap<>();
+			for (String key : params.keySet()) {
+				Object val = params.get(key);
+				if (val instanceof String || val instanceof Integer || val instanceof Double || val instanceof Long
+						|| val instanceof Boolean) {
+					supportedParams.put(key, val);
+				} else {
+					AdmobLog.w(LOG_TAG, "Ignoring extra '%s' for %s: unsupported value type", key,
+							networkTag);
+				}
+			}
+
+			if (supportedParams.isEmpty()) {
+				continue;
+			}
+
+			try {
+				Class<? extends Adapter> adapterClass = Class.forName(network.getAdapterClassName())
+						.asSubclass(Adapter.class);
+				result.add(new NetworkExtras(networkTag, adapterClass,
+						Collections.unmodifiableMap(supportedParams)));
+			} catch (ClassNotFoundException e) {
+				AdmobLog.w(LOG_TAG, "Class not found for adapter: %s. Skipping. Ensure the mediation dependency is "
+						+ "included.", network.getAdapterClassName());
+			} catch (ClassCastException e) {
+				AdmobLog.w(LOG_TAG, "Adapter class %s does not extend Adapter. Skipping.",
+						network.getAdapterClassName());
+			} catch (Exception e) {
+				AdmobLog.e(LOG_TAG, "Error adding extras for %s: %s", network.getAdapterClassName(), e.getMessage());
+			}
+		}
+
+		return Collections.unmodifiableList(result);
 	}
 
-	// -------------------------------------------------------------------------
-	// Private helpers
-	// -------------------------------------------------------------------------
+	private void logInvalidType(String key, String expectedType, Object value) {
+		AdmobLog.e(LOG_TAG, "Invalid load ad request: '%s' must be a %s (got %s). Ignoring.", key,
+				expectedType, value.getClass().getSimpleName());
+	}
 
-	private int toInt(Object godotInt) {
-		return ((Long) godotInt).intValue();
+	/**
+	 * Translates the GDScript enum string to the matching Android {@link ImageView.ScaleType}.
+	 */
+	private ImageView.ScaleType parseImageScaleType(String value) {
+		switch (value) {
+			case "MATRIX":        return ImageView.ScaleType.MATRIX;
+			case "FIT_XY":        return ImageView.ScaleType.FIT_XY;
+			case "FIT_START":     return ImageView.ScaleType.FIT_START;
+			case "FIT_END":       return ImageView.ScaleType.FIT_END;
+			case "CENTER":        return ImageView.ScaleType.CENTER;
+			case "CENTER_CROP":   return ImageView.ScaleType.CENTER_CROP;
+			case "CENTER_INSIDE": return ImageView.ScaleType.CENTER_INSIDE;
+			case "FIT_CENTER":    // fall-through to default
+			default:
+				if (!value.equals("FIT_CENTER")) {
+					AdmobLog.w(LOG_TAG, "parseImageScaleType(): unknown value '%s', falling back to FIT_CENTER", value);
+				}
+				return ImageView.ScaleType.FIT_CENTER;
+		}
 	}
 
 	/**
@@ -370,8 +548,8 @@ public class LoadAdRequest {
 			case "UNKNOWN":   // fall-through to default
 			default:
 				if (!value.equals("UNKNOWN")) {
-					Log.w(LOG_TAG, "parseMediaAspectRatio(): unknown value '" + value
-							+ "', using NATIVE_MEDIA_ASPECT_RATIO_UNKNOWN");
+					AdmobLog.w(LOG_TAG, "parseMediaAspectRatio(): unknown value '%s', using "
+							+ "NATIVE_MEDIA_ASPECT_RATIO_UNKNOWN", value);
 				}
 				return NativeAdOptions.NATIVE_MEDIA_ASPECT_RATIO_UNKNOWN;
 		}
@@ -389,8 +567,8 @@ public class LoadAdRequest {
 			case "TOP_RIGHT":    // fall-through to default
 			default:
 				if (!value.equals("TOP_RIGHT")) {
-					Log.w(LOG_TAG, "parseAdChoicesPlacement(): unknown value '" + value
-							+ "', using ADCHOICES_TOP_RIGHT");
+					AdmobLog.w(LOG_TAG, "parseAdChoicesPlacement(): unknown value '%s', using ADCHOICES_TOP_RIGHT",
+							value);
 				}
 				return NativeAdOptions.ADCHOICES_TOP_RIGHT;
 		}
@@ -0,0 +1,145 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob.model;
+
+
+import com.google.android.gms.ads.AdRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.godotengine.godot.Dictionary;
+
+import org.godotengine.plugin.admob.AdmobLog;
+import org.godotengine.plugin.admob.AdmobPlugin;
+
+
+/**
+ * Decides whether and when a failed ad load is retried, based on the {@code LoadAdError} code.
+ *
+ * <p>Only error codes that have an initial delay configured are retried. The delay grows exponentially with each
+ * retry, is capped at a maximum, and is randomized by a jitter factor so that many ads failing at the same time do
+ * not retry in lockstep.
+ */
+public class RetryPolicy {
+	private static final String CLASS_NAME = RetryPolicy.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	private static final String MAX_RETRIES_PROPERTY = "max_retries";
+	private static final String BACKOFF_MULTIPLIER_PROPERTY = "backoff_multiplier";
+	private static final String MAX_DELAY_MS_PROPERTY = "max_delay_ms";
+	private static final String JITTER_PROPERTY = "jitter";
+	private static final String INITIAL_DELAYS_MS_PROPERTY = "initial_delays_ms";
+
+	public static final long NO_RETRY = -1L;
+
+	public static final int DEFAULT_MAX_RETRIES = 3;
+	public static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+	public static final long DEFAULT_MAX_DELAY_MS = 5L * 60L * 1000L;	// 5 minutes
+	public static final double DEFAULT_JITTER = 0.25;
+
+	/**
+	 * Retries nothing. Used for formats that have no policy configured.
+	 */
+	public static final RetryPolicy DISABLED = new RetryPolicy(0, DEFAULT_BACKOFF_MULTIPLIER, DEFAULT_MAX_DELAY_MS,
+			DEFAULT_JITTER, Collections.emptyMap());
+
+	private final int maxRetries;
+	private final double backoffMultiplier;
+	private final long maxDelayMillis;
+	private final double jitter;
+	private final Map<Integer, Long> initialDelayMillis;
+
+	/**
+	 * Creates a policy from GDScript data. Error codes without an entry in {@code initial_delays_ms} fall back to
+	 * the default delays for transient errors (internal error, network error, no fill and mediation no fill).
+	 */
+	public RetryPolicy(Dictionary data) {
+		this(readInt(data, MAX_RETRIES_PROPERTY, DEFAULT_MAX_RETRIES),
+				readDouble(data, BACKOFF_MULTIPLIER_PROPERTY, DEFAULT_BACKOFF_MULTIPLIER),
+				readInt(data, MAX_DELAY_MS_PROPERTY, (int) DEFAULT_MAX_DELAY_MS),
+				readDouble(data, JITTER_PROPERTY, DEFAULT_JITTER),
+				readInitialDelays(data.get(INITIAL_DELAYS_MS_PROPERTY)));
+	}
+
+	public RetryPolicy(int maxRetries, double backoffMultiplier, long maxDelayMillis, double jitter,
+			Map<Integer, Long> initialDelayMillis) {
+		this.maxRetries = Math.max(0, maxRetries);
+		this.backoffMultiplier = Math.max(1.0, backoffMultiplier);
+		this.maxDelayMillis = Math.max(0L, maxDelayMillis);
+		this.jitter = Math.max(0.0, Math.min(1.0, jitter));
+		this.initialDelayMillis = Collections.unmodifiableMap(new HashMap<>(initialDelayMillis));
+	}
+
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	public boolean isRetryable(int errorCode) {
+		return maxRetries > 0 && initialDelayMillis.containsKey(errorCode);
+	}
+
+	/**
+	 * Returns how long to wait before the given retry (1 for the first retry), or {@link #NO_RETRY} if the error is
+	 * not retryable or the retries have been used up.
+	 *
+	 * @param random a uniformly distributed value in [0, 1) that randomizes the delay within the jitter range
+	 */
+	public long getDelayMillis(int errorCode, int retryNumber, double random) {
+		if (retryNumber < 1 || retryNumber > maxRetries || !initialDelayMillis.containsKey(errorCode)) {
+			return NO_RETRY;
+		}
+
+		double delay = initialDelayMillis.get(errorCode) * Math.pow(backoffMultiplier, retryNumber - 1);
+		delay = Math.min(delay, maxDelayMillis);
+		delay *= 1.0 - jitter + 2.0 * jitter * random;
+
+		return Math.round(Math.min(delay, maxDelayMillis));
+	}
+
+	public static Map<Integer, Long> createDefaultInitialDelays() {
+		Map<Integer, Long> delays = new HashMap<>();
+		delays.put(AdRequest.ERROR_CODE_INTERNAL_ERROR, 5_000L);
+		delays.put(AdRequest.ERROR_CODE_NETWORK_ERROR, 2_000L);
+		delays.put(AdRequest.ERROR_CODE_NO_FILL, 30_000L);
+		delays.put(AdRequest.ERROR_CODE_MEDIATION_NO_FILL, 30_000L);
+		return delays;
+	}
+
+	private static Map<Integer, Long> readInitialDelays(Object value) {
+		if (!(value instanceof Dictionary)) {
+			if (value != null) {
+				AdmobLog.w(LOG_TAG, "Ignoring '%s': expected a Dictionary", INITIAL_DELAYS_MS_PROPERTY);
+			}
+			return createDefaultInitialDelays();
+		}
+
+		Map<Integer, Long> delays = new HashMap<>();
+		for (Map.Entry<String, Object> entry : ((Dictionary) value).entrySet()) {
+			try {
+				int errorCode = Integer.parseInt(String.valueOf(entry.getKey()).trim());
+				if (entry.getValue() instanceof Number) {
+					delays.put(errorCode, ((Number) entry.getValue()).longValue());
+				} else {
+					AdmobLog.w(LOG_TAG, "Ignoring retry delay for error code %d: not a number", errorCode);
+				}
+			} catch (NumberFormatException e) {
+				AdmobLog.w(LOG_TAG, "Ignoring retry delay for invalid error code '%s'", entry.getKey());
+			}
+		}
+		return delays;
+	}
+
+	private static int readInt(Dictionary data, String key, int defaultValue) {
+		Object value = data.get(key);
+		return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+	}
+
+	private static double readDouble(Dictionary data, String key, double defaultValue) {
+		Object value = data.get(key);
+		return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
+	}
+}
@@ -0,0 +1,98 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob.model;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.godotengine.godot.Dictionary;
+
+import org.godotengine.plugin.admob.AdFormat;
+import org.godotengine.plugin.admob.AdmobLog;
+import org.godotengine.plugin.admob.AdmobPlugin;
+
+
+/**
+ * Describes what the plugin should do at startup besides initializing the Mobile Ads SDK: an optional consent
+ * information update and the ads to load as soon as ads may be requested.
+ */
+public class StartupConfiguration {
+	private static final String CLASS_NAME = StartupConfiguration.class.getSimpleName();
+	private static final String LOG_TAG = "godot::" + AdmobPlugin.CLASS_NAME + "::" + CLASS_NAME;
+
+	private static final String CONSENT_REQUEST_PROPERTY = "consent_request";
+	private static final String PRELOADS_PROPERTY = "preloads";
+	private static final String AD_FORMAT_SUBPROPERTY = "ad_format";
+	private static final String AD_REQUEST_SUBPROPERTY = "ad_request";
+
+	public static class Preload {
+		private final AdFormat format;
+		private final Dictionary adRequest;
+
+		Preload(AdFormat format, Dictionary adRequest) {
+			this.format = format;
+			this.adRequest = adRequest;
+		}
+
+		public AdFormat getFormat() {
+			return format;
+		}
+
+		public Dictionary getAdRequest() {
+			return adRequest;
+		}
+	}
+
+	private final ConsentConfiguration consentConfiguration;
+	private final List<Preload> preloads;
+
+	public StartupConfiguration(Dictionary data) {
+		Object consentData = data.get(CONSENT_REQUEST_PROPERTY);
+		this.consentConfiguration = consentData instanceof Dictionary
+				? new ConsentConfiguration((Dictionary) consentData) : null;
+		this.preloads = readPreloads(data.get(PRELOADS_PROPERTY));
+	}
+
+	public boolean hasConsentRequest() {
+		return consentConfiguration != null;
+	}
+
+	public ConsentConfiguration getConsentConfiguration() {
+		return consentConfiguration;
+	}
+
+	public List<Preload> getPreloads() {
+		return preloads;
+	}
+
+	private static List<Preload> readPreloads(Object preloadsObj) {
+		if (!(preloadsObj instanceof Object[])) {
+			return Collections.emptyList();
+		}
+
+		List<Preload> result = new ArrayList<>();
+		for (Object preloadObj : (Object[]) preloadsObj) {
+			if (!(preloadObj instanceof Dictionary)) {
+				continue;
+			}
+
+			Dictionary preloadData = (Dictionary) preloadObj;
+			Object formatKey = preloadData.get(AD_FORMAT_SUBPROPERTY);
+			AdFormat format = formatKey instanceof String ? AdFormat.fromKey((String) formatKey) : null;
+			Object adRequest = preloadData.get(AD_REQUEST_SUBPROPERTY);
+			if (format == null || !(adRequest instanceof Dictionary)) {
+				AdmobLog.w(LOG_TAG, "Invalid %s entry (%s: '%s'). Skipping.", PRELOADS_PROPERTY,
+						AD_FORMAT_SUBPROPERTY, formatKey);
+				continue;
+			}
+
+			result.add(new Preload(format, (Dictionary) adRequest));
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+}
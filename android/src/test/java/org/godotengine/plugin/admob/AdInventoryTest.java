@@ -0,0 +1,155 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests TTL bookkeeping in {@link AdInventory}.
+ *
+ * <p>The inventory's clock is driven manually and its {@link Handler} is a mock, so sweeps are triggered
+ * explicitly by calling {@link AdInventory#sweep()}.
+ */
+public class AdInventoryTest {
+
+	private static final String AD_ID = "ca-app-pub-3940256099942544/1033173712-1";
+	private static final long ONE_MINUTE = 60_000L;
+
+	private long now;
+	private Handler handler;
+	private AdInventory.Listener listener;
+	private AdInventory inventory;
+
+	@BeforeEach
+	public void setUp() {
+		now = 10_000L;
+		handler = mock(Handler.class);
+		listener = mock(AdInventory.Listener.class);
+		inventory = new AdInventory(() -> now, handler);
+		inventory.setListener(listener);
+	}
+
+	// -- defaults --------------------------------------------------------------
+
+	@Test
+	public void defaultTtls_matchFormatLifetimes() {
+		assertEquals(AdInventory.DEFAULT_FULL_SCREEN_TTL_MILLIS, inventory.getTtlMillis(AdFormat.INTERSTITIAL));
+		assertEquals(AdInventory.DEFAULT_FULL_SCREEN_TTL_MILLIS, inventory.getTtlMillis(AdFormat.REWARDED));
+		assertEquals(AdInventory.DEFAULT_APP_OPEN_TTL_MILLIS, inventory.getTtlMillis(AdFormat.APP_OPEN));
+		assertEquals(AdInventory.NO_EXPIRY, inventory.getTtlMillis(AdFormat.BANNER));
+	}
+
+	// -- isAvailable -----------------------------------------------------------
+
+	@Test
+	public void isAvailable_whenNotLoaded_returnsFalse() {
+		assertFalse(inventory.isAvailable(AD_ID));
+	}
+
+	@Test
+	public void isAvailable_beforeTtlElapses_returnsTrue() {
+		inventory.recordLoad(AdFormat.INTERSTITIAL, AD_ID);
+		now += AdInventory.DEFAULT_FULL_SCREEN_TTL_MILLIS - 1;
+
+		assertTrue(inventory.isAvailable(AD_ID));
+	}
+
+	@Test
+	public void isAvailable_afterTtlElapses_returnsFalse() {
+		inventory.recordLoad(AdFormat.INTERSTITIAL, AD_ID);
+		now += AdInventory.DEFAULT_FULL_SCREEN_TTL_MILLIS;
+
+		assertFalse(inventory.isAvailable(AD_ID));
+	}
+
+	@Test
+	public void isAvailable_afterRemove_returnsFalse() {
+		inventory.recordLoad(AdFormat.REWARDED, AD_ID);
+		inventory.remove(AD_ID);
+
+		assertFalse(inventory.isAvailable(AD_ID));
+	}
+
+	@Test
+	public void isAvailable_whenExpiryDisabled_neverExpires() {
+		inventory.setTtlMillis(AdFormat.REWARDED, 0L);
+		inventory.recordLoad(AdFormat.REWARDED, AD_ID);
+		now += 100L * AdInventory.DEFAULT_FULL_SCREEN_TTL_MILLIS;
+
+		assertTrue(inventory.isAvailable(AD_ID));
+	}
+
+	@Test
+	public void removeAll_removesOnlyAdsOfGivenFormat() {
+		inventory.recordLoad(AdFormat.INTERSTITIAL, AD_ID);
+		inventory.recordLoad(AdFormat.APP_OPEN, "app-open");
+
+		inventory.removeAll(AdFormat.INTERSTITIAL);
+
+		assertFalse(inventory.isAvailable(AD_ID));
+		assertTrue(inventory.isAvailable("app-open"));
+	}
+
+	// -- sweep -----------------------------------------------------------------
+
+	@Test
+	public void sweep_beforeRefreshLead_doesNotNotify() {
+		inventory.setTtlMillis(AdFormat.INTERSTITIAL, 60 * ONE_MINUTE);
+		inventory.recordLoad(AdFormat.INTERSTITIAL, AD_ID);
+		now += 54 * ONE_MINUTE;
+
+		inventory.sweep();
+
+		verify(listener, never()).onAdExpiring(any(), anyString());
+		verify(listener, never()).onAdExpired(any(), anyString());
+	}
+
+	@Test
+	public void sweep_withinRefreshLead_requestsRefreshOnce() {
+		inventory.setTtlMillis(AdFormat.INTERSTITIAL, 60 * ONE_MINUTE);
+		inventory.recordLoad(AdFormat.INTERSTITIAL, AD_ID);
+		now += 56 * ONE_MINUTE;
+
+		inventory.sweep();
+		inventory.sweep();
+
+		verify(listener, times(1)).onAdExpiring(AdFormat.INTERSTITIAL, AD_ID);
+		assertTrue(inventory.isAvailable(AD_ID));
+	}
+
+	@Test
+	public void sweep_afterExpiry_evictsAndNotifies() {
+		inventory.recordLoad(AdFormat.REWARDED_INTERSTITIAL, AD_ID);
+		now += AdInventory.DEFAULT_FULL_SCREEN_TTL_MILLIS;
+
+		inventory.sweep();
+
+		verify(listener).onAdExpired(AdFormat.REWARDED_INTERSTITIAL, AD_ID);
+		assertFalse(inventory.isAvailable(AD_ID));
+	}
+
+	@Test
+	public void recordLoad_schedulesSweepAtRefreshTime() {
+		inventory.setTtlMillis(AdFormat.INTERSTITIAL, 60 * ONE_MINUTE);
+
+		inventory.recordLoad(AdFormat.INTERSTITIAL, AD_ID);
+
+		verify(handler).postDelayed(any(Runnable.class), eq(55 * ONE_MINUTE));
+	}
+}
@@ -0,0 +1,101 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.android.gms.ads.AdRequest;
+
+import org.godotengine.godot.Dictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AdMetricsTest {
+	private static final String AD_UNIT_ID = "ca-app-pub-test/1";
+
+	@AfterEach
+	public void tearDown() {
+		AdMetrics.reset();
+	}
+
+	@Test
+	public void buildRawData_omitsFormatsWithoutLoads() {
+		AdMetrics.recordRequests(AdFormat.INTERSTITIAL, AD_UNIT_ID, 1);
+
+		Dictionary data = AdMetrics.buildRawData();
+
+		assertTrue(data.containsKey(AdFormat.INTERSTITIAL.getKey()));
+		assertFalse(data.containsKey(AdFormat.BANNER.getKey()));
+	}
+
+	@Test
+	public void buildRawData_containsCountsAndFillRate() {
+		AdMetrics.recordRequests(AdFormat.REWARDED, AD_UNIT_ID, 4);
+		AdMetrics.recordFill(AdFormat.REWARDED, AD_UNIT_ID, 300);
+		AdMetrics.recordFill(AdFormat.REWARDED, AD_UNIT_ID, 350);
+		AdMetrics.recordFailure(AdFormat.REWARDED, AD_UNIT_ID, AdRequest.ERROR_CODE_NO_FILL);
+		AdMetrics.recordFailure(AdFormat.REWARDED, AD_UNIT_ID, AdRequest.ERROR_CODE_NETWORK_ERROR);
+
+		Dictionary unitData = getUnitData(AdFormat.REWARDED);
+
+		assertEquals(4L, unitData.get(AdMetrics.REQUEST_COUNT_PROPERTY));
+		assertEquals(2L, unitData.get(AdMetrics.FILL_COUNT_PROPERTY));
+		assertEquals(1L, unitData.get(AdMetrics.NO_FILL_COUNT_PROPERTY));
+		assertEquals(0.5, (double) unitData.get(AdMetrics.FILL_RATE_PROPERTY), 1e-9);
+
+		Dictionary errorCounts = (Dictionary) unitData.get(AdMetrics.ERROR_COUNTS_PROPERTY);
+		assertEquals(1, errorCounts.size());
+		assertEquals(1L, errorCounts.get(String.valueOf(AdRequest.ERROR_CODE_NETWORK_ERROR)));
+	}
+
+	@Test
+	public void mediationNoFill_isCountedAsNoFill() {
+		AdMetrics.recordFailure(AdFormat.NATIVE, AD_UNIT_ID, AdRequest.ERROR_CODE_MEDIATION_NO_FILL);
+
+		Dictionary unitData = getUnitData(AdFormat.NATIVE);
+
+		assertEquals(1L, unitData.get(AdMetrics.NO_FILL_COUNT_PROPERTY));
+		assertTrue(((Dictionary) unitData.get(AdMetrics.ERROR_COUNTS_PROPERTY)).isEmpty());
+	}
+
+	@Test
+	public void fillWithoutLatency_isNotAddedToHistogram() {
+		AdMetrics.recordFill(AdFormat.BANNER, AD_UNIT_ID, 200);
+		AdMetrics.recordFill(AdFormat.BANNER, AD_UNIT_ID, AdMetrics.NOT_STARTED);
+
+		Dictionary unitData = getUnitData(AdFormat.BANNER);
+
+		assertEquals(2L, unitData.get(AdMetrics.FILL_COUNT_PROPERTY));
+		assertEquals(200L, unitData.get(AdMetrics.LATENCY_P50_PROPERTY));
+		assertEquals(200L, unitData.get(AdMetrics.LATENCY_MAX_PROPERTY));
+	}
+
+	@Test
+	public void metrics_areKeptPerAdUnit() {
+		AdMetrics.recordRequests(AdFormat.INTERSTITIAL, AD_UNIT_ID, 1);
+		AdMetrics.recordRequests(AdFormat.INTERSTITIAL, "ca-app-pub-test/2", 3);
+
+		Dictionary formatData = (Dictionary) AdMetrics.buildRawData().get(AdFormat.INTERSTITIAL.getKey());
+
+		assertEquals(2, formatData.size());
+		assertEquals(3L, ((Dictionary) formatData.get("ca-app-pub-test/2")).get(AdMetrics.REQUEST_COUNT_PROPERTY));
+	}
+
+	@Test
+	public void reset_clearsAllMetrics() {
+		AdMetrics.recordRequests(AdFormat.APP_OPEN, AD_UNIT_ID, 1);
+
+		AdMetrics.reset();
+
+		assertTrue(AdMetrics.buildRawData().isEmpty());
+	}
+
+	private static Dictionary getUnitData(AdFormat format) {
+		Dictionary formatData = (Dictionary) AdMetrics.buildRawData().get(format.getKey());
+		return (Dictionary) formatData.get(AD_UNIT_ID);
+	}
+}
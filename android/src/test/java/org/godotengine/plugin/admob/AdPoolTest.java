@@ -0,0 +1,205 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.godotengine.plugin.admob.model.AdmobAdInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the fill/take bookkeeping of {@link AdPool}.
+ *
+ * <p>Pooled ads are simple fakes whose loaded state is toggled by the test, and the pool's clock is driven
+ * manually so that "freshest" selection is deterministic.
+ */
+public class AdPoolTest {
+
+	private static final String AD_UNIT_ID = "ca-app-pub-3940256099942544/1033173712";
+
+	private final List<FakeAd> createdAds = new ArrayList<>();
+	private long now;
+	private AdPool pool;
+
+	@BeforeEach
+	public void setUp() {
+		createdAds.clear();
+		now = 1_000L;
+		pool = new AdPool(AdFormat.INTERSTITIAL, AD_UNIT_ID, 3, () -> {
+			FakeAd ad = new FakeAd("interstitial-" + (createdAds.size() + 1));
+			createdAds.add(ad);
+			return ad;
+		}, () -> now);
+	}
+
+	// -- depth -----------------------------------------------------------------
+
+	@Test
+	public void constructor_clampsDepthToSupportedRange() {
+		assertEquals(AdPool.MAX_DEPTH, new AdPool(AdFormat.REWARDED, AD_UNIT_ID, 99, () -> null).getDepth());
+		assertEquals(AdPool.MIN_DEPTH, new AdPool(AdFormat.REWARDED, AD_UNIT_ID, 0, () -> null).getDepth());
+	}
+
+	// -- fill ------------------------------------------------------------------
+
+	@Test
+	public void fill_createsAndLoadsAdsUpToDepth() {
+		pool.fill();
+
+		assertEquals(3, createdAds.size());
+		assertEquals(3, pool.getSize());
+		for (FakeAd ad : createdAds) {
+			assertEquals(1, ad.loadCount);
+		}
+	}
+
+	@Test
+	public void fill_whenAlreadyFull_doesNotCreateMoreAds() {
+		pool.fill();
+		pool.fill();
+
+		assertEquals(3, createdAds.size());
+	}
+
+	@Test
+	public void fill_afterDiscard_replacesOnlyTheMissingAd() {
+		pool.fill();
+		assertTrue(pool.discard("interstitial-2"));
+
+		pool.fill();
+
+		assertEquals(4, createdAds.size());
+		assertEquals(3, pool.getSize());
+	}
+
+	// -- take ------------------------------------------------------------------
+
+	@Test
+	public void take_whenNothingLoaded_returnsNull() {
+		pool.fill();
+
+		assertNull(pool.take());
+		assertEquals(0, pool.getReadyCount());
+	}
+
+	@Test
+	public void take_returnsMostRecentlyLoadedAd() {
+		pool.fill();
+		markLoaded(createdAds.get(0), 100L);
+		markLoaded(createdAds.get(2), 300L);
+		markLoaded(createdAds.get(1), 200L);
+
+		assertSame(createdAds.get(2), pool.take());
+		assertSame(createdAds.get(1), pool.take());
+		assertSame(createdAds.get(0), pool.take());
+		assertNull(pool.take());
+	}
+
+	@Test
+	public void take_removesTheAdFromThePool() {
+		pool.fill();
+		markLoaded(createdAds.get(0), 100L);
+
+		FakeAd taken = (FakeAd) pool.take();
+
+		assertFalse(pool.contains(taken.getAdId()));
+		assertEquals(2, pool.getSize());
+	}
+
+	@Test
+	public void take_skipsAdsThatAreNoLongerLoaded() {
+		pool.fill();
+		markLoaded(createdAds.get(0), 100L);
+		markLoaded(createdAds.get(1), 200L);
+		createdAds.get(1).loaded = false;
+
+		assertSame(createdAds.get(0), pool.take());
+		assertEquals(0, pool.getReadyCount());
+	}
+
+	// -- clear -----------------------------------------------------------------
+
+	@Test
+	public void clear_returnsAllPooledAdIdsAndEmptiesPool() {
+		pool.fill();
+
+		List<String> adIds = pool.clear();
+
+		assertEquals(List.of("interstitial-1", "interstitial-2", "interstitial-3"), adIds);
+		assertEquals(0, pool.getSize());
+	}
+
+	// -- AdFormat --------------------------------------------------------------
+
+	@Test
+	public void adFormat_fromKey_isCaseInsensitive() {
+		assertEquals(AdFormat.REWARDED_INTERSTITIAL, AdFormat.fromKey("Rewarded_Interstitial"));
+		assertNull(AdFormat.fromKey("unknown"));
+		assertNull(AdFormat.fromKey(null));
+	}
+
+	private void markLoaded(FakeAd ad, long loadTime) {
+		now = loadTime;
+		ad.loaded = true;
+		pool.onAdLoaded(ad.getAdId());
+	}
+
+	private static class FakeAd implements FullScreenAd {
+		private final String adId;
+		boolean loaded;
+		int loadCount;
+
+		FakeAd(String adId) {
+			this.adId = adId;
+		}
+
+		@Override
+		public String getAdId() {
+			return adId;
+		}
+
+		@Override
+		public AdmobAdInfo getAdInfo() {
+			return null;
+		}
+
+		@Override
+		public void load() {
+			loadCount++;
+		}
+
+		@Override
+		public void refresh() {
+			load();
+		}
+
+		@Override
+		public void show() {
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return loaded;
+		}
+
+		@Override
+		public void expire() {
+			loaded = false;
+		}
+
+		@Override
+		public void dispose() {
+			loaded = false;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests handle assignment, per-format views and bulk operations of {@link AdRegistry}.
+ */
+public class AdRegistryTest {
+
+	private AdRegistry registry;
+	private AdRegistry.View<Object> banners;
+	private AdRegistry.View<Object> natives;
+
+	@BeforeEach
+	public void setUp() {
+		registry = new AdRegistry();
+		banners = registry.createView(AdFormat.BANNER);
+		natives = registry.createView(AdFormat.NATIVE);
+	}
+
+	@Test
+	public void put_assignsUniqueHandlesAcrossFormats() {
+		int bannerHandle = banners.put("unit-1", new Object());
+		int nativeHandle = natives.put("unit-1", new Object());
+
+		assertNotEquals(AdRegistry.NO_HANDLE, bannerHandle);
+		assertNotEquals(bannerHandle, nativeHandle);
+	}
+
+	@Test
+	public void get_byHandle_returnsAdOfViewFormatOnly() {
+		Object banner = new Object();
+		int handle = banners.put("unit-1", banner);
+
+		assertSame(banner, banners.get(handle));
+		assertNull(natives.get(handle));
+		assertEquals("unit-1", banners.getAdId(handle));
+		assertEquals(AdFormat.BANNER, registry.getFormat(handle));
+	}
+
+	@Test
+	public void put_sameAdId_replacesAdAndInvalidatesOldHandle() {
+		int oldHandle = banners.put("unit-1", new Object());
+		Object replacement = new Object();
+		int newHandle = banners.put("unit-1", replacement);
+
+		assertNull(banners.get(oldHandle));
+		assertSame(replacement, banners.get(newHandle));
+		assertEquals(1, banners.count());
+	}
+
+	@Test
+	public void remove_invalidatesHandle() {
+		Object banner = new Object();
+		int handle = banners.put("unit-1", banner);
+
+		assertSame(banner, banners.remove("unit-1"));
+		assertNull(banners.get(handle));
+		assertNull(registry.getFormat(handle));
+		assertEquals(AdRegistry.NO_HANDLE, banners.getHandle("unit-1"));
+	}
+
+	@Test
+	public void removeAll_removesOnlyAdsOfFormat() {
+		banners.put("unit-1", new Object());
+		banners.put("unit-2", new Object());
+		natives.put("unit-3", new Object());
+
+		Map<String, Object> removed = banners.removeAll();
+
+		assertEquals(2, removed.size());
+		assertEquals(0, registry.count(AdFormat.BANNER));
+		assertEquals(1, registry.count(AdFormat.NATIVE));
+	}
+
+	@Test
+	public void count_formatWithoutView_returnsZero() {
+		assertEquals(0, registry.count(AdFormat.INTERSTITIAL));
+	}
+
+	@Test
+	public void createView_twiceForSameFormat_throws() {
+		assertThrows(IllegalStateException.class, () -> registry.createView(AdFormat.BANNER));
+	}
+
+	@Test
+	public void values_duringConcurrentChurn_doesNotThrow() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			Future<?> writer = executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < 10_000; i++) {
+					banners.put("unit-" + (i % 50), new Object());
+					banners.remove("unit-" + ((i + 25) % 50));
+				}
+				return null;
+			});
+			Future<?> reader = executor.submit(() -> {
+				start.await();
+				List<Object> seen = new ArrayList<>();
+				for (int i = 0; i < 10_000; i++) {
+					seen.addAll(banners.values());
+					seen.clear();
+				}
+				return null;
+			});
+
+			start.countDown();
+			writer.get(10, TimeUnit.SECONDS);
+			reader.get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertTrue(banners.count() <= 50);
+	}
+}
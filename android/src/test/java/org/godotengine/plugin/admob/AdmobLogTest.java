@@ -0,0 +1,88 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+
+import android.util.Log;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+public class AdmobLogTest {
+
+	@AfterEach
+	public void tearDown() {
+		AdmobLog.setLevel(AdmobLog.DEBUG);
+	}
+
+	@Test
+	public void parseLevel_acceptsKnownNamesCaseInsensitively() {
+		assertEquals(AdmobLog.DEBUG, AdmobLog.parseLevel("debug"));
+		assertEquals(AdmobLog.INFO, AdmobLog.parseLevel("Info"));
+		assertEquals(AdmobLog.WARN, AdmobLog.parseLevel("warn"));
+		assertEquals(AdmobLog.WARN, AdmobLog.parseLevel("WARNING"));
+		assertEquals(AdmobLog.ERROR, AdmobLog.parseLevel("error"));
+		assertEquals(AdmobLog.NONE, AdmobLog.parseLevel("none"));
+	}
+
+	@Test
+	public void parseLevel_returnsNegativeForUnknownNames() {
+		assertEquals(-1, AdmobLog.parseLevel("verbose"));
+		assertEquals(-1, AdmobLog.parseLevel(""));
+		assertEquals(-1, AdmobLog.parseLevel(null));
+	}
+
+	@Test
+	public void isLoggable_honorsMinimumLevel() {
+		AdmobLog.setLevel(AdmobLog.WARN);
+
+		assertFalse(AdmobLog.isLoggable(AdmobLog.DEBUG));
+		assertFalse(AdmobLog.isLoggable(AdmobLog.INFO));
+		assertTrue(AdmobLog.isLoggable(AdmobLog.WARN));
+		assertTrue(AdmobLog.isLoggable(AdmobLog.ERROR));
+	}
+
+	@Test
+	public void fixedArityOverloads_formatEnabledMessages() {
+		try (MockedStatic<Log> logMock = mockStatic(Log.class)) {
+			AdmobLog.d("tag", "%s", "a");
+			AdmobLog.i("tag", "%s %s", "a", "b");
+			AdmobLog.w("tag", "%s %s %d", "a", "b", 3);
+			AdmobLog.e("tag", "%s %s %d %d", "a", "b", 3, 4);
+
+			logMock.verify(() -> Log.d("tag", "a"));
+			logMock.verify(() -> Log.i("tag", "a b"));
+			logMock.verify(() -> Log.w("tag", "a b 3"));
+			logMock.verify(() -> Log.e("tag", "a b 3 4"));
+		}
+	}
+
+	@Test
+	public void fixedArityOverloads_skipDisabledMessages() {
+		AdmobLog.setLevel(AdmobLog.ERROR);
+
+		try (MockedStatic<Log> logMock = mockStatic(Log.class)) {
+			AdmobLog.d("tag", "%s", "a");
+			AdmobLog.w("tag", "%s %s %d", "a", "b", 3);
+
+			logMock.verify(() -> Log.d(anyString(), anyString()), never());
+			logMock.verify(() -> Log.w(anyString(), anyString()), never());
+		}
+	}
+
+	@Test
+	public void isLoggable_noneDisablesAllLevels() {
+		AdmobLog.setLevel(AdmobLog.NONE);
+
+		assertFalse(AdmobLog.isLoggable(AdmobLog.ERROR));
+	}
+}
@@ -0,0 +1,43 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the clipped area computation used by banners that track their visibility within a clip rectangle.
+ */
+public class BannerClipTest {
+	private static final float DELTA = 1e-6f;
+
+	@Test
+	public void bannerInsideClipRect_isNotClipped() {
+		assertEquals(0f, Banner.getClippedRatio(10, 10, 100, 50, 0, 0, 200, 200), DELTA);
+	}
+
+	@Test
+	public void bannerOutsideClipRect_isFullyClipped() {
+		assertEquals(1f, Banner.getClippedRatio(300, 10, 100, 50, 0, 0, 200, 200), DELTA);
+		assertEquals(1f, Banner.getClippedRatio(10, -60, 100, 50, 0, 0, 200, 200), DELTA);
+	}
+
+	@Test
+	public void partiallyScrolledBanner_isPartiallyClipped() {
+		// Top quarter of the banner scrolled above the clip rectangle
+		assertEquals(0.25f, Banner.getClippedRatio(0, 90, 100, 40, 0, 100, 200, 200), DELTA);
+	}
+
+	@Test
+	public void bannerOfUnknownSize_isNotClipped() {
+		assertEquals(0f, Banner.getClippedRatio(300, 300, 0, 0, 0, 0, 200, 200), DELTA);
+	}
+
+	@Test
+	public void emptyClipRect_clipsBannerFully() {
+		assertEquals(1f, Banner.getClippedRatio(10, 10, 100, 50, 0, 0, 0, 0), DELTA);
+	}
+}
@@ -0,0 +1,111 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import android.os.Handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests reuse and eviction of idle banner views in {@link BannerViewPool}.
+ *
+ * <p>Plain objects stand in for ad views; the pool's clock is driven manually and eviction is triggered explicitly.
+ */
+public class BannerViewPoolTest {
+
+	private static final String PORTRAIT_KEY = BannerViewPool.createKey("ca-app-pub-3940256099942544/9214589741",
+			411, 64);
+	private static final String LANDSCAPE_KEY = BannerViewPool.createKey("ca-app-pub-3940256099942544/9214589741",
+			891, 50);
+	private static final long IDLE_TIMEOUT = 60_000L;
+
+	private long now;
+	private List<Object> destroyed;
+	private BannerViewPool<Object> pool;
+
+	@BeforeEach
+	public void setUp() {
+		now = 0L;
+		destroyed = new ArrayList<>();
+		pool = new BannerViewPool<>(mock(Handler.class), () -> now, destroyed::add, 2, IDLE_TIMEOUT);
+	}
+
+	@Test
+	public void acquire_whenEmpty_returnsNull() {
+		assertNull(pool.acquire(PORTRAIT_KEY));
+	}
+
+	@Test
+	public void acquire_returnsReleasedViewOfSameKey() {
+		Object view = new Object();
+		pool.release(PORTRAIT_KEY, view);
+
+		assertSame(view, pool.acquire(PORTRAIT_KEY));
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	@Test
+	public void acquire_differentSize_returnsNull() {
+		pool.release(PORTRAIT_KEY, new Object());
+
+		assertNull(pool.acquire(LANDSCAPE_KEY));
+		assertEquals(1, pool.getIdleCount());
+	}
+
+	@Test
+	public void release_sameViewTwice_poolsItOnce() {
+		Object view = new Object();
+		pool.release(PORTRAIT_KEY, view);
+		pool.release(PORTRAIT_KEY, view);
+
+		assertEquals(1, pool.getIdleCount());
+	}
+
+	@Test
+	public void release_whenFull_destroysOldestView() {
+		Object oldest = new Object();
+		pool.release(PORTRAIT_KEY, oldest);
+		pool.release(LANDSCAPE_KEY, new Object());
+		pool.release(PORTRAIT_KEY, new Object());
+
+		assertEquals(List.of(oldest), destroyed);
+		assertEquals(2, pool.getIdleCount());
+	}
+
+	@Test
+	public void evictExpired_destroysOnlyViewsIdleForTimeout() {
+		Object expired = new Object();
+		pool.release(PORTRAIT_KEY, expired);
+		now = 30_000L;
+		Object fresh = new Object();
+		pool.release(LANDSCAPE_KEY, fresh);
+
+		now = IDLE_TIMEOUT;
+		pool.evictExpired();
+
+		assertEquals(List.of(expired), destroyed);
+		assertSame(fresh, pool.acquire(LANDSCAPE_KEY));
+	}
+
+	@Test
+	public void clear_destroysAllIdleViews() {
+		pool.release(PORTRAIT_KEY, new Object());
+		pool.release(LANDSCAPE_KEY, new Object());
+
+		pool.clear();
+
+		assertEquals(2, destroyed.size());
+		assertEquals(0, pool.getIdleCount());
+	}
+}
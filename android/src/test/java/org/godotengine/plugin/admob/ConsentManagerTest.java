@@ -0,0 +1,266 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+
+import com.google.android.ump.ConsentForm;
+import com.google.android.ump.ConsentInformation;
+import com.google.android.ump.ConsentRequestParameters;
+import com.google.android.ump.FormError;
+import com.google.android.ump.UserMessagingPlatform;
+
+import org.godotengine.godot.Dictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the cached consent state and the consent flow of {@link ConsentManager}. UI thread work runs inline and the
+ * UMP SDK is mocked.
+ */
+public class ConsentManagerTest {
+
+	private Activity activity;
+	private ConsentInformation consentInformation;
+	private ConsentRequestParameters parameters;
+	private List<Dictionary> results;
+
+	@BeforeEach
+	void setUp() {
+		activity = mock(Activity.class);
+		doAnswer(invocation -> {
+			((Runnable) invocation.getArgument(0)).run();
+			return null;
+		}).when(activity).runOnUiThread(any());
+
+		consentInformation = mock(ConsentInformation.class);
+		parameters = mock(ConsentRequestParameters.class);
+		results = new ArrayList<>();
+	}
+
+	private void givenState(int consentStatus, boolean canRequestAds, boolean isFormAvailable) {
+		when(consentInformation.getConsentStatus()).thenReturn(consentStatus);
+		when(consentInformation.canRequestAds()).thenReturn(canRequestAds);
+		when(consentInformation.isConsentFormAvailable()).thenReturn(isFormAvailable);
+	}
+
+	private void givenInfoUpdateSucceeds() {
+		doAnswer(invocation -> {
+			((ConsentInformation.OnConsentInfoUpdateSuccessListener) invocation.getArgument(2))
+					.onConsentInfoUpdateSuccess();
+			return null;
+		}).when(consentInformation).requestConsentInfoUpdate(any(), any(), any(), any());
+	}
+
+	private static void givenFormLoads(MockedStatic<UserMessagingPlatform> umpMock, ConsentForm form) {
+		umpMock.when(() -> UserMessagingPlatform.loadConsentForm(any(), any(), any())).thenAnswer(invocation -> {
+			((UserMessagingPlatform.OnConsentFormLoadSuccessListener) invocation.getArgument(1))
+					.onConsentFormLoadSuccess(form);
+			return null;
+		});
+	}
+
+	private static ConsentForm mockFormDismissedWith(FormError formError) {
+		ConsentForm form = mock(ConsentForm.class);
+		doAnswer(invocation -> {
+			((ConsentForm.OnConsentFormDismissedListener) invocation.getArgument(1)).onConsentFormDismissed(formError);
+			return null;
+		}).when(form).show(any(), any());
+		return form;
+	}
+
+	// -- cached state ------------------------------------------------------------
+
+	@Test
+	void getters_returnCachedStateWithoutQueryingAgain() {
+		givenState(ConsentInformation.ConsentStatus.OBTAINED, true, false);
+		ConsentManager consentManager = new ConsentManager(activity, consentInformation);
+
+		consentManager.getConsentStatus();
+		consentManager.canRequestAds();
+		consentManager.isConsentFormAvailable();
+
+		assertEquals(ConsentInformation.ConsentStatus.OBTAINED, consentManager.getConsentStatus());
+		assertTrue(consentManager.canRequestAds());
+		assertFalse(consentManager.isConsentFormAvailable());
+		verify(consentInformation, times(1)).getConsentStatus();
+		verify(consentInformation, times(1)).canRequestAds();
+	}
+
+	@Test
+	void requestConsentInfoUpdate_refreshesCachedState() {
+		givenState(ConsentInformation.ConsentStatus.UNKNOWN, false, false);
+		ConsentManager consentManager = new ConsentManager(activity, consentInformation);
+		givenState(ConsentInformation.ConsentStatus.NOT_REQUIRED, true, false);
+		givenInfoUpdateSucceeds();
+
+		consentManager.requestConsentInfoUpdate(parameters, () -> { }, formError -> { });
+
+		assertEquals(ConsentInformation.ConsentStatus.NOT_REQUIRED, consentManager.getConsentStatus());
+		assertTrue(consentManager.canRequestAds());
+	}
+
+	@Test
+	void getStatusName_mapsAllStatuses() {
+		assertEquals("NOT_REQUIRED", ConsentManager.getStatusName(ConsentInformation.ConsentStatus.NOT_REQUIRED));
+		assertEquals("REQUIRED", ConsentManager.getStatusName(ConsentInformation.ConsentStatus.REQUIRED));
+		assertEquals("OBTAINED", ConsentManager.getStatusName(ConsentInformation.ConsentStatus.OBTAINED));
+		assertEquals("UNKNOWN", ConsentManager.getStatusName(ConsentInformation.ConsentStatus.UNKNOWN));
+	}
+
+	// -- form loading --------------------------------------------------------------
+
+	@Test
+	void loadForm_reusesFormThatHasNotBeenShown() {
+		givenState(ConsentInformation.ConsentStatus.REQUIRED, false, true);
+		ConsentManager consentManager = new ConsentManager(activity, consentInformation);
+		ConsentForm form = mock(ConsentForm.class);
+		List<ConsentForm> loaded = new ArrayList<>();
+
+		try (MockedStatic<UserMessagingPlatform> umpMock = mockStatic(UserMessagingPlatform.class)) {
+			givenFormLoads(umpMock, form);
+
+			consentManager.loadForm(loaded::add, formError -> { });
+			consentManager.loadForm(loaded::add, formError -> { });
+
+			umpMock.verify(() -> UserMessagingPlatform.loadConsentForm(any(), any(), any()), times(1));
+		}
+		assertEquals(2, loaded.size());
+		assertSame(form, loaded.get(1));
+	}
+
+	@Test
+	void requestConsentInfoUpdate_discardsLoadedForm() {
+		givenState(ConsentInformation.ConsentStatus.REQUIRED, false, true);
+		ConsentManager consentManager = new ConsentManager(activity, consentInformation);
+		givenInfoUpdateSucceeds();
+
+		try (MockedStatic<UserMessagingPlatform> umpMock = mockStatic(UserMessagingPlatform.class)) {
+			givenFormLoads(umpMock, mock(ConsentForm.class));
+			consentManager.loadForm(loadedForm -> { }, formError -> { });
+
+			consentManager.requestConsentInfoUpdate(parameters, () -> { }, formError -> { });
+			assertFalse(consentManager.hasLoadedForm());
+
+			consentManager.loadForm(loadedForm -> { }, formError -> { });
+			umpMock.verify(() -> UserMessagingPlatform.loadConsentForm(any(), any(), any()), times(2));
+		}
+	}
+
+	@Test
+	void showForm_discardsShownForm() {
+		givenState(ConsentInformation.ConsentStatus.REQUIRED, false, true);
+		ConsentManager consentManager = new ConsentManager(activity, consentInformation);
+		ConsentForm form = mockFormDismissedWith(null);
+
+		try (MockedStatic<UserMessagingPlatform> umpMock = mockStatic(UserMessagingPlatform.class)) {
+			givenFormLoads(umpMock, form);
+			consentManager.loadForm(loadedForm -> { }, formError -> { });
+		}
+
+		assertTrue(consentManager.showForm(formError -> { }));
+		assertFalse(consentManager.hasLoadedForm());
+		assertFalse(consentManager.showForm(formError -> { }));
+	}
+
+	// -- ensureConsent -------------------------------------------------------------
+
+	@Test
+	void ensureConsent_notRequired_doesNotLoadForm() {
+		givenState(ConsentInformation.ConsentStatus.NOT_REQUIRED, true, false);
+		givenInfoUpdateSucceeds();
+		ConsentManager consentManager = new ConsentManager(activity, consentInformation);
+
+		try (MockedStatic<UserMessagingPlatform> umpMock = mockStatic(UserMessagingPlatform.class)) {
+			consentManager.ensureConsent(parameters, results::add);
+
+			umpMock.verify(() -> UserMessagingPlatform.loadConsentForm(any(), any(), any()), never());
+		}
+
+		assertEquals(1, results.size());
+		assertEquals("NOT_REQUIRED", results.get(0).get(ConsentManager.STATUS_PROPERTY));
+		assertEquals(true, results.get(0).get(ConsentManager.CAN_REQUEST_ADS_PROPERTY));
+		assertEquals(false, results.get(0).get(ConsentManager.FORM_SHOWN_PROPERTY));
+	}
+
+	@Test
+	void ensureConsent_required_loadsAndShowsForm() {
+		// Queried on creation, after the consent information update and after the form has been dismissed
+		when(consentInformation.getConsentStatus()).thenReturn(ConsentInformation.ConsentStatus.REQUIRED,
+				ConsentInformation.ConsentStatus.REQUIRED, ConsentInformation.ConsentStatus.OBTAINED);
+		when(consentInformation.canRequestAds()).thenReturn(false, false, true);
+		when(consentInformation.isConsentFormAvailable()).thenReturn(true, true, false);
+		givenInfoUpdateSucceeds();
+		ConsentManager consentManager = new ConsentManager(activity, consentInformation);
+		ConsentForm form = mockFormDismissedWith(null);
+
+		try (MockedStatic<UserMessagingPlatform> umpMock = mockStatic(UserMessagingPlatform.class)) {
+			givenFormLoads(umpMock, form);
+
+			consentManager.ensureConsent(parameters, results::add);
+		}
+
+		verify(form).show(any(), any());
+		assertEquals(1, results.size());
+		assertEquals("OBTAINED", results.get(0).get(ConsentManager.STATUS_PROPERTY));
+		assertEquals(true, results.get(0).get(ConsentManager.FORM_SHOWN_PROPERTY));
+		assertFalse(results.get(0).containsKey(ConsentManager.ERROR_PROPERTY));
+	}
+
+	@Test
+	void ensureConsent_infoUpdateFails_reportsErrorAndCachedState() {
+		givenState(ConsentInformation.ConsentStatus.OBTAINED, true, false);
+		FormError formError = mock(FormError.class);
+		when(formError.getErrorCode()).thenReturn(FormError.ErrorCode.INTERNET_ERROR);
+		doAnswer(invocation -> {
+			((ConsentInformation.OnConsentInfoUpdateFailureListener) invocation.getArgument(3))
+					.onConsentInfoUpdateFailure(formError);
+			return null;
+		}).when(consentInformation).requestConsentInfoUpdate(any(), any(), any(), any());
+		ConsentManager consentManager = new ConsentManager(activity, consentInformation);
+
+		consentManager.ensureConsent(parameters, results::add);
+
+		assertEquals(1, results.size());
+		assertEquals(true, results.get(0).get(ConsentManager.CAN_REQUEST_ADS_PROPERTY));
+		assertNotNull(results.get(0).get(ConsentManager.ERROR_PROPERTY));
+	}
+
+	@Test
+	void reset_discardsLoadedFormAndRefreshesState() {
+		givenState(ConsentInformation.ConsentStatus.REQUIRED, false, true);
+		ConsentManager consentManager = new ConsentManager(activity, consentInformation);
+
+		try (MockedStatic<UserMessagingPlatform> umpMock = mockStatic(UserMessagingPlatform.class)) {
+			givenFormLoads(umpMock, mock(ConsentForm.class));
+			consentManager.loadForm(loadedForm -> { }, formError -> { });
+		}
+		givenState(ConsentInformation.ConsentStatus.UNKNOWN, false, false);
+
+		consentManager.reset();
+
+		verify(consentInformation).reset();
+		assertFalse(consentManager.hasLoadedForm());
+		assertEquals(ConsentInformation.ConsentStatus.UNKNOWN, consentManager.getConsentStatus());
+	}
+}
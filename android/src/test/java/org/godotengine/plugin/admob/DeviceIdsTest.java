@@ -0,0 +1,139 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+import android.content.ContentResolver;
+import android.provider.Settings;
+
+import com.google.android.gms.ads.identifier.AdvertisingIdClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the caching and the background resolution of {@link DeviceIds}. Executors are replaced by direct or queued
+ * execution on the test thread.
+ */
+public class DeviceIdsTest {
+
+	private Activity activity;
+
+	@BeforeEach
+	void setUp() {
+		activity = mock(Activity.class);
+		when(activity.getContentResolver()).thenReturn(mock(ContentResolver.class));
+	}
+
+	private static AdvertisingIdClient.Info mockInfo(String id, boolean isLimitAdTrackingEnabled) {
+		AdvertisingIdClient.Info info = mock(AdvertisingIdClient.Info.class);
+		when(info.getId()).thenReturn(id);
+		when(info.isLimitAdTrackingEnabled()).thenReturn(isLimitAdTrackingEnabled);
+		return info;
+	}
+
+	@Test
+	void getHashedDeviceId_isComputedOnce() {
+		try (MockedStatic<Settings.Secure> secureMock = mockStatic(Settings.Secure.class)) {
+			secureMock.when(() -> Settings.Secure.getString(any(), any())).thenReturn("abc");
+			DeviceIds deviceIds = new DeviceIds(activity);
+
+			String first = deviceIds.getHashedDeviceId();
+			String second = deviceIds.getHashedDeviceId();
+
+			assertEquals(first, second);
+			secureMock.verify(() -> Settings.Secure.getString(any(), any()), times(1));
+		}
+	}
+
+	@Test
+	void resolveAdvertisingId_success_cachesIdAndRunsCallback() {
+		try (MockedStatic<AdvertisingIdClient> adIdMock = mockStatic(AdvertisingIdClient.class)) {
+			AdvertisingIdClient.Info info = mockInfo("ad-id", false);
+			adIdMock.when(() -> AdvertisingIdClient.getAdvertisingIdInfo(any())).thenReturn(info);
+			DeviceIds deviceIds = new DeviceIds(activity);
+			AtomicInteger callbacks = new AtomicInteger();
+
+			deviceIds.resolveAdvertisingId(Runnable::run, callbacks::incrementAndGet);
+			deviceIds.resolveAdvertisingId(Runnable::run, callbacks::incrementAndGet);
+
+			assertTrue(deviceIds.isAdvertisingIdResolved());
+			assertEquals("ad-id", deviceIds.getAdvertisingId());
+			assertEquals(2, callbacks.get());
+			adIdMock.verify(() -> AdvertisingIdClient.getAdvertisingIdInfo(any()), times(1));
+		}
+	}
+
+	@Test
+	void resolveAdvertisingId_limitAdTracking_resolvesToNull() {
+		try (MockedStatic<AdvertisingIdClient> adIdMock = mockStatic(AdvertisingIdClient.class)) {
+			AdvertisingIdClient.Info info = mockInfo("ad-id", true);
+			adIdMock.when(() -> AdvertisingIdClient.getAdvertisingIdInfo(any())).thenReturn(info);
+			DeviceIds deviceIds = new DeviceIds(activity);
+
+			deviceIds.resolveAdvertisingId(Runnable::run, () -> { });
+
+			assertTrue(deviceIds.isAdvertisingIdResolved());
+			assertNull(deviceIds.getAdvertisingId());
+		}
+	}
+
+	@Test
+	void resolveAdvertisingId_concurrentCalls_shareOneRetrieval() {
+		try (MockedStatic<AdvertisingIdClient> adIdMock = mockStatic(AdvertisingIdClient.class)) {
+			AdvertisingIdClient.Info info = mockInfo("ad-id", false);
+			adIdMock.when(() -> AdvertisingIdClient.getAdvertisingIdInfo(any())).thenReturn(info);
+			DeviceIds deviceIds = new DeviceIds(activity);
+			List<Runnable> queued = new ArrayList<>();
+			AtomicInteger callbacks = new AtomicInteger();
+
+			deviceIds.resolveAdvertisingId(queued::add, callbacks::incrementAndGet);
+			deviceIds.resolveAdvertisingId(queued::add, callbacks::incrementAndGet);
+
+			assertEquals(1, queued.size());
+			assertFalse(deviceIds.isAdvertisingIdResolved());
+
+			queued.get(0).run();
+
+			assertEquals(2, callbacks.get());
+			assertEquals("ad-id", deviceIds.getAdvertisingId());
+		}
+	}
+
+	@Test
+	void resolveAdvertisingId_failure_staysUnresolvedAndRetries() {
+		try (MockedStatic<AdvertisingIdClient> adIdMock = mockStatic(AdvertisingIdClient.class)) {
+			adIdMock.when(() -> AdvertisingIdClient.getAdvertisingIdInfo(any()))
+					.thenThrow(new IllegalStateException("main thread"));
+			DeviceIds deviceIds = new DeviceIds(activity);
+			AtomicInteger callbacks = new AtomicInteger();
+
+			deviceIds.resolveAdvertisingId(Runnable::run, callbacks::incrementAndGet);
+
+			assertFalse(deviceIds.isAdvertisingIdResolved());
+			assertNull(deviceIds.getAdvertisingId());
+			assertEquals(0, callbacks.get());
+
+			deviceIds.resolveAdvertisingId(Runnable::run, callbacks::incrementAndGet);
+
+			adIdMock.verify(() -> AdvertisingIdClient.getAdvertisingIdInfo(any()), times(2));
+		}
+	}
+}
@@ -0,0 +1,96 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests that {@link EvictionScheduler} keeps a single pass pending for the earliest expiry it has been told about.
+ */
+public class EvictionSchedulerTest {
+
+	private static final long TTL = 10_000L;
+
+	private long now;
+	private int passCount;
+	private Handler handler;
+	private EvictionScheduler scheduler;
+
+	@BeforeEach
+	public void setUp() {
+		now = 0L;
+		passCount = 0;
+		handler = mock(Handler.class);
+		scheduler = new EvictionScheduler(handler, () -> now, () -> passCount++);
+	}
+
+	private Runnable postedPass() {
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		verify(handler).postDelayed(captor.capture(), anyLong());
+		return captor.getValue();
+	}
+
+	@Test
+	public void scheduleExpiryOf_postsPassForRemainingTime() {
+		now = 4_000L;
+
+		scheduler.scheduleExpiryOf(1_000L, TTL);
+
+		verify(handler).postDelayed(any(), eq(7_000L));
+	}
+
+	@Test
+	public void scheduleExpiryOf_laterExpiry_keepsPendingPass() {
+		scheduler.scheduleExpiryOf(0L, TTL);
+		scheduler.scheduleExpiryOf(5_000L, TTL);
+
+		verify(handler, times(1)).postDelayed(any(), anyLong());
+	}
+
+	@Test
+	public void scheduleExpiryOf_overdueEntry_postsPassWithoutDelay() {
+		now = 2 * TTL;
+
+		scheduler.scheduleExpiryOf(0L, TTL);
+
+		verify(handler).postDelayed(any(), eq(0L));
+	}
+
+	@Test
+	public void pass_runsEvictionAndAllowsNextSchedule() {
+		scheduler.scheduleExpiryOf(0L, TTL);
+		Runnable pass = postedPass();
+
+		now = TTL;
+		pass.run();
+		scheduler.scheduleExpiryOf(5_000L, TTL);
+
+		assertEquals(1, passCount);
+		verify(handler).postDelayed(any(), eq(5_000L));
+	}
+
+	@Test
+	public void cancel_removesPendingPass() {
+		scheduler.scheduleExpiryOf(0L, TTL);
+		Runnable pass = postedPass();
+
+		scheduler.cancel();
+
+		// Once when the pass was scheduled and once when it was cancelled
+		verify(handler, times(2)).removeCallbacks(pass);
+	}
+}
@@ -0,0 +1,53 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void percentiles_areZeroWithoutValues() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertEquals(0, histogram.getPercentile(0.5));
+	}
+
+	@Test
+	public void percentiles_reportUpperBoundOfBucket() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 90; i++) {
+			histogram.record(120);	// 100-150 bucket
+		}
+		for (int i = 0; i < 9; i++) {
+			histogram.record(900);	// 750-1000 bucket
+		}
+		histogram.record(2_200);	// 2000-2500 bucket
+
+		assertEquals(150, histogram.getPercentile(0.50));
+		assertEquals(150, histogram.getPercentile(0.90));
+		assertEquals(1_000, histogram.getPercentile(0.99));
+		assertEquals(2_200, histogram.getPercentile(1.0));
+	}
+
+	@Test
+	public void percentiles_areCappedAtLargestValue() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(110);
+
+		assertEquals(110, histogram.getPercentile(0.5));
+	}
+
+	@Test
+	public void valuesAboveLastBound_reportLargestValue() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(90_000);
+
+		assertEquals(90_000, histogram.getPercentile(0.99));
+		assertEquals(90_000, histogram.getMaxMillis());
+	}
+}
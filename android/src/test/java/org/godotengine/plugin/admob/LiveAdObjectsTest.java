@@ -0,0 +1,55 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.godotengine.godot.Dictionary;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the live ad object counters of {@link LiveAdObjects}. The counters are process-wide, so the tests compare
+ * counts before and after instead of asserting absolute values.
+ */
+public class LiveAdObjectsTest {
+
+	@Test
+	public void createAndDispose_leaveCountUnchanged() {
+		int before = LiveAdObjects.getAdCount(AdFormat.INTERSTITIAL);
+
+		LiveAdObjects.onAdCreated(AdFormat.INTERSTITIAL);
+		assertEquals(before + 1, LiveAdObjects.getAdCount(AdFormat.INTERSTITIAL));
+
+		LiveAdObjects.onAdDisposed(AdFormat.INTERSTITIAL);
+		assertEquals(before, LiveAdObjects.getAdCount(AdFormat.INTERSTITIAL));
+	}
+
+	@Test
+	public void bannerViews_areCountedSeparatelyFromBanners() {
+		int bannersBefore = LiveAdObjects.getAdCount(AdFormat.BANNER);
+		int viewsBefore = LiveAdObjects.getBannerViewCount();
+
+		LiveAdObjects.onBannerViewCreated();
+
+		assertEquals(bannersBefore, LiveAdObjects.getAdCount(AdFormat.BANNER));
+		assertEquals(viewsBefore + 1, LiveAdObjects.getBannerViewCount());
+
+		LiveAdObjects.onBannerViewDestroyed();
+	}
+
+	@Test
+	public void buildRawData_containsCountsPerFormatAndBannerViews() {
+		LiveAdObjects.onAdCreated(AdFormat.NATIVE);
+
+		Dictionary data = LiveAdObjects.buildRawData();
+
+		assertEquals(LiveAdObjects.getAdCount(AdFormat.NATIVE), data.get("native"));
+		assertEquals(LiveAdObjects.getBannerViewCount(), data.get(LiveAdObjects.BANNER_VIEW_PROPERTY));
+		assertFalse(data.containsKey(AdFormat.APP_OPEN.getKey()));
+
+		LiveAdObjects.onAdDisposed(AdFormat.NATIVE);
+	}
+}
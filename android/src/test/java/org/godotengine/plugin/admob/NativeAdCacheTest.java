@@ -0,0 +1,120 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import android.os.Handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests queueing, hand-out order and expiry of preloaded native ads in {@link NativeAdCache}.
+ *
+ * <p>Each ad is represented by its name, so destroyed and handed-out ads can be compared as names. Ads age by
+ * advancing the elapsed time; scheduled eviction passes are not run, so each test runs the pass it expects.
+ */
+public class NativeAdCacheTest {
+
+	private static final String AD_UNIT_ID = "ca-app-pub-3940256099942544/2247696110";
+	private static final String OTHER_AD_UNIT_ID = "ca-app-pub-3940256099942544/1044960115";
+	private static final int MAX_ADS_PER_UNIT = 2;
+	private static final long TTL = 3_600_000L;
+
+	private long elapsedMillis;
+	private List<String> destroyedAds;
+	private NativeAdCache<String> cache;
+
+	@BeforeEach
+	public void setUp() {
+		elapsedMillis = 0L;
+		destroyedAds = new ArrayList<>();
+		cache = new NativeAdCache<>(mock(Handler.class), () -> elapsedMillis, destroyedAds::add, MAX_ADS_PER_UNIT,
+				TTL);
+	}
+
+	private void advanceBy(long millis) {
+		elapsedMillis += millis;
+	}
+
+	@Test
+	public void poll_whenEmpty_returnsNull() {
+		assertNull(cache.poll(AD_UNIT_ID));
+	}
+
+	@Test
+	public void poll_handsOutAdsInLoadOrder() {
+		cache.offer(AD_UNIT_ID, "first");
+		cache.offer(AD_UNIT_ID, "second");
+
+		assertEquals("first", cache.poll(AD_UNIT_ID));
+		assertEquals("second", cache.poll(AD_UNIT_ID));
+		assertEquals(0, cache.getCount(AD_UNIT_ID));
+	}
+
+	@Test
+	public void poll_otherAdUnit_returnsNull() {
+		cache.offer(AD_UNIT_ID, "ad");
+
+		assertNull(cache.poll(OTHER_AD_UNIT_ID));
+		assertEquals(1, cache.getCount(AD_UNIT_ID));
+	}
+
+	@Test
+	public void offer_whenAdUnitIsFull_destroysOfferedAd() {
+		cache.offer(AD_UNIT_ID, "first");
+		cache.offer(AD_UNIT_ID, "second");
+
+		assertFalse(cache.offer(AD_UNIT_ID, "third"));
+		assertEquals(List.of("third"), destroyedAds);
+		assertTrue(cache.offer(OTHER_AD_UNIT_ID, "other"));
+	}
+
+	@Test
+	public void poll_destroysExpiredAdsAndHandsOutNextOne() {
+		cache.offer(AD_UNIT_ID, "stale");
+		advanceBy(1_000L);
+		cache.offer(AD_UNIT_ID, "fresh");
+
+		advanceBy(TTL - 1_000L);
+
+		assertEquals("fresh", cache.poll(AD_UNIT_ID));
+		assertEquals(List.of("stale"), destroyedAds);
+	}
+
+	@Test
+	public void evictExpired_keepsAdsWithinTtl() {
+		cache.offer(AD_UNIT_ID, "stale");
+		advanceBy(1_000L);
+		cache.offer(OTHER_AD_UNIT_ID, "fresh");
+
+		advanceBy(TTL - 1_000L);
+		cache.evictExpired();
+
+		assertEquals(List.of("stale"), destroyedAds);
+		assertEquals(0, cache.getCount(AD_UNIT_ID));
+		assertEquals(1, cache.getCount(OTHER_AD_UNIT_ID));
+	}
+
+	@Test
+	public void clear_destroysAdsOfAllAdUnits() {
+		cache.offer(AD_UNIT_ID, "ad");
+		cache.offer(OTHER_AD_UNIT_ID, "other");
+
+		cache.clear();
+
+		assertEquals(2, destroyedAds.size());
+		assertTrue(destroyedAds.containsAll(List.of("ad", "other")));
+		assertEquals(0, cache.getCount(AD_UNIT_ID));
+	}
+}
@@ -0,0 +1,165 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.godotengine.godot.Dictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests bounding, de-duplication and draining of loads queued in {@link PendingLoadQueue}.
+ */
+public class PendingLoadQueueTest {
+
+	private static final List<Object> INTERSTITIAL_KEY = PendingLoadQueue.createRequestKey("interstitial",
+			requestData("ca-app-pub-3940256099942544/1033173712", null));
+	private static final List<Object> REWARDED_KEY = PendingLoadQueue.createRequestKey("rewarded",
+			requestData("ca-app-pub-3940256099942544/5224354917", null));
+
+	private List<String> executed;
+	private PendingLoadQueue queue;
+
+	@BeforeEach
+	public void setUp() {
+		executed = new ArrayList<>();
+		queue = new PendingLoadQueue(2);
+	}
+
+	private static Dictionary requestData(String adUnitId, String adPosition) {
+		Dictionary data = new Dictionary();
+		data.put("ad_unit_id", adUnitId);
+		if (adPosition != null) {
+			data.put("ad_position", adPosition);
+		}
+		return data;
+	}
+
+	private static Dictionary requestDataWithArrays(String adUnitId) {
+		Dictionary extras = new Dictionary();
+		extras.put("network_tag", "applovin");
+		Dictionary params = new Dictionary();
+		params.put("key", "value");
+		extras.put("extras", params);
+
+		Dictionary data = requestData(adUnitId, null);
+		data.put("keywords", new String[] { "games", "puzzle" });
+		data.put("network_extras", new Object[] { extras });
+		return data;
+	}
+
+	private Runnable load(String name) {
+		return () -> executed.add(name);
+	}
+
+	private void runAll(List<Runnable> loads) {
+		for (Runnable load : loads) {
+			load.run();
+		}
+	}
+
+	@Test
+	public void drain_whenEmpty_returnsEmptyList() {
+		assertTrue(queue.drain().isEmpty());
+	}
+
+	@Test
+	public void drain_returnsLoadsInRequestOrderAndEmptiesQueue() {
+		queue.offer(INTERSTITIAL_KEY, load("interstitial"));
+		queue.offer(REWARDED_KEY, load("rewarded"));
+
+		runAll(queue.drain());
+
+		assertEquals(List.of("interstitial", "rewarded"), executed);
+		assertEquals(0, queue.size());
+	}
+
+	@Test
+	public void offer_sameKey_replacesQueuedLoadAndKeepsPosition() {
+		queue.offer(INTERSTITIAL_KEY, load("first"));
+		queue.offer(REWARDED_KEY, load("rewarded"));
+
+		assertTrue(queue.offer(INTERSTITIAL_KEY, load("second")));
+		runAll(queue.drain());
+
+		assertEquals(List.of("second", "rewarded"), executed);
+	}
+
+	@Test
+	public void offer_differentRequestsForSameAdUnit_queuesBoth() {
+		queue.offer(PendingLoadQueue.createRequestKey("banner", requestData("unit", "TOP")), load("top"));
+		queue.offer(PendingLoadQueue.createRequestKey("banner", requestData("unit", "BOTTOM")), load("bottom"));
+
+		runAll(queue.drain());
+
+		assertEquals(List.of("top", "bottom"), executed);
+	}
+
+	@Test
+	public void createRequestKey_isNotAffectedByLaterChangesToRequestData() {
+		Dictionary data = requestData("unit", "TOP");
+		List<Object> key = PendingLoadQueue.createRequestKey("banner", data);
+
+		data.put("ad_position", "BOTTOM");
+
+		assertEquals(PendingLoadQueue.createRequestKey("banner", requestData("unit", "TOP")), key);
+	}
+
+	@Test
+	public void offer_equalRequestsWithArrayValues_replacesQueuedLoad() {
+		queue.offer(PendingLoadQueue.createRequestKey("interstitial", requestDataWithArrays("unit")), load("first"));
+		queue.offer(PendingLoadQueue.createRequestKey("interstitial", requestDataWithArrays("unit")), load("second"));
+
+		assertEquals(1, queue.size());
+		runAll(queue.drain());
+		assertEquals(List.of("second"), executed);
+	}
+
+	@Test
+	public void offer_whenFull_rejectsNewKey() {
+		queue.offer(INTERSTITIAL_KEY, load("interstitial"));
+		queue.offer(REWARDED_KEY, load("rewarded"));
+
+		List<Object> bannerKey = PendingLoadQueue.createRequestKey("banner", requestData("unit", null));
+		assertFalse(queue.offer(bannerKey, load("banner")));
+		assertEquals(2, queue.size());
+	}
+
+	@Test
+	public void offer_whenFull_acceptsQueuedKey() {
+		queue.offer(INTERSTITIAL_KEY, load("interstitial"));
+		queue.offer(REWARDED_KEY, load("rewarded"));
+
+		assertTrue(queue.offer(REWARDED_KEY, load("rewarded again")));
+		assertEquals(2, queue.size());
+	}
+
+	@Test
+	public void offer_afterDrain_acceptsLoadsAgain() {
+		queue.offer(INTERSTITIAL_KEY, load("interstitial"));
+		queue.offer(REWARDED_KEY, load("rewarded"));
+		queue.drain();
+
+		assertTrue(queue.offer(PendingLoadQueue.createRequestKey("banner", requestData("unit", null)), load("banner")));
+	}
+
+	@Test
+	public void createRequestKey_differentRequestTypes_produceDifferentKeys() {
+		assertFalse(PendingLoadQueue.createRequestKey("interstitial", requestData("unit", null))
+				.equals(PendingLoadQueue.createRequestKey("pool_interstitial", requestData("unit", null))));
+	}
+
+	@Test
+	public void constructor_nonPositiveCapacity_throws() {
+		assertThrows(IllegalArgumentException.class, () -> new PendingLoadQueue(0));
+	}
+}
@@ -0,0 +1,140 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+
+import java.util.Map;
+
+import org.godotengine.plugin.admob.model.RetryPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests scheduling, cancellation and background pausing of retries in {@link RetryScheduler}.
+ *
+ * <p>The scheduler's {@link Handler} is a mock; posted retries are captured and run explicitly.
+ */
+public class RetrySchedulerTest {
+
+	private static final String AD_ID = "ca-app-pub-3940256099942544/1033173712-1";
+	private static final int NETWORK_ERROR = 2;
+	private static final int INVALID_REQUEST = 1;
+
+	private Handler handler;
+	private RetryScheduler scheduler;
+	private int reloadCount;
+
+	@BeforeEach
+	public void setUp() {
+		handler = mock(Handler.class);
+		scheduler = new RetryScheduler(handler, () -> 0.5);
+		scheduler.setPolicy(AdFormat.INTERSTITIAL,
+				new RetryPolicy(2, 2.0, 60_000L, 0.0, Map.of(NETWORK_ERROR, 1_000L)));
+		reloadCount = 0;
+	}
+
+	private boolean fail(int errorCode) {
+		return scheduler.scheduleRetry(AdFormat.INTERSTITIAL, AD_ID, errorCode, () -> reloadCount++);
+	}
+
+	private Runnable capturePosted(long delayMillis) {
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		verify(handler).postDelayed(captor.capture(), eq(delayMillis));
+		return captor.getValue();
+	}
+
+	@Test
+	public void scheduleRetry_retryableError_postsReloadWithBackoff() {
+		assertTrue(fail(NETWORK_ERROR));
+		capturePosted(1_000L).run();
+
+		assertTrue(fail(NETWORK_ERROR));
+		capturePosted(2_000L).run();
+
+		assertEquals(2, reloadCount);
+	}
+
+	@Test
+	public void scheduleRetry_afterMaxRetries_returnsFalse() {
+		fail(NETWORK_ERROR);
+		fail(NETWORK_ERROR);
+
+		assertFalse(fail(NETWORK_ERROR));
+	}
+
+	@Test
+	public void scheduleRetry_nonRetryableError_returnsFalse() {
+		assertFalse(fail(INVALID_REQUEST));
+		verify(handler, never()).postDelayed(any(Runnable.class), anyLong());
+	}
+
+	@Test
+	public void scheduleRetry_formatWithoutPolicy_returnsFalse() {
+		assertFalse(scheduler.scheduleRetry(AdFormat.REWARDED, AD_ID, NETWORK_ERROR, () -> reloadCount++));
+	}
+
+	@Test
+	public void onLoadSucceeded_resetsBackoff() {
+		fail(NETWORK_ERROR);
+		capturePosted(1_000L).run();
+		scheduler.onLoadSucceeded(AD_ID);
+
+		fail(NETWORK_ERROR);
+
+		verify(handler, times(2)).postDelayed(any(Runnable.class), eq(1_000L));
+	}
+
+	@Test
+	public void cancel_preventsPendingReload() {
+		fail(NETWORK_ERROR);
+		Runnable retry = capturePosted(1_000L);
+
+		scheduler.cancel(AD_ID);
+		retry.run();
+
+		assertEquals(0, reloadCount);
+		verify(handler).removeCallbacks(retry);
+	}
+
+	@Test
+	public void pause_holdsRetriesUntilResumed() {
+		scheduler.pause();
+		fail(NETWORK_ERROR);
+
+		verify(handler, never()).postDelayed(any(Runnable.class), anyLong());
+		assertEquals(1, scheduler.getPendingRetryCount());
+
+		scheduler.resume();
+		capturePosted(1_000L).run();
+
+		assertEquals(1, reloadCount);
+		assertEquals(0, scheduler.getPendingRetryCount());
+	}
+
+	@Test
+	public void pause_removesPostedRetries() {
+		fail(NETWORK_ERROR);
+		Runnable retry = capturePosted(1_000L);
+
+		scheduler.pause();
+		retry.run();
+
+		verify(handler).removeCallbacks(retry);
+		assertEquals(0, reloadCount);
+	}
+}
@@ -0,0 +1,134 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+
+import com.google.android.gms.ads.AdRequest;
+import com.google.android.gms.ads.LoadAdError;
+import com.google.android.gms.ads.rewarded.RewardedAd;
+import com.google.android.gms.ads.rewarded.RewardedAdLoadCallback;
+
+import org.godotengine.plugin.admob.model.AdmobAdInfo;
+import org.godotengine.plugin.admob.model.LoadAdRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests which listener callbacks {@link RewardedVideo} reports for initial loads and refreshes. UI thread work runs
+ * inline and {@link RewardedAd#load} is mocked so the load callbacks can be fired by hand.
+ */
+public class RewardedVideoTest {
+
+	private static final String AD_UNIT_ID = "ca-app-pub-3940256099942544/5224354917";
+
+	private Activity activity;
+	private AdmobAdInfo adInfo;
+	private RewardedVideoListener listener;
+	private List<RewardedAdLoadCallback> loadCallbacks;
+
+	@BeforeEach
+	void setUp() {
+		activity = mock(Activity.class);
+		doAnswer(invocation -> {
+			((Runnable) invocation.getArgument(0)).run();
+			return null;
+		}).when(activity).runOnUiThread(any());
+
+		LoadAdRequest loadAdRequest = mock(LoadAdRequest.class);
+		when(loadAdRequest.getAdUnitId()).thenReturn(AD_UNIT_ID);
+		when(loadAdRequest.createAdRequest()).thenReturn(mock(AdRequest.class));
+
+		adInfo = mock(AdmobAdInfo.class);
+		when(adInfo.getAdId()).thenReturn("rewarded-1");
+		when(adInfo.getLoadAdRequest()).thenReturn(loadAdRequest);
+
+		listener = mock(RewardedVideoListener.class);
+		loadCallbacks = new ArrayList<>();
+	}
+
+	@AfterEach
+	void tearDown() {
+		AdMetrics.reset();
+	}
+
+	private void givenLoadCallbacksCaptured(MockedStatic<RewardedAd> rewardedAdMock) {
+		rewardedAdMock.when(() -> RewardedAd.load(any(Activity.class), anyString(), any(AdRequest.class), any()))
+				.thenAnswer(invocation -> {
+					loadCallbacks.add(invocation.getArgument(3));
+					return null;
+				});
+	}
+
+	@Test
+	void load_reportsLoaded() {
+		RewardedVideo rewardedVideo = new RewardedVideo(adInfo, activity, listener);
+
+		try (MockedStatic<RewardedAd> rewardedAdMock = mockStatic(RewardedAd.class)) {
+			givenLoadCallbacksCaptured(rewardedAdMock);
+
+			rewardedVideo.load();
+			loadCallbacks.get(0).onAdLoaded(mock(RewardedAd.class));
+		}
+
+		assertTrue(rewardedVideo.isLoaded());
+		verify(listener, times(1)).onRewardedVideoLoaded(any(), any());
+		verify(listener, never()).onRewardedVideoRefreshed(any(), any());
+		rewardedVideo.dispose();
+	}
+
+	@Test
+	void refresh_reportsRefreshedInsteadOfLoadedAgain() {
+		RewardedVideo rewardedVideo = new RewardedVideo(adInfo, activity, listener);
+
+		try (MockedStatic<RewardedAd> rewardedAdMock = mockStatic(RewardedAd.class)) {
+			givenLoadCallbacksCaptured(rewardedAdMock);
+
+			rewardedVideo.load();
+			loadCallbacks.get(0).onAdLoaded(mock(RewardedAd.class));
+			rewardedVideo.refresh();
+			loadCallbacks.get(1).onAdLoaded(mock(RewardedAd.class));
+		}
+
+		assertTrue(rewardedVideo.isLoaded());
+		verify(listener, times(1)).onRewardedVideoLoaded(any(), any());
+		verify(listener, times(1)).onRewardedVideoRefreshed(any(), any());
+		rewardedVideo.dispose();
+	}
+
+	@Test
+	void failedRefresh_keepsLoadedAdWithoutReportingFailure() {
+		RewardedVideo rewardedVideo = new RewardedVideo(adInfo, activity, listener);
+
+		try (MockedStatic<RewardedAd> rewardedAdMock = mockStatic(RewardedAd.class)) {
+			givenLoadCallbacksCaptured(rewardedAdMock);
+
+			rewardedVideo.load();
+			loadCallbacks.get(0).onAdLoaded(mock(RewardedAd.class));
+			rewardedVideo.refresh();
+			loadCallbacks.get(1).onAdFailedToLoad(mock(LoadAdError.class));
+		}
+
+		assertTrue(rewardedVideo.isLoaded());
+		verify(listener, never()).onRewardedVideoFailedToLoad(any(), any());
+		rewardedVideo.dispose();
+	}
+}
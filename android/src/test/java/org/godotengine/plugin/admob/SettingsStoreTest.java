@@ -0,0 +1,234 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.SharedPreferences;
+
+import org.godotengine.godot.Dictionary;
+import org.godotengine.plugin.admob.model.AdSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the in-memory caching and the change-only writes of {@link SettingsStore}. Preferences are mocked and
+ * background work either runs inline or is queued on the test thread.
+ */
+public class SettingsStoreTest {
+
+	private SharedPreferences prefs;
+	private SharedPreferences.Editor editor;
+	private Map<String, Object> storedValues;
+	private int prefsRequestCount;
+
+	@BeforeEach
+	void setUp() {
+		prefs = mock(SharedPreferences.class);
+		editor = mock(SharedPreferences.Editor.class);
+		storedValues = new HashMap<>();
+		prefsRequestCount = 0;
+		when(prefs.edit()).thenReturn(editor);
+		when(prefs.getAll()).thenAnswer(invocation -> storedValues);
+	}
+
+	private SettingsStore createStore() {
+		return new SettingsStore(() -> {
+			prefsRequestCount++;
+			return prefs;
+		}, Runnable::run);
+	}
+
+	private static Dictionary settings(Object... keysAndValues) {
+		Dictionary dict = new Dictionary();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			dict.put((String) keysAndValues[i], keysAndValues[i + 1]);
+		}
+		return dict;
+	}
+
+	// -- reads -----------------------------------------------------------------------
+
+	@Test
+	void getAdSettings_readsPreferencesOnce() {
+		storedValues.put(AdSettings.DATA_KEY_AD_VOLUME, 0.5f);
+		SettingsStore store = createStore();
+
+		store.getAdSettings();
+		AdSettings adSettings = store.getAdSettings();
+
+		assertEquals(0.5f, adSettings.getAdVolume());
+		assertEquals(1, prefsRequestCount);
+		verify(prefs, times(1)).getAll();
+	}
+
+	@Test
+	void getAdSettings_fillsDefaultsForMissingSettings() {
+		AdSettings adSettings = createStore().getAdSettings();
+
+		assertEquals(AdSettings.DEFAULT_AD_VOLUME, adSettings.getAdVolume());
+		assertEquals(AdSettings.DEFAULT_ADS_MUTED, adSettings.areAdsMuted());
+		assertEquals(AdSettings.DEFAULT_APPLY_AT_STARTUP, adSettings.getApplyAtStartup());
+	}
+
+	@Test
+	void getAdSettings_includesExtraSettings() {
+		storedValues.put("interstitial_ttl_ms", 60000L);
+
+		Dictionary data = createStore().getAdSettings().getRawData();
+
+		assertEquals(60000L, data.get("interstitial_ttl_ms"));
+	}
+
+	@Test
+	void preload_loadsOnExecutor() {
+		List<Runnable> queued = new ArrayList<>();
+		SettingsStore store = new SettingsStore(() -> {
+			prefsRequestCount++;
+			return prefs;
+		}, queued::add);
+
+		store.preload();
+		assertEquals(0, prefsRequestCount);
+
+		queued.get(0).run();
+		store.getAdSettings();
+
+		assertEquals(1, prefsRequestCount);
+	}
+
+	// -- writes ----------------------------------------------------------------------
+
+	@Test
+	void update_writesOnlyChangedSettings() {
+		storedValues.put(AdSettings.DATA_KEY_AD_VOLUME, 0.5f);
+		storedValues.put(AdSettings.DATA_KEY_ADS_MUTED, false);
+		SettingsStore store = createStore();
+
+		int changeCount = store.update(settings(AdSettings.DATA_KEY_AD_VOLUME, 0.5, AdSettings.DATA_KEY_ADS_MUTED,
+				true));
+
+		assertEquals(1, changeCount);
+		verify(editor).putBoolean(AdSettings.DATA_KEY_ADS_MUTED, true);
+		verify(editor, never()).putFloat(anyString(), anyFloat());
+		verify(editor).apply();
+	}
+
+	@Test
+	void update_unchangedSettings_doesNotWrite() {
+		storedValues.put(AdSettings.DATA_KEY_ADS_MUTED, true);
+		SettingsStore store = createStore();
+
+		assertEquals(0, store.update(settings(AdSettings.DATA_KEY_ADS_MUTED, true)));
+		verify(prefs, never()).edit();
+	}
+
+	@Test
+	void update_keepsSettingsThatAreNotGiven() {
+		storedValues.put(AdSettings.DATA_KEY_AD_VOLUME, 0.25f);
+		SettingsStore store = createStore();
+
+		store.update(settings(AdSettings.DATA_KEY_APPLY_AT_STARTUP, true));
+
+		AdSettings adSettings = store.getAdSettings();
+		assertEquals(0.25f, adSettings.getAdVolume());
+		assertTrue(adSettings.getApplyAtStartup());
+		verify(editor, never()).putFloat(anyString(), anyFloat());
+	}
+
+	@Test
+	void update_storesExtraSettingsByType() {
+		SettingsStore store = createStore();
+
+		store.update(settings("pool_size", 3L, "ttl_factor", 1.5, "mode", "fast", "enabled", true));
+
+		verify(editor).putLong("pool_size", 3L);
+		verify(editor).putFloat("ttl_factor", 1.5f);
+		verify(editor).putString("mode", "fast");
+		verify(editor).putBoolean("enabled", true);
+		assertEquals(3L, store.getLong("pool_size", 0L));
+		assertEquals(1.5f, store.getAdSettings().getRawData().get("ttl_factor"));
+	}
+
+	@Test
+	void update_nullValue_removesSetting() {
+		storedValues.put("pool_size", 3L);
+		SettingsStore store = createStore();
+
+		assertEquals(1, store.update(settings("pool_size", null)));
+
+		verify(editor).remove("pool_size");
+		assertEquals(7L, store.getLong("pool_size", 7L));
+	}
+
+	@Test
+	void update_unsupportedValue_isIgnored() {
+		SettingsStore store = createStore();
+
+		assertEquals(0, store.update(settings("nested", new Dictionary(),
+				AdSettings.DATA_KEY_ADS_MUTED, "yes")));
+
+		verify(prefs, never()).edit();
+		assertFalse(store.getAdSettings().getRawData().containsKey("nested"));
+	}
+
+	@Test
+	void update_writesQueuedUpdatesInOrderWithLatestValues() {
+		List<Runnable> queued = new ArrayList<>();
+		SettingsStore store = new SettingsStore(() -> prefs, queued::add);
+
+		store.update(settings(AdSettings.DATA_KEY_ADS_MUTED, true));
+		store.update(settings(AdSettings.DATA_KEY_ADS_MUTED, false, "pool_size", 2L));
+		for (Runnable task : queued) {
+			task.run();
+		}
+
+		InOrder inOrder = inOrder(editor);
+		inOrder.verify(editor).putBoolean(AdSettings.DATA_KEY_ADS_MUTED, false);
+		inOrder.verify(editor).putLong("pool_size", 2L);
+		inOrder.verify(editor).apply();
+		verify(editor, times(1)).putBoolean(anyString(), anyBoolean());
+	}
+
+	@Test
+	void createAdTtlKey_isPerFormat() {
+		assertEquals("interstitial_ttl_seconds", SettingsStore.createAdTtlKey(AdFormat.INTERSTITIAL));
+		assertEquals("app_open_ttl_seconds", SettingsStore.createAdTtlKey(AdFormat.APP_OPEN));
+	}
+
+	// -- normalize -------------------------------------------------------------------
+
+	@Test
+	void normalize_keepsTypesOfKnownSettings() {
+		assertEquals(1.0f, SettingsStore.normalize(AdSettings.DATA_KEY_AD_VOLUME, 1L));
+		assertEquals(true, SettingsStore.normalize(AdSettings.DATA_KEY_ADS_MUTED, true));
+		assertNull(SettingsStore.normalize(AdSettings.DATA_KEY_APPLY_AT_STARTUP, 1L));
+	}
+
+	@Test
+	void normalize_storesIntegersAsLongsAndOtherNumbersAsFloats() {
+		assertEquals(5L, SettingsStore.normalize("key", 5));
+		assertEquals(0.5f, SettingsStore.normalize("key", 0.5));
+		assertNull(SettingsStore.normalize("key", new Object()));
+	}
+}
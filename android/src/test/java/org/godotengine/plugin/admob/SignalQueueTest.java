@@ -0,0 +1,89 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.godotengine.godot.Dictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests queueing and draining of batched plugin signals in {@link SignalQueue}.
+ */
+public class SignalQueueTest {
+
+	private SignalQueue queue;
+
+	@BeforeEach
+	public void setUp() {
+		queue = new SignalQueue();
+	}
+
+	@Test
+	public void drain_whenEmpty_returnsEmptyArray() {
+		assertEquals(0, queue.drain().length);
+	}
+
+	@Test
+	public void drain_returnsEventsInQueueOrder() {
+		Dictionary adInfo = new Dictionary();
+		queue.enqueue(AdmobPlugin.SIGNAL_BANNER_AD_IMPRESSION, adInfo);
+		queue.enqueue(AdmobPlugin.SIGNAL_CONSENT_FORM_LOADED);
+
+		Object[] events = queue.drain();
+
+		assertEquals(2, events.length);
+		Dictionary first = (Dictionary) events[0];
+		assertEquals(AdmobPlugin.SIGNAL_BANNER_AD_IMPRESSION, first.get(SignalQueue.EVENT_SIGNAL_PROPERTY));
+		assertArrayEquals(new Object[] { adInfo }, (Object[]) first.get(SignalQueue.EVENT_ARGS_PROPERTY));
+		Dictionary second = (Dictionary) events[1];
+		assertEquals(AdmobPlugin.SIGNAL_CONSENT_FORM_LOADED, second.get(SignalQueue.EVENT_SIGNAL_PROPERTY));
+		assertEquals(0, ((Object[]) second.get(SignalQueue.EVENT_ARGS_PROPERTY)).length);
+	}
+
+	@Test
+	public void enqueue_reportsOnlyFirstEventSinceLastDrain() {
+		assertTrue(queue.enqueue(AdmobPlugin.SIGNAL_BANNER_AD_CLICKED, new Dictionary()));
+		assertFalse(queue.enqueue(AdmobPlugin.SIGNAL_BANNER_AD_IMPRESSION, new Dictionary()));
+
+		queue.drain();
+
+		assertTrue(queue.enqueue(AdmobPlugin.SIGNAL_BANNER_AD_CLICKED, new Dictionary()));
+	}
+
+	@Test
+	public void drain_emptiesTheQueue() {
+		queue.enqueue(AdmobPlugin.SIGNAL_BANNER_AD_CLICKED, new Dictionary());
+
+		queue.drain();
+
+		assertTrue(queue.isEmpty());
+		assertEquals(0, queue.drain().length);
+	}
+
+	@Test
+	public void flush_emitsEachQueuedEventAndEmptiesTheQueue() {
+		Dictionary adInfo = new Dictionary();
+		queue.enqueue(AdmobPlugin.SIGNAL_NATIVE_AD_CLICKED, adInfo);
+		queue.enqueue(AdmobPlugin.SIGNAL_NATIVE_AD_OPENED, adInfo);
+		List<String> emitted = new ArrayList<>();
+
+		queue.flush((signalName, signalArgs) -> {
+			emitted.add(signalName);
+			assertSame(adInfo, signalArgs[0]);
+		});
+
+		assertEquals(List.of(AdmobPlugin.SIGNAL_NATIVE_AD_CLICKED, AdmobPlugin.SIGNAL_NATIVE_AD_OPENED), emitted);
+		assertTrue(queue.isEmpty());
+	}
+}
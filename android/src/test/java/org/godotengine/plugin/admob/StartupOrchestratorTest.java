@@ -0,0 +1,129 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the dependency ordering of startup steps in {@link StartupOrchestrator}.
+ */
+public class StartupOrchestratorTest {
+
+	private StartupOrchestrator orchestrator;
+	private List<String> started;
+	private Map<String, Runnable> pendingCompletions;
+
+	@BeforeEach
+	public void setUp() {
+		orchestrator = new StartupOrchestrator();
+		started = new ArrayList<>();
+		pendingCompletions = new HashMap<>();
+	}
+
+	private StartupOrchestrator.Step deferredStep(String name) {
+		return onDone -> {
+			started.add(name);
+			pendingCompletions.put(name, onDone);
+		};
+	}
+
+	private void complete(String name) {
+		pendingCompletions.remove(name).run();
+	}
+
+	@Test
+	public void start_independentSteps_allStartBeforeAnyCompletes() {
+		orchestrator.addStep("sdk", deferredStep("sdk"));
+		orchestrator.addStep("consent", deferredStep("consent"));
+
+		orchestrator.start();
+
+		assertEquals(List.of("sdk", "consent"), started);
+		assertFalse(orchestrator.isFinished());
+	}
+
+	@Test
+	public void start_dependentStep_waitsForAllDependencies() {
+		orchestrator.addStep("sdk", deferredStep("sdk"));
+		orchestrator.addStep("consent", deferredStep("consent"));
+		orchestrator.addStep("preload", deferredStep("preload"), "sdk", "consent");
+
+		orchestrator.start();
+		complete("sdk");
+
+		assertFalse(started.contains("preload"));
+
+		complete("consent");
+
+		assertTrue(started.contains("preload"));
+		assertFalse(orchestrator.isCompleted("preload"));
+
+		complete("preload");
+
+		assertTrue(orchestrator.isFinished());
+	}
+
+	@Test
+	public void start_synchronousSteps_runInDependencyOrder() {
+		orchestrator.addStep("sdk", onDone -> {
+			started.add("sdk");
+			onDone.run();
+		});
+		orchestrator.addStep("preload", onDone -> {
+			started.add("preload");
+			onDone.run();
+		}, "sdk");
+
+		orchestrator.start();
+
+		assertEquals(List.of("sdk", "preload"), started);
+		assertTrue(orchestrator.isFinished());
+	}
+
+	@Test
+	public void onDone_calledTwice_dependentStepRunsOnce() {
+		orchestrator.addStep("sdk", deferredStep("sdk"));
+		orchestrator.addStep("preload", deferredStep("preload"), "sdk");
+
+		orchestrator.start();
+		Runnable sdkDone = pendingCompletions.get("sdk");
+		sdkDone.run();
+		sdkDone.run();
+
+		assertEquals(List.of("sdk", "preload"), started);
+	}
+
+	@Test
+	public void addStep_unknownDependency_throws() {
+		assertThrows(IllegalArgumentException.class,
+				() -> orchestrator.addStep("preload", deferredStep("preload"), "sdk"));
+	}
+
+	@Test
+	public void addStep_duplicateName_throws() {
+		orchestrator.addStep("sdk", deferredStep("sdk"));
+
+		assertThrows(IllegalArgumentException.class, () -> orchestrator.addStep("sdk", deferredStep("sdk")));
+	}
+
+	@Test
+	public void addStep_afterStart_throws() {
+		orchestrator.addStep("sdk", deferredStep("sdk"));
+		orchestrator.start();
+
+		assertThrows(IllegalStateException.class, () -> orchestrator.addStep("consent", deferredStep("consent")));
+	}
+}
@@ -5,8 +5,10 @@
 package org.godotengine.plugin.admob.mediation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.godotengine.plugin.admob.mediation.network.ApplovinMediationNetwork;
@@ -89,15 +91,31 @@ public class MediationNetworkFactoryTest {
 		assertTrue(network instanceof ChartboostMediationNetwork);
 	}
 
-	// -- createNetwork – each call returns a fresh instance -------------------
+	// -- createNetwork – instances are shared ---------------------------------
 
 	@Test
-	public void createNetwork_calledTwice_returnsDifferentInstances() {
+	public void createNetwork_calledTwice_returnsSameInstance() {
 		MediationNetwork first = MediationNetworkFactory.createNetwork("applovin");
 		MediationNetwork second = MediationNetworkFactory.createNetwork("applovin");
 		assertNotNull(first);
-		assertNotNull(second);
-		assertTrue(first != second);
+		assertSame(first, second);
+	}
+
+	@Test
+	public void createNetwork_differentCasing_returnsSameInstance() {
+		assertSame(MediationNetworkFactory.createNetwork("applovin"),
+				MediationNetworkFactory.createNetwork(" AppLovin "));
+	}
+
+	// -- isAvailable -----------------------------------------------------------
+
+	@Test
+	public void isAvailable_adapterNotOnClasspath_returnsFalse() {
+		MediationNetwork network = MediationNetworkFactory.createNetwork("applovin");
+		assertNotNull(network);
+		assertFalse(network.isAvailable());
+		// The negative result is cached; asking again must give the same answer
+		assertFalse(network.isAvailable());
 	}
 
 	// -- getTagForAdapterClass -------------------------------------------------
@@ -9,6 +9,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.godotengine.godot.Dictionary;
 import org.godotengine.plugin.admob.fixture.PrivacyFixtures;
 import org.junit.jupiter.api.Test;
 
@@ -16,7 +20,8 @@ import org.junit.jupiter.api.Test;
  * Unit tests for {@link PrivacySettings} – pure Dictionary-parsing logic only.
  *
  * <p>{@link PrivacySettings#applyPrivacySettings} makes reflection calls into third-party SDKs
- * and is excluded from the local JVM suite; it belongs in instrumented tests.
+ * and is excluded from the local JVM suite; it belongs in instrumented tests. The async variant
+ * is only exercised with networks whose adapters are not on the test classpath.
  */
 public class PrivacySettingsTest {
 
@@ -169,4 +174,38 @@ public class PrivacySettingsTest {
 		assertFalse(settings.containsCcpaSaleConsentData());
 		assertEquals(0, settings.getEnabledNetworks().length);
 	}
+
+	// -- applyPrivacySettingsAsync ---------------------------------------------
+
+	@Test
+	public void applyPrivacySettingsAsync_noEnabledNetworks_completesWithEmptyResults() {
+		PrivacySettings settings = new PrivacySettings(PrivacyFixtures.empty());
+		List<Dictionary> completions = new ArrayList<>();
+
+		settings.applyPrivacySettingsAsync(null, Runnable::run, completions::add);
+
+		assertEquals(1, completions.size());
+		assertTrue(completions.get(0).isEmpty());
+	}
+
+	@Test
+	public void applyPrivacySettingsAsync_reportsOutcomeAndDurationPerNetwork() {
+		PrivacySettings settings = new PrivacySettings(
+				PrivacyFixtures.fullPrivacySettings(true, false, true, "applovin", "nonexistent_network"));
+		List<Dictionary> completions = new ArrayList<>();
+
+		settings.applyPrivacySettingsAsync(null, Runnable::run, completions::add);
+
+		assertEquals(1, completions.size());
+		Dictionary results = completions.get(0);
+		assertEquals(2, results.size());
+
+		Dictionary applovin = (Dictionary) results.get("applovin");
+		assertNotNull(applovin);
+		assertEquals(PrivacySettings.Outcome.UNSUPPORTED.name(), applovin.get(PrivacySettings.OUTCOME_PROPERTY));
+		assertTrue(applovin.get(PrivacySettings.DURATION_MS_PROPERTY) instanceof Double);
+
+		Dictionary unknown = (Dictionary) results.get("nonexistent_network");
+		assertEquals(PrivacySettings.Outcome.FAILED.name(), unknown.get(PrivacySettings.OUTCOME_PROPERTY));
+	}
 }
@@ -0,0 +1,148 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.godotengine.godot.Dictionary;
+import org.godotengine.plugin.admob.fixture.AdRequestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the cached full snapshot and the compact payload of {@link AdmobAdInfo}.
+ */
+public class AdmobAdInfoTest {
+
+	private static final String AD_ID = "banner-1";
+
+	private AdmobAdInfo adInfo;
+
+	@BeforeEach
+	public void setUp() {
+		adInfo = new AdmobAdInfo(AD_ID, new LoadAdRequest(AdRequestFixtures.minimalBannerRequest()));
+	}
+
+	// -- buildRawData ----------------------------------------------------------
+
+	@Test
+	public void buildRawData_containsAllProperties() {
+		adInfo.setMeasuredWidth(320);
+		adInfo.setMeasuredHeight(50);
+		adInfo.setIsCollapsible(true);
+
+		Dictionary data = adInfo.buildRawData();
+
+		assertEquals(AD_ID, data.get("ad_id"));
+		assertEquals(320, data.get("measured_width"));
+		assertEquals(50, data.get("measured_height"));
+		assertEquals(true, data.get("is_collapsible"));
+		assertTrue(data.containsKey("load_ad_request"));
+	}
+
+	@Test
+	public void buildRawData_reportsPooledAds() {
+		assertEquals(false, adInfo.buildRawData().get("is_pooled"));
+
+		adInfo.setIsPooled(true);
+
+		assertEquals(true, adInfo.buildRawData().get("is_pooled"));
+	}
+
+	@Test
+	public void buildRawData_withoutChanges_returnsCachedSnapshot() {
+		assertSame(adInfo.buildRawData(), adInfo.buildRawData());
+	}
+
+	@Test
+	public void buildRawData_afterSettingSameValue_returnsCachedSnapshot() {
+		adInfo.setMeasuredWidth(320);
+		Dictionary first = adInfo.buildRawData();
+
+		adInfo.setMeasuredWidth(320);
+
+		assertSame(first, adInfo.buildRawData());
+	}
+
+	@Test
+	public void buildRawData_afterChange_returnsNewSnapshotAndLeavesOldOneUntouched() {
+		adInfo.setMeasuredHeight(50);
+		Dictionary first = adInfo.buildRawData();
+
+		adInfo.setMeasuredHeight(90);
+		Dictionary second = adInfo.buildRawData();
+
+		assertNotSame(first, second);
+		assertEquals(50, first.get("measured_height"));
+		assertEquals(90, second.get("measured_height"));
+	}
+
+	// -- buildDeltaData --------------------------------------------------------
+
+	@Test
+	public void buildDeltaData_withoutChanges_containsOnlyAdId() {
+		adInfo.buildRawData();
+
+		Dictionary delta = adInfo.buildDeltaData();
+
+		assertEquals(1, delta.size());
+		assertEquals(AD_ID, delta.get("ad_id"));
+		assertSame(delta, adInfo.buildDeltaData());
+	}
+
+	@Test
+	public void buildDeltaData_containsOnlyChangedProperties() {
+		adInfo.buildRawData();
+		adInfo.setIsCollapsible(true);
+
+		Dictionary delta = adInfo.buildDeltaData();
+
+		assertEquals(2, delta.size());
+		assertEquals(true, delta.get("is_collapsible"));
+		assertFalse(delta.containsKey("measured_width"));
+		assertFalse(delta.containsKey("load_ad_request"));
+	}
+
+	@Test
+	public void buildDeltaData_reportsEachChangeOnlyOnce() {
+		adInfo.setMeasuredWidth(320);
+		adInfo.buildDeltaData();
+
+		Dictionary delta = adInfo.buildDeltaData();
+
+		assertFalse(delta.containsKey("measured_width"));
+	}
+
+	@Test
+	public void buildRawData_clearsPendingChanges() {
+		adInfo.setMeasuredWidth(320);
+		adInfo.buildRawData();
+
+		assertEquals(1, adInfo.buildDeltaData().size());
+	}
+
+	// -- handle ----------------------------------------------------------------
+
+	@Test
+	public void setHandle_isIncludedInFullAndCompactPayloads() {
+		adInfo.buildRawData();
+		adInfo.buildDeltaData();
+
+		adInfo.setHandle(7);
+
+		assertEquals(7, adInfo.buildRawData().get("ad_handle"));
+		assertEquals(7, adInfo.buildDeltaData().get("ad_handle"));
+	}
+
+	@Test
+	public void withoutHandle_payloadsOmitHandle() {
+		assertFalse(adInfo.buildRawData().containsKey("ad_handle"));
+		assertFalse(adInfo.buildDeltaData().containsKey("ad_handle"));
+	}
+}
@@ -23,6 +23,7 @@ import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.RequestConfiguration;
 import com.google.android.gms.ads.identifier.AdvertisingIdClient;
 
+import org.godotengine.plugin.admob.DeviceIds;
 import org.godotengine.plugin.admob.fixture.ConfigFixtures;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,8 +38,9 @@ import java.util.List;
  * Tests for {@link AdmobConfiguration#createRequestConfiguration(Activity)}.
  *
  * <p>The method calls the static {@link MobileAds#getRequestConfiguration()} to get the
- * current config and then builds on top of it, and optionally queries
- * {@link AdvertisingIdClient#getAdvertisingIdInfo} on the non-real path.
+ * current config and then builds on top of it. On the non-real path it adds the IDs cached by
+ * {@link DeviceIds}, whose advertising ID is retrieved through
+ * {@link AdvertisingIdClient#getAdvertisingIdInfo} before the configuration is created.
  * Both are mocked with Mockito's {@code mockStatic} so tests run on the local JVM.
  */
 @ExtendWith(MockitoExtension.class)
@@ -290,6 +292,35 @@ public class AdmobConfigurationCreateRequestConfigTest {
 
 	// -- AdvertisingIdClient paths ---------------------------------------------
 
+	/**
+	 * Returns device IDs whose advertising ID has been resolved synchronously on the calling thread.
+	 */
+	private DeviceIds resolveDeviceIds() {
+		DeviceIds deviceIds = new DeviceIds(activity);
+		deviceIds.resolveAdvertisingId(Runnable::run, () -> { });
+		return deviceIds;
+	}
+
+	@Test
+	void createRequestConfiguration_nonRealWithUnresolvedAdvertisingId_doesNotRetrieveIt() {
+		try (
+				MockedStatic<MobileAds> mobileAdsMock = openMobileAdsMock();
+				MockedStatic<Settings.Secure> secureMock = mockStatic(Settings.Secure.class);
+				MockedStatic<AdvertisingIdClient> adIdMock = mockStatic(AdvertisingIdClient.class)
+		) {
+
+			secureMock.when(() -> Settings.Secure.getString(any(), any()))
+					.thenReturn("mock_id");
+
+			new AdmobConfiguration(ConfigFixtures.minimalConfig(false))
+					.createRequestConfiguration(activity);
+
+			// The blocking retrieval must never happen while creating the configuration
+			adIdMock.verify(() -> AdvertisingIdClient.getAdvertisingIdInfo(any()), never());
+			verify(configBuilder).setTestDeviceIds(anyList());
+		}
+	}
+
 	@Test
 	void createRequestConfiguration_nonReal_advertisingIdAvailable_includesAdId() {
 		try (
@@ -308,7 +339,7 @@ public class AdmobConfigurationCreateRequestConfigTest {
 					.thenReturn(adInfo);
 
 			new AdmobConfiguration(ConfigFixtures.minimalConfig(false))
-					.createRequestConfiguration(activity);
+					.createRequestConfiguration(resolveDeviceIds());
 
 			@SuppressWarnings("unchecked")
 			ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass((Class) List.class);
@@ -334,7 +365,7 @@ public class AdmobConfigurationCreateRequestConfigTest {
 					.thenReturn(adInfo);
 
 			new AdmobConfiguration(ConfigFixtures.minimalConfig(false))
-					.createRequestConfiguration(activity);
+					.createRequestConfiguration(resolveDeviceIds());
 
 			@SuppressWarnings("unchecked")
 			ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass((Class) List.class);
@@ -365,7 +396,7 @@ public class AdmobConfigurationCreateRequestConfigTest {
 
 			// Must not throw and must still call setTestDeviceIds with other IDs.
 			new AdmobConfiguration(ConfigFixtures.minimalConfig(false))
-					.createRequestConfiguration(activity);
+					.createRequestConfiguration(resolveDeviceIds());
 
 			verify(configBuilder).setTestDeviceIds(anyList());
 		}
@@ -386,9 +417,9 @@ public class AdmobConfigurationCreateRequestConfigTest {
 			adIdMock.when(() -> AdvertisingIdClient.getAdvertisingIdInfo(any()))
 					.thenThrow(new IllegalStateException("must not be called on the main thread"));
 
-			// Must not throw - the code has an explicit catch for IllegalStateException.
+			// Must not throw - the retrieval failure is caught and the ID stays unresolved.
 			new AdmobConfiguration(ConfigFixtures.minimalConfig(false))
-					.createRequestConfiguration(activity);
+					.createRequestConfiguration(resolveDeviceIds());
 
 			verify(configBuilder).setTestDeviceIds(anyList());
 		}
@@ -409,7 +440,7 @@ public class AdmobConfigurationCreateRequestConfigTest {
 					.thenThrow(new RuntimeException("Play services unavailable"));
 
 			new AdmobConfiguration(ConfigFixtures.minimalConfig(false))
-					.createRequestConfiguration(activity);
+					.createRequestConfiguration(resolveDeviceIds());
 
 			verify(configBuilder).setTestDeviceIds(anyList());
 		}
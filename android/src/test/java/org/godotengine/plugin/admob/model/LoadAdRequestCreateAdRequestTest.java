@@ -4,7 +4,9 @@
 
 package org.godotengine.plugin.admob.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -64,6 +66,19 @@ public class LoadAdRequestCreateAdRequestTest {
 		}
 	}
 
+	@Test
+	void createAdRequest_calledTwice_buildsOnceAndReturnsSameInstance() {
+		try (MockedConstruction<AdRequest.Builder> builderMock = openBuilderMock()) {
+			LoadAdRequest request = new LoadAdRequest(AdRequestFixtures.fullBannerRequest());
+
+			AdRequest first = request.createAdRequest();
+			AdRequest second = request.createAdRequest();
+
+			assertSame(first, second);
+			assertEquals(1, builderMock.constructed().size());
+		}
+	}
+
 	// -- request agent ---------------------------------------------------------
 
 	@Test
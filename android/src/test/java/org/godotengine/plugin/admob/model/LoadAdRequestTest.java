@@ -181,6 +181,25 @@ public class LoadAdRequestTest {
 		assertFalse(request.doAnchorToSafeArea());
 	}
 
+	// -- hidden refresh suppression --------------------------------------------
+
+	@Test
+	public void doSuppressHiddenRefresh_whenAbsent_returnsFalseWithDefaultAge() {
+		LoadAdRequest request = new LoadAdRequest(AdRequestFixtures.minimalBannerRequest());
+		assertFalse(request.doSuppressHiddenRefresh());
+		assertEquals(LoadAdRequest.DEFAULT_CATCH_UP_REFRESH_AGE_MILLIS, request.getCatchUpRefreshAgeMillis());
+	}
+
+	@Test
+	public void doSuppressHiddenRefresh_whenSet_readsCatchUpAge() {
+		Dictionary d = AdRequestFixtures.minimalBannerRequest();
+		d.put("suppress_hidden_refresh", true);
+		d.put("catch_up_refresh_age_ms", 90_000);
+		LoadAdRequest request = new LoadAdRequest(d);
+		assertTrue(request.doSuppressHiddenRefresh());
+		assertEquals(90_000, request.getCatchUpRefreshAgeMillis());
+	}
+
 	// -- generateAdId ----------------------------------------------------------
 
 	@Test
@@ -238,6 +257,32 @@ public class LoadAdRequestTest {
 		assertTrue(request.hasServerSideVerificationOptions());
 	}
 
+	// -- invalid value types ---------------------------------------------------
+
+	@Test
+	public void isValid_withNonStringAdUnitId_returnsFalse() {
+		Dictionary d = new Dictionary();
+		d.put("ad_unit_id", 42L);
+		LoadAdRequest request = new LoadAdRequest(d);
+		assertFalse(request.isValid());
+	}
+
+	@Test
+	public void getAdaptiveWidth_withNonNumericValue_returnsMinusOne() {
+		Dictionary d = AdRequestFixtures.minimalBannerRequest();
+		d.put("adaptive_width", "wide");
+		LoadAdRequest request = new LoadAdRequest(d);
+		assertEquals(-1, request.getAdaptiveWidth());
+	}
+
+	@Test
+	public void doAnchorToSafeArea_withNonBooleanValue_returnsFalse() {
+		Dictionary d = AdRequestFixtures.minimalBannerRequest();
+		d.put("anchor_to_safe_area", "yes");
+		LoadAdRequest request = new LoadAdRequest(d);
+		assertFalse(request.doAnchorToSafeArea());
+	}
+
 	// -- getRawData ------------------------------------------------------------
 
 	@Test
@@ -0,0 +1,116 @@
+//
+// © 2026-present https://github.com/cengiz-pz
+//
+
+package org.godotengine.plugin.admob.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.godotengine.godot.Dictionary;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests backoff, jitter and error code handling of {@link RetryPolicy}.
+ */
+public class RetryPolicyTest {
+
+	private static final int INTERNAL_ERROR = 0;
+	private static final int INVALID_REQUEST = 1;
+	private static final int NETWORK_ERROR = 2;
+	private static final int NO_FILL = 3;
+
+	private static final double NO_JITTER_RANDOM = 0.5;
+
+	private static RetryPolicy createPolicy(int maxRetries, long maxDelayMillis, double jitter) {
+		return new RetryPolicy(maxRetries, 2.0, maxDelayMillis, jitter,
+				Map.of(NETWORK_ERROR, 1_000L, NO_FILL, 10_000L));
+	}
+
+	@Test
+	public void getDelayMillis_growsExponentially() {
+		RetryPolicy policy = createPolicy(3, 60_000L, 0.0);
+
+		assertEquals(1_000L, policy.getDelayMillis(NETWORK_ERROR, 1, NO_JITTER_RANDOM));
+		assertEquals(2_000L, policy.getDelayMillis(NETWORK_ERROR, 2, NO_JITTER_RANDOM));
+		assertEquals(4_000L, policy.getDelayMillis(NETWORK_ERROR, 3, NO_JITTER_RANDOM));
+	}
+
+	@Test
+	public void getDelayMillis_usesInitialDelayOfErrorCode() {
+		RetryPolicy policy = createPolicy(3, 60_000L, 0.0);
+
+		assertEquals(10_000L, policy.getDelayMillis(NO_FILL, 1, NO_JITTER_RANDOM));
+	}
+
+	@Test
+	public void getDelayMillis_isCappedAtMaxDelay() {
+		RetryPolicy policy = createPolicy(3, 15_000L, 0.0);
+
+		assertEquals(15_000L, policy.getDelayMillis(NO_FILL, 3, NO_JITTER_RANDOM));
+	}
+
+	@Test
+	public void getDelayMillis_jitterStaysWithinRange() {
+		RetryPolicy policy = createPolicy(3, 60_000L, 0.25);
+
+		assertEquals(750L, policy.getDelayMillis(NETWORK_ERROR, 1, 0.0));
+		assertEquals(1_000L, policy.getDelayMillis(NETWORK_ERROR, 1, 0.5));
+		assertEquals(1_250L, policy.getDelayMillis(NETWORK_ERROR, 1, 1.0));
+	}
+
+	@Test
+	public void getDelayMillis_afterMaxRetries_returnsNoRetry() {
+		RetryPolicy policy = createPolicy(2, 60_000L, 0.0);
+
+		assertEquals(RetryPolicy.NO_RETRY, policy.getDelayMillis(NETWORK_ERROR, 3, NO_JITTER_RANDOM));
+	}
+
+	@Test
+	public void getDelayMillis_unlistedErrorCode_returnsNoRetry() {
+		RetryPolicy policy = createPolicy(3, 60_000L, 0.0);
+
+		assertFalse(policy.isRetryable(INVALID_REQUEST));
+		assertEquals(RetryPolicy.NO_RETRY, policy.getDelayMillis(INVALID_REQUEST, 1, NO_JITTER_RANDOM));
+	}
+
+	@Test
+	public void disabled_retriesNothing() {
+		assertFalse(RetryPolicy.DISABLED.isRetryable(NETWORK_ERROR));
+		assertEquals(RetryPolicy.NO_RETRY, RetryPolicy.DISABLED.getDelayMillis(NETWORK_ERROR, 1, NO_JITTER_RANDOM));
+	}
+
+	@Test
+	public void constructor_emptyDictionary_usesDefaults() {
+		RetryPolicy policy = new RetryPolicy(new Dictionary());
+
+		assertEquals(RetryPolicy.DEFAULT_MAX_RETRIES, policy.getMaxRetries());
+		assertTrue(policy.isRetryable(INTERNAL_ERROR));
+		assertTrue(policy.isRetryable(NETWORK_ERROR));
+		assertTrue(policy.isRetryable(NO_FILL));
+		assertFalse(policy.isRetryable(INVALID_REQUEST));
+	}
+
+	@Test
+	public void constructor_dictionary_readsSettings() {
+		Dictionary delays = new Dictionary();
+		delays.put(String.valueOf(NO_FILL), 20_000);
+		delays.put("not a code", 1_000);
+		Dictionary data = new Dictionary();
+		data.put("max_retries", 5);
+		data.put("backoff_multiplier", 3.0);
+		data.put("max_delay_ms", 100_000);
+		data.put("jitter", 0.0);
+		data.put("initial_delays_ms", delays);
+
+		RetryPolicy policy = new RetryPolicy(data);
+
+		assertEquals(5, policy.getMaxRetries());
+		assertFalse(policy.isRetryable(NETWORK_ERROR));
+		assertEquals(60_000L, policy.getDelayMillis(NO_FILL, 2, NO_JITTER_RANDOM));
+		assertEquals(100_000L, policy.getDelayMillis(NO_FILL, 3, NO_JITTER_RANDOM));
+	}
+}
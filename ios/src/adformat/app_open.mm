@@ -45,12 +45,12 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
 
 - (Error)loadWithRequest:(LoadAdRequest *)loadAdRequest autoShowOnResume:(BOOL)autoShow {
 	if (self.isLoading) {
-		os_log_debug(admob_log, "%@ Cannot load app open ad: App open ad is already loading", kLogTag);
+		admob_log_debug("%@ Cannot load app open ad: App open ad is already loading", kLogTag);
 		return ERR_ALREADY_IN_USE;
 	}
 
 	if ([self isAvailable]) {
-		os_log_debug(admob_log, "%@ Cannot load app open ad: App open ad is already available", kLogTag);
+		admob_log_debug("%@ Cannot load app open ad: App open ad is already available", kLogTag);
 		return ERR_ALREADY_EXISTS;
 	}
 
@@ -62,7 +62,7 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
 
 	GADRequest *gadRequest = [loadAdRequest createGADRequest];
 
-	os_log_debug(admob_log, "%@ Loading app open ad: %@", kLogTag, self.adUnitId);
+	admob_log_debug("%@ Loading app open ad: %@", kLogTag, self.adUnitId);
 
 	[GADAppOpenAd
 			 loadWithAdUnitID:self.adUnitId
@@ -73,7 +73,7 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
 				self.adInfo = [[AdmobAdInfo alloc] initWithId:self.adUnitId request:loadAdRequest];
 				if (error) {
 					AdmobLoadAdError *loadAdError = [[AdmobLoadAdError alloc] initWithNsError:error];
-					os_log_error(admob_log, "%@ Failed to load: %@", kLogTag, loadAdError.message);
+					admob_log_error("%@ Failed to load: %@", kLogTag, loadAdError.message);
 
 					self.plugin->call_deferred("emit_signal", APP_OPEN_AD_FAILED_TO_LOAD_SIGNAL,
 							[self.adInfo buildRawData], [loadAdError buildRawData]);
@@ -82,7 +82,7 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
 					self.loadedAd.fullScreenContentDelegate = self;
 					self.loadTime = [[NSDate date] timeIntervalSince1970];
 
-					os_log_debug(admob_log, "%@ Loaded %@ successfully", kLogTag, self.adUnitId);
+					admob_log_debug("%@ Loaded %@ successfully", kLogTag, self.adUnitId);
 					self.plugin->call_deferred("emit_signal", APP_OPEN_AD_LOADED_SIGNAL, [self.adInfo buildRawData],
 							[[[AdmobResponse alloc] initWithResponseInfo:ad.responseInfo] buildRawData]);
 				}
@@ -93,13 +93,13 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
 
 - (void)show {
 	if (self.isShowing) {
-		os_log_debug(admob_log, "%@ Cannot show app open ad: App open ad is already showing", kLogTag);
+		admob_log_debug("%@ Cannot show app open ad: App open ad is already showing", kLogTag);
 	} else if (![self isAvailable]) {
-		os_log_debug(admob_log, "%@ Cannot show app open ad: App open ad is not ready yet", kLogTag);
+		admob_log_debug("%@ Cannot show app open ad: App open ad is not ready yet", kLogTag);
 	} else {
 		UIViewController *rootVC = [GDTAppDelegateService viewController];
 		if (!rootVC) {
-			os_log_error(admob_log, "%@ Cannot show: no root view controller", kLogTag);
+			admob_log_error("%@ Cannot show: no root view controller", kLogTag);
 		} else {
 			self.isShowing = YES;
 
@@ -117,7 +117,7 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
 }
 
 - (void)adDidRecordImpression:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "%@ Impression recorded", kLogTag);
+	admob_log_debug("%@ Impression recorded", kLogTag);
 	self.isShowing = YES;
 
 	if (self.plugin) {
@@ -126,7 +126,7 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
 }
 
 - (void)adDidRecordClick:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "%@ Clicked", kLogTag);
+	admob_log_debug("%@ Clicked", kLogTag);
 
 	if (self.plugin) {
 		self.plugin->call_deferred("emit_signal", APP_OPEN_AD_CLICKED_SIGNAL, [self.adInfo buildRawData]);
@@ -142,7 +142,7 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
  * adWillPresentFullScreenContent: as the definitive "ad is now showing" signal.
  */
 - (void)adWillPresentFullScreenContent:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "%@ Will present full screen", kLogTag);
+	admob_log_debug("%@ Will present full screen", kLogTag);
 
 	if (self.plugin) {
 		self.plugin->call_deferred(
@@ -152,7 +152,7 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
 
 - (void)ad:(nonnull id<GADFullScreenPresentingAd>)ad didFailToPresentFullScreenContentWithError:(NSError *)error {
 	AdmobAdError *adError = [[AdmobAdError alloc] initWithNsError:error];
-	os_log_error(admob_log, "%@ Failed to present: %@", kLogTag, adError.message);
+	admob_log_error("%@ Failed to present: %@", kLogTag, adError.message);
 
 	self.isShowing = NO;
 	self.loadedAd = nil;
@@ -165,7 +165,7 @@ static NSString *const kLogTag = @"AdmobPlugin::AppOpenAd::";
 }
 
 - (void)adDidDismissFullScreenContent:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "%@ Dismissed", kLogTag);
+	admob_log_debug("%@ Dismissed", kLogTag);
 	self.isShowing = NO;
 	self.loadedAd = nil;
 	self.loadTime = 0;
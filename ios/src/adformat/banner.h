@@ -24,6 +24,8 @@
 - (void)hide;
 - (void)show;
 - (void)moveToX:(real_t)x y:(real_t)y;
+- (void)setClippingThreshold:(real_t)threshold;
+- (void)updateClipRectX:(real_t)x y:(real_t)y width:(real_t)width height:(real_t)height;
 - (int)getWidth;
 - (int)getHeight;
 - (int)getWidthInPixels;
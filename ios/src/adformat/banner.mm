@@ -24,6 +24,13 @@
 @property(nonatomic, strong) AdmobAdInfo *adInfo;
 
 @property(nonatomic) BOOL anchorToSafeArea;
+
+// Visibility tracking within a clip rectangle (in points); a threshold of 0 disables it
+@property(nonatomic) CGFloat clipThreshold;
+@property(nonatomic) CGRect clipRect;
+@property(nonatomic) BOOL hasClipRect;
+@property(nonatomic) BOOL isClippedOut;
+@property(nonatomic) BOOL isShown;
 @end
 
 @implementation BannerAd
@@ -70,16 +77,18 @@
 }
 
 - (void)hide {
+	self.isShown = NO;
 	[self.bannerView setHidden:YES];
 }
 
 - (void)show {
-	[self.bannerView setHidden:NO];
+	self.isShown = YES;
+	[self.bannerView setHidden:self.isClippedOut];
 
 	CGFloat width = self.bannerView.bounds.size.width;
 	CGFloat height = self.bannerView.bounds.size.height;
 
-	os_log_debug(admob_log, "INLINE_ADAPTIVE actual size = %.0fx%.0f", width, height);
+	admob_log_debug("INLINE_ADAPTIVE actual size = %.0fx%.0f", width, height);
 
 	self.adInfo.measuredWidth = roundf(width);
 	self.adInfo.measuredHeight = roundf(height);
@@ -92,6 +101,40 @@
 	CGRect frame = self.bannerView.frame;
 	frame.origin = CGPointMake(x / scale, y / scale);
 	self.bannerView.frame = frame;
+	[self updateClipping];
+}
+
+- (void)setClippingThreshold:(real_t)threshold {
+	self.clipThreshold = MAX(0.0, MIN(threshold, 1.0));
+	[self updateClipping];
+}
+
+- (void)updateClipRectX:(real_t)x y:(real_t)y width:(real_t)width height:(real_t)height {
+	CGFloat scale = [[UIScreen mainScreen] scale];
+	self.clipRect = CGRectMake(x / scale, y / scale, width / scale, height / scale);
+	self.hasClipRect = YES;
+	[self updateClipping];
+}
+
+// Hides a shown banner while at least the threshold portion of its area lies outside of the clip rectangle
+- (void)updateClipping {
+	BOOL clippedOut = NO;
+	if (self.clipThreshold > 0 && self.hasClipRect) {
+		CGRect frame = self.bannerView.frame;
+		CGFloat area = frame.size.width * frame.size.height;
+		if (area > 0) {
+			CGRect visible = CGRectIntersection(frame, self.clipRect);
+			CGFloat visibleArea = CGRectIsNull(visible) ? 0 : visible.size.width * visible.size.height;
+			clippedOut = (1.0 - visibleArea / area) >= self.clipThreshold;
+		}
+	}
+
+	if (clippedOut != self.isClippedOut) {
+		self.isClippedOut = clippedOut;
+		if (self.isShown) {
+			[self.bannerView setHidden:clippedOut];
+		}
+	}
 }
 
 - (int)getWidth {
@@ -160,7 +203,7 @@
 }
 
 - (void)updateBannerPosition:(AdPosition)adPosition {
-	os_log_debug(admob_log, "BannerAd updateBannerPosition: position=%lu", (unsigned long)adPosition);
+	admob_log_debug("BannerAd updateBannerPosition: position=%lu", (unsigned long)adPosition);
 
 	// Remove only the active positioning constraints
 	if (self.activeConstraints.count > 0) {
@@ -275,7 +318,7 @@
 }
 
 - (void)bannerViewDidReceiveAd:(GADBannerView *)bannerView {
-	os_log_debug(admob_log, "BannerAd bannerViewDidReceiveAd %@", self.adId);
+	admob_log_debug("BannerAd bannerViewDidReceiveAd %@", self.adId);
 
 	self.adInfo.isCollapsible = bannerView.isCollapsible;
 
@@ -289,7 +332,7 @@
 			CGFloat width = bannerView.bounds.size.width;
 			CGFloat height = bannerView.bounds.size.height;
 
-			os_log_debug(admob_log, "INLINE_ADAPTIVE actual size = %.0fx%.0f", width, height);
+			admob_log_debug("INLINE_ADAPTIVE actual size = %.0fx%.0f", width, height);
 
 			self.adInfo.measuredWidth = width;
 			self.adInfo.measuredHeight = height;
@@ -311,29 +354,29 @@
 
 - (void)bannerView:(GADBannerView *)bannerView didFailToReceiveAdWithError:(NSError *)error {
 	AdmobLoadAdError *loadAdError = [[AdmobLoadAdError alloc] initWithNsError:error];
-	os_log_error(admob_log, "BannerAd bannerView:didFailToReceiveAdWithError: %@", loadAdError.message);
+	admob_log_error("BannerAd bannerView:didFailToReceiveAdWithError: %@", loadAdError.message);
 
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", BANNER_AD_FAILED_TO_LOAD_SIGNAL, [self.adInfo buildRawData], [loadAdError buildRawData]);
 }
 
 - (void)bannerViewDidRecordClick:(GADBannerView *)bannerView {
-	os_log_debug(admob_log, "BannerAd bannerViewDidRecordClick");
+	admob_log_debug("BannerAd bannerViewDidRecordClick");
 	AdmobPlugin::get_singleton()->call_deferred("emit_signal", BANNER_AD_CLICKED_SIGNAL, [self.adInfo buildRawData]);
 }
 
 - (void)bannerViewDidRecordImpression:(GADBannerView *)bannerView {
-	os_log_debug(admob_log, "BannerAd bannerViewDidRecordImpression");
+	admob_log_debug("BannerAd bannerViewDidRecordImpression");
 	AdmobPlugin::get_singleton()->call_deferred("emit_signal", BANNER_AD_IMPRESSION_SIGNAL, [self.adInfo buildRawData]);
 }
 
 - (void)bannerViewWillPresentScreen:(GADBannerView *)bannerView {
-	os_log_debug(admob_log, "BannerAd bannerViewWillPresentScreen");
+	admob_log_debug("BannerAd bannerViewWillPresentScreen");
 	AdmobPlugin::get_singleton()->call_deferred("emit_signal", BANNER_AD_OPENED_SIGNAL, [self.adInfo buildRawData]);
 }
 
 - (void)bannerViewDidDismissScreen:(GADBannerView *)bannerView {
-	os_log_debug(admob_log, "BannerAd bannerViewDidDismissScreen");
+	admob_log_debug("BannerAd bannerViewDidDismissScreen");
 	AdmobPlugin::get_singleton()->call_deferred("emit_signal", BANNER_AD_CLOSED_SIGNAL, [self.adInfo buildRawData]);
 }
 
@@ -44,7 +44,7 @@
 			completionHandler:^(GADInterstitialAd *ad, NSError *error) {
 				if (error) {
 					AdmobLoadAdError *loadAdError = [[AdmobLoadAdError alloc] initWithNsError:error];
-					os_log_error(admob_log, "failed to load InterstitialAd with error: %@", loadAdError.message);
+					admob_log_error("failed to load InterstitialAd with error: %@", loadAdError.message);
 					AdmobPlugin::get_singleton()->call_deferred("emit_signal", INTERSTITIAL_AD_FAILED_TO_LOAD_SIGNAL,
 							[self.adInfo buildRawData], [loadAdError buildRawData]);
 				} else {
@@ -52,13 +52,13 @@
 					self.interstitial.fullScreenContentDelegate = self;
 
 					if (self.isLoaded) {
-						os_log_debug(admob_log, "InterstitialAd %@ refreshed", self.adId);
+						admob_log_debug("InterstitialAd %@ refreshed", self.adId);
 						AdmobPlugin::get_singleton()->call_deferred("emit_signal", INTERSTITIAL_AD_REFRESHED_SIGNAL,
 								[self.adInfo buildRawData],
 								[[[AdmobResponse alloc] initWithResponseInfo:ad.responseInfo] buildRawData]);
 					} else {
 						self.isLoaded = YES;
-						os_log_debug(admob_log, "InterstitialAd %@ loaded successfully", self.adId);
+						admob_log_debug("InterstitialAd %@ loaded successfully", self.adId);
 						AdmobPlugin::get_singleton()->call_deferred("emit_signal", INTERSTITIAL_AD_LOADED_SIGNAL,
 								[self.adInfo buildRawData],
 								[[[AdmobResponse alloc] initWithResponseInfo:ad.responseInfo] buildRawData]);
@@ -71,18 +71,18 @@
 	if (self.interstitial) {
 		[self.interstitial presentFromRootViewController:[GDTAppDelegateService viewController]];
 	} else {
-		os_log_debug(admob_log, "InterstitialAd show: ad not set");
+		admob_log_warn("InterstitialAd show: ad not set");
 	}
 }
 
 - (void)adDidRecordImpression:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "InterstitialAd adDidRecordImpression");
+	admob_log_debug("InterstitialAd adDidRecordImpression");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", INTERSTITIAL_AD_IMPRESSION_SIGNAL, [self.adInfo buildRawData]);
 }
 
 - (void)adDidRecordClick:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "InterstitialAd adDidRecordClick");
+	admob_log_debug("InterstitialAd adDidRecordClick");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", REWARDED_INTERSTITIAL_AD_CLICKED_SIGNAL, [self.adInfo buildRawData]);
 }
@@ -90,27 +90,27 @@
 - (void)ad:(nonnull id<GADFullScreenPresentingAd>)ad
 		didFailToPresentFullScreenContentWithError:(nonnull NSError *)error {
 	AdmobAdError *adError = [[AdmobAdError alloc] initWithNsError:error];
-	os_log_debug(admob_log, "InterstitialAd didFailToPresentFullScreenContentWithError: %@", adError.message);
+	admob_log_debug("InterstitialAd didFailToPresentFullScreenContentWithError: %@", adError.message);
 	AdmobPlugin::get_singleton()->call_deferred("emit_signal",
 			INTERSTITIAL_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT_SIGNAL, [self.adInfo buildRawData],
 			[adError buildRawData]);
 }
 
 - (void)adWillPresentFullScreenContent:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "InterstitialAd adWillPresentFullScreenContent");
+	admob_log_debug("InterstitialAd adWillPresentFullScreenContent");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", INTERSTITIAL_AD_SHOWED_FULL_SCREEN_CONTENT_SIGNAL, [self.adInfo buildRawData]);
 
 	if (AdFormatBase.pauseOnBackground) {
-		os_log_debug(admob_log, "InterstitialAd pauseOnBackground is true");
+		admob_log_debug("InterstitialAd pauseOnBackground is true");
 		OS_AppleEmbedded::get_singleton()->on_focus_out();
 	} else {
-		os_log_debug(admob_log, "InterstitialAd pauseOnBackground is false");
+		admob_log_debug("InterstitialAd pauseOnBackground is false");
 	}
 }
 
 - (void)adDidDismissFullScreenContent:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "InterstitialAd adDidDismissFullScreenContent");
+	admob_log_debug("InterstitialAd adDidDismissFullScreenContent");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", INTERSTITIAL_AD_DISMISSED_FULL_SCREEN_CONTENT_SIGNAL, [self.adInfo buildRawData]);
 	OS_AppleEmbedded::get_singleton()->on_focus_in();
@@ -42,7 +42,7 @@
 				  completionHandler:^(GADRewardedAd *ad, NSError *error) {
 					  if (error) {
 						  AdmobLoadAdError *loadAdError = [[AdmobLoadAdError alloc] initWithNsError:error];
-						  os_log_error(admob_log, "failed to load RewardedAd with error: %@", loadAdError.message);
+						  admob_log_error("failed to load RewardedAd with error: %@", loadAdError.message);
 						  AdmobPlugin::get_singleton()->call_deferred("emit_signal", REWARDED_AD_FAILED_TO_LOAD_SIGNAL,
 								  [self.adInfo buildRawData], [loadAdError buildRawData]);
 					  } else {
@@ -54,7 +54,7 @@
 									  [loadAdRequest createGADServerSideVerificationOptions];
 						  }
 
-						  os_log_debug(admob_log, "RewardedAd %@ loaded successfully", self.adId);
+						  admob_log_debug("RewardedAd %@ loaded successfully", self.adId);
 						  AdmobPlugin::get_singleton()->call_deferred("emit_signal", REWARDED_AD_LOADED_SIGNAL,
 								  [self.adInfo buildRawData],
 								  [[[AdmobResponse alloc] initWithResponseInfo:ad.responseInfo] buildRawData]);
@@ -72,49 +72,49 @@
 									 [GAPConverter adRewardToGodotDictionary:reward]);
 						 }];
 	} else {
-		os_log_debug(admob_log, "RewardedAd show: ad not set");
+		admob_log_warn("RewardedAd show: ad not set");
 	}
 }
 
 - (void)setServerSideVerificationOptions:(GADServerSideVerificationOptions *)options {
 	if (self.gadAd) {
-		os_log_debug(admob_log, "RewardedAd setServerSideVerificationOptions");
+		admob_log_debug("RewardedAd setServerSideVerificationOptions");
 		self.gadAd.serverSideVerificationOptions = options;
 	}
 }
 
 - (void)adDidRecordImpression:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "RewardedAd adDidRecordImpression");
+	admob_log_debug("RewardedAd adDidRecordImpression");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", REWARDED_AD_IMPRESSION_SIGNAL, [self.adInfo buildRawData]);
 }
 
 - (void)adDidRecordClick:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "RewardedAd adDidRecordClick");
+	admob_log_debug("RewardedAd adDidRecordClick");
 	AdmobPlugin::get_singleton()->call_deferred("emit_signal", REWARDED_AD_CLICKED_SIGNAL, [self.adInfo buildRawData]);
 }
 
 - (void)ad:(nonnull id<GADFullScreenPresentingAd>)ad
 		didFailToPresentFullScreenContentWithError:(nonnull NSError *)error {
 	AdmobAdError *adError = [[AdmobAdError alloc] initWithNsError:error];
-	os_log_debug(admob_log, "RewardedAd didFailToPresentFullScreenContentWithError: %@", adError.message);
+	admob_log_debug("RewardedAd didFailToPresentFullScreenContentWithError: %@", adError.message);
 	AdmobPlugin::get_singleton()->call_deferred("emit_signal", REWARDED_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT_SIGNAL,
 			[self.adInfo buildRawData], [adError buildRawData]);
 }
 
 - (void)adWillPresentFullScreenContent:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "RewardedAd adWillPresentFullScreenContent");
+	admob_log_debug("RewardedAd adWillPresentFullScreenContent");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", REWARDED_AD_SHOWED_FULL_SCREEN_CONTENT_SIGNAL, [self.adInfo buildRawData]);
 
 	if (AdFormatBase.pauseOnBackground) {
-		os_log_debug(admob_log, "RewardedAd pauseOnBackground");
+		admob_log_debug("RewardedAd pauseOnBackground");
 		OS_IOS::get_singleton()->on_focus_out();
 	}
 }
 
 - (void)adDidDismissFullScreenContent:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "RewardedAd adDidDismissFullScreenContent");
+	admob_log_debug("RewardedAd adDidDismissFullScreenContent");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", REWARDED_AD_DISMISSED_FULL_SCREEN_CONTENT_SIGNAL, [self.adInfo buildRawData]);
 	OS_IOS::get_singleton()->on_focus_in();
@@ -44,8 +44,8 @@
 				completionHandler:^(GADRewardedInterstitialAd *ad, NSError *error) {
 					if (error) {
 						AdmobLoadAdError *loadAdError = [[AdmobLoadAdError alloc] initWithNsError:error];
-						os_log_error(
-								admob_log, "Failed to load RewardedInterstitialAd with error: %@", loadAdError.message);
+						admob_log_error(
+								"Failed to load RewardedInterstitialAd with error: %@", loadAdError.message);
 						AdmobPlugin::get_singleton()->call_deferred("emit_signal",
 								REWARDED_INTERSTITIAL_AD_FAILED_TO_LOAD_SIGNAL, [self.adInfo buildRawData],
 								[loadAdError buildRawData]);
@@ -58,7 +58,7 @@
 									[loadAdRequest createGADServerSideVerificationOptions];
 						}
 
-						os_log_debug(admob_log, "RewardedInterstitialAd %@ loaded successfully", self.adId);
+						admob_log_debug("RewardedInterstitialAd %@ loaded successfully", self.adId);
 						AdmobPlugin::get_singleton()->call_deferred("emit_signal",
 								REWARDED_INTERSTITIAL_AD_LOADED_SIGNAL, [self.adInfo buildRawData],
 								[[[AdmobResponse alloc] initWithResponseInfo:ad.responseInfo] buildRawData]);
@@ -79,18 +79,18 @@
 							 }];
 		});
 	} else {
-		os_log_debug(admob_log, "RewardedInterstitialAd show: ad not set");
+		admob_log_warn("RewardedInterstitialAd show: ad not set");
 	}
 }
 
 - (void)adDidRecordImpression:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "RewardedInterstitialAd adDidRecordImpression.");
+	admob_log_debug("RewardedInterstitialAd adDidRecordImpression.");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", REWARDED_INTERSTITIAL_AD_IMPRESSION_SIGNAL, [self.adInfo buildRawData]);
 }
 
 - (void)adDidRecordClick:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "RewardedInterstitialAd adDidRecordClick.");
+	admob_log_debug("RewardedInterstitialAd adDidRecordClick.");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", REWARDED_INTERSTITIAL_AD_CLICKED_SIGNAL, [self.adInfo buildRawData]);
 }
@@ -98,25 +98,25 @@
 - (void)ad:(nonnull id<GADFullScreenPresentingAd>)ad
 		didFailToPresentFullScreenContentWithError:(nonnull NSError *)error {
 	AdmobAdError *adError = [[AdmobAdError alloc] initWithNsError:error];
-	os_log_debug(admob_log, "RewardedInterstitialAd did fail to present full screen content: %@", adError);
+	admob_log_debug("RewardedInterstitialAd did fail to present full screen content: %@", adError);
 	AdmobPlugin::get_singleton()->call_deferred("emit_signal",
 			REWARDED_INTERSTITIAL_AD_FAILED_TO_SHOW_FULL_SCREEN_CONTENT_SIGNAL, [self.adInfo buildRawData],
 			[adError buildRawData]);
 }
 
 - (void)adWillPresentFullScreenContent:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "RewardedInterstitialAd will present full screen content.");
+	admob_log_debug("RewardedInterstitialAd will present full screen content.");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", REWARDED_INTERSTITIAL_AD_SHOWED_FULL_SCREEN_CONTENT_SIGNAL, [self.adInfo buildRawData]);
 
 	if (AdFormatBase.pauseOnBackground) {
-		os_log_debug(admob_log, "RewardedInterstitialAd pauseOnBackground");
+		admob_log_debug("RewardedInterstitialAd pauseOnBackground");
 		OS_IOS::get_singleton()->on_focus_out();
 	}
 }
 
 - (void)adDidDismissFullScreenContent:(nonnull id<GADFullScreenPresentingAd>)ad {
-	os_log_debug(admob_log, "RewardedInterstitialAd did dismiss full screen content.");
+	admob_log_debug("RewardedInterstitialAd did dismiss full screen content.");
 	AdmobPlugin::get_singleton()->call_deferred(
 			"emit_signal", REWARDED_INTERSTITIAL_AD_DISMISSED_FULL_SCREEN_CONTENT_SIGNAL, [self.adInfo buildRawData]);
 	OS_IOS::get_singleton()->on_focus_in();
@@ -7,7 +7,56 @@
 
 #include <os/log.h>
 
+// Log levels, matching the levels of the Android plugin
+#define ADMOB_LOG_LEVEL_DEBUG 3
+#define ADMOB_LOG_LEVEL_INFO 4
+#define ADMOB_LOG_LEVEL_WARN 5
+#define ADMOB_LOG_LEVEL_ERROR 6
+#define ADMOB_LOG_LEVEL_NONE 100
+
 // Declare the shared os_log_t instance
 extern os_log_t admob_log;
 
+// Minimum level of the messages that are logged
+extern volatile int admob_log_level;
+
+// Returns the level for the given name (debug, info, warn, error or none), or -1 if the name is unknown
+#ifdef __cplusplus
+extern "C" {
+#endif
+int admob_log_parse_level(const char *name);
+#ifdef __cplusplus
+}
+#endif
+
+// Level-checked logging. Arguments are only evaluated and formatted if the level is enabled.
+#define admob_log_debug(format, ...)                                                                                   \
+	do {                                                                                                               \
+		if (admob_log_level <= ADMOB_LOG_LEVEL_DEBUG) {                                                                \
+			os_log_debug(admob_log, format, ##__VA_ARGS__);                                                            \
+		}                                                                                                              \
+	} while (0)
+
+#define admob_log_info(format, ...)                                                                                    \
+	do {                                                                                                               \
+		if (admob_log_level <= ADMOB_LOG_LEVEL_INFO) {                                                                 \
+			os_log_info(admob_log, format, ##__VA_ARGS__);                                                             \
+		}                                                                                                              \
+	} while (0)
+
+// os_log has no warning type, so warnings are logged at the default level
+#define admob_log_warn(format, ...)                                                                                    \
+	do {                                                                                                               \
+		if (admob_log_level <= ADMOB_LOG_LEVEL_WARN) {                                                                 \
+			os_log(admob_log, format, ##__VA_ARGS__);                                                                  \
+		}                                                                                                              \
+	} while (0)
+
+#define admob_log_error(format, ...)                                                                                   \
+	do {                                                                                                               \
+		if (admob_log_level <= ADMOB_LOG_LEVEL_ERROR) {                                                                \
+			os_log_error(admob_log, format, ##__VA_ARGS__);                                                            \
+		}                                                                                                              \
+	} while (0)
+
 #endif // admob_logger_h
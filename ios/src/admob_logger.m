@@ -4,10 +4,31 @@
 
 #import "admob_logger.h"
 
+#include <strings.h>
+
 // Define and initialize the shared os_log_t instance
 os_log_t admob_log;
 
+volatile int admob_log_level = ADMOB_LOG_LEVEL_DEBUG;
+
 __attribute__((constructor)) // Automatically runs at program startup
 static void initialize_admob_log(void) {
 	admob_log = os_log_create("org.godotengine.plugin.admob", "AdmobPlugin");
 }
+
+int admob_log_parse_level(const char *name) {
+	if (name == NULL) {
+		return -1;
+	} else if (strcasecmp(name, "debug") == 0) {
+		return ADMOB_LOG_LEVEL_DEBUG;
+	} else if (strcasecmp(name, "info") == 0) {
+		return ADMOB_LOG_LEVEL_INFO;
+	} else if (strcasecmp(name, "warn") == 0 || strcasecmp(name, "warning") == 0) {
+		return ADMOB_LOG_LEVEL_WARN;
+	} else if (strcasecmp(name, "error") == 0) {
+		return ADMOB_LOG_LEVEL_ERROR;
+	} else if (strcasecmp(name, "none") == 0) {
+		return ADMOB_LOG_LEVEL_NONE;
+	}
+	return -1;
+}
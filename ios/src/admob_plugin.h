@@ -99,6 +99,7 @@ private:
 	Error set_request_configuration(Dictionary configData);
 	Dictionary get_initialization_status();
 	void set_app_pause_on_background(bool pause);
+	void set_log_level(String level);
 	Dictionary get_global_settings();
 	void set_global_settings(Dictionary settings);
 
@@ -110,6 +111,8 @@ private:
 	void hide_banner_ad(String adId);
 	void remove_banner_ad(String adId);
 	void move_banner_ad(String adId, real_t x, real_t y);
+	void set_banner_ad_clipping(String adId, real_t clipThreshold);
+	void update_banner_ad_clip_rect(String adId, real_t x, real_t y, real_t width, real_t height);
 	int get_banner_width(String adId);
 	int get_banner_height(String adId);
 	int get_banner_width_in_pixels(String adId);
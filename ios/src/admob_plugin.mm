@@ -100,6 +100,7 @@ void AdmobPlugin::_bind_methods() {
 	ClassDB::bind_method(D_METHOD("set_request_configuration"), &AdmobPlugin::set_request_configuration);
 	ClassDB::bind_method(D_METHOD("get_initialization_status"), &AdmobPlugin::get_initialization_status);
 	ClassDB::bind_method(D_METHOD("set_app_pause_on_background"), &AdmobPlugin::set_app_pause_on_background);
+	ClassDB::bind_method(D_METHOD("set_log_level"), &AdmobPlugin::set_log_level);
 	ClassDB::bind_method(D_METHOD("get_global_settings"), &AdmobPlugin::get_global_settings);
 	ClassDB::bind_method(D_METHOD("set_global_settings", "settings"), &AdmobPlugin::set_global_settings);
 
@@ -115,6 +116,10 @@ void AdmobPlugin::_bind_methods() {
 	ClassDB::bind_method(D_METHOD("hide_banner_ad"), &AdmobPlugin::hide_banner_ad);
 	ClassDB::bind_method(D_METHOD("remove_banner_ad"), &AdmobPlugin::remove_banner_ad);
 	ClassDB::bind_method(D_METHOD("move_banner_ad", "ad_id", "x", "y"), &AdmobPlugin::move_banner_ad);
+	ClassDB::bind_method(D_METHOD("set_banner_ad_clipping", "ad_id", "clip_threshold"),
+			&AdmobPlugin::set_banner_ad_clipping);
+	ClassDB::bind_method(D_METHOD("update_banner_ad_clip_rect", "ad_id", "x", "y", "width", "height"),
+			&AdmobPlugin::update_banner_ad_clip_rect);
 	ClassDB::bind_method(D_METHOD("get_banner_width"), &AdmobPlugin::get_banner_width);
 	ClassDB::bind_method(D_METHOD("get_banner_height"), &AdmobPlugin::get_banner_height);
 	ClassDB::bind_method(D_METHOD("get_banner_width_in_pixels"), &AdmobPlugin::get_banner_width_in_pixels);
@@ -250,10 +255,10 @@ void AdmobPlugin::_bind_methods() {
 }
 
 Error AdmobPlugin::initialize() {
-	os_log_debug(admob_log, "%@ initialize", kLogTag);
+	admob_log_debug("%@ initialize", kLogTag);
 
 	if (initialized) {
-		os_log_error(admob_log, "%@ already initialized", kLogTag);
+		admob_log_error("%@ already initialized", kLogTag);
 		return FAILED;
 	}
 
@@ -266,18 +271,18 @@ Error AdmobPlugin::initialize() {
 	rewardedAds = [NSMutableDictionary dictionaryWithCapacity:10];
 	rewardedAdSequence = 0;
 
-	os_log_debug(admob_log, "%@ Starting GADMobileAds initialization", kLogTag);
+	admob_log_debug("%@ Starting GADMobileAds initialization", kLogTag);
 
 	[[GADMobileAds sharedInstance] startWithCompletionHandler:^(GADInitializationStatus *_Nonnull status) {
 		// Load and apply settings if apply_at_startup is enabled
 		AdSettings *settings = [GlobalSettings loadSettings];
 		if (settings.applyAtStartup != nil && [settings.applyAtStartup boolValue]) {
-			os_log_debug(admob_log, "%@ Applying global settings at startup", kLogTag);
+			admob_log_debug("%@ Applying global settings at startup", kLogTag);
 			[GlobalSettings applyToGADMobileAds:settings];
 		}
 
 		initialized = true;
-		os_log_debug(admob_log, "%@ initialization completed for %tu adapters.", kLogTag,
+		admob_log_debug("%@ initialization completed for %tu adapters.", kLogTag,
 				[status.adapterStatusesByClassName count]);
 		Dictionary dictionary = [[[AdmobStatus alloc] initWithStatus:status] buildRawData];
 		emit_signal(INITIALIZATION_COMPLETED_SIGNAL, dictionary);
@@ -287,10 +292,10 @@ Error AdmobPlugin::initialize() {
 }
 
 Error AdmobPlugin::set_request_configuration(Dictionary configData) {
-	os_log_debug(admob_log, "%@ set_request_configuration", kLogTag);
+	admob_log_debug("%@ set_request_configuration", kLogTag);
 
 	if (initialized == false) {
-		os_log_error(admob_log, "%@ has not been initialized", kLogTag);
+		admob_log_error("%@ has not been initialized", kLogTag);
 		return FAILED;
 	}
 
@@ -310,8 +315,17 @@ void AdmobPlugin::set_app_pause_on_background(bool pause) {
 	[AdFormatBase setPauseOnBackground:pause];
 }
 
+void AdmobPlugin::set_log_level(String level) {
+	int logLevel = admob_log_parse_level(level.utf8().get_data());
+	if (logLevel < 0) {
+		admob_log_error("%@ set_log_level(): Error: unknown log level '%s'", kLogTag, level.utf8().get_data());
+	} else {
+		admob_log_level = logLevel;
+	}
+}
+
 Dictionary AdmobPlugin::get_global_settings() {
-	os_log_debug(admob_log, "%@ get_global_settings", kLogTag);
+	admob_log_debug("%@ get_global_settings", kLogTag);
 
 	AdSettingsWrapper *wrapper = [[AdSettingsWrapper alloc] initWithAdSettings:[GlobalSettings loadSettings]];
 
@@ -319,7 +333,7 @@ Dictionary AdmobPlugin::get_global_settings() {
 }
 
 void AdmobPlugin::set_global_settings(Dictionary settingsDict) {
-	os_log_debug(admob_log, "%@ set_global_settings", kLogTag);
+	admob_log_debug("%@ set_global_settings", kLogTag);
 
 	AdSettingsWrapper *wrapper = [[AdSettingsWrapper alloc] initWithData:settingsDict];
 
@@ -331,7 +345,7 @@ void AdmobPlugin::set_global_settings(Dictionary settingsDict) {
 }
 
 Dictionary AdmobPlugin::get_current_adaptive_banner_size(int width) {
-	os_log_debug(admob_log, "AdmobPlugin get_current_adaptive_banner_size");
+	admob_log_debug("AdmobPlugin get_current_adaptive_banner_size");
 	int currentWidth = (width == FULL_WIDTH) ? getAdWidth() : width;
 
 	AdmobAdSize *adSize = [[AdmobAdSize alloc]
@@ -342,7 +356,7 @@ Dictionary AdmobPlugin::get_current_adaptive_banner_size(int width) {
 }
 
 Dictionary AdmobPlugin::get_portrait_adaptive_banner_size(int width) {
-	os_log_debug(admob_log, "AdmobPlugin get_portrait_adaptive_banner_size");
+	admob_log_debug("AdmobPlugin get_portrait_adaptive_banner_size");
 	int currentWidth = (width == FULL_WIDTH) ? getAdWidth() : width;
 
 	AdmobAdSize *adSize =
@@ -353,7 +367,7 @@ Dictionary AdmobPlugin::get_portrait_adaptive_banner_size(int width) {
 }
 
 Dictionary AdmobPlugin::get_landscape_adaptive_banner_size(int width) {
-	os_log_debug(admob_log, "AdmobPlugin get_landscape_adaptive_banner_size");
+	admob_log_debug("AdmobPlugin get_landscape_adaptive_banner_size");
 	int currentWidth = (width == FULL_WIDTH) ? getAdWidth() : width;
 
 	AdmobAdSize *adSize =
@@ -387,17 +401,17 @@ CGFloat AdmobPlugin::getAdWidth() {
 		UIEdgeInsets safeAreaInsets = rootView.safeAreaInsets;
 		frame = UIEdgeInsetsInsetRect(frame, safeAreaInsets);
 	} else {
-		os_log_error(admob_log, "AdmobPlugin getAdWidth(): key window not found");
+		admob_log_error("AdmobPlugin getAdWidth(): key window not found");
 	}
 
 	return frame.size.width;
 }
 
 Error AdmobPlugin::load_banner_ad(Dictionary adData) {
-	os_log_debug(admob_log, "AdmobPlugin load_banner_ad");
+	admob_log_debug("AdmobPlugin load_banner_ad");
 
 	if (initialized == false) {
-		os_log_error(admob_log, "AdmobPlugin has not been initialized");
+		admob_log_error("AdmobPlugin has not been initialized");
 		return FAILED;
 	}
 
@@ -416,35 +430,35 @@ Error AdmobPlugin::load_banner_ad(Dictionary adData) {
 }
 
 void AdmobPlugin::show_banner_ad(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin show_banner_ad %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin show_banner_ad %s", adId.utf8().get_data());
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		BannerAd *ad = (BannerAd *)bannerAds[[GAPConverter toNsString:adId]];
 		if (ad) {
 			[ad show];
 		} else {
-			os_log_error(
-					admob_log, "AdmobPlugin show_banner_ad: ERROR: ad with id '%s' not found!", adId.utf8().get_data());
+			admob_log_error(
+					"AdmobPlugin show_banner_ad: ERROR: ad with id '%s' not found!", adId.utf8().get_data());
 		}
 	});
 }
 
 void AdmobPlugin::hide_banner_ad(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin hide_banner_ad %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin hide_banner_ad %s", adId.utf8().get_data());
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		BannerAd *ad = (BannerAd *)bannerAds[[GAPConverter toNsString:adId]];
 		if (ad) {
 			[ad hide];
 		} else {
-			os_log_error(
-					admob_log, "AdmobPlugin hide_banner_ad: ERROR: ad with id '%s' not found!", adId.utf8().get_data());
+			admob_log_error(
+					"AdmobPlugin hide_banner_ad: ERROR: ad with id '%s' not found!", adId.utf8().get_data());
 		}
 	});
 }
 
 void AdmobPlugin::remove_banner_ad(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin remove_banner_ad %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin remove_banner_ad %s", adId.utf8().get_data());
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		NSString *key = [GAPConverter toNsString:adId];
@@ -452,62 +466,88 @@ void AdmobPlugin::remove_banner_ad(String adId) {
 			[bannerAds[key] destroy];
 			[bannerAds removeObjectForKey:key];
 		} else {
-			os_log_error(admob_log, "AdmobPlugin remove_banner_ad: ERROR: ad with id '%s' not found!",
+			admob_log_error("AdmobPlugin remove_banner_ad: ERROR: ad with id '%s' not found!",
 					adId.utf8().get_data());
 		}
 	});
 }
 
 void AdmobPlugin::move_banner_ad(String adId, real_t x, real_t y) {
-	os_log_debug(admob_log, "AdmobPlugin move_banner_ad('%s',%.2f,%.2f)", adId.utf8().get_data(), x, y);
+	admob_log_debug("AdmobPlugin move_banner_ad('%s',%.2f,%.2f)", adId.utf8().get_data(), x, y);
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		BannerAd *banner = [bannerAds objectForKey:[GAPConverter toNsString:adId]];
 		if (banner) {
 			[banner moveToX:x y:y];
 		} else {
-			os_log_error(admob_log, "AdmobPlugin remove_banner_ad: ERROR: ad with id '%s' not found!",
+			admob_log_error("AdmobPlugin remove_banner_ad: ERROR: ad with id '%s' not found!",
+					adId.utf8().get_data());
+		}
+	});
+}
+
+void AdmobPlugin::set_banner_ad_clipping(String adId, real_t clipThreshold) {
+	admob_log_debug("AdmobPlugin set_banner_ad_clipping('%s',%.2f)", adId.utf8().get_data(), clipThreshold);
+
+	dispatch_async(dispatch_get_main_queue(), ^{
+		BannerAd *banner = [bannerAds objectForKey:[GAPConverter toNsString:adId]];
+		if (banner) {
+			[banner setClippingThreshold:clipThreshold];
+		} else {
+			admob_log_error("AdmobPlugin set_banner_ad_clipping: ERROR: ad with id '%s' not found!",
+					adId.utf8().get_data());
+		}
+	});
+}
+
+void AdmobPlugin::update_banner_ad_clip_rect(String adId, real_t x, real_t y, real_t width, real_t height) {
+	dispatch_async(dispatch_get_main_queue(), ^{
+		BannerAd *banner = [bannerAds objectForKey:[GAPConverter toNsString:adId]];
+		if (banner) {
+			[banner updateClipRectX:x y:y width:width height:height];
+		} else {
+			admob_log_error("AdmobPlugin update_banner_ad_clip_rect: ERROR: ad with id '%s' not found!",
 					adId.utf8().get_data());
 		}
 	});
 }
 
 int AdmobPlugin::get_banner_width(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin get_banner_width %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin get_banner_width %s", adId.utf8().get_data());
 
 	BannerAd *ad = (BannerAd *)bannerAds[[GAPConverter toNsString:adId]];
 	if (ad) {
 		return [ad getWidth];
 	} else {
-		os_log_error(
-				admob_log, "AdmobPlugin get_banner_width: ERROR: ad with id '%s' not found!", adId.utf8().get_data());
+		admob_log_error(
+				"AdmobPlugin get_banner_width: ERROR: ad with id '%s' not found!", adId.utf8().get_data());
 	}
 
 	return -1;
 }
 
 int AdmobPlugin::get_banner_height(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin get_banner_height %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin get_banner_height %s", adId.utf8().get_data());
 
 	BannerAd *ad = (BannerAd *)bannerAds[[GAPConverter toNsString:adId]];
 	if (ad) {
 		return [ad getHeight];
 	} else {
-		os_log_error(
-				admob_log, "AdmobPlugin get_banner_height: ERROR: ad with id '%s' not found!", adId.utf8().get_data());
+		admob_log_error(
+				"AdmobPlugin get_banner_height: ERROR: ad with id '%s' not found!", adId.utf8().get_data());
 	}
 
 	return -1;
 }
 
 int AdmobPlugin::get_banner_width_in_pixels(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin get_width_in_pixels %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin get_width_in_pixels %s", adId.utf8().get_data());
 
 	BannerAd *ad = (BannerAd *)bannerAds[[GAPConverter toNsString:adId]];
 	if (ad) {
 		return [ad getWidthInPixels];
 	} else {
-		os_log_error(admob_log, "AdmobPlugin get_width_in_pixels: ERROR: ad with id '%s' not found!",
+		admob_log_error("AdmobPlugin get_width_in_pixels: ERROR: ad with id '%s' not found!",
 				adId.utf8().get_data());
 	}
 
@@ -515,13 +555,13 @@ int AdmobPlugin::get_banner_width_in_pixels(String adId) {
 }
 
 int AdmobPlugin::get_banner_height_in_pixels(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin get_height_in_pixels %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin get_height_in_pixels %s", adId.utf8().get_data());
 
 	BannerAd *ad = (BannerAd *)bannerAds[[GAPConverter toNsString:adId]];
 	if (ad) {
 		return [ad getHeightInPixels];
 	} else {
-		os_log_error(admob_log, "AdmobPlugin get_width_in_pixels: ERROR: ad with id '%s' not found!",
+		admob_log_error("AdmobPlugin get_width_in_pixels: ERROR: ad with id '%s' not found!",
 				adId.utf8().get_data());
 	}
 
@@ -529,10 +569,10 @@ int AdmobPlugin::get_banner_height_in_pixels(String adId) {
 }
 
 Error AdmobPlugin::load_interstitial_ad(Dictionary adData) {
-	os_log_debug(admob_log, "AdmobPlugin load_interstitial_ad");
+	admob_log_debug("AdmobPlugin load_interstitial_ad");
 
 	if (initialized == false) {
-		os_log_error(admob_log, "AdmobPlugin has not been initialized");
+		admob_log_error("AdmobPlugin has not been initialized");
 		return FAILED;
 	}
 
@@ -551,28 +591,28 @@ Error AdmobPlugin::load_interstitial_ad(Dictionary adData) {
 }
 
 void AdmobPlugin::show_interstitial_ad(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin show_interstitial_ad %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin show_interstitial_ad %s", adId.utf8().get_data());
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		InterstitialAd *ad = (InterstitialAd *)interstitialAds[[GAPConverter toNsString:adId]];
 		if (ad) {
 			[ad show];
 		} else {
-			os_log_error(admob_log, "AdmobPlugin show_interstitial_ad: ERROR: ad with id '%s' not found!",
+			admob_log_error("AdmobPlugin show_interstitial_ad: ERROR: ad with id '%s' not found!",
 					adId.utf8().get_data());
 		}
 	});
 }
 
 void AdmobPlugin::remove_interstitial_ad(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin remove_interstitial_ad %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin remove_interstitial_ad %s", adId.utf8().get_data());
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		NSString *key = [GAPConverter toNsString:adId];
 		if (interstitialAds[key]) {
 			[interstitialAds removeObjectForKey:key];
 		} else {
-			os_log_error(admob_log,
+			admob_log_error(
 					"AdmobPlugin remove_interstitial_ad: ERROR: ad with id '%s' "
 					"not found!",
 					adId.utf8().get_data());
@@ -581,10 +621,10 @@ void AdmobPlugin::remove_interstitial_ad(String adId) {
 }
 
 Error AdmobPlugin::load_rewarded_ad(Dictionary adData) {
-	os_log_debug(admob_log, "AdmobPlugin load_rewarded_ad");
+	admob_log_debug("AdmobPlugin load_rewarded_ad");
 
 	if (initialized == false) {
-		os_log_error(admob_log, "AdmobPlugin has not been initialized");
+		admob_log_error("AdmobPlugin has not been initialized");
 		return FAILED;
 	}
 
@@ -603,38 +643,38 @@ Error AdmobPlugin::load_rewarded_ad(Dictionary adData) {
 }
 
 void AdmobPlugin::show_rewarded_ad(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin show_rewarded_ad %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin show_rewarded_ad %s", adId.utf8().get_data());
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		RewardedAd *ad = (RewardedAd *)rewardedAds[[GAPConverter toNsString:adId]];
 		if (ad) {
 			[ad show];
 		} else {
-			os_log_error(admob_log, "AdmobPlugin show_rewarded_ad: ERROR: ad with id '%s' not found!",
+			admob_log_error("AdmobPlugin show_rewarded_ad: ERROR: ad with id '%s' not found!",
 					adId.utf8().get_data());
 		}
 	});
 }
 
 void AdmobPlugin::remove_rewarded_ad(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin remove_rewarded_ad %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin remove_rewarded_ad %s", adId.utf8().get_data());
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		NSString *key = [GAPConverter toNsString:adId];
 		if (rewardedAds[key]) {
 			[rewardedAds removeObjectForKey:key];
 		} else {
-			os_log_error(admob_log, "AdmobPlugin remove_rewarded_ad: ERROR: ad with id '%s' not found!",
+			admob_log_error("AdmobPlugin remove_rewarded_ad: ERROR: ad with id '%s' not found!",
 					adId.utf8().get_data());
 		}
 	});
 }
 
 Error AdmobPlugin::load_rewarded_interstitial_ad(Dictionary adData) {
-	os_log_debug(admob_log, "AdmobPlugin load_rewarded_interstitial_ad");
+	admob_log_debug("AdmobPlugin load_rewarded_interstitial_ad");
 
 	if (initialized == false) {
-		os_log_error(admob_log, "AdmobPlugin has not been initialized");
+		admob_log_error("AdmobPlugin has not been initialized");
 		return FAILED;
 	}
 
@@ -653,14 +693,14 @@ Error AdmobPlugin::load_rewarded_interstitial_ad(Dictionary adData) {
 }
 
 void AdmobPlugin::show_rewarded_interstitial_ad(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin show_rewarded_interstitial_ad %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin show_rewarded_interstitial_ad %s", adId.utf8().get_data());
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		RewardedInterstitialAd *ad = (RewardedInterstitialAd *)rewardedInterstitialAds[[GAPConverter toNsString:adId]];
 		if (ad) {
 			[ad show];
 		} else {
-			os_log_error(admob_log,
+			admob_log_error(
 					"AdmobPlugin show_rewarded_interstitial_ad: ERROR: ad with "
 					"id '%s' not found!",
 					adId.utf8().get_data());
@@ -669,14 +709,14 @@ void AdmobPlugin::show_rewarded_interstitial_ad(String adId) {
 }
 
 void AdmobPlugin::remove_rewarded_interstitial_ad(String adId) {
-	os_log_debug(admob_log, "AdmobPlugin remove_rewarded_interstitial_ad %s", adId.utf8().get_data());
+	admob_log_debug("AdmobPlugin remove_rewarded_interstitial_ad %s", adId.utf8().get_data());
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		NSString *key = [GAPConverter toNsString:adId];
 		if (rewardedInterstitialAds[key]) {
 			[rewardedInterstitialAds removeObjectForKey:key];
 		} else {
-			os_log_error(admob_log,
+			admob_log_error(
 					"AdmobPlugin remove_rewarded_interstitial_ad: ERROR: ad "
 					"with id '%s' not found!",
 					adId.utf8().get_data());
@@ -685,17 +725,17 @@ void AdmobPlugin::remove_rewarded_interstitial_ad(String adId) {
 }
 
 Error AdmobPlugin::load_app_open_ad(Dictionary requestDict, bool autoShowOnResume) {
-	os_log_debug(admob_log, "AdmobPlugin load_app_open_ad");
+	admob_log_debug("AdmobPlugin load_app_open_ad");
 
 	if (initialized == false) {
-		os_log_error(admob_log, "AdmobPlugin has not been initialized");
+		admob_log_error("AdmobPlugin has not been initialized");
 		return FAILED;
 	}
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		LoadAdRequest *loadAdRequest = [[LoadAdRequest alloc] initWithDictionary:requestDict];
 		NSString *nsAdUnitId = [loadAdRequest adUnitId];
-		os_log_debug(admob_log, "%@ load_app_open_ad: %@", kLogTag, nsAdUnitId);
+		admob_log_debug("%@ load_app_open_ad: %@", kLogTag, nsAdUnitId);
 		if (this->appOpenAd == nil) {
 			this->appOpenAd = [[AppOpenAd alloc] initWithPlugin:this];
 		}
@@ -706,11 +746,11 @@ Error AdmobPlugin::load_app_open_ad(Dictionary requestDict, bool autoShowOnResum
 }
 
 void AdmobPlugin::show_app_open_ad() {
-	os_log_debug(admob_log, "%@ show_app_open_ad", kLogTag);
+	admob_log_debug("%@ show_app_open_ad", kLogTag);
 
 	dispatch_async(dispatch_get_main_queue(), ^{
 		if (this->appOpenAd == nil) {
-			os_log_debug(admob_log, "%@ Cannot show app open ad: ad instance is nil", kLogTag);
+			admob_log_debug("%@ Cannot show app open ad: ad instance is nil", kLogTag);
 		} else {
 			[this->appOpenAd show];
 		}
@@ -718,12 +758,12 @@ void AdmobPlugin::show_app_open_ad() {
 }
 
 bool AdmobPlugin::is_app_open_ad_available() {
-	os_log_debug(admob_log, "%@ is_app_open_ad_available", kLogTag);
+	admob_log_debug("%@ is_app_open_ad_available", kLogTag);
 
 	bool isAvailable;
 
 	if (this->appOpenAd == nil) {
-		os_log_debug(admob_log, "%@ Cannot show app open ad: ad instance is nil", kLogTag);
+		admob_log_debug("%@ Cannot show app open ad: ad instance is nil", kLogTag);
 		isAvailable = false;
 	} else {
 		isAvailable = [this->appOpenAd isAvailable];
@@ -736,7 +776,7 @@ void AdmobPlugin::applicationDidBecomeActive() {
 	if (appOpenAd) {
 		if (appOpenAd.autoShowOnResume) {
 			if ([appOpenAd isAvailable] && !appOpenAd.isShowing) {
-				os_log_debug(admob_log, "%@ Auto-showing app open ad with 100ms delay", kLogTag);
+				admob_log_debug("%@ Auto-showing app open ad with 100ms delay", kLogTag);
 
 				dispatch_after(
 						dispatch_time(DISPATCH_TIME_NOW, (int64_t)(0.1 * NSEC_PER_SEC)), dispatch_get_main_queue(), ^{
@@ -745,23 +785,23 @@ void AdmobPlugin::applicationDidBecomeActive() {
 							}
 						});
 			} else {
-				os_log_debug(admob_log, "%@ App open ad not available or already showing", kLogTag);
+				admob_log_debug("%@ App open ad not available or already showing", kLogTag);
 			}
 		} else {
-			os_log_debug(admob_log, "%@ Wont show app open ad: autoShowOnResume is false", kLogTag);
+			admob_log_debug("%@ Wont show app open ad: autoShowOnResume is false", kLogTag);
 		}
 	} else {
-		os_log_debug(admob_log, "%@ Cannot check app open ad: ad instance is nil", kLogTag);
+		admob_log_debug("%@ Cannot check app open ad: ad instance is nil", kLogTag);
 	}
 }
 
 // MARK: - Native Ad Methods
 
 Error AdmobPlugin::load_native_ad(Dictionary adData) {
-	os_log_debug(admob_log, "%@ load_native_ad", kLogTag);
+	admob_log_debug("%@ load_native_ad", kLogTag);
 
 	if (!initialized) {
-		os_log_error(admob_log, "%@ Cannot load native ad: plugin not initialized", kLogTag);
+		admob_log_error("%@ Cannot load native ad: plugin not initialized", kLogTag);
 		return FAILED;
 	}
 
@@ -777,7 +817,7 @@ Error AdmobPlugin::load_native_ad(Dictionary adData) {
 	// Get parent view
 	UIView *parentView = [GDTAppDelegateService viewController].view;
 	if (!parentView) {
-		os_log_error(admob_log, "%@ Cannot load native ad: parent view not found", kLogTag);
+		admob_log_error("%@ Cannot load native ad: parent view not found", kLogTag);
 		return FAILED;
 	}
 
@@ -799,14 +839,14 @@ Error AdmobPlugin::load_native_ad(Dictionary adData) {
 	// Apply icon image content mode when the caller set native_image_scale_type.
 	if ([loadAdRequest hasNativeImageScaleType]) {
 		nativeAd.imageContentMode = [loadAdRequest nativeImageContentMode];
-		os_log_debug(admob_log, "%@ load_native_ad: applying imageContentMode %ld", kLogTag,
+		admob_log_debug("%@ load_native_ad: applying imageContentMode %ld", kLogTag,
 				(long)nativeAd.imageContentMode);
 	}
 
 	// The native_disable_validator flag has no equivalent public API in the iOS
 	// Google Mobile Ads SDK.  Log it so developers can see the flag was received.
 	if ([loadAdRequest isNativeValidatorDisabled]) {
-		os_log_debug(admob_log,
+		admob_log_debug(
 				"%@ load_native_ad: native_disable_validator is set "
 				"(no iOS SDK API available — flag recorded for future use)",
 				kLogTag);
@@ -822,7 +862,7 @@ Error AdmobPlugin::load_native_ad(Dictionary adData) {
 }
 
 void AdmobPlugin::show_native_ad(String adId) {
-	os_log_debug(admob_log, "%@ show_native_ad: %s", kLogTag, adId.utf8().get_data());
+	admob_log_debug("%@ show_native_ad: %s", kLogTag, adId.utf8().get_data());
 
 	NSString *nsAdId = [GAPConverter toNsString:adId];
 	AdmobNativeAd *nativeAd = [nativeAds objectForKey:nsAdId];
@@ -830,12 +870,12 @@ void AdmobPlugin::show_native_ad(String adId) {
 	if (nativeAd) {
 		[nativeAd show];
 	} else {
-		os_log_error(admob_log, "%@ Cannot show native ad: ad not found for ID %@", kLogTag, nsAdId);
+		admob_log_error("%@ Cannot show native ad: ad not found for ID %@", kLogTag, nsAdId);
 	}
 }
 
 void AdmobPlugin::hide_native_ad(String adId) {
-	os_log_debug(admob_log, "%@ hide_native_ad: %s", kLogTag, adId.utf8().get_data());
+	admob_log_debug("%@ hide_native_ad: %s", kLogTag, adId.utf8().get_data());
 
 	NSString *nsAdId = [GAPConverter toNsString:adId];
 	AdmobNativeAd *nativeAd = [nativeAds objectForKey:nsAdId];
@@ -843,12 +883,12 @@ void AdmobPlugin::hide_native_ad(String adId) {
 	if (nativeAd) {
 		[nativeAd hide];
 	} else {
-		os_log_error(admob_log, "%@ Cannot hide native ad: ad not found for ID %@", kLogTag, nsAdId);
+		admob_log_error("%@ Cannot hide native ad: ad not found for ID %@", kLogTag, nsAdId);
 	}
 }
 
 void AdmobPlugin::remove_native_ad(String adId) {
-	os_log_debug(admob_log, "%@ remove_native_ad: %s", kLogTag, adId.utf8().get_data());
+	admob_log_debug("%@ remove_native_ad: %s", kLogTag, adId.utf8().get_data());
 
 	NSString *nsAdId = [GAPConverter toNsString:adId];
 	AdmobNativeAd *nativeAd = [nativeAds objectForKey:nsAdId];
@@ -857,7 +897,7 @@ void AdmobPlugin::remove_native_ad(String adId) {
 		[nativeAd remove];
 		[nativeAds removeObjectForKey:nsAdId];
 	} else {
-		os_log_error(admob_log, "%@ Cannot remove native ad: ad not found for ID %@", kLogTag, nsAdId);
+		admob_log_error("%@ Cannot remove native ad: ad not found for ID %@", kLogTag, nsAdId);
 	}
 }
 
@@ -872,23 +912,23 @@ void AdmobPlugin::update_native_ad_layout(String adId, real_t x, real_t y, real_
 							 height:(CGFloat)height
 							visible:visible];
 	} else {
-		os_log_error(admob_log, "%@ Cannot update native ad layout: ad not found for ID %@", kLogTag, nsAdId);
+		admob_log_error("%@ Cannot update native ad layout: ad not found for ID %@", kLogTag, nsAdId);
 	}
 }
 
 // MARK: - Consent Form Methods
 
 Error AdmobPlugin::load_consent_form() {
-	os_log_debug(admob_log, "AdmobPlugin load_consent_form");
+	admob_log_debug("AdmobPlugin load_consent_form");
 
 	if (initialized == false) {
-		os_log_error(admob_log, "AdmobPlugin has not been initialized");
+		admob_log_error("AdmobPlugin has not been initialized");
 		return FAILED;
 	}
 
 	[consentManager loadFormWithCompletion:^(NSError *_Nullable error) {
 		if (error) {
-			os_log_error(admob_log,
+			admob_log_error(
 					"AdmobPlugin load_consent_form: Error loading ConsentForm. "
 					"Error code: %ld",
 					(long)error.code);
@@ -904,7 +944,7 @@ Error AdmobPlugin::load_consent_form() {
 }
 
 Error AdmobPlugin::show_consent_form() {
-	os_log_debug(admob_log, "AdmobPlugin show_consent_form");
+	admob_log_debug("AdmobPlugin show_consent_form");
 
 	UIViewController *rootVC = GDTAppDelegateService.viewController;
 
@@ -913,18 +953,18 @@ Error AdmobPlugin::show_consent_form() {
 						  completion:^(NSError *_Nullable error) {
 							  Dictionary formErrorDictionary;
 							  if (error) {
-								  os_log_error(admob_log,
+								  admob_log_error(
 										  "AdmobPlugin show_consent_form: Error "
 										  "presenting ConsentForm");
 								  formErrorDictionary = [GAPConverter nsFormErrorToGodotDictionary:error];
 							  }
-							  os_log_debug(admob_log, "AdmobPlugin show_consent_form: completion handler");
+							  admob_log_debug("AdmobPlugin show_consent_form: completion handler");
 
 							  AdmobPlugin::get_singleton()->call_deferred(
 									  "emit_signal", CONSENT_FORM_DISMISSED_SIGNAL, formErrorDictionary);
 						  }];
 	} else {
-		os_log_error(admob_log,
+		admob_log_error(
 				"AdmobPlugin show_consent_form: ERROR: Root View "
 				"Controller not found!");
 		return FAILED;
@@ -935,7 +975,7 @@ Error AdmobPlugin::show_consent_form() {
 
 String AdmobPlugin::get_consent_status() {
 	NSString *status = [consentManager getConsentStatusString];
-	os_log_debug(admob_log, "AdmobPlugin get_consent_status: %@", status);
+	admob_log_debug("AdmobPlugin get_consent_status: %@", status);
 	return [status UTF8String];
 }
 
@@ -944,7 +984,7 @@ bool AdmobPlugin::is_consent_form_available() {
 }
 
 void AdmobPlugin::update_consent_info(Dictionary consentRequestParameters) {
-	os_log_debug(admob_log, "AdmobPlugin update_consent_info");
+	admob_log_debug("AdmobPlugin update_consent_info");
 
 	UMPRequestParameters *parameters = [GAPConverter godotDictionaryToUMPRequestParameters:consentRequestParameters];
 
@@ -963,29 +1003,29 @@ void AdmobPlugin::update_consent_info(Dictionary consentRequestParameters) {
 }
 
 void AdmobPlugin::reset_consent_info() {
-	os_log_debug(admob_log, "AdmobPlugin reset_consent_info");
+	admob_log_debug("AdmobPlugin reset_consent_info");
 	[consentManager reset];
 }
 
 void AdmobPlugin::set_mediation_privacy_settings(Dictionary settings) {
-	os_log_debug(admob_log, "AdmobPlugin set_mediation_privacy_settings");
+	admob_log_debug("AdmobPlugin set_mediation_privacy_settings");
 
 	PrivacySettings *privacySettings = [[PrivacySettings alloc] initWithDictionary:settings];
 	[privacySettings applyPrivacySettings];
 }
 
 void AdmobPlugin::request_tracking_authorization() {
-	os_log_debug(admob_log, "AdmobPlugin request_tracking_authorization");
+	admob_log_debug("AdmobPlugin request_tracking_authorization");
 	[ATTrackingManager
 			requestTrackingAuthorizationWithCompletionHandler:^(ATTrackingManagerAuthorizationStatus status) {
 				if (status == ATTrackingManagerAuthorizationStatusAuthorized) {
-					os_log_debug(admob_log, "Tracking has been authorized for %@",
+					admob_log_debug("Tracking has been authorized for %@",
 							[[ASIdentifierManager sharedManager].advertisingIdentifier UUIDString]);
 					dispatch_async(dispatch_get_main_queue(), ^{
 						instance->call_deferred("emit_signal", TRACKING_AUTHORIZATION_GRANTED);
 					});
 				} else {
-					os_log_debug(admob_log, "Tracking has been denied for %@ with status '%@'",
+					admob_log_debug("Tracking has been denied for %@ with status '%@'",
 							[[ASIdentifierManager sharedManager].advertisingIdentifier UUIDString],
 							[GAPConverter convertTrackingStatusToString:status]);
 					dispatch_async(dispatch_get_main_queue(), ^{
@@ -1007,7 +1047,7 @@ AdmobPlugin *AdmobPlugin::get_singleton() {
 }
 
 AdmobPlugin::AdmobPlugin() {
-	os_log_debug(admob_log, "%@ constructor", kLogTag);
+	admob_log_debug("%@ constructor", kLogTag);
 
 	ERR_FAIL_COND(instance != NULL);
 
@@ -1036,7 +1076,7 @@ AdmobPlugin::AdmobPlugin() {
 }
 
 AdmobPlugin::~AdmobPlugin() {
-	os_log_debug(admob_log, "%@ destructor", kLogTag);
+	admob_log_debug("%@ destructor", kLogTag);
 
 	if (instance == this) {
 		instance = nullptr;
@@ -13,15 +13,15 @@
 AdmobPlugin *admob_plugin;
 
 void admob_plugin_init() {
-	os_log_debug(admob_log, "AdmobPlugin: Initializing plugin at timestamp: %f", [[NSDate date] timeIntervalSince1970]);
+	admob_log_debug("AdmobPlugin: Initializing plugin at timestamp: %f", [[NSDate date] timeIntervalSince1970]);
 
 	admob_plugin = memnew(AdmobPlugin);
 	Engine::get_singleton()->add_singleton(Engine::Singleton("AdmobPlugin", admob_plugin));
-	os_log_debug(admob_log, "AdmobPlugin: Singleton registered");
+	admob_log_debug("AdmobPlugin: Singleton registered");
 }
 
 void admob_plugin_deinit() {
-	os_log_debug(admob_log, "AdmobPlugin: Deinitializing plugin");
+	admob_log_debug("AdmobPlugin: Deinitializing plugin");
 	admob_log = NULL; // Prevent accidental reuse
 
 	if (admob_plugin) {
@@ -177,7 +177,7 @@
 	// Handle debug geography
 	if (godotDictionary.has("debug_geography")) {
 		int debugGeographyValue = (int)godotDictionary["debug_geography"];
-		os_log_debug(admob_log, "Debug geography value from dictionary: %d", debugGeographyValue);
+		admob_log_debug("Debug geography value from dictionary: %d", debugGeographyValue);
 		switch (debugGeographyValue) {
 			case 0: // DEBUG_GEOGRAPHY_DISABLED
 				debugSettings.geography = UMPDebugGeographyDisabled;
@@ -189,7 +189,7 @@
 				debugSettings.geography = UMPDebugGeographyRegulatedUSState;
 				break;
 			default:
-				os_log_error(admob_log,
+				admob_log_error(
 						"Unsupported debug geography value: %d, defaulting to "
 						"UMPDebugGeographyOther",
 						debugGeographyValue);
@@ -199,7 +199,7 @@
 				break;
 		}
 	} else {
-		os_log_debug(admob_log, "No debug_geography key found in dictionary, defaulting to Disabled");
+		admob_log_debug("No debug_geography key found in dictionary, defaulting to Disabled");
 		debugSettings.geography = UMPDebugGeographyDisabled;
 	}
 
@@ -211,12 +211,12 @@
 			String item = testDeviceIds[i];
 			NSString *deviceId = [NSString stringWithUTF8String:item.utf8().get_data()];
 			[convertedArray addObject:deviceId];
-			os_log_debug(admob_log, "Added test device ID: %@", deviceId);
+			admob_log_debug("Added test device ID: %@", deviceId);
 		}
 		[convertedArray addObject:[GAPConverter getAdmobDeviceID]];
 		debugSettings.testDeviceIdentifiers = convertedArray;
 	} else {
-		os_log_debug(admob_log, "No test_device_hashed_ids key found in dictionary");
+		admob_log_debug("No test_device_hashed_ids key found in dictionary");
 		NSMutableArray<NSString *> *convertedArray = [NSMutableArray array];
 		[convertedArray addObject:[GAPConverter getAdmobDeviceID]];
 		debugSettings.testDeviceIdentifiers = convertedArray;
@@ -27,11 +27,11 @@ const String ENABLED_NETWORKS_PROPERTY = "enabled_networks";
 }
 
 - (void)applyPrivacySettings {
-	os_log_debug(admob_log, "%@:: applyPrivacySettings()", LOG_TAG);
+	admob_log_debug("%@:: applyPrivacySettings()", LOG_TAG);
 
 	Array enabledNetworksArray = [self enabledNetworks];
-	os_log_debug(
-			admob_log, "%@:: Found %lld enabled networks to process", LOG_TAG, (long long)enabledNetworksArray.size());
+	admob_log_debug(
+			"%@:: Found %lld enabled networks to process", LOG_TAG, (long long)enabledNetworksArray.size());
 
 	for (const Variant &item : enabledNetworksArray) {
 		if (item.get_type() == Variant::STRING) {
@@ -44,11 +44,11 @@ static NSString *const kLogTag = @"AdmobPlugin::AdmobStatus::";
 		NSString *networkTag = [MediationNetworkFactory getTagForAdapterClass:adapterClass];
 		if (networkTag) {
 			dict[[networkTag UTF8String]] = adapterStatusDict;
-			os_log_debug(admob_log, "%@ Initialization status %@ for network tag '%@'", kLogTag, adapterStatusStr,
+			admob_log_debug("%@ Initialization status %@ for network tag '%@'", kLogTag, adapterStatusStr,
 					networkTag);
 		} else {
 			dict[[adapterClass UTF8String]] = adapterStatusDict;
-			os_log_error(admob_log,
+			admob_log_error(
 					"%@ Initialization status %@ for an invalid or unsupported "
 					"adapter class '%@'",
 					kLogTag, adapterStatusStr, adapterClass);
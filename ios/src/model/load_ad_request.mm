@@ -203,7 +203,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 			maxHeight = [self adaptiveMaxHeight];
 		}
 
-		os_log_debug(admob_log, "INLINE_ADAPTIVE: width: %.0f maxHeight:%.0f", width, maxHeight);
+		admob_log_debug("INLINE_ADAPTIVE: width: %.0f maxHeight:%.0f", width, maxHeight);
 
 		if (maxHeight > 0) {
 			gadAdSize = GADInlineAdaptiveBannerAdSizeWithWidthAndMaxHeight(width, maxHeight);
@@ -240,7 +240,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 	} else if ([adPositionStr isEqualToString:@"CUSTOM"]) {
 		adPosition = AdPositionCustom;
 	} else {
-		os_log_error(admob_log, "AdmobPlugin banner load: ERROR: invalid ad position '%@'", adPositionStr);
+		admob_log_error("AdmobPlugin banner load: ERROR: invalid ad position '%@'", adPositionStr);
 		adPosition = AdPositionTop;
 	}
 
@@ -252,7 +252,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 
 	if (![[self requestAgent] isEqualToString:@""]) {
 		request.requestAgent = [self requestAgent];
-		os_log_debug(admob_log, "Set request agent to: %@", [self requestAgent]);
+		admob_log_debug("Set request agent to: %@", [self requestAgent]);
 	}
 
 	request.keywords = [self keywords];
@@ -260,7 +260,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 	if ([self hasCollapsiblePosition]) {
 		GADExtras *extras = [[GADExtras alloc] init];
 		extras.additionalParameters = @{ COLLAPSIBLE_NETWORK_EXTRAS_KEY : [self collapsiblePosition] };
-		os_log_debug(admob_log, "Set collapsible position to: %@", [self collapsiblePosition]);
+		admob_log_debug("Set collapsible position to: %@", [self collapsiblePosition]);
 		[request registerAdNetworkExtras:extras];
 	}
 
@@ -268,7 +268,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 	// Expects "network_extras" as Array of Dictionary: { "network_tag": String,
 	// "extras": Dictionary }
 	Array networkExtrasArray = [self networkExtras];
-	os_log_debug(admob_log, "Found %d extras to process", networkExtrasArray.size());
+	admob_log_debug("Found %d extras to process", networkExtrasArray.size());
 	for (int i = 0; i < networkExtrasArray.size(); ++i) {
 		Dictionary entry = networkExtrasArray[i];
 		if (entry.has(NETWORK_TAG_SUBPROPERTY) && entry.has(EXTRAS_SUBPROPERTY)) {
@@ -301,60 +301,58 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 												NSString *key = (NSString *)keyObj;
 												@try {
 													if ([key hasPrefix:METHOD_CALL_PREFIX]) {
-														os_log_debug(admob_log, "Processing method call '%@' for %@",
+														admob_log_debug("Processing method call '%@' for %@",
 																key, adapterClassName);
 														SEL methodSel = NSSelectorFromString(
 																[key substringFromIndex:[METHOD_CALL_PREFIX length]]);
 														((void (*)(id, SEL, id))objc_msgSend)(extras, methodSel, value);
 													} else {
-														os_log_debug(admob_log,
+														admob_log_debug(
 																"Processing key-value coding '%@' for %@", key,
 																adapterClassName);
 														[extras setValue:value forKey:(NSString *)key];
 													}
 													numAdded++;
 												} @catch (NSException *exception) {
-													os_log_error(admob_log, "Unable to set key %@ due to %@ (%@)", key,
+													admob_log_warn("Unable to set key %@ due to %@ (%@)", key,
 															[exception name], [exception reason]);
 												}
 											} else {
-												os_log_error(admob_log, "Invalid extras key. Skipping.");
+												admob_log_warn("Invalid extras key. Skipping.");
 											}
 										}
 										if (numAdded > 0) {
 											[request registerAdNetworkExtras:extras];
-											os_log_debug(admob_log, "Added %d extras for adapter: %@", numAdded,
+											admob_log_debug("Added %d extras for adapter: %@", numAdded,
 													adapterClassName);
 										}
 									} else {
-										os_log_error(admob_log, "Failed to init extras class: %@",
+										admob_log_error("Failed to init extras class: %@",
 												NSStringFromClass(extrasClass));
 									}
 								} else {
-									os_log_error(admob_log,
+									admob_log_error(
 											"Class %@ does not conform to "
 											"GADAdNetworkExtras. Skipping.",
 											NSStringFromClass(extrasClass));
 								}
 							} else {
-								os_log_error(
-										admob_log, "Class %@ has no extras class defined. Skipping.", adapterClassName);
+								admob_log_warn("Class %@ has no extras class defined. Skipping.", adapterClassName);
 							}
 						} else {
-							os_log_error(admob_log, "Class %@ has no networkExtrasClass method. Skipping.",
-									adapterClassName);
+							admob_log_warn("Class %@ has no networkExtrasClass method. Skipping.", adapterClassName);
 						}
 					} else {
-						os_log_error(admob_log, "Class %@ not found. Skipping.", adapterClassName);
+						admob_log_warn("Class %@ not found. Skipping.", adapterClassName);
 					}
 				} else {
-					os_log_error(admob_log, "No extras found for %@. Skipping.", networkTag);
+					admob_log_warn("No extras found for %@. Skipping.", networkTag);
 				}
 			} else {
-				os_log_error(admob_log, "No network found for tag '%@'. Skipping.", networkTag);
+				admob_log_warn("No network found for tag '%@'. Skipping.", networkTag);
 			}
 		} else {
-			os_log_error(admob_log, "Invalid '%s' entry: Missing '%s' or '%s'. Skipping.",
+			admob_log_warn("Invalid '%s' entry: Missing '%s' or '%s'. Skipping.",
 					NETWORK_EXTRAS_PROPERTY.utf8().get_data(), NETWORK_TAG_SUBPROPERTY.utf8().get_data(),
 					EXTRAS_SUBPROPERTY.utf8().get_data());
 		}
@@ -399,12 +397,12 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 			// When true, the SDK skips image loading and provides URLs instead —
 			// the iOS equivalent of Android's setReturnUrlsForImageAssets(true).
 			imageOptions.disableImageLoading = (BOOL)self.rawData[NATIVE_RETURN_URLS_FOR_IMAGE_ASSETS_PROPERTY];
-			os_log_debug(admob_log, "LoadAdRequest: disableImageLoading = %d", imageOptions.disableImageLoading);
+			admob_log_debug("LoadAdRequest: disableImageLoading = %d", imageOptions.disableImageLoading);
 		}
 
 		if (hasMultipleImages) {
 			imageOptions.shouldRequestMultipleImages = (BOOL)self.rawData[NATIVE_REQUEST_MULTIPLE_IMAGES_PROPERTY];
-			os_log_debug(admob_log, "LoadAdRequest: shouldRequestMultipleImages = %d",
+			admob_log_debug("LoadAdRequest: shouldRequestMultipleImages = %d",
 					imageOptions.shouldRequestMultipleImages);
 		}
 
@@ -416,7 +414,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 		GADNativeAdMediaAdLoaderOptions *mediaOptions = [[GADNativeAdMediaAdLoaderOptions alloc] init];
 		NSString *ratioStr = [GAPConverter toNsString:(String)self.rawData[NATIVE_MEDIA_ASPECT_RATIO_PROPERTY]];
 		mediaOptions.mediaAspectRatio = [self parseMediaAspectRatio:ratioStr];
-		os_log_debug(admob_log, "LoadAdRequest: mediaAspectRatio = %ld (from '%@')",
+		admob_log_debug("LoadAdRequest: mediaAspectRatio = %ld (from '%@')",
 				(long)mediaOptions.mediaAspectRatio, ratioStr);
 		[options addObject:mediaOptions];
 	}
@@ -426,7 +424,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 		GADNativeAdViewAdOptions *viewAdOptions = [[GADNativeAdViewAdOptions alloc] init];
 		NSString *placementStr = [GAPConverter toNsString:(String)self.rawData[NATIVE_AD_CHOICES_PLACEMENT_PROPERTY]];
 		viewAdOptions.preferredAdChoicesPosition = [self parseAdChoicesPlacement:placementStr];
-		os_log_debug(admob_log, "LoadAdRequest: preferredAdChoicesPosition = %ld (from '%@')",
+		admob_log_debug("LoadAdRequest: preferredAdChoicesPosition = %ld (from '%@')",
 				(long)viewAdOptions.preferredAdChoicesPosition, placementStr);
 		[options addObject:viewAdOptions];
 	}
@@ -467,7 +465,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 		return GADMediaAspectRatioSquare;
 	} else {
 		if (![value isEqualToString:@"UNKNOWN"]) {
-			os_log_error(admob_log, "LoadAdRequest parseMediaAspectRatio: unknown value '%@', using UNKNOWN", value);
+			admob_log_warn("LoadAdRequest parseMediaAspectRatio: unknown value '%@', using UNKNOWN", value);
 		}
 		return GADMediaAspectRatioUnknown;
 	}
@@ -483,8 +481,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 	} else {
 		// TOP_RIGHT is the SDK default; emit a warning only for genuinely unknown strings.
 		if (![value isEqualToString:@"TOP_RIGHT"]) {
-			os_log_error(
-					admob_log, "LoadAdRequest parseAdChoicesPlacement: unknown value '%@', using TOP_RIGHT", value);
+			admob_log_warn("LoadAdRequest parseAdChoicesPlacement: unknown value '%@', using TOP_RIGHT", value);
 		}
 		return GADAdChoicesPositionTopRightCorner;
 	}
@@ -510,8 +507,7 @@ static NSString *const METHOD_CALL_PREFIX = @"::";
 	} else {
 		// FIT_CENTER is the default; warn only for genuinely unknown strings.
 		if (![value isEqualToString:@"FIT_CENTER"]) {
-			os_log_error(
-					admob_log, "LoadAdRequest parseImageContentMode: unknown value '%@', using ScaleAspectFit", value);
+			admob_log_warn("LoadAdRequest parseImageContentMode: unknown value '%@', using ScaleAspectFit", value);
 		}
 		return UIViewContentModeScaleAspectFit;
 	}